@@ -0,0 +1,215 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.benchmarks.api;
+
+import io.aiontechnology.atlas.mapping.impl.SimpleOneWayCollectionMapper;
+import io.aiontechnology.mentorsuccess.api.assembler.Assembler;
+import io.aiontechnology.mentorsuccess.api.assembler.impl.MentorAssembler;
+import io.aiontechnology.mentorsuccess.api.assembler.impl.SchoolAssembler;
+import io.aiontechnology.mentorsuccess.api.assembler.impl.SchoolSessionAssembler;
+import io.aiontechnology.mentorsuccess.api.assembler.impl.StudentAssembler;
+import io.aiontechnology.mentorsuccess.api.assembler.impl.StudentMentorAssembler;
+import io.aiontechnology.mentorsuccess.api.assembler.impl.StudentTeacherAssembler;
+import io.aiontechnology.mentorsuccess.api.assembler.impl.TeacherAssembler;
+import io.aiontechnology.mentorsuccess.api.mapping.tomodel.misc.AddressEntityToModelMapper;
+import io.aiontechnology.mentorsuccess.api.mapping.tomodel.reference.NameableToStringMapper;
+import io.aiontechnology.mentorsuccess.api.mapping.tomodel.student.StudentActivityFocusEntityCollectionToModelCollectionMapper;
+import io.aiontechnology.mentorsuccess.api.mapping.tomodel.student.StudentBehaviorEntityCollectionToModelCollectionMapper;
+import io.aiontechnology.mentorsuccess.api.mapping.tomodel.student.StudentLeadershipSkillEntityCollectionToModelCollectionMapper;
+import io.aiontechnology.mentorsuccess.api.mapping.tomodel.student.StudentLeadershipTraitEntityCollectionToModelCollectionMapper;
+import io.aiontechnology.mentorsuccess.api.mapping.tomodel.student.StudentPersonEntityToModelMapper;
+import io.aiontechnology.mentorsuccess.entity.Person;
+import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
+import io.aiontechnology.mentorsuccess.entity.SchoolSession;
+import io.aiontechnology.mentorsuccess.entity.Student;
+import io.aiontechnology.mentorsuccess.entity.StudentPersonRole;
+import io.aiontechnology.mentorsuccess.entity.StudentSchoolSession;
+import io.aiontechnology.mentorsuccess.entity.reference.Interest;
+import io.aiontechnology.mentorsuccess.resource.SchoolResource;
+import io.aiontechnology.mentorsuccess.resource.StudentResource;
+import io.aiontechnology.mentorsuccess.util.PhoneService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link StudentAssembler} on a roster of 1,000 students and {@link SchoolAssembler} on a single school. The
+ * assemblers are wired with the same sub mappers as {@code AssemblerConfiguration}. Each invocation runs in a fresh
+ * request, as a response would.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AssemblerBenchmark {
+
+    private static final int STUDENT_COUNT = 1000;
+
+    private final PhoneService phoneService = new PhoneService();
+
+    private final List<Student> students = new ArrayList<>();
+
+    private Assembler<Student, StudentResource> studentAssembler;
+    private Assembler<School, SchoolResource> schoolAssembler;
+    private School school;
+
+    @Setup
+    public void setup() {
+        TeacherAssembler teacherAssembler = new TeacherAssembler(phoneService);
+        MentorAssembler mentorAssembler = new MentorAssembler(phoneService);
+        studentAssembler = new StudentAssembler()
+                .withSubMapper("teacher", new StudentTeacherAssembler().withSubMapper("teacher", teacherAssembler))
+                .withSubMapper("mentor", new StudentMentorAssembler().withSubMapper("mentor", mentorAssembler))
+                .withSubMapper("interests", new SimpleOneWayCollectionMapper<>(new NameableToStringMapper<>()))
+                .withSubMapper("activityFocuses", new StudentActivityFocusEntityCollectionToModelCollectionMapper(
+                        new SimpleOneWayCollectionMapper<>(new NameableToStringMapper<>()), teacherAssembler))
+                .withSubMapper("behaviors", new StudentBehaviorEntityCollectionToModelCollectionMapper(
+                        new SimpleOneWayCollectionMapper<>(new NameableToStringMapper<>()), teacherAssembler))
+                .withSubMapper("leadershipSkills", new StudentLeadershipSkillEntityCollectionToModelCollectionMapper(
+                        new SimpleOneWayCollectionMapper<>(new NameableToStringMapper<>()), teacherAssembler))
+                .withSubMapper("leadershipTraits", new StudentLeadershipTraitEntityCollectionToModelCollectionMapper(
+                        new SimpleOneWayCollectionMapper<>(new NameableToStringMapper<>()), teacherAssembler))
+                .withSubMapper("contacts", new SimpleOneWayCollectionMapper<>(
+                        new StudentPersonEntityToModelMapper(phoneService)));
+        schoolAssembler = new SchoolAssembler(new SchoolSessionAssembler(), new AddressEntityToModelMapper(),
+                phoneService);
+
+        school = new School();
+        school.setId(UUID.randomUUID());
+        school.setName("SCHOOL");
+        school.setStreet1("STREET");
+        school.setCity("CITY");
+        school.setState("CO");
+        school.setZip("80000");
+        school.setPhone("5555555555");
+        school.setDistrict("DISTRICT");
+        school.setIsPrivate(false);
+
+        SchoolSession session = new SchoolSession();
+        session.setId(UUID.randomUUID());
+        session.setLabel("2024-2025");
+        session.setSchool(school);
+        school.setCurrentSession(session);
+
+        SchoolPersonRole teacher = role("TEACHER");
+        SchoolPersonRole mentor = role("MENTOR");
+        List<Interest> interests = List.of(interest("ART"), interest("MUSIC"), interest("SCIENCE"));
+
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            Student student = new Student();
+            student.setId(UUID.randomUUID());
+            student.setStudentId("S" + i);
+            student.setFirstName("FIRST" + i);
+            student.setLastName("LAST" + i);
+            student.setSchool(school);
+
+            StudentSchoolSession studentSession = new StudentSchoolSession();
+            studentSession.setId(UUID.randomUUID());
+            studentSession.setSchoolSession(session);
+            studentSession.setGrade(3);
+            studentSession.setTeacher(teacher);
+            studentSession.setMentor(mentor);
+            studentSession.getInterests().addAll(interests);
+            student.addStudentSession(studentSession);
+
+            StudentPersonRole contact = new StudentPersonRole();
+            contact.setStudent(student);
+            contact.setPerson(person("PARENT" + i));
+            contact.setLabel("PARENT");
+            contact.setIsEmergencyContact(true);
+            student.getStudentPersonRoles().add(contact);
+
+            students.add(student);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public List<StudentResource> students() {
+        startRequest();
+        List<StudentResource> resources = new ArrayList<>(STUDENT_COUNT);
+        for (Student student : students) {
+            studentAssembler.map(student).ifPresent(resources::add);
+        }
+        return resources;
+    }
+
+    @Benchmark
+    public Optional<SchoolResource> school() {
+        startRequest();
+        return schoolAssembler.map(school);
+    }
+
+    private SchoolPersonRole role(String name) {
+        SchoolPersonRole role = new SchoolPersonRole();
+        role.setId(UUID.randomUUID());
+        role.setSchool(school);
+        role.setPerson(person(name));
+        return role;
+    }
+
+    private static Interest interest(String name) {
+        Interest interest = new Interest();
+        interest.setId(UUID.randomUUID());
+        interest.setName(name);
+        return interest;
+    }
+
+    private static Person person(String name) {
+        Person person = new Person();
+        person.setId(UUID.randomUUID());
+        person.setFirstName(name);
+        person.setLastName("LAST");
+        person.setEmail(name.toLowerCase() + "@example.com");
+        person.setWorkPhone("5555555555");
+        person.setCellPhone("5555555556");
+        return person;
+    }
+
+    private static void startRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/schools");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+}
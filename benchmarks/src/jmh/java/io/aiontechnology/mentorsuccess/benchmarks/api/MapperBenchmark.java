@@ -0,0 +1,149 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.benchmarks.api;
+
+import io.aiontechnology.atlas.mapping.OneWayCollectionMapper;
+import io.aiontechnology.atlas.mapping.OneWayMapper;
+import io.aiontechnology.atlas.mapping.impl.SimpleOneWayCollectionMapper;
+import io.aiontechnology.atlas.mapping.impl.UpdateMapperBasedOneWayMapper;
+import io.aiontechnology.mentorsuccess.api.mapping.toentity.misc.AddressModelToEntityUpdateMapper;
+import io.aiontechnology.mentorsuccess.api.mapping.toentity.person.PersonModelToEntityUpdateMapper;
+import io.aiontechnology.mentorsuccess.api.mapping.toentity.reference.FunctionBasedModelToEntityMapper;
+import io.aiontechnology.mentorsuccess.api.mapping.toentity.school.SchoolModelToEntityUpdateMapper;
+import io.aiontechnology.mentorsuccess.api.mapping.tomodel.reference.NameableToStringMapper;
+import io.aiontechnology.mentorsuccess.entity.Person;
+import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.reference.Interest;
+import io.aiontechnology.mentorsuccess.model.inbound.InboundAddress;
+import io.aiontechnology.mentorsuccess.model.inbound.InboundPerson;
+import io.aiontechnology.mentorsuccess.model.inbound.InboundSchool;
+import io.aiontechnology.mentorsuccess.util.PhoneService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the mappers built by {@code MapperConfiguration}: inbound models to new entities through the update
+ * mappers, reference names to entities and reference entities back to names. The reference lookups that the services
+ * run against the database are replaced by an in-memory map so only the mapping is measured.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private static final List<String> INTEREST_NAMES = List.of("ART", "MUSIC", "SCIENCE", "SPORTS", "READING");
+
+    private final PhoneService phoneService = new PhoneService();
+
+    private OneWayMapper<InboundSchool, School> schoolModelToEntityMapper;
+    private OneWayMapper<InboundPerson, Person> personModelToEntityMapper;
+    private OneWayCollectionMapper<String, Interest> interestModelToEntityMapper;
+    private OneWayCollectionMapper<Interest, String> interestEntityToModelMapper;
+
+    private InboundSchool inboundSchool;
+    private InboundPerson inboundPerson;
+    private Collection<Interest> interests;
+
+    @Setup
+    public void setup() {
+        Map<String, Interest> interestsByName = INTEREST_NAMES.stream()
+                .map(MapperBenchmark::interest)
+                .collect(Collectors.toMap(Interest::getName, Function.identity()));
+
+        schoolModelToEntityMapper = new UpdateMapperBasedOneWayMapper<>(
+                new SchoolModelToEntityUpdateMapper(new AddressModelToEntityUpdateMapper(), phoneService),
+                School.class);
+        personModelToEntityMapper = new UpdateMapperBasedOneWayMapper<>(
+                new PersonModelToEntityUpdateMapper(phoneService), Person.class);
+        interestModelToEntityMapper = new SimpleOneWayCollectionMapper<>(
+                new FunctionBasedModelToEntityMapper<>(name -> Optional.ofNullable(interestsByName.get(name))));
+        interestEntityToModelMapper = new SimpleOneWayCollectionMapper<>(new NameableToStringMapper<>());
+
+        inboundSchool = InboundSchool.builder()
+                .withName("SCHOOL")
+                .withAddress(InboundAddress.builder()
+                        .withStreet1("STREET")
+                        .withCity("CITY")
+                        .withState("CO")
+                        .withZip("80000")
+                        .build())
+                .withPhone("(555) 555-5555")
+                .withDistrict("DISTRICT")
+                .withIsPrivate(false)
+                .withEmailTag("school")
+                .build();
+        inboundPerson = InboundPerson.builder()
+                .withFirstName("FIRST")
+                .withLastName("LAST")
+                .withEmail("first.last@example.com")
+                .withWorkPhone("(555) 555-5555")
+                .withCellPhone("(555) 555-5556")
+                .build();
+        interests = interestsByName.values();
+    }
+
+    @Benchmark
+    public Optional<School> schoolModelToEntity() {
+        return schoolModelToEntityMapper.map(inboundSchool);
+    }
+
+    @Benchmark
+    public Optional<Person> personModelToEntity() {
+        return personModelToEntityMapper.map(inboundPerson);
+    }
+
+    @Benchmark
+    public Optional<Collection<Interest>> interestModelToEntity() {
+        return interestModelToEntityMapper.map(INTEREST_NAMES);
+    }
+
+    @Benchmark
+    public Optional<Collection<String>> interestEntityToModel() {
+        return interestEntityToModelMapper.map(interests);
+    }
+
+    private static Interest interest(String name) {
+        Interest interest = new Interest();
+        interest.setId(UUID.randomUUID());
+        interest.setName(name);
+        return interest;
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.benchmarks.api;
+
+import io.aiontechnology.atlas.mapping.OneWayMapper;
+import io.aiontechnology.atlas.mapping.impl.ReflectionCompoundOneWayMapper;
+import io.aiontechnology.mentorsuccess.api.mapping.CompiledCompoundOneWayMapper;
+import io.aiontechnology.mentorsuccess.api.mapping.tomodel.misc.PhoneEntityToModelMapper;
+import io.aiontechnology.mentorsuccess.entity.Person;
+import io.aiontechnology.mentorsuccess.resource.PersonResource;
+import io.aiontechnology.mentorsuccess.util.PhoneService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares mapping a person to its resource with the reflective mapper the assemblers used before against
+ * {@link CompiledCompoundOneWayMapper}. Both map the same properties with the same phone number sub mappers.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PropertyMappingBenchmark {
+
+    private final OneWayMapper<String, String> phoneMapper = new PhoneEntityToModelMapper(new PhoneService());
+
+    private OneWayMapper<Person, PersonResource> reflectionMapper;
+    private OneWayMapper<Person, PersonResource> compiledMapper;
+    private Person person;
+
+    @Setup
+    public void setup() {
+        reflectionMapper = new ReflectionCompoundOneWayMapper<Person, PersonResource>(PersonResource.class) {
+            {
+                addSubMapper("workPhone", phoneMapper);
+                addSubMapper("cellPhone", phoneMapper);
+            }
+        };
+        compiledMapper = new CompiledCompoundOneWayMapper<Person, PersonResource>(Person.class, PersonResource.class) {
+            {
+                addSubMapper("workPhone", phoneMapper);
+                addSubMapper("cellPhone", phoneMapper);
+            }
+        };
+
+        person = new Person();
+        person.setId(UUID.randomUUID());
+        person.setFirstName("FIRST");
+        person.setLastName("LAST");
+        person.setEmail("first.last@example.com");
+        person.setWorkPhone("5555555555");
+        person.setCellPhone("5555555556");
+    }
+
+    @Benchmark
+    public Optional<PersonResource> reflection() {
+        return reflectionMapper.map(person);
+    }
+
+    @Benchmark
+    public Optional<PersonResource> compiled() {
+        return compiledMapper.map(person);
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.benchmarks.api;
+
+import io.aiontechnology.mentorsuccess.api.assembler.impl.StudentAssembler;
+import io.aiontechnology.mentorsuccess.api.controller.StudentController;
+import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.Student;
+import io.aiontechnology.mentorsuccess.resource.StudentResource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+/**
+ * Measures adding links to 1,000 student resources in one request, once through the cached link templates used by
+ * {@link StudentAssembler} and once through {@code WebMvcLinkBuilder} as the assemblers did before. Each invocation
+ * runs in a fresh request so the per-request base URI is computed as it would be in a real response.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StudentLinksBenchmark {
+
+    private static final int STUDENT_COUNT = 1000;
+
+    private final LinkingStudentAssembler assembler = new LinkingStudentAssembler();
+
+    private final List<Student> students = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        School school = new School();
+        school.setId(UUID.randomUUID());
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            Student student = new Student();
+            student.setId(UUID.randomUUID());
+            student.setSchool(school);
+            students.add(student);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public List<StudentResource> linkTemplates() {
+        startRequest();
+        List<StudentResource> resources = new ArrayList<>(STUDENT_COUNT);
+        for (Student student : students) {
+            StudentResource resource = new StudentResource(student);
+            resource.add(assembler.links(resource));
+            resources.add(resource);
+        }
+        return resources;
+    }
+
+    @Benchmark
+    public List<StudentResource> webMvcLinkBuilder() {
+        startRequest();
+        List<StudentResource> resources = new ArrayList<>(STUDENT_COUNT);
+        for (Student student : students) {
+            StudentResource resource = new StudentResource(student);
+            resource.add(linkTo(StudentController.class, student.getSchool().getId())
+                    .slash(student.getId())
+                    .withSelfRel());
+            resources.add(resource);
+        }
+        return resources;
+    }
+
+    private static void startRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/schools");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    /**
+     * Exposes the links of {@link StudentAssembler} without mapping the rest of the resource.
+     */
+    private static class LinkingStudentAssembler extends StudentAssembler {
+
+        Set<Link> links(StudentResource resource) {
+            return getLinks(resource);
+        }
+
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.benchmarks.security;
+
+import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
+import io.aiontechnology.mentorsuccess.security.AuthoritiesGrantingFilter;
+import io.aiontechnology.mentorsuccess.security.ProgramAdminAuthoritySetter;
+import io.aiontechnology.mentorsuccess.security.SystemAdminAuthoritySetter;
+import io.aiontechnology.mentorsuccess.util.SchoolUUIDMatcher;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of {@link AuthoritiesGrantingFilter} for one request, including the authority setter selected by
+ * the group claim. Run with the GC profiler to see the allocation per request.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AuthoritiesGrantingFilterBenchmark {
+
+    private final AuthoritiesGrantingFilter filter = new AuthoritiesGrantingFilter();
+    private final FilterChain chain = (request, response) -> {
+    };
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private JwtAuthenticationToken programAdmin;
+    private JwtAuthenticationToken systemAdmin;
+    private MockHttpServletRequest ownSchoolRequest;
+    private MockHttpServletRequest otherSchoolRequest;
+
+    @Setup
+    public void setup() {
+        School school = new School();
+        school.setId(UUID.randomUUID());
+        SchoolPersonRole role = new SchoolPersonRole();
+        role.setSchool(school);
+
+        programAdmin = token(Optional.of(role), new ProgramAdminAuthoritySetter(new SchoolUUIDMatcher()));
+        systemAdmin = token(Optional.empty(), new SystemAdminAuthoritySetter());
+        ownSchoolRequest = new MockHttpServletRequest("GET", "/api/v1/schools/" + school.getId() + "/students");
+        otherSchoolRequest = new MockHttpServletRequest("GET", "/api/v1/schools/" + UUID.randomUUID() + "/students");
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Authentication programAdminOwnSchool() throws Exception {
+        return doFilter(programAdmin, ownSchoolRequest);
+    }
+
+    @Benchmark
+    public Authentication programAdminOtherSchool() throws Exception {
+        return doFilter(programAdmin, otherSchoolRequest);
+    }
+
+    @Benchmark
+    public Authentication systemAdmin() throws Exception {
+        return doFilter(systemAdmin, ownSchoolRequest);
+    }
+
+    private Authentication doFilter(JwtAuthenticationToken token, MockHttpServletRequest request) throws Exception {
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        securityContext.setAuthentication(token);
+        filter.doFilter(request, response, chain);
+        return securityContext.getAuthentication();
+    }
+
+    private static JwtAuthenticationToken token(Optional<SchoolPersonRole> role, Object authoritySetter) {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .subject("user")
+                .claim("username", role)
+                .claim("cognito:groups", authoritySetter)
+                .build();
+        return new JwtAuthenticationToken(jwt, Collections.emptyList(), "user");
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.benchmarks.security;
+
+import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
+import io.aiontechnology.mentorsuccess.security.ProgramAdminAuthoritySetter;
+import io.aiontechnology.mentorsuccess.security.SystemAdminAuthoritySetter;
+import io.aiontechnology.mentorsuccess.util.SchoolUUIDMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the authority setters on their own, without the filter and security context around them that
+ * {@link AuthoritiesGrantingFilterBenchmark} includes.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthoritySetterBenchmark {
+
+    private final ProgramAdminAuthoritySetter programAdminAuthoritySetter =
+            new ProgramAdminAuthoritySetter(new SchoolUUIDMatcher());
+    private final SystemAdminAuthoritySetter systemAdminAuthoritySetter = new SystemAdminAuthoritySetter();
+
+    private Optional<SchoolPersonRole> role;
+    private URI ownSchool;
+    private URI otherSchool;
+
+    @Setup
+    public void setup() {
+        School school = new School();
+        school.setId(UUID.randomUUID());
+        SchoolPersonRole programAdmin = new SchoolPersonRole();
+        programAdmin.setSchool(school);
+        role = Optional.of(programAdmin);
+
+        ownSchool = URI.create("https://example.com/api/v1/schools/" + school.getId() + "/students");
+        otherSchool = URI.create("https://example.com/api/v1/schools/" + UUID.randomUUID() + "/students");
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> programAdminOwnSchool() {
+        return programAdminAuthoritySetter.apply(role, ownSchool);
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> programAdminOtherSchool() {
+        return programAdminAuthoritySetter.apply(role, otherSchool);
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> systemAdmin() {
+        return systemAdminAuthoritySetter.apply(Optional.empty(), ownSchool);
+    }
+
+}
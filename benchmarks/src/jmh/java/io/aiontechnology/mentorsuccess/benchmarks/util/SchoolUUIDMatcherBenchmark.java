@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.benchmarks.util;
+
+import io.aiontechnology.mentorsuccess.util.SchoolUUIDMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SchoolUUIDMatcher}, which runs for every request made by a program admin. Covers a path for the
+ * admin's own school, a path for another school and a path that does not address a school.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchoolUUIDMatcherBenchmark {
+
+    private final SchoolUUIDMatcher matcher = new SchoolUUIDMatcher();
+
+    private UUID schoolId;
+    private URI ownSchool;
+    private URI otherSchool;
+    private URI noSchool;
+
+    @Setup
+    public void setup() {
+        schoolId = UUID.randomUUID();
+        ownSchool = URI.create("https://example.com/api/v1/schools/" + schoolId + "/students/" + UUID.randomUUID());
+        otherSchool = URI.create("https://example.com/api/v1/schools/" + UUID.randomUUID() + "/students");
+        noSchool = URI.create("https://example.com/api/v1/books/" + UUID.randomUUID());
+    }
+
+    @Benchmark
+    public boolean ownSchool() {
+        return matcher.match(ownSchool, schoolId);
+    }
+
+    @Benchmark
+    public boolean otherSchool() {
+        return matcher.match(otherSchool, schoolId);
+    }
+
+    @Benchmark
+    public boolean noSchool() {
+        return matcher.match(noSchool, schoolId);
+    }
+
+}
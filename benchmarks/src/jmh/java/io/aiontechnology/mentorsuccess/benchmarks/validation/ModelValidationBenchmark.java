@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.benchmarks.validation;
+
+import io.aiontechnology.mentorsuccess.model.inbound.InboundAddress;
+import io.aiontechnology.mentorsuccess.model.inbound.InboundSchool;
+import io.aiontechnology.mentorsuccess.model.inbound.student.InboundStudentRegistration;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Bean Validation of the model-lib inbound models as the controllers run it on request bodies. The invalid
+ * case includes building and interpolating the violation messages.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    private InboundSchool validSchool;
+    private InboundSchool invalidSchool;
+    private InboundStudentRegistration registration;
+
+    @Setup
+    public void setup() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        InboundAddress address = InboundAddress.builder()
+                .withStreet1("STREET")
+                .withCity("CITY")
+                .withState("CO")
+                .withZip("80000")
+                .build();
+        validSchool = InboundSchool.builder()
+                .withName("SCHOOL")
+                .withAddress(address)
+                .withPhone("(555) 555-5555")
+                .withDistrict("DISTRICT")
+                .build();
+        invalidSchool = InboundSchool.builder()
+                .withAddress(InboundAddress.builder()
+                        .withState("COLORADO")
+                        .withZip("800")
+                        .build())
+                .withPhone("555")
+                .build();
+        registration = InboundStudentRegistration.builder()
+                .withStudentFirstName("Jane")
+                .withStudentLastName("Doe")
+                .withGrade(3)
+                .withParent1FirstName("John")
+                .withParent1LastName("Doe")
+                .withParent1PhoneNumber("(555) 555-5555")
+                .withParent1EmailAddress("john@example.com")
+                .withParent1PreferredContactMethod("EMAIL")
+                .withTeacher(URI.create("https://example.com/api/v1/schools/1/teachers/2"))
+                .withPreferredSession("MORNING")
+                .withEmergencyContactFirstName("Mary")
+                .withEmergencyContactLastName("Doe")
+                .withEmergencyContactPhone("(555) 555-5556")
+                .withParentSignature("John Doe")
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<InboundSchool>> validSchool() {
+        return validator.validate(validSchool);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<InboundSchool>> invalidSchool() {
+        return validator.validate(invalidSchool);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<InboundStudentRegistration>> studentRegistration() {
+        return validator.validate(registration);
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.benchmarks.velocity;
+
+import io.aiontechnology.mentorsuccess.configuration.VelocityConfiguration;
+import io.aiontechnology.mentorsuccess.util.PhoneService;
+import io.aiontechnology.mentorsuccess.velocity.StudentInvitationEmailGenerator;
+import io.aiontechnology.mentorsuccess.velocity.VelocityGenerationStrategy;
+import io.aiontechnology.mentorsuccess.velocity.VelocityGenerationStrategyRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.velocity.VelocityContext;
+import org.apache.velocity.app.Velocity;
+import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares rendering the student invitation email through the strategy registry with a pre-parsed template against
+ * the previous per-execution path: a reflective class lookup, re-initialization of the global Velocity runtime and a
+ * template lookup on every render. The strategy constructor is left out of the baseline, so it understates the cost of
+ * the previous path.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailRenderingBenchmark {
+
+    private static final String TEMPLATE_NAME = "templates/student/invitation-email.vm";
+    private static final String STRATEGY_NAME = StudentInvitationEmailGenerator.class.getName();
+
+    private final PhoneService phoneService = new PhoneService();
+
+    private VelocityGenerationStrategyRegistry registry;
+
+    @Setup
+    public void setup() {
+        StudentInvitationEmailGenerator generator =
+                new StudentInvitationEmailGenerator(new VelocityConfiguration().velocityEngine(),
+                        new SimpleMeterRegistry(), phoneService);
+        registry = new VelocityGenerationStrategyRegistry(List.of(generator));
+    }
+
+    @Benchmark
+    public String registry() {
+        return registry.getStrategy(STRATEGY_NAME, StudentInvitationEmailGenerator.class)
+                .render("PARENT", "SCHOOL", "PROGRAM ADMIN", "admin@example.com", Optional.of("5555555555"),
+                        "https://example.com/register");
+    }
+
+    @Benchmark
+    public String perExecution() throws Exception {
+        Class.forName(STRATEGY_NAME).asSubclass(VelocityGenerationStrategy.class);
+
+        Properties velocityProperties = new Properties();
+        velocityProperties.setProperty("resource.loaders", "class");
+        velocityProperties.setProperty("resource.loader.class.class", ClasspathResourceLoader.class.getName());
+        Velocity.init(velocityProperties);
+
+        VelocityContext context = new VelocityContext();
+        context.put("parentFirstName", "PARENT");
+        context.put("schoolName", "SCHOOL");
+        context.put("programAdminName", "PROGRAM ADMIN");
+        context.put("programAdminEmail", "admin@example.com");
+        context.put("programAdminPhone", phoneService.format(Optional.of("5555555555")));
+        context.put("registrationUri", "https://example.com/register");
+        StringWriter writer = new StringWriter();
+        Velocity.getTemplate(TEMPLATE_NAME).merge(context, writer);
+        return writer.toString();
+    }
+
+}
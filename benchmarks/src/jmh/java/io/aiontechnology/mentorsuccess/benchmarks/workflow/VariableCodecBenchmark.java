@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.benchmarks.workflow;
+
+import io.aiontechnology.mentorsuccess.model.inbound.student.InboundStudentRegistration;
+import io.aiontechnology.mentorsuccess.workflow.InboundModelCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares storing a student registration as a workflow variable with {@link InboundModelCodec} against the Java
+ * serialization Flowable uses by default.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VariableCodecBenchmark {
+
+    private final InboundModelCodec codec = new InboundModelCodec();
+
+    private InboundStudentRegistration registration;
+    private String json;
+    private byte[] serialized;
+
+    @Setup
+    public void setup() throws IOException {
+        registration = InboundStudentRegistration.builder()
+                .withStudentFirstName("Jane")
+                .withStudentLastName("Doe")
+                .withGrade(3)
+                .withParent1FirstName("John")
+                .withParent1LastName("Doe")
+                .withParent1PhoneNumber("5555555555")
+                .withParent1EmailAddress("john@example.com")
+                .withParent1PreferredContactMethod("EMAIL")
+                .withTeacher(URI.create("https://example.com/api/v1/schools/1/teachers/2"))
+                .withPreferredSession("MORNING")
+                .withEmergencyContactFirstName("Mary")
+                .withEmergencyContactLastName("Doe")
+                .withEmergencyContactPhone("5555555556")
+                .withParentSignature("John Doe")
+                .build();
+        json = codec.encode(registration);
+        serialized = serialize(registration);
+    }
+
+    @Benchmark
+    public String jsonEncode() {
+        return codec.encode(registration);
+    }
+
+    @Benchmark
+    public Object jsonDecode() {
+        return codec.decode(json, InboundStudentRegistration.class.getName(), InboundModelCodec.SCHEMA_VERSION);
+    }
+
+    @Benchmark
+    public byte[] javaSerialize() throws IOException {
+        return serialize(registration);
+    }
+
+    @Benchmark
+    public Object javaDeserialize() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return in.readObject();
+        }
+    }
+
+    private static byte[] serialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+}
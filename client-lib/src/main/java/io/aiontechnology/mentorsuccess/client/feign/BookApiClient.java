@@ -16,12 +16,15 @@
 
 package io.aiontechnology.mentorsuccess.client.feign;
 
+import io.aiontechnology.mentorsuccess.model.enumeration.ResourceLocation;
 import io.aiontechnology.mentorsuccess.model.inbound.InboundBook;
 import io.aiontechnology.mentorsuccess.model.outbound.OutboundBook;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.PagedModel;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 
 /**
  * @author Whitney Hunter
@@ -33,7 +36,35 @@ public interface BookApiClient {
     @RequestMapping(method = RequestMethod.POST, value = "/api/v1/books")
     OutboundBook createBook(InboundBook book);
 
+    /**
+     * Send a GET to retrieve the first page of books in the default order.
+     *
+     * @return The first page of books.
+     * @deprecated Use {@link #getBooks} to page through all books.
+     */
+    @Deprecated
     @RequestMapping(method = RequestMethod.GET, value = "/api/v1/books")
     CollectionModel<OutboundBook> getAllBooks();
 
+    /**
+     * Send a GET to retrieve a page of books.
+     *
+     * @param page The zero based index of the page.
+     * @param size The maximum number of items in the page.
+     * @param sort The sort order (for example {@code title,desc}) or null for the default order.
+     * @param name A case-insensitive prefix of the title or null.
+     * @param active The required active flag or null.
+     * @param grade A grade that the books must cover or null.
+     * @param location A location at which the books must be available or null.
+     * @return The requested page of books.
+     */
+    @RequestMapping(method = RequestMethod.GET, value = "/api/v1/books")
+    PagedModel<OutboundBook> getBooks(@RequestParam("page") int page,
+            @RequestParam("size") int size,
+            @RequestParam(value = "sort", required = false) String sort,
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "active", required = false) Boolean active,
+            @RequestParam(value = "grade", required = false) Integer grade,
+            @RequestParam(value = "location", required = false) ResourceLocation location);
+
 }
@@ -16,12 +16,15 @@
 
 package io.aiontechnology.mentorsuccess.client.feign;
 
+import io.aiontechnology.mentorsuccess.model.enumeration.ResourceLocation;
 import io.aiontechnology.mentorsuccess.model.inbound.InboundGame;
 import io.aiontechnology.mentorsuccess.model.outbound.OutboundGame;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.PagedModel;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 
 /**
  * Client for the game API.
@@ -35,7 +38,35 @@ public interface GameApiClient {
     @RequestMapping(method = RequestMethod.POST, value = "/api/v1/games")
     OutboundGame createGame(InboundGame game);
 
+    /**
+     * Send a GET to retrieve the first page of games in the default order.
+     *
+     * @return The first page of games.
+     * @deprecated Use {@link #getGames} to page through all games.
+     */
+    @Deprecated
     @RequestMapping(method = RequestMethod.GET, value = "/api/v1/games")
     CollectionModel<OutboundGame> getAllGames();
 
+    /**
+     * Send a GET to retrieve a page of games.
+     *
+     * @param page The zero based index of the page.
+     * @param size The maximum number of items in the page.
+     * @param sort The sort order (for example {@code name,desc}) or null for the default order.
+     * @param name A case-insensitive prefix of the name or null.
+     * @param active The required active flag or null.
+     * @param grade A grade that the games must cover or null.
+     * @param location A location at which the games must be available or null.
+     * @return The requested page of games.
+     */
+    @RequestMapping(method = RequestMethod.GET, value = "/api/v1/games")
+    PagedModel<OutboundGame> getGames(@RequestParam("page") int page,
+            @RequestParam("size") int size,
+            @RequestParam(value = "sort", required = false) String sort,
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "active", required = false) Boolean active,
+            @RequestParam(value = "grade", required = false) Integer grade,
+            @RequestParam(value = "location", required = false) ResourceLocation location);
+
 }
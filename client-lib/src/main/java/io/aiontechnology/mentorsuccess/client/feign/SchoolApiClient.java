@@ -16,15 +16,22 @@
 
 package io.aiontechnology.mentorsuccess.client.feign;
 
+import io.aiontechnology.mentorsuccess.model.enumeration.ResourceLocation;
 import io.aiontechnology.mentorsuccess.model.inbound.InboundSchool;
 import io.aiontechnology.mentorsuccess.model.outbound.OutboundBook;
 import io.aiontechnology.mentorsuccess.model.outbound.OutboundGame;
+import io.aiontechnology.mentorsuccess.model.outbound.OutboundMentor;
+import io.aiontechnology.mentorsuccess.model.outbound.OutboundPersonnel;
+import io.aiontechnology.mentorsuccess.model.outbound.OutboundProgramAdmin;
 import io.aiontechnology.mentorsuccess.model.outbound.OutboundSchool;
+import io.aiontechnology.mentorsuccess.model.outbound.OutboundTeacher;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.PagedModel;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.UUID;
 
@@ -55,10 +62,121 @@ public interface SchoolApiClient {
     @RequestMapping(method = RequestMethod.GET, value = "/api/v1/schools/{schoolId}")
     OutboundSchool getSchool(@PathVariable("schoolId") UUID shoolId);
 
+    /**
+     * Send a GET to retrieve a page of schools.
+     *
+     * @param page The zero based index of the page.
+     * @param size The maximum number of schools in the page.
+     * @param sort The sort order (for example {@code name,desc}) or null for the default order.
+     * @param name A case-insensitive prefix of the school name or null.
+     * @return The requested page of schools.
+     */
+    @RequestMapping(method = RequestMethod.GET, value = "/api/v1/schools")
+    PagedModel<OutboundSchool> getSchools(@RequestParam("page") int page,
+            @RequestParam("size") int size,
+            @RequestParam(value = "sort", required = false) String sort,
+            @RequestParam(value = "name", required = false) String name);
+
     @RequestMapping(method = RequestMethod.GET, value = "/api/v1/schools/{schoolId}/books")
     CollectionModel<OutboundBook> getBooksForSchool(@PathVariable("schoolId") UUID schoolId);
 
     @RequestMapping(method = RequestMethod.GET, value = "/api/v1/schools/{schoolId}/games")
     CollectionModel<OutboundGame> getGamesForSchool(@PathVariable("schoolId") UUID schoolId);
 
+    /**
+     * Send a GET to retrieve a page of the mentors of a school. Only active mentors are returned unless
+     * {@code active} is false.
+     *
+     * @param schoolId The id of the school.
+     * @param page The zero based index of the page.
+     * @param size The maximum number of items in the page.
+     * @param sort The sort order (for example {@code person.lastName,desc}) or null for the default order.
+     * @param name A case-insensitive prefix of the last name or null.
+     * @param active The required active flag or null.
+     * @param grade A grade that the mentors must cover or null.
+     * @param location A location at which the mentors must be available or null.
+     * @return The requested page of mentors.
+     */
+    @RequestMapping(method = RequestMethod.GET, value = "/api/v1/schools/{schoolId}/mentors")
+    PagedModel<OutboundMentor> getMentors(@PathVariable("schoolId") UUID schoolId,
+            @RequestParam("page") int page,
+            @RequestParam("size") int size,
+            @RequestParam(value = "sort", required = false) String sort,
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "active", required = false) Boolean active,
+            @RequestParam(value = "grade", required = false) Integer grade,
+            @RequestParam(value = "location", required = false) ResourceLocation location);
+
+    /**
+     * Send a GET to retrieve a page of the teachers of a school. Only active teachers are returned unless
+     * {@code active} is false.
+     *
+     * @param schoolId The id of the school.
+     * @param page The zero based index of the page.
+     * @param size The maximum number of items in the page.
+     * @param sort The sort order (for example {@code person.lastName,desc}) or null for the default order.
+     * @param name A case-insensitive prefix of the last name or null.
+     * @param active The required active flag or null.
+     * @param grade A grade that the teachers must cover or null.
+     * @param location A location at which the teachers must be available or null.
+     * @return The requested page of teachers.
+     */
+    @RequestMapping(method = RequestMethod.GET, value = "/api/v1/schools/{schoolId}/teachers")
+    PagedModel<OutboundTeacher> getTeachers(@PathVariable("schoolId") UUID schoolId,
+            @RequestParam("page") int page,
+            @RequestParam("size") int size,
+            @RequestParam(value = "sort", required = false) String sort,
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "active", required = false) Boolean active,
+            @RequestParam(value = "grade", required = false) Integer grade,
+            @RequestParam(value = "location", required = false) ResourceLocation location);
+
+    /**
+     * Send a GET to retrieve a page of the personnel of a school. Only active personnel are returned unless
+     * {@code active} is false.
+     *
+     * @param schoolId The id of the school.
+     * @param page The zero based index of the page.
+     * @param size The maximum number of items in the page.
+     * @param sort The sort order (for example {@code person.lastName,desc}) or null for the default order.
+     * @param name A case-insensitive prefix of the last name or null.
+     * @param active The required active flag or null.
+     * @param grade A grade that the personnel must cover or null.
+     * @param location A location at which the personnel must be available or null.
+     * @return The requested page of personnel.
+     */
+    @RequestMapping(method = RequestMethod.GET, value = "/api/v1/schools/{schoolId}/personnel")
+    PagedModel<OutboundPersonnel> getPersonnel(@PathVariable("schoolId") UUID schoolId,
+            @RequestParam("page") int page,
+            @RequestParam("size") int size,
+            @RequestParam(value = "sort", required = false) String sort,
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "active", required = false) Boolean active,
+            @RequestParam(value = "grade", required = false) Integer grade,
+            @RequestParam(value = "location", required = false) ResourceLocation location);
+
+    /**
+     * Send a GET to retrieve a page of the program admins of a school. Only active program admins are returned unless
+     * {@code active} is false.
+     *
+     * @param schoolId The id of the school.
+     * @param page The zero based index of the page.
+     * @param size The maximum number of items in the page.
+     * @param sort The sort order (for example {@code person.lastName,desc}) or null for the default order.
+     * @param name A case-insensitive prefix of the last name or null.
+     * @param active The required active flag or null.
+     * @param grade A grade that the program admins must cover or null.
+     * @param location A location at which the program admins must be available or null.
+     * @return The requested page of program admins.
+     */
+    @RequestMapping(method = RequestMethod.GET, value = "/api/v1/schools/{schoolId}/programAdmins")
+    PagedModel<OutboundProgramAdmin> getProgramAdmins(@PathVariable("schoolId") UUID schoolId,
+            @RequestParam("page") int page,
+            @RequestParam("size") int size,
+            @RequestParam(value = "sort", required = false) String sort,
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "active", required = false) Boolean active,
+            @RequestParam(value = "grade", required = false) Integer grade,
+            @RequestParam(value = "location", required = false) ResourceLocation location);
+
 }
@@ -19,6 +19,8 @@ package io.aiontechnology.mentorsuccess;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Entry point into application.
@@ -27,7 +29,9 @@ import org.springframework.cache.annotation.EnableCaching;
  * @since 0.1.0
  */
 @SpringBootApplication
+@EnableAsync(proxyTargetClass = true)
 @EnableCaching
+@EnableScheduling
 public class MentorsuccessApplication {
 
     public static void main(String[] args) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 Aion Technology LLC
+ * Copyright 2020-2022 Aion Technology LLC
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,7 @@
 package io.aiontechnology.mentorsuccess.api.assembler;
 
 import io.aiontechnology.atlas.mapping.OneWayMapper;
-import io.aiontechnology.atlas.mapping.impl.ReflectionCompoundOneWayMapper;
+import io.aiontechnology.mentorsuccess.api.mapping.CompiledCompoundOneWayMapper;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 
@@ -27,20 +27,22 @@ import java.util.Optional;
 import java.util.Set;
 
 /**
+ * An assembler that copies the properties an entity shares with its model through accessors compiled by
+ * {@link CompiledCompoundOneWayMapper}.
+ *
  * @author Whitney Hunter
- * @since 1.8.0
+ * @since 2.11.0
  */
-public class ReflectionAssemblerSupport<ENTITY, MODEL extends EntityModel>
-        extends ReflectionCompoundOneWayMapper<ENTITY, MODEL> implements Assembler<ENTITY, MODEL> {
+public class CompiledAssemblerSupport<ENTITY, MODEL extends EntityModel<ENTITY>>
+        extends CompiledCompoundOneWayMapper<ENTITY, MODEL> implements Assembler<ENTITY, MODEL> {
 
-    protected ReflectionAssemblerSupport(Class<MODEL> modelClass) {
-        super(modelClass);
+    protected CompiledAssemblerSupport(Class<ENTITY> entityClass, Class<MODEL> modelClass) {
+        super(entityClass, modelClass);
     }
 
     @Override
     public Optional<MODEL> map(ENTITY from) {
-        return Optional.ofNullable(from)
-                .flatMap(super::map)
+        return super.map(from)
                 .map(this::addLinks);
     }
 
@@ -49,7 +51,7 @@ public class ReflectionAssemblerSupport<ENTITY, MODEL extends EntityModel>
         return map(from);
     }
 
-    public ReflectionAssemblerSupport<ENTITY, MODEL> withSubMapper(String key, OneWayMapper<?, ?> subMapper) {
+    public CompiledAssemblerSupport<ENTITY, MODEL> withSubMapper(String key, OneWayMapper<?, ?> subMapper) {
         addSubMapper(key, subMapper);
         return this;
     }
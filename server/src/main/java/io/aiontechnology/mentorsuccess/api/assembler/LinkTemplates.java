@@ -0,0 +1,187 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.api.assembler;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds links to controllers from URI templates that are resolved once per controller and base URI. Assemblers use
+ * this in place of {@code WebMvcLinkBuilder.linkTo(...)}, which inspects the controller mapping and rebuilds the base
+ * URI from the current request for every link it creates. Here the base URI is computed once per request and the
+ * controller template is expanded by plain string substitution.
+ * <p>
+ * Outside of a request the links are relative to the application root, as they are with {@code WebMvcLinkBuilder}.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+public final class LinkTemplates {
+
+    /** The request attribute that holds the base URI of the current request */
+    private static final String BASE_URI_ATTRIBUTE = LinkTemplates.class.getName() + ".baseUri";
+
+    /** The number of distinct base URIs and controllers to keep templates for */
+    private static final long MAXIMUM_SIZE = 1000;
+
+    /** The resolved templates keyed by base URI and controller */
+    private static final Cache<TemplateKey, LinkTemplate> TEMPLATES = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .build();
+
+    private LinkTemplates() {
+    }
+
+    /**
+     * Start a link to the given controller.
+     *
+     * @param controller The controller whose class level mapping is the root of the link.
+     * @param parameters The values of the template variables in the mapping, in order.
+     * @return A builder for the link.
+     */
+    public static LinkTemplateBuilder linkTo(Class<?> controller, Object... parameters) {
+        return TEMPLATES.get(new TemplateKey(currentBaseUri(), controller), LinkTemplates::resolve)
+                .expand(parameters);
+    }
+
+    private static String currentBaseUri() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return "";
+        }
+        String baseUri = (String) requestAttributes.getAttribute(BASE_URI_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        if (baseUri == null) {
+            baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().build().toUriString();
+            requestAttributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+        }
+        return baseUri;
+    }
+
+    private static LinkTemplate resolve(TemplateKey key) {
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(key.getController(),
+                RequestMapping.class);
+        String path = mapping == null || mapping.path().length == 0 ? "" : mapping.path()[0];
+        return LinkTemplate.parse(key.getBaseUri(), path);
+    }
+
+    /**
+     * Builds a single link from an expanded template.
+     */
+    public static final class LinkTemplateBuilder {
+
+        private final StringBuilder href;
+
+        private LinkTemplateBuilder(StringBuilder href) {
+            this.href = href;
+        }
+
+        /**
+         * Append a path segment to the link.
+         *
+         * @param segment The segment. Ignored if null.
+         * @return This builder.
+         */
+        public LinkTemplateBuilder slash(Object segment) {
+            if (segment != null) {
+                href.append('/').append(encode(segment));
+            }
+            return this;
+        }
+
+        public Link withRel(String rel) {
+            return Link.of(href.toString(), rel);
+        }
+
+        public Link withSelfRel() {
+            return Link.of(href.toString(), IanaLinkRelations.SELF);
+        }
+
+    }
+
+    /**
+     * A controller mapping split at its template variables with the base URI folded into the first part.
+     */
+    private static final class LinkTemplate {
+
+        private final String[] literals;
+
+        private LinkTemplate(String[] literals) {
+            this.literals = literals;
+        }
+
+        static LinkTemplate parse(String baseUri, String path) {
+            List<String> literals = new ArrayList<>();
+            StringBuilder literal = new StringBuilder(baseUri);
+            int position = 0;
+            while (position < path.length()) {
+                int start = path.indexOf('{', position);
+                int end = start < 0 ? -1 : path.indexOf('}', start);
+                if (end < 0) {
+                    literal.append(path, position, path.length());
+                    break;
+                }
+                literal.append(path, position, start);
+                literals.add(literal.toString());
+                literal.setLength(0);
+                position = end + 1;
+            }
+            literals.add(literal.toString());
+            return new LinkTemplate(literals.toArray(String[]::new));
+        }
+
+        LinkTemplateBuilder expand(Object... parameters) {
+            int variables = literals.length - 1;
+            if (parameters.length < variables) {
+                throw new IllegalArgumentException(
+                        "Expected " + variables + " template parameters but got " + parameters.length);
+            }
+            StringBuilder href = new StringBuilder(literals[0]);
+            for (int i = 0; i < variables; i++) {
+                href.append(encode(parameters[i])).append(literals[i + 1]);
+            }
+            return new LinkTemplateBuilder(href);
+        }
+
+    }
+
+    private static String encode(Object value) {
+        return UriUtils.encodePathSegment(String.valueOf(value), StandardCharsets.UTF_8);
+    }
+
+    @Value
+    private static class TemplateKey {
+
+        String baseUri;
+        Class<?> controller;
+
+    }
+
+}
@@ -16,7 +16,7 @@
 
 package io.aiontechnology.mentorsuccess.api.assembler.impl;
 
-import io.aiontechnology.mentorsuccess.api.assembler.ReflectionAssemblerSupport;
+import io.aiontechnology.mentorsuccess.api.assembler.CompiledAssemblerSupport;
 import io.aiontechnology.mentorsuccess.api.controller.BookController;
 import io.aiontechnology.mentorsuccess.entity.Book;
 import io.aiontechnology.mentorsuccess.resource.BookResource;
@@ -24,16 +24,16 @@ import org.springframework.hateoas.Link;
 
 import java.util.Set;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static io.aiontechnology.mentorsuccess.api.assembler.LinkTemplates.linkTo;
 
 /**
  * @author Whitney Hunter
  * @since 1.8.0
  */
-public class BookAssembler extends ReflectionAssemblerSupport<Book, BookResource> {
+public class BookAssembler extends CompiledAssemblerSupport<Book, BookResource> {
 
     public BookAssembler() {
-        super(BookResource.class);
+        super(Book.class, BookResource.class);
     }
 
     @Override
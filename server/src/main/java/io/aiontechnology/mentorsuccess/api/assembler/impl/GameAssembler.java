@@ -16,7 +16,7 @@
 
 package io.aiontechnology.mentorsuccess.api.assembler.impl;
 
-import io.aiontechnology.mentorsuccess.api.assembler.ReflectionAssemblerSupport;
+import io.aiontechnology.mentorsuccess.api.assembler.CompiledAssemblerSupport;
 import io.aiontechnology.mentorsuccess.api.controller.GameController;
 import io.aiontechnology.mentorsuccess.entity.Game;
 import io.aiontechnology.mentorsuccess.resource.GameResource;
@@ -24,16 +24,16 @@ import org.springframework.hateoas.Link;
 
 import java.util.Set;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static io.aiontechnology.mentorsuccess.api.assembler.LinkTemplates.linkTo;
 
 /**
  * @author Whitney Hunter
  * @since 1.8.0
  */
-public class GameAssembler extends ReflectionAssemblerSupport<Game, GameResource> {
+public class GameAssembler extends CompiledAssemblerSupport<Game, GameResource> {
 
     public GameAssembler() {
-        super(GameResource.class);
+        super(Game.class, GameResource.class);
     }
 
     @Override
@@ -26,7 +26,7 @@ import org.springframework.hateoas.Link;
 import java.util.Optional;
 import java.util.Set;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static io.aiontechnology.mentorsuccess.api.assembler.LinkTemplates.linkTo;
 
 @RequiredArgsConstructor
 public class InterestAssembler extends AssemblerSupport<Interest, InterestResource> {
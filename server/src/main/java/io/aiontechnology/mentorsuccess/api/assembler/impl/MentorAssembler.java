@@ -28,7 +28,7 @@ import org.springframework.hateoas.Link;
 import java.util.Optional;
 import java.util.Set;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static io.aiontechnology.mentorsuccess.api.assembler.LinkTemplates.linkTo;
 
 /**
  * @author Whitney Hunter
@@ -16,7 +16,7 @@
 
 package io.aiontechnology.mentorsuccess.api.assembler.impl;
 
-import io.aiontechnology.mentorsuccess.api.assembler.ReflectionAssemblerSupport;
+import io.aiontechnology.mentorsuccess.api.assembler.CompiledAssemblerSupport;
 import io.aiontechnology.mentorsuccess.api.controller.PersonController;
 import io.aiontechnology.mentorsuccess.entity.Person;
 import io.aiontechnology.mentorsuccess.resource.PersonResource;
@@ -24,16 +24,16 @@ import org.springframework.hateoas.Link;
 
 import java.util.Set;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static io.aiontechnology.mentorsuccess.api.assembler.LinkTemplates.linkTo;
 
 /**
  * @author Whitney Hunter
  * @since 1.8.0
  */
-public class PersonAssembler extends ReflectionAssemblerSupport<Person, PersonResource> {
+public class PersonAssembler extends CompiledAssemblerSupport<Person, PersonResource> {
 
     public PersonAssembler() {
-        super(PersonResource.class);
+        super(Person.class, PersonResource.class);
     }
 
     @Override
@@ -16,7 +16,7 @@
 
 package io.aiontechnology.mentorsuccess.api.assembler.impl;
 
-import io.aiontechnology.mentorsuccess.api.assembler.ReflectionAssemblerSupport;
+import io.aiontechnology.mentorsuccess.api.assembler.CompiledAssemblerSupport;
 import io.aiontechnology.mentorsuccess.api.controller.SchoolSessionController;
 import io.aiontechnology.mentorsuccess.entity.School;
 import io.aiontechnology.mentorsuccess.entity.SchoolSession;
@@ -26,16 +26,16 @@ import org.springframework.hateoas.Link;
 import java.util.Optional;
 import java.util.Set;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static io.aiontechnology.mentorsuccess.api.assembler.LinkTemplates.linkTo;
 
 /**
  * @author Whitney Hunter
  * @since 1.8.0
  */
-public class SchoolSessionAssembler extends ReflectionAssemblerSupport<SchoolSession, SchoolSessionResource> {
+public class SchoolSessionAssembler extends CompiledAssemblerSupport<SchoolSession, SchoolSessionResource> {
 
     public SchoolSessionAssembler() {
-        super(SchoolSessionResource.class);
+        super(SchoolSession.class, SchoolSessionResource.class);
     }
 
     @Override
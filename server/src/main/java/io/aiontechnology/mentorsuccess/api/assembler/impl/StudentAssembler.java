@@ -34,7 +34,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static io.aiontechnology.mentorsuccess.api.assembler.LinkTemplates.linkTo;
 
 /**
  * @author Whitney Hunter
@@ -49,11 +49,15 @@ public class StudentAssembler extends AssemblerSupport<Student, StudentResource>
 
     @Override
     protected Optional<StudentResource> doMapWithData(Student student, Map data) {
-        SchoolSession schoolSession = Optional.ofNullable(data.get("session"))
-                .map(SchoolSession.class::cast)
-                .orElse(student.getSchool().getCurrentSession());
-        StudentSchoolSession studentSchoolSession = student.findCurrentSessionForStudent(schoolSession)
-                .orElseThrow(() -> new NotFoundException("No student session found"));
+        StudentSchoolSession studentSchoolSession = Optional.ofNullable(data.get("studentSchoolSession"))
+                .map(StudentSchoolSession.class::cast)
+                .orElseGet(() -> {
+                    SchoolSession schoolSession = Optional.ofNullable(data.get("session"))
+                            .map(SchoolSession.class::cast)
+                            .orElse(student.getSchool().getCurrentSession());
+                    return student.findCurrentSessionForStudent(schoolSession)
+                            .orElseThrow(() -> new NotFoundException("No student session found"));
+                });
 
         StudentResource resource = new StudentResource(student);
 
@@ -29,8 +29,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
+import static io.aiontechnology.mentorsuccess.api.assembler.LinkTemplates.linkTo;
 import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.REGISTRATION;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 
 public class StudentInformationAssembler extends AssemblerSupport<StudentInformation, StudentInformationResource> {
 
@@ -36,7 +36,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static io.aiontechnology.mentorsuccess.api.assembler.LinkTemplates.linkTo;
 
 @RequiredArgsConstructor
 public class StudentRegistrationAssembler extends AssemblerSupport<StudentRegistration, StudentRegistrationResource> {
@@ -22,12 +22,18 @@ import io.aiontechnology.mentorsuccess.api.assembler.Assembler;
 import io.aiontechnology.mentorsuccess.api.error.NotFoundException;
 import io.aiontechnology.mentorsuccess.entity.Book;
 import io.aiontechnology.mentorsuccess.model.inbound.InboundBook;
+import io.aiontechnology.mentorsuccess.repository.CollectionFilter;
 import io.aiontechnology.mentorsuccess.resource.BookResource;
 import io.aiontechnology.mentorsuccess.service.BookService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.hateoas.CollectionModel;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.data.web.SortDefault;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -39,11 +45,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 /**
  * Controller that vends a REST interface for dealing with books.
@@ -102,50 +107,73 @@ public class BookController {
     }
 
     /**
-     * A REST endpoint for retrieving all books.
+     * A REST endpoint for retrieving a page of books. Only active books are listed, so the active criterion is
+     * ignored.
      *
-     * @return A collection of {@link InboundBook} instances for all books.
+     * @param filter The criteria that the books must match.
+     * @param pageable The requested page and sort order.
+     * @param pagedResourcesAssembler Assembler for the page of books.
+     * @param webRequest The current request.
+     * @return A page of {@link BookResource} instances.
      */
     @GetMapping
     @PreAuthorize("hasAuthority('books:read')")
-    public CollectionModel<BookResource> getAllBooks() {
-        log.debug("Getting all books");
-        var books = StreamSupport.stream(bookService.getAllBooks().spliterator(), false)
-                .map(bookAssembler::map)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
-        return CollectionModel.of(books);
+    public PagedModel<BookResource> getAllBooks(CollectionFilter filter,
+            @SortDefault("title") Pageable pageable,
+            PagedResourcesAssembler<Book> pagedResourcesAssembler, WebRequest webRequest) {
+        log.debug("Getting books: {} {}", filter, pageable);
+        if (webRequest.checkNotModified(EntityTags.of(bookService.getCollectionVersion()))) {
+            return null;
+        }
+        return pagedResourcesAssembler.toModel(bookService.getBooks(filter, pageable),
+                book -> bookAssembler.map(book).orElseThrow());
     }
 
     /**
      * A REST endpoint for getting a book by it's id.
      *
      * @param bookId The id of the desired book.
+     * @param webRequest The current request.
      * @return A model that represents the book if it could be found.
      */
     @GetMapping("/{bookId}")
     @PreAuthorize("hasAuthority('book:read')")
-    public BookResource getBook(@PathVariable("bookId") UUID bookId) {
-        return bookService.findBookById(bookId)
-                .flatMap(bookAssembler::map)
+    public BookResource getBook(@PathVariable("bookId") UUID bookId, WebRequest webRequest) {
+        Book book = bookService.findBookById(bookId)
+                .orElseThrow(() -> new NotFoundException("Book was not found"));
+        if (webRequest.checkNotModified(EntityTags.of(book))) {
+            return null;
+        }
+        return bookAssembler.map(book)
                 .orElseThrow(() -> new NotFoundException("Book was not found"));
     }
 
     /**
-     * A REST endpoint for updating a specific book.
+     * A REST endpoint for updating a specific book. If the request carries {@code If-Match} the book is only updated
+     * if the tag is current, otherwise 412 Precondition Failed is returned.
      *
      * @param bookId The id of the book to update.
      * @param inboundBook A model representing the new desired state for the book.
+     * @param webRequest The current request.
+     * @param response The current response.
      * @return A model representing the updated book.
      */
     @PutMapping("/{bookId}")
     @PreAuthorize("hasAuthority('book:update')")
-    public BookResource updateBook(@PathVariable("bookId") UUID bookId, @RequestBody @Valid InboundBook inboundBook) {
+    public BookResource updateBook(@PathVariable("bookId") UUID bookId, @RequestBody @Valid InboundBook inboundBook,
+            WebRequest webRequest, HttpServletResponse response) {
         log.debug("Updating book {} with {}", bookId, inboundBook);
-        return bookService.findBookById(bookId)
-                .flatMap(book -> bookUpdateMapper.map(inboundBook, book))
+        Book book = bookService.findBookById(bookId)
+                .orElseThrow(() -> new IllegalArgumentException("Unable to update book"));
+        if (webRequest.checkNotModified(EntityTags.of(book))) {
+            return null;
+        }
+        return bookUpdateMapper.map(inboundBook, book)
                 .map(bookService::updateBook)
+                .map(updatedBook -> {
+                    response.setHeader(HttpHeaders.ETAG, EntityTags.of(updatedBook));
+                    return updatedBook;
+                })
                 .flatMap(bookAssembler::map)
                 .orElseThrow(() -> new IllegalArgumentException("Unable to update book"));
     }
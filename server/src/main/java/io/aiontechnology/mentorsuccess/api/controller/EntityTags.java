@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.api.controller;
+
+import io.aiontechnology.mentorsuccess.entity.Versioned;
+import io.aiontechnology.mentorsuccess.repository.CollectionVersion;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Creates the entity tags of resources from the versions of the entities they are assembled from. A tag changes
+ * whenever one of those entities is updated, so a conditional request can be answered before the resource is
+ * assembled.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    /**
+     * Create the tag of a resource assembled from the given entities.
+     *
+     * @param entities The entities. An entity may be null if it is optional.
+     * @return The tag.
+     */
+    static String of(Versioned... entities) {
+        return Arrays.stream(entities)
+                .map(entity -> Optional.ofNullable(entity)
+                        .map(Versioned::getVersion)
+                        .map(String::valueOf)
+                        .orElse("-"))
+                .collect(Collectors.joining(".", "\"", "\""));
+    }
+
+    /**
+     * Create the tag of a collection resource.
+     *
+     * @param collectionVersion The version of the collection.
+     * @return The tag.
+     */
+    static String of(CollectionVersion collectionVersion) {
+        return "\"" + collectionVersion.getCount() + "-" + collectionVersion.getDigest() + "\"";
+    }
+
+}
@@ -22,12 +22,18 @@ import io.aiontechnology.mentorsuccess.api.assembler.Assembler;
 import io.aiontechnology.mentorsuccess.api.error.NotFoundException;
 import io.aiontechnology.mentorsuccess.entity.Game;
 import io.aiontechnology.mentorsuccess.model.inbound.InboundGame;
+import io.aiontechnology.mentorsuccess.repository.CollectionFilter;
 import io.aiontechnology.mentorsuccess.resource.GameResource;
 import io.aiontechnology.mentorsuccess.service.GameService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.hateoas.CollectionModel;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.data.web.SortDefault;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -39,11 +45,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 /**
  * Controller that vends a REST interface for dealing with games.
@@ -104,50 +109,73 @@ public class GameController {
     }
 
     /**
-     * A REST endpoint for retrieving all books.
+     * A REST endpoint for retrieving a page of games. Only active games are listed, so the active criterion is
+     * ignored.
      *
-     * @return A collection of {@link InboundGame} instances for all games.
+     * @param filter The criteria that the games must match.
+     * @param pageable The requested page and sort order.
+     * @param pagedResourcesAssembler Assembler for the page of games.
+     * @param webRequest The current request.
+     * @return A page of {@link GameResource} instances.
      */
     @GetMapping
     @PreAuthorize("hasAuthority('games:read')")
-    public CollectionModel<GameResource> getAllGames() {
-        log.debug("Getting all games");
-        var games = StreamSupport.stream(gameService.getAllGames().spliterator(), false)
-                .map(gameAssembler::map)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
-        return CollectionModel.of(games);
+    public PagedModel<GameResource> getAllGames(CollectionFilter filter,
+            @SortDefault("name") Pageable pageable,
+            PagedResourcesAssembler<Game> pagedResourcesAssembler, WebRequest webRequest) {
+        log.debug("Getting games: {} {}", filter, pageable);
+        if (webRequest.checkNotModified(EntityTags.of(gameService.getCollectionVersion()))) {
+            return null;
+        }
+        return pagedResourcesAssembler.toModel(gameService.getGames(filter, pageable),
+                game -> gameAssembler.map(game).orElseThrow());
     }
 
     /**
      * A REST endpoint for getting a game by it's id.
      *
      * @param gameId The id of the desired game.
+     * @param webRequest The current request.
      * @return A model that represents the game if it could be found.
      */
     @GetMapping("/{gameId}")
     @PreAuthorize("hasAuthority('game:read')")
-    public GameResource getGame(@PathVariable("gameId") UUID gameId) {
-        return gameService.findGameById(gameId)
-                .flatMap(gameAssembler::map)
+    public GameResource getGame(@PathVariable("gameId") UUID gameId, WebRequest webRequest) {
+        Game game = gameService.findGameById(gameId)
+                .orElseThrow(() -> new NotFoundException("Game was not found"));
+        if (webRequest.checkNotModified(EntityTags.of(game))) {
+            return null;
+        }
+        return gameAssembler.map(game)
                 .orElseThrow(() -> new NotFoundException("Game was not found"));
     }
 
     /**
-     * A REST endpoint for updating a specific game.
+     * A REST endpoint for updating a specific game. If the request carries {@code If-Match} the game is only updated
+     * if the tag is current, otherwise 412 Precondition Failed is returned.
      *
      * @param gameId The id of the game to update.
      * @param inboundGame A model representing the new desired state for the game.
+     * @param webRequest The current request.
+     * @param response The current response.
      * @return A model representing the updated game.
      */
     @PutMapping("/{gameId}")
     @PreAuthorize("hasAuthority('game:update')")
-    public GameResource updateGame(@PathVariable("gameId") UUID gameId, @RequestBody @Valid InboundGame inboundGame) {
+    public GameResource updateGame(@PathVariable("gameId") UUID gameId, @RequestBody @Valid InboundGame inboundGame,
+            WebRequest webRequest, HttpServletResponse response) {
         log.debug("Updating book {} with {}", gameId, inboundGame);
-        return gameService.findGameById(gameId)
-                .flatMap(game -> gameUpdateMapper.map(inboundGame, game))
+        Game game = gameService.findGameById(gameId)
+                .orElseThrow(() -> new IllegalArgumentException("Unable to update game"));
+        if (webRequest.checkNotModified(EntityTags.of(game))) {
+            return null;
+        }
+        return gameUpdateMapper.map(inboundGame, game)
                 .map(gameService::updateGame)
+                .map(updatedGame -> {
+                    response.setHeader(HttpHeaders.ETAG, EntityTags.of(updatedGame));
+                    return updatedGame;
+                })
                 .flatMap(gameAssembler::map)
                 .orElseThrow(() -> new IllegalArgumentException("Unable to update game"));
     }
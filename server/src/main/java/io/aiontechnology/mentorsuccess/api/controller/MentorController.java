@@ -21,18 +21,19 @@ import io.aiontechnology.atlas.mapping.OneWayUpdateMapper;
 import io.aiontechnology.mentorsuccess.api.assembler.Assembler;
 import io.aiontechnology.mentorsuccess.api.error.NotFoundException;
 import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
-import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole.FirstNameComparator;
 import io.aiontechnology.mentorsuccess.model.inbound.InboundMentor;
 import io.aiontechnology.mentorsuccess.model.outbound.OutboundMentor;
+import io.aiontechnology.mentorsuccess.repository.CollectionFilter;
 import io.aiontechnology.mentorsuccess.resource.MentorResource;
 import io.aiontechnology.mentorsuccess.service.RoleService;
 import io.aiontechnology.mentorsuccess.service.SchoolService;
-import jakarta.persistence.EntityManager;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.hibernate.Session;
-import org.springframework.hateoas.CollectionModel;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.data.web.SortDefault;
+import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -45,9 +46,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import static io.aiontechnology.mentorsuccess.model.enumeration.RoleType.MENTOR;
 
@@ -63,9 +64,6 @@ import static io.aiontechnology.mentorsuccess.model.enumeration.RoleType.MENTOR;
 @Slf4j
 public class MentorController {
 
-    /** The JPA entity manager */
-    private final EntityManager entityManager;
-
     /** A mapper for converting {@link InboundMentor} instances to {@link SchoolPersonRole Roles}. */
     private final OneWayMapper<InboundMentor, SchoolPersonRole> mentorMapper;
 
@@ -135,25 +133,26 @@ public class MentorController {
     }
 
     /**
-     * A REST endpoint for retrieving all mentors.
+     * A REST endpoint for retrieving a page of the mentors of a particular school. Only active mentors are returned
+     * unless the filter asks for inactive ones.
      *
      * @param schoolId The id of the school.
-     * @return A collection of {@link OutboundMentor} instances for the requested school.
+     * @param filter The criteria that the mentors must match.
+     * @param pageable The requested page and sort order.
+     * @param pagedResourcesAssembler Assembler for the page of mentors.
+     * @return A page of {@link MentorResource} instances for the requested school.
      */
     @GetMapping
     @PreAuthorize("hasAuthority('mentors:read')")
-    public CollectionModel<MentorResource> getMentors(@PathVariable("schoolId") UUID schoolId) {
-        log.debug("Getting all mentors for school {}", schoolId);
-        var session = entityManager.unwrap(Session.class);
-        session.enableFilter("roleType").setParameter("type", MENTOR.toString());
+    public PagedModel<MentorResource> getMentors(@PathVariable("schoolId") UUID schoolId,
+            CollectionFilter filter, @SortDefault({"person.firstName", "person.lastName"}) Pageable pageable,
+            PagedResourcesAssembler<SchoolPersonRole> pagedResourcesAssembler) {
+        log.debug("Getting mentors for school {}: {} {}", schoolId, filter, pageable);
         return schoolService.getSchoolById(schoolId)
-                .map(school -> school.getRoles().stream()
-                        .sorted(new FirstNameComparator())
-                        .map(mentorAssembler::map)
-                        .filter(Optional::isPresent)
-                        .map(Optional::get)
-                        .collect(Collectors.toList()))
-                .map(CollectionModel::of)
+                .map(school -> roleService.getRoles(school, List.of(MENTOR), filter.withDefaultActive(true),
+                        pageable))
+                .map(page -> pagedResourcesAssembler.toModel(page,
+                        mentor -> mentorAssembler.map(mentor).orElseThrow()))
                 .orElseThrow(() -> new NotFoundException("Requested school not found"));
     }
 
@@ -21,14 +21,19 @@ import io.aiontechnology.atlas.mapping.OneWayUpdateMapper;
 import io.aiontechnology.mentorsuccess.api.assembler.Assembler;
 import io.aiontechnology.mentorsuccess.api.error.NotFoundException;
 import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
+import io.aiontechnology.mentorsuccess.model.enumeration.RoleType;
 import io.aiontechnology.mentorsuccess.model.inbound.InboundPersonnel;
+import io.aiontechnology.mentorsuccess.repository.CollectionFilter;
 import io.aiontechnology.mentorsuccess.resource.PersonnelResource;
 import io.aiontechnology.mentorsuccess.service.RoleService;
 import io.aiontechnology.mentorsuccess.service.SchoolService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.hateoas.CollectionModel;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.data.web.SortDefault;
+import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -41,9 +46,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import static io.aiontechnology.mentorsuccess.model.enumeration.RoleType.COUNSELOR;
 import static io.aiontechnology.mentorsuccess.model.enumeration.RoleType.PRINCIPAL;
@@ -62,6 +67,9 @@ import static io.aiontechnology.mentorsuccess.model.enumeration.RoleType.STAFF;
 @Slf4j
 public class PersonnelController {
 
+    /** The role types that are considered school personnel */
+    private static final List<RoleType> PERSONNEL_TYPES = List.of(SOCIAL_WORKER, PRINCIPAL, COUNSELOR, STAFF);
+
     // Assemblers
     private final Assembler<SchoolPersonRole, PersonnelResource> personnelAssembler;
 
@@ -113,26 +121,26 @@ public class PersonnelController {
     }
 
     /**
-     * A REST endpoint for getting all personnel for a particular school.
+     * A REST endpoint for retrieving a page of the personnel of a particular school. Only active personnel are returned
+     * unless the filter asks for inactive ones.
      *
      * @param schoolId The id of the school.
-     * @return A collection of all personnel for the school.
+     * @param filter The criteria that the personnel must match.
+     * @param pageable The requested page and sort order.
+     * @param pagedResourcesAssembler Assembler for the page of personnel.
+     * @return A page of {@link PersonnelResource} instances for the requested school.
      */
     @GetMapping
     @PreAuthorize("hasAuthority('personnels:read')")
-    public CollectionModel<PersonnelResource> getAllPersonnel(@PathVariable("schoolId") UUID schoolId) {
-        log.debug("Getting all personnel for school {}", schoolId);
+    public PagedModel<PersonnelResource> getAllPersonnel(@PathVariable("schoolId") UUID schoolId,
+            CollectionFilter filter, @SortDefault({"person.lastName", "person.firstName"}) Pageable pageable,
+            PagedResourcesAssembler<SchoolPersonRole> pagedResourcesAssembler) {
+        log.debug("Getting personnel for school {}: {} {}", schoolId, filter, pageable);
         return schoolService.getSchoolById(schoolId)
-                .map(school -> school.getRoles().stream()
-                        .filter(role -> role.getType().equals(SOCIAL_WORKER) ||
-                                role.getType().equals(PRINCIPAL) ||
-                                role.getType().equals(COUNSELOR) ||
-                                role.getType().equals(STAFF))
-                        .map(personnelAssembler::map)
-                        .filter(Optional::isPresent)
-                        .map(Optional::get)
-                        .collect(Collectors.toList()))
-                .map(teachers -> CollectionModel.of(teachers))
+                .map(school -> roleService.getRoles(school, PERSONNEL_TYPES, filter.withDefaultActive(true),
+                        pageable))
+                .map(page -> pagedResourcesAssembler.toModel(page,
+                        personnel -> personnelAssembler.map(personnel).orElseThrow()))
                 .orElseThrow(() -> new NotFoundException("Requested school not found"));
     }
 
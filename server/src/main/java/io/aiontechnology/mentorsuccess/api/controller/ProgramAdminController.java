@@ -22,17 +22,19 @@ import io.aiontechnology.mentorsuccess.api.assembler.Assembler;
 import io.aiontechnology.mentorsuccess.api.error.NotFoundException;
 import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
 import io.aiontechnology.mentorsuccess.model.inbound.InboundProgramAdmin;
+import io.aiontechnology.mentorsuccess.repository.CollectionFilter;
 import io.aiontechnology.mentorsuccess.resource.ProgramAdminResource;
 import io.aiontechnology.mentorsuccess.service.AwsService;
 import io.aiontechnology.mentorsuccess.service.RoleService;
 import io.aiontechnology.mentorsuccess.service.SchoolService;
-import jakarta.persistence.EntityManager;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
-import org.hibernate.Session;
-import org.springframework.hateoas.CollectionModel;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.data.web.SortDefault;
+import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -45,9 +47,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import static io.aiontechnology.mentorsuccess.model.enumeration.RoleType.PROGRAM_ADMIN;
 
@@ -76,7 +78,6 @@ public class ProgramAdminController {
 
     // Other
     private final AwsService awsService;
-    private final EntityManager entityManager;
 
     /**
      * A REST endpoint for creating new program admins.
@@ -138,23 +139,27 @@ public class ProgramAdminController {
     }
 
     /**
-     * A REST endpoint for getting all program admins for a specific school.
+     * A REST endpoint for retrieving a page of the program admins of a particular school. Only active program admins
+     * are returned unless the filter asks for inactive ones. Active program admins are public, but listing inactive
+     * ones requires the program admin read authority.
      *
-     * @param schoolId The id of the desired program admin.
-     * @return A collection of {@link InboundProgramAdmin} instances.
+     * @param schoolId The id of the school.
+     * @param filter The criteria that the program admins must match.
+     * @param pageable The requested page and sort order.
+     * @param pagedResourcesAssembler Assembler for the page of program admins.
+     * @return A page of {@link ProgramAdminResource} instances for the requested school.
      */
     @GetMapping
-    public CollectionModel<ProgramAdminResource> getProgramAdmins(@PathVariable("schoolId") UUID schoolId) {
-        log.debug("Getting all program admins for school {}", schoolId);
-        Session session = entityManager.unwrap(Session.class);
-        session.enableFilter("roleType").setParameter("type", PROGRAM_ADMIN.toString());
+    @PreAuthorize("#filter.active != false or hasAuthority('program-admin:read')")
+    public PagedModel<ProgramAdminResource> getProgramAdmins(@PathVariable("schoolId") UUID schoolId,
+            CollectionFilter filter, @SortDefault({"person.lastName", "person.firstName"}) Pageable pageable,
+            PagedResourcesAssembler<SchoolPersonRole> pagedResourcesAssembler) {
+        log.debug("Getting program admins for school {}: {} {}", schoolId, filter, pageable);
         return schoolService.getSchoolById(schoolId)
-                .map(school -> school.getRoles().stream()
-                        .map(programAdminAssembler::map)
-                        .filter(Optional::isPresent)
-                        .map(Optional::get)
-                        .collect(Collectors.toList()))
-                .map(programAdmins -> CollectionModel.of(programAdmins))
+                .map(school -> roleService.getRoles(school, List.of(PROGRAM_ADMIN), filter.withDefaultActive(true),
+                        pageable))
+                .map(page -> pagedResourcesAssembler.toModel(page,
+                        programAdmin -> programAdminAssembler.map(programAdmin).orElseThrow()))
                 .orElseThrow(() -> new NotFoundException("Requested school not found"));
     }
 
@@ -22,12 +22,18 @@ import io.aiontechnology.mentorsuccess.api.assembler.Assembler;
 import io.aiontechnology.mentorsuccess.api.error.NotFoundException;
 import io.aiontechnology.mentorsuccess.entity.School;
 import io.aiontechnology.mentorsuccess.model.inbound.InboundSchool;
+import io.aiontechnology.mentorsuccess.repository.CollectionFilter;
 import io.aiontechnology.mentorsuccess.resource.SchoolResource;
 import io.aiontechnology.mentorsuccess.service.SchoolService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.hateoas.CollectionModel;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.data.web.SortDefault;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -39,11 +45,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 /**
  * Controller that vends a REST interface for dealing with schools.
@@ -102,53 +107,71 @@ public class SchoolController {
     }
 
     /**
-     * A REST endpoint for retrieving all schools.
+     * A REST endpoint for retrieving a page of schools. Only active schools are listed, so the active criterion is
+     * ignored.
      *
-     * @return A collection of {@link InboundSchool} instances for all schools.
+     * @param filter The criteria that the schools must match.
+     * @param pageable The requested page and sort order.
+     * @param pagedResourcesAssembler Assembler for the page of schools.
+     * @return A page of {@link SchoolResource} instances.
      */
     @GetMapping
     @PreAuthorize("hasAuthority('schools:read')")
-    public CollectionModel<SchoolResource> getAllSchools() {
-        log.debug("Getting all schools");
-        var schools = StreamSupport.stream(schoolService.getAllSchools().spliterator(), false)
-                .map(schoolAssembler::map)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
-        return CollectionModel.of(schools);
+    public PagedModel<SchoolResource> getAllSchools(CollectionFilter filter,
+            @SortDefault("name") Pageable pageable,
+            PagedResourcesAssembler<School> pagedResourcesAssembler) {
+        log.debug("Getting schools: {} {}", filter, pageable);
+        return pagedResourcesAssembler.toModel(schoolService.getSchools(filter, pageable),
+                school -> schoolAssembler.map(school).orElseThrow());
     }
 
     /**
-     * A REST endpoint for retrieving a particular school.
+     * A REST endpoint for retrieving a particular school. The response is tagged with the version of the school, so a
+     * request that carries a current tag in {@code If-None-Match} is answered with 304 Not Modified.
      *
      * @param schoolId The id of the desired school
+     * @param webRequest The current request.
      * @return The school if it is found.
      */
     @GetMapping("/{schoolId}")
     @PreAuthorize("hasAuthority('school:read')")
-    public SchoolResource getSchool(@PathVariable("schoolId") UUID schoolId) {
+    public SchoolResource getSchool(@PathVariable("schoolId") UUID schoolId, WebRequest webRequest) {
         log.debug("Getting school with id {}", schoolId);
-        Optional<School> school = schoolService.getSchoolById(schoolId);
-        return school
-                .flatMap(schoolAssembler::map)
+        School school = schoolService.getSchoolById(schoolId)
+                .orElseThrow(() -> new NotFoundException("School was not found"));
+        if (webRequest.checkNotModified(EntityTags.of(school))) {
+            return null;
+        }
+        return schoolAssembler.map(school)
                 .orElseThrow(() -> new NotFoundException("School was not found"));
     }
 
     /**
-     * A REST endpoint for updating a school.
+     * A REST endpoint for updating a school. If the request carries {@code If-Match} the school is only updated if
+     * the tag is current, otherwise 412 Precondition Failed is returned.
      *
      * @param schoolId The id of the school to update.
      * @param inboundSchool The model that represents the updated school.
+     * @param webRequest The current request.
+     * @param response The current response.
      * @return A model that represents the school that has been updated.
      */
     @PutMapping("/{schoolId}")
     @PreAuthorize("hasAuthority('school:update')")
     public SchoolResource updateSchool(@PathVariable("schoolId") UUID schoolId,
-            @RequestBody @Valid InboundSchool inboundSchool) {
+            @RequestBody @Valid InboundSchool inboundSchool, WebRequest webRequest, HttpServletResponse response) {
         log.debug("Updating school {} with {}", schoolId, inboundSchool);
-        return schoolService.getSchoolById(schoolId)
-                .flatMap(school -> schoolUpdateMapper.map(inboundSchool, school))
+        School school = schoolService.getSchoolById(schoolId)
+                .orElseThrow(() -> new IllegalArgumentException("Unable to update school"));
+        if (webRequest.checkNotModified(EntityTags.of(school))) {
+            return null;
+        }
+        return schoolUpdateMapper.map(inboundSchool, school)
                 .map(schoolService::updateSchool)
+                .map(updatedSchool -> {
+                    response.setHeader(HttpHeaders.ETAG, EntityTags.of(updatedSchool));
+                    return updatedSchool;
+                })
                 .flatMap(schoolAssembler::map)
                 .orElseThrow(() -> new IllegalArgumentException("Unable to update school"));
     }
@@ -28,6 +28,7 @@ import io.aiontechnology.mentorsuccess.model.inbound.student.InboundStudentSchoo
 import io.aiontechnology.mentorsuccess.model.outbound.student.OutboundStudentSchoolSession;
 import io.aiontechnology.mentorsuccess.resource.SchoolSessionResource;
 import io.aiontechnology.mentorsuccess.service.SchoolService;
+import io.aiontechnology.mentorsuccess.service.SchoolSessionExportService;
 import io.aiontechnology.mentorsuccess.service.SchoolSessionService;
 import io.aiontechnology.mentorsuccess.service.StudentSchoolSessionService;
 import jakarta.transaction.Transactional;
@@ -35,6 +36,10 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -42,8 +47,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -76,6 +84,7 @@ public class SchoolSessionController {
 
     // Services
     private final SchoolService schoolService;
+    private final SchoolSessionExportService schoolSessionExportService;
     private final SchoolSessionService schoolSessionService;
     private final StudentSchoolSessionService studentSchoolSessionService;
 
@@ -85,6 +94,7 @@ public class SchoolSessionController {
      *
      * @param schoolId The ID of the school for while the session is to be created.
      * @param inboundSchoolSession The data for the new school session.
+     * @param includeInactiveStudents Whether inactive students of the current session are carried into the new one.
      * @return The newly created school sessin.
      */
     @PostMapping
@@ -92,14 +102,16 @@ public class SchoolSessionController {
     @Transactional
     @PreAuthorize("hasAuthority('schoolsession:create')")
     public SchoolSessionResource createSchoolSession(@PathVariable("schoolId") UUID schoolId,
-            @RequestBody @Valid InboundSchoolSession inboundSchoolSession) {
+            @RequestBody @Valid InboundSchoolSession inboundSchoolSession,
+            @RequestParam(name = "includeInactiveStudents", defaultValue = "true") boolean includeInactiveStudents) {
         log.debug("Creating school session {}, for school {}", inboundSchoolSession.getLabel(), schoolId);
 
         School school = schoolService.getSchoolById(schoolId)
                 .orElseThrow(() -> new NotFoundException("School was not found"));
 
         return schoolSessionModelToEntityMapper.map(inboundSchoolSession)
-                .map(newSchoolSession -> schoolSessionService.updateSchoolSession(school, newSchoolSession))
+                .map(newSchoolSession -> schoolSessionService.updateSchoolSession(school, newSchoolSession,
+                        includeInactiveStudents))
                 .flatMap(schoolSessionAssembler::map)
                 .orElseThrow(() -> new IllegalStateException("Unable to add new school session"));
     }
@@ -120,6 +132,35 @@ public class SchoolSessionController {
                 .ifPresent(schoolSessionService::deleteSchoolSession);
     }
 
+    /**
+     * Export the roster and assessments of a school session. The rows are streamed to the client as they are read.
+     *
+     * @param schoolId The ID of the school that owns the school session.
+     * @param schoolSessionId The ID of the school session.
+     * @param format The format of the export, either {@code csv} or {@code ndjson}.
+     * @return The streaming export.
+     */
+    @GetMapping("/{schoolSessionId}/export")
+    @PreAuthorize("hasAuthority('schoolsession:read')")
+    public ResponseEntity<StreamingResponseBody> exportSchoolSession(@PathVariable("schoolId") UUID schoolId,
+            @PathVariable("schoolSessionId") UUID schoolSessionId,
+            @RequestParam(value = "format", defaultValue = "csv") String format) {
+        log.debug("Exporting session: {} for school: {}", schoolSessionId, schoolId);
+        SchoolSessionExportService.Format exportFormat = SchoolSessionExportService.Format.fromName(format)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported export format"));
+        SchoolSession schoolSession = schoolSessionService.getSchoolSessionById(schoolSessionId)
+                .filter(session -> session.getSchool().getId().equals(schoolId))
+                .orElseThrow(() -> new NotFoundException("School Session was not found"));
+
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename("session-" + schoolSessionId + "." + exportFormat.getExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(outputStream -> schoolSessionExportService.export(schoolSession, exportFormat, outputStream));
+    }
+
     /**
      * Get all school sessions of the given school.
      *
@@ -16,28 +16,43 @@
 
 package io.aiontechnology.mentorsuccess.api.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.aiontechnology.atlas.mapping.OneWayMapper;
 import io.aiontechnology.atlas.mapping.OneWayUpdateMapper;
 import io.aiontechnology.mentorsuccess.api.assembler.Assembler;
 import io.aiontechnology.mentorsuccess.api.error.NotFoundException;
 import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
 import io.aiontechnology.mentorsuccess.entity.SchoolSession;
 import io.aiontechnology.mentorsuccess.entity.Student;
+import io.aiontechnology.mentorsuccess.entity.StudentPersonRole;
 import io.aiontechnology.mentorsuccess.entity.StudentSchoolSession;
+import io.aiontechnology.mentorsuccess.entity.Versioned;
+import io.aiontechnology.mentorsuccess.feature.analytics.service.AssessmentStatisticsService;
 import io.aiontechnology.mentorsuccess.model.inbound.student.InboundStudent;
 import io.aiontechnology.mentorsuccess.model.outbound.student.OutboundStudent;
 import io.aiontechnology.mentorsuccess.resource.StudentResource;
 import io.aiontechnology.mentorsuccess.service.SchoolService;
 import io.aiontechnology.mentorsuccess.service.SchoolSessionService;
+import io.aiontechnology.mentorsuccess.service.StudentImportReport;
+import io.aiontechnology.mentorsuccess.service.StudentImportService;
 import io.aiontechnology.mentorsuccess.service.StudentRegistrationService;
 import io.aiontechnology.mentorsuccess.service.StudentSchoolSessionService;
 import io.aiontechnology.mentorsuccess.service.StudentService;
+import io.aiontechnology.mentorsuccess.util.StudentImportReader;
+import io.aiontechnology.mentorsuccess.util.StudentRosterCursor;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -45,20 +60,29 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.stream.Stream;
 
 import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.REGISTRATION_TIMEOUT_VALUE;
 import static java.util.Objects.requireNonNull;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.http.HttpStatus.CREATED;
 
 /**
@@ -73,6 +97,15 @@ import static org.springframework.http.HttpStatus.CREATED;
 @Slf4j
 public class StudentController {
 
+    /** The number of students returned in a roster page when the caller does not ask for a size */
+    private static final String DEFAULT_ROSTER_PAGE_SIZE = "100";
+
+    /** The largest roster page that may be requested */
+    private static final int MAX_ROSTER_PAGE_SIZE = 500;
+
+    /** The media type of CSV imports */
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     // Assemblers
     private final Assembler<Student, StudentResource> studentAssembler;
 
@@ -83,12 +116,17 @@ public class StudentController {
     private final OneWayUpdateMapper<InboundStudent, StudentSchoolSession> studentSessionModelToEntityUpdateMapper;
 
     // Services
+    private final AssessmentStatisticsService assessmentStatisticsService;
     private final SchoolService schoolService;
     private final SchoolSessionService schoolSessionService;
+    private final StudentImportService studentImportService;
     private final StudentRegistrationService studentRegistrationService;
     private final StudentSchoolSessionService studentSchoolSessionService;
     private final StudentService studentService;
 
+    // Utilities
+    private final ObjectMapper objectMapper;
+
     /**
      * Create a new student. The student is attached to the school's current session. It is not possible to create
      * a student for a historic session.
@@ -144,21 +182,26 @@ public class StudentController {
         SchoolSession currentSession = school.getCurrentSession();
         requireNonNull(currentSession, "Current session is not set");
 
-        studentService.getStudentById(studentId, currentSession)
-                .flatMap(student -> student.findCurrentSessionForStudent(currentSession))
+        studentSchoolSessionService.findActiveStudentSchoolSession(studentId, currentSession)
                 .ifPresent(studentSchoolSessionService::deactivateStudent);
     }
 
     /**
-     * Retrieving all students for a school.
+     * Retrieve a page of the active students for a school session. Students are ordered by last name and paged by
+     * keyset. When more students are available the response contains a {@code next} link that carries the cursor for
+     * the following page.
      *
      * @param schoolId The id of the school.
+     * @param sessionId The id of the desired session. The school's current session is used if not provided.
+     * @param after The cursor returned in the {@code next} link of the previous page.
+     * @param size The maximum number of students to return.
      * @return A collection of {@link OutboundStudent} instances for the given school.
      */
     @GetMapping
     @PreAuthorize("hasAuthority('students:read')")
     public CollectionModel<StudentResource> getAllStudentsForSchool(@PathVariable("schoolId") UUID schoolId,
-            @RequestParam("session") Optional<UUID> sessionId) {
+            @RequestParam("session") Optional<UUID> sessionId, @RequestParam("after") Optional<String> after,
+            @RequestParam(value = "size", defaultValue = DEFAULT_ROSTER_PAGE_SIZE) int size) {
         log.debug("Getting all students for school: {}, session: {}", schoolId, sessionId
                 .map(UUID::toString).orElse("Not provided"));
 
@@ -169,29 +212,47 @@ public class StudentController {
                 .flatMap(schoolSessionService::getSchoolSessionById)
                 .orElse(school.getCurrentSession());
         requireNonNull(session, "No session");
-        Map<String, Object> data = Map.of("session", session);
-
-        Collection<StudentResource> studentModels =
-                StreamSupport.stream(studentService.getAllStudents(school, session).spliterator(), false)
-                        .map(student -> studentAssembler.mapWithData(student, data))
-                        .filter(Optional::isPresent)
-                        .map(Optional::get)
-                        .collect(Collectors.toList());
-        return CollectionModel.of(studentModels);
+
+        Slice<StudentSchoolSession> roster = studentService.getStudentRoster(session, after.map(this::decodeCursor),
+                Math.min(Math.max(size, 1), MAX_ROSTER_PAGE_SIZE));
+        studentService.fetchForAssembly(roster.getContent());
+
+        Collection<StudentResource> studentModels = roster.stream()
+                .map(studentSchoolSession -> studentAssembler.mapWithData(studentSchoolSession.getStudent(),
+                        Map.of("session", session, "studentSchoolSession", studentSchoolSession)))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList());
+
+        CollectionModel<StudentResource> collectionModel = CollectionModel.of(studentModels);
+        if (roster.hasNext()) {
+            StudentRosterCursor cursor =
+                    StudentRosterCursor.after(roster.getContent().get(roster.getNumberOfElements() - 1));
+            collectionModel.add(Link.of(linkTo(StudentController.class, schoolId).toUriComponentsBuilder()
+                    .queryParam("session", session.getId())
+                    .queryParam("after", cursor.encode())
+                    .queryParam("size", roster.getSize())
+                    .toUriString(), IanaLinkRelations.NEXT));
+        }
+        return collectionModel;
     }
 
     /**
-     * Get a particular student.
+     * Get a particular student. The response is tagged with the versions of the student, its session, its teacher and
+     * mentor and its contacts, so a request that carries a current tag in {@code If-None-Match} is answered with 304
+     * Not Modified.
      *
      * @param schoolId The ID of the school that owns the student.
      * @param studentId The ID of the desired student.
      * @param sessionId The ID of the desired session.
+     * @param webRequest The current request.
      * @return The student if it could be found.
      */
     @GetMapping("/{studentId}")
     @PreAuthorize("hasAuthority('student:read')")
     public StudentResource getStudent(@PathVariable("schoolId") UUID schoolId,
-            @PathVariable("studentId") UUID studentId, @RequestParam("session") Optional<UUID> sessionId) {
+            @PathVariable("studentId") UUID studentId, @RequestParam("session") Optional<UUID> sessionId,
+            WebRequest webRequest) {
         School school = schoolService.getSchoolById(schoolId)
                 .orElseThrow(() -> new NotFoundException("School was not found"));
 
@@ -199,32 +260,99 @@ public class StudentController {
                 .flatMap(schoolSessionService::getSchoolSessionById)
                 .orElse(school.getCurrentSession());
         requireNonNull(session, "No session");
-        Map<String, Object> data = Map.of("session", session);
 
-        return studentService.getStudentById(studentId, session)
-                .flatMap(student -> studentAssembler.mapWithData(student, data))
+        StudentSchoolSession studentSchoolSession =
+                studentSchoolSessionService.findActiveStudentSchoolSession(studentId, session)
+                        .orElseThrow(() -> new NotFoundException("Student was not found"));
+        if (webRequest.checkNotModified(studentTag(studentSchoolSession))) {
+            return null;
+        }
+
+        studentService.fetchForAssembly(List.of(studentSchoolSession));
+        return studentAssembler.mapWithData(studentSchoolSession.getStudent(),
+                        Map.of("session", session, "studentSchoolSession", studentSchoolSession))
                 .orElseThrow(() -> new NotFoundException("Student was not found"));
     }
 
+    /**
+     * Import students in bulk into the school's current session. The body is read as a stream of CSV or NDJSON rows
+     * depending on its content type. Rows that fail validation or cannot be stored are reported without stopping the
+     * import. The student information processes of the new students are started in the background.
+     *
+     * @param schoolId The ID of the school into which the students are imported.
+     * @param contentType The content type of the body.
+     * @param body The rows to import.
+     * @return The number of students imported and the errors of the rows that were not.
+     */
+    @PostMapping(path = "/import", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasAuthority('student:create')")
+    public StudentImportReport importStudents(@PathVariable("schoolId") UUID schoolId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) {
+        log.debug("Importing students for school {}", schoolId);
+        Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8);
+        StudentImportReader rows = MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(contentType))
+                ? StudentImportReader.ndjson(reader, objectMapper)
+                : StudentImportReader.csv(reader, objectMapper);
+        return studentImportService.importStudents(schoolId, rows);
+    }
+
+    /**
+     * Update a student in the school's current session. If the request carries {@code If-Match} the student is only
+     * updated if the tag is current, otherwise 412 Precondition Failed is returned.
+     *
+     * @param schoolId The ID of the school that owns the student.
+     * @param studentId The ID of the student to update.
+     * @param inboundStudent The new state of the student.
+     * @param webRequest The current request.
+     * @param response The current response.
+     * @return The updated student.
+     */
     @PutMapping("/{studentId}")
     @PreAuthorize("hasAuthority('student:update')")
     public StudentResource updateStudent(@PathVariable("schoolId") UUID schoolId,
-            @PathVariable("studentId") UUID studentId, @RequestBody @Valid InboundStudent inboundStudent) {
+            @PathVariable("studentId") UUID studentId, @RequestBody @Valid InboundStudent inboundStudent,
+            WebRequest webRequest, HttpServletResponse response) {
         School school = schoolService.getSchoolById(schoolId)
                 .orElseThrow(() -> new NotFoundException("School was not found"));
 
         SchoolSession currentSession = school.getCurrentSession();
         requireNonNull(currentSession, "Current session is not set");
 
-        Student student = studentService.getStudentById(studentId, currentSession)
-                .orElseThrow(() -> new NotFoundException("Student was not found"));
-
-        StudentSchoolSession currentStudentSession = student.findCurrentSessionForStudent(currentSession)
-                .orElseThrow(() -> new NotFoundException("No student session found"));
+        StudentSchoolSession currentStudentSession =
+                studentSchoolSessionService.findActiveStudentSchoolSession(studentId, currentSession)
+                        .orElseThrow(() -> new NotFoundException("Student was not found"));
+        if (webRequest.checkNotModified(studentTag(currentStudentSession))) {
+            return null;
+        }
+        Student student = currentStudentSession.getStudent();
         studentModelToEntityUpdateMapper.map(inboundStudent, student);
-        studentSessionModelToEntityUpdateMapper.map(inboundStudent, currentStudentSession);
+        assessmentStatisticsService.recordChange(currentStudentSession,
+                () -> studentSessionModelToEntityUpdateMapper.map(inboundStudent, currentStudentSession));
         studentService.updateStudent(student);
-        return studentAssembler.map(student).orElse(null);
+        response.setHeader(HttpHeaders.ETAG, studentTag(currentStudentSession));
+        return studentAssembler.mapWithData(student,
+                        Map.of("session", currentSession, "studentSchoolSession", currentStudentSession))
+                .orElse(null);
+    }
+
+    private StudentRosterCursor decodeCursor(String encoded) {
+        try {
+            return StudentRosterCursor.decode(encoded);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid roster cursor", e);
+        }
+    }
+
+    private static String studentTag(StudentSchoolSession studentSchoolSession) {
+        Student student = studentSchoolSession.getStudent();
+        SchoolPersonRole teacher = studentSchoolSession.getTeacher();
+        SchoolPersonRole mentor = studentSchoolSession.getMentor();
+        Stream<Versioned> entities = Stream.of(student, studentSchoolSession,
+                teacher, teacher != null ? teacher.getPerson() : null,
+                mentor, mentor != null ? mentor.getPerson() : null);
+        Stream<Versioned> contacts = student.getStudentPersonRoles().stream()
+                .map(StudentPersonRole::getPerson);
+        return EntityTags.of(Stream.concat(entities, contacts).toArray(Versioned[]::new));
     }
 
 }
@@ -25,16 +25,18 @@ import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
 import io.aiontechnology.mentorsuccess.entity.SchoolSession;
 import io.aiontechnology.mentorsuccess.entity.Student;
 import io.aiontechnology.mentorsuccess.model.inbound.InboundTeacher;
+import io.aiontechnology.mentorsuccess.repository.CollectionFilter;
 import io.aiontechnology.mentorsuccess.resource.TeacherResource;
 import io.aiontechnology.mentorsuccess.service.RoleService;
 import io.aiontechnology.mentorsuccess.service.SchoolService;
 import io.aiontechnology.mentorsuccess.service.StudentService;
-import jakarta.persistence.EntityManager;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.hibernate.Session;
-import org.springframework.hateoas.CollectionModel;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.data.web.SortDefault;
+import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -49,9 +51,9 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import static io.aiontechnology.mentorsuccess.model.enumeration.RoleType.TEACHER;
 
@@ -79,9 +81,6 @@ public class TeacherController {
     private final SchoolService schoolService;
     private final StudentService studentService;
 
-    //Other
-    private final EntityManager entityManager;
-
     /**
      * A REST endpoint for creating a teacher for a particular school.
      *
@@ -151,24 +150,26 @@ public class TeacherController {
     }
 
     /**
-     * A REST endpoint for retrieving all teachers.
+     * A REST endpoint for retrieving a page of the teachers of a particular school. Only active teachers are returned
+     * unless the filter asks for inactive ones.
      *
      * @param schoolId The id of the school.
-     * @return A collection of {@link InboundTeacher} instances for the requested school.
+     * @param filter The criteria that the teachers must match.
+     * @param pageable The requested page and sort order.
+     * @param pagedResourcesAssembler Assembler for the page of teachers.
+     * @return A page of {@link TeacherResource} instances for the requested school.
      */
     @GetMapping
     @PreAuthorize("hasAuthority('teachers:read')")
-    public CollectionModel<TeacherResource> getTeachers(@PathVariable("schoolId") UUID schoolId) {
-        log.debug("Getting all teachers for school {}", schoolId);
-        var session = entityManager.unwrap(Session.class);
-        session.enableFilter("roleType").setParameter("type", TEACHER.toString());
+    public PagedModel<TeacherResource> getTeachers(@PathVariable("schoolId") UUID schoolId,
+            CollectionFilter filter, @SortDefault({"person.lastName", "person.firstName"}) Pageable pageable,
+            PagedResourcesAssembler<SchoolPersonRole> pagedResourcesAssembler) {
+        log.debug("Getting teachers for school {}: {} {}", schoolId, filter, pageable);
         return schoolService.getSchoolById(schoolId)
-                .map(school -> school.getRoles().stream()
-                        .map(teacherAssembler::map)
-                        .filter(Optional::isPresent)
-                        .map(Optional::get)
-                        .collect(Collectors.toList()))
-                .map(CollectionModel::of)
+                .map(school -> roleService.getRoles(school, List.of(TEACHER), filter.withDefaultActive(true),
+                        pageable))
+                .map(page -> pagedResourcesAssembler.toModel(page,
+                        teacher -> teacherAssembler.map(teacher).orElseThrow()))
                 .orElseThrow(() -> new NotFoundException("Requested school not found"));
     }
 
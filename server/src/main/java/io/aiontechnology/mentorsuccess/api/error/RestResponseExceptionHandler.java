@@ -20,6 +20,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -94,6 +95,29 @@ public class RestResponseExceptionHandler {
         return new ResponseEntity<>(errorModel, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handle {@link OptimisticLockingFailureException}, which is thrown when an entity was updated by another request
+     * after it was read.
+     *
+     * @param optimisticLockingFailureException The exception to process.
+     * @param httpServletRequest The servlet response for use in error processing.
+     * @return A response entity containing the {@link ErrorModel}.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorModel> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException optimisticLockingFailureException,
+            HttpServletRequest httpServletRequest) {
+        ErrorModel<Map<String, String>> errorModel = ErrorModel.<Map<String, String>>builder()
+                .withTimestamp(ZonedDateTime.now(ZoneOffset.UTC))
+                .withStatus(HttpStatus.CONFLICT)
+                .withError(Map.of("Cause", "The resource was changed by another request"))
+                .withMessage("Concurrent update")
+                .withPath(httpServletRequest.getRequestURI())
+                .build();
+        log.debug("Error {}", errorModel, optimisticLockingFailureException);
+        return new ResponseEntity<>(errorModel, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(WorkflowException.class)
     public ResponseEntity<ErrorModel> handleWorkflowExceptions(
             WorkflowException workflowException,
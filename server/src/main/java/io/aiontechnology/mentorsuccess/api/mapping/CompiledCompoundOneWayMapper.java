@@ -0,0 +1,267 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.api.mapping;
+
+import io.aiontechnology.atlas.mapping.OneWayMapper;
+import lombok.Value;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.ResolvableType;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Maps an object to a new instance of another type by copying the properties the two types have in common. A property
+ * that has a sub mapper registered under its name is passed through that mapper first. Properties that cannot be
+ * assigned and have no sub mapper are left unset.
+ * <p>
+ * The accessors for a pair of types are generated with {@link LambdaMetafactory} on first use and shared by every
+ * mapper for that pair, so copying a property is a direct getter and setter call rather than a reflective invocation.
+ *
+ * @param <FROM> The type being mapped from.
+ * @param <TO> The type being mapped to.
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+public class CompiledCompoundOneWayMapper<FROM, TO> implements OneWayMapper<FROM, TO> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /** The compiled accessors keyed by the pair of types they copy between */
+    private static final Map<TypePair, CompiledProperties> PROPERTIES = new ConcurrentHashMap<>();
+
+    private final Class<FROM> fromClass;
+    private final Class<TO> toClass;
+
+    /** The sub mappers keyed by the name of the property they map */
+    private final Map<String, OneWayMapper<Object, Object>> subMappers = new HashMap<>();
+
+    /** The properties of this mapper bound to their sub mappers. Built on first use. */
+    private volatile PropertyCopier[] copiers;
+
+    protected CompiledCompoundOneWayMapper(Class<FROM> fromClass, Class<TO> toClass) {
+        this.fromClass = fromClass;
+        this.toClass = toClass;
+    }
+
+    @Override
+    public Optional<TO> map(FROM from) {
+        return Optional.ofNullable(from)
+                .map(this::doMap);
+    }
+
+    /**
+     * Register a mapper for the property with the given name.
+     *
+     * @param key The name of the property.
+     * @param subMapper The mapper for the value of the property.
+     */
+    @SuppressWarnings("unchecked")
+    protected void addSubMapper(String key, OneWayMapper<?, ?> subMapper) {
+        subMappers.put(key, (OneWayMapper<Object, Object>) subMapper);
+        copiers = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private TO doMap(FROM from) {
+        CompiledProperties properties = PROPERTIES.computeIfAbsent(new TypePair(fromClass, toClass),
+                CompiledProperties::compile);
+        TO to = (TO) properties.getFactory().apply(from);
+        for (PropertyCopier copier : bindCopiers(properties)) {
+            copier.copy(from, to);
+        }
+        return to;
+    }
+
+    private PropertyCopier[] bindCopiers(CompiledProperties properties) {
+        PropertyCopier[] bound = copiers;
+        if (bound == null) {
+            List<PropertyCopier> list = new ArrayList<>();
+            for (CompiledProperty property : properties.getProperties()) {
+                OneWayMapper<Object, Object> subMapper = subMappers.get(property.getName());
+                if (subMapper != null || property.isAssignable()) {
+                    list.add(new PropertyCopier(property.getGetter(), property.getSetter(), subMapper));
+                }
+            }
+            bound = list.toArray(PropertyCopier[]::new);
+            copiers = bound;
+        }
+        return bound;
+    }
+
+    /**
+     * Copies one property, passing it through a sub mapper when there is one.
+     */
+    private static final class PropertyCopier {
+
+        private final Function<Object, Object> getter;
+        private final BiConsumer<Object, Object> setter;
+        private final OneWayMapper<Object, Object> subMapper;
+
+        PropertyCopier(Function<Object, Object> getter, BiConsumer<Object, Object> setter,
+                OneWayMapper<Object, Object> subMapper) {
+            this.getter = getter;
+            this.setter = setter;
+            this.subMapper = subMapper;
+        }
+
+        void copy(Object from, Object to) {
+            Object value = getter.apply(from);
+            if (subMapper != null && value != null) {
+                value = subMapper.map(value).orElse(null);
+            }
+            setter.accept(to, value);
+        }
+
+    }
+
+    /**
+     * The factory and property accessors for one pair of types.
+     */
+    @Value
+    private static class CompiledProperties {
+
+        Function<Object, Object> factory;
+        List<CompiledProperty> properties;
+
+        static CompiledProperties compile(TypePair types) {
+            List<CompiledProperty> properties = new ArrayList<>();
+            for (PropertyDescriptor target : BeanUtils.getPropertyDescriptors(types.getTo())) {
+                Method writeMethod = target.getWriteMethod();
+                PropertyDescriptor source = BeanUtils.getPropertyDescriptor(types.getFrom(), target.getName());
+                if (writeMethod == null || source == null || source.getReadMethod() == null) {
+                    continue;
+                }
+                Method readMethod = source.getReadMethod();
+                boolean assignable = ResolvableType.forMethodParameter(writeMethod, 0, types.getTo())
+                        .isAssignableFrom(ResolvableType.forMethodReturnType(readMethod, types.getFrom()));
+                properties.add(new CompiledProperty(target.getName(), assignable, getter(readMethod),
+                        setter(writeMethod)));
+            }
+            return new CompiledProperties(factory(types), List.copyOf(properties));
+        }
+
+    }
+
+    /**
+     * The accessors for one property that exists on both types.
+     */
+    @Value
+    private static class CompiledProperty {
+
+        String name;
+        boolean assignable;
+        Function<Object, Object> getter;
+        BiConsumer<Object, Object> setter;
+
+    }
+
+    @Value
+    private static class TypePair {
+
+        Class<?> from;
+        Class<?> to;
+
+    }
+
+    /**
+     * Create the factory for the target type. A public constructor that takes the source object is preferred so that
+     * models can hold on to their entity. Otherwise the no argument constructor is used.
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> factory(TypePair types) {
+        Optional<Constructor<?>> sourceConstructor = Arrays.stream(types.getTo().getConstructors())
+                .filter(constructor -> constructor.getParameterCount() == 1)
+                .filter(constructor -> constructor.getParameterTypes()[0].isAssignableFrom(types.getFrom()))
+                .findFirst();
+        try {
+            if (sourceConstructor.isPresent()) {
+                MethodHandle handle = LOOKUP.unreflectConstructor(sourceConstructor.get());
+                return (Function<Object, Object>) metafactory(Function.class, "apply",
+                        MethodType.methodType(Object.class, Object.class), handle,
+                        MethodType.methodType(types.getTo(), types.getFrom()));
+            }
+            MethodHandle handle = LOOKUP.findConstructor(types.getTo(), MethodType.methodType(void.class));
+            Supplier<Object> supplier = (Supplier<Object>) metafactory(Supplier.class, "get",
+                    MethodType.methodType(Object.class), handle, MethodType.methodType(types.getTo()));
+            return from -> supplier.get();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to find a constructor for " + types.getTo().getName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> getter(Method method) {
+        try {
+            MethodHandle handle = LOOKUP.unreflect(method);
+            return (Function<Object, Object>) metafactory(Function.class, "apply",
+                    MethodType.methodType(Object.class, Object.class), handle,
+                    MethodType.methodType(wrap(method.getReturnType()), method.getDeclaringClass()));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Unable to access " + method, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> setter(Method method) {
+        try {
+            MethodHandle handle = LOOKUP.unreflect(method);
+            return (BiConsumer<Object, Object>) metafactory(BiConsumer.class, "accept",
+                    MethodType.methodType(void.class, Object.class, Object.class), handle,
+                    MethodType.methodType(void.class, method.getDeclaringClass(), wrap(method.getParameterTypes()[0])));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Unable to access " + method, e);
+        }
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    /**
+     * Spin a lambda of the given functional interface around a method handle. If the class of the method is not
+     * visible to this class loader the handle is wrapped instead, which is slower but still avoids reflection.
+     */
+    private static Object metafactory(Class<?> functionalInterface, String methodName, MethodType samType,
+            MethodHandle handle, MethodType instantiatedType) {
+        try {
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP, methodName,
+                    MethodType.methodType(functionalInterface), samType, handle, instantiatedType);
+            return site.getTarget().invoke();
+        } catch (Throwable e) {
+            return MethodHandleProxies.asInterfaceInstance(functionalInterface, handle.asType(samType));
+        }
+    }
+
+}
@@ -59,7 +59,9 @@ import io.aiontechnology.mentorsuccess.entity.reference.Phonogram;
 import io.aiontechnology.mentorsuccess.entity.reference.Tag;
 import io.aiontechnology.mentorsuccess.entity.workflow.StudentInformation;
 import io.aiontechnology.mentorsuccess.entity.workflow.StudentRegistration;
+import io.aiontechnology.mentorsuccess.feature.workflow.assembler.PostAssessmentJobAssembler;
 import io.aiontechnology.mentorsuccess.feature.workflow.assembler.PostAssessmentWorkflowAssembler;
+import io.aiontechnology.mentorsuccess.feature.workflow.model.PostAssessmentJob;
 import io.aiontechnology.mentorsuccess.feature.workflow.model.PostAssessmentWorkflow;
 import io.aiontechnology.mentorsuccess.model.outbound.student.OutboundContact;
 import io.aiontechnology.mentorsuccess.resource.BookResource;
@@ -68,6 +70,7 @@ import io.aiontechnology.mentorsuccess.resource.InterestResource;
 import io.aiontechnology.mentorsuccess.resource.MentorResource;
 import io.aiontechnology.mentorsuccess.resource.PersonResource;
 import io.aiontechnology.mentorsuccess.resource.PersonnelResource;
+import io.aiontechnology.mentorsuccess.resource.PostAssessmentJobResource;
 import io.aiontechnology.mentorsuccess.resource.PostAssessmentWorkflowResource;
 import io.aiontechnology.mentorsuccess.resource.ProgramAdminResource;
 import io.aiontechnology.mentorsuccess.resource.SchoolResource;
@@ -170,6 +173,11 @@ public class AssemblerConfiguration {
         return new NameableToStringModelMapper<>(mapper);
     }
 
+    @Bean
+    public Assembler<PostAssessmentJob, PostAssessmentJobResource> postAssessmentJobAssembler() {
+        return new PostAssessmentJobAssembler();
+    }
+
     @Bean
     public Assembler<PostAssessmentWorkflow, PostAssessmentWorkflowResource> postAssessmentWorkflowAssembler() {
         return new PostAssessmentWorkflowAssembler();
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.configuration;
+
+import io.aiontechnology.mentorsuccess.feature.sql.SqlStatementJobInterceptor;
+import io.aiontechnology.mentorsuccess.feature.sql.SqlStatementRecorder;
+import io.aiontechnology.mentorsuccess.workflow.DelegateMetricsInterceptor;
+import io.aiontechnology.mentorsuccess.workflow.InboundModelCodec;
+import io.aiontechnology.mentorsuccess.workflow.InboundModelVariableType;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
+import org.flowable.spring.SpringProcessEngineConfiguration;
+import org.flowable.spring.boot.EngineConfigurationConfigurer;
+import org.flowable.variable.api.types.VariableType;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spring configuration class to customize the Flowable process engine.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Configuration
+public class FlowableConfiguration {
+
+    /**
+     * Register the interceptor that collects the SQL statements issued by each asynchronous job.
+     *
+     * @param recorder Records the statements of each job.
+     * @return The configurer that adds the interceptor to the engine.
+     */
+    @Bean
+    public EngineConfigurationConfigurer<SpringProcessEngineConfiguration> commandInterceptorConfigurer(
+            SqlStatementRecorder recorder) {
+        return engineConfiguration -> {
+            List<CommandInterceptor> interceptors = new ArrayList<>();
+            if (engineConfiguration.getCustomPreCommandInterceptors() != null) {
+                interceptors.addAll(engineConfiguration.getCustomPreCommandInterceptors());
+            }
+            interceptors.add(new SqlStatementJobInterceptor(recorder));
+            engineConfiguration.setCustomPreCommandInterceptors(interceptors);
+        };
+    }
+
+    /**
+     * Register the interceptor that times the execution of each service task delegate.
+     *
+     * @param meterRegistry The registry in which the timings are recorded.
+     * @return The configurer that sets the interceptor on the engine.
+     */
+    @Bean
+    public EngineConfigurationConfigurer<SpringProcessEngineConfiguration> delegateInterceptorConfigurer(
+            MeterRegistry meterRegistry) {
+        return engineConfiguration ->
+                engineConfiguration.setDelegateInterceptor(new DelegateMetricsInterceptor(meterRegistry));
+    }
+
+    /**
+     * Register the application's engine event listeners.
+     *
+     * @param listeners The event listener beans.
+     * @return The configurer that adds the listeners to the engine.
+     */
+    @Bean
+    public EngineConfigurationConfigurer<SpringProcessEngineConfiguration> eventListenerConfigurer(
+            List<FlowableEventListener> listeners) {
+        return engineConfiguration -> {
+            List<FlowableEventListener> eventListeners = new ArrayList<>();
+            if (engineConfiguration.getEventListeners() != null) {
+                eventListeners.addAll(engineConfiguration.getEventListeners());
+            }
+            eventListeners.addAll(listeners);
+            engineConfiguration.setEventListeners(eventListeners);
+        };
+    }
+
+    /**
+     * Register the application's variable types ahead of Flowable's own so that inbound models are stored as JSON
+     * rather than by Java serialization.
+     *
+     * @return The configurer that adds the variable types to the engine.
+     */
+    @Bean
+    public EngineConfigurationConfigurer<SpringProcessEngineConfiguration> variableTypeConfigurer() {
+        return engineConfiguration -> {
+            List<VariableType> variableTypes = new ArrayList<>();
+            if (engineConfiguration.getCustomPreVariableTypes() != null) {
+                variableTypes.addAll(engineConfiguration.getCustomPreVariableTypes());
+            }
+            variableTypes.add(new InboundModelVariableType(new InboundModelCodec()));
+            engineConfiguration.setCustomPreVariableTypes(variableTypes);
+        };
+    }
+
+}
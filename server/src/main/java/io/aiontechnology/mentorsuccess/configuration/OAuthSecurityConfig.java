@@ -67,7 +67,6 @@ public class OAuthSecurityConfig {
                 .requestMatchers("/api/v1/schools/*/students/*/assessments/*")
                 .requestMatchers("/api/v1/schools/*/students/*/registrations/*")
                 .requestMatchers("/api/v1/schools/*/students/*/workflow/assessments/*")
-                .requestMatchers(GET, "/api/v1/schools/*/programAdmins")
                 .requestMatchers("/api/v1/behaviors")
                 .requestMatchers("/api/v1/leadership_skills")
                 .requestMatchers("/api/v1/leadership_traits");
@@ -76,7 +75,9 @@ public class OAuthSecurityConfig {
     @Bean
     protected SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
-                .authorizeHttpRequests(authorize -> authorize.anyRequest().authenticated())
+                .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers(GET, "/api/v1/schools/*/programAdmins").permitAll()
+                        .anyRequest().authenticated())
                 .oauth2ResourceServer(oAuth2ResourceServerCustomizer ->
                         oAuth2ResourceServerCustomizer.jwt(jwtCustomizer -> jwtCustomizer.decoder(jwtDecoder())))
                 .addFilterAfter(new AuthoritiesGrantingFilter(), BasicAuthenticationFilter.class);
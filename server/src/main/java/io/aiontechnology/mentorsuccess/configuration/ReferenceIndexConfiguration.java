@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.configuration;
+
+import io.aiontechnology.mentorsuccess.entity.reference.AbstractReference;
+import io.aiontechnology.mentorsuccess.entity.reference.ActivityFocus;
+import io.aiontechnology.mentorsuccess.entity.reference.Behavior;
+import io.aiontechnology.mentorsuccess.entity.reference.Interest;
+import io.aiontechnology.mentorsuccess.entity.reference.LeadershipSkill;
+import io.aiontechnology.mentorsuccess.entity.reference.LeadershipTrait;
+import io.aiontechnology.mentorsuccess.entity.reference.Phonogram;
+import io.aiontechnology.mentorsuccess.entity.reference.Tag;
+import io.aiontechnology.mentorsuccess.repository.ActivityFocusRepository;
+import io.aiontechnology.mentorsuccess.repository.BehaviorRepository;
+import io.aiontechnology.mentorsuccess.repository.InterestRepository;
+import io.aiontechnology.mentorsuccess.repository.LeadershipSkillRepository;
+import io.aiontechnology.mentorsuccess.repository.LeadershipTraitRepository;
+import io.aiontechnology.mentorsuccess.repository.PhonogramRepository;
+import io.aiontechnology.mentorsuccess.repository.ReferenceRepository;
+import io.aiontechnology.mentorsuccess.repository.TagRepository;
+import io.aiontechnology.mentorsuccess.service.ReferenceIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Supplier;
+
+/**
+ * Spring configuration class to establish the in-memory indexes of the reference vocabularies.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ReferenceIndexConfiguration {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
+
+    @Bean
+    public ReferenceIndex<ActivityFocus> activityFocusIndex(ActivityFocusRepository activityFocusRepository) {
+        return index(ActivityFocus.class, ActivityFocus::new, activityFocusRepository);
+    }
+
+    @Bean
+    public ReferenceIndex<Behavior> behaviorIndex(BehaviorRepository behaviorRepository) {
+        return index(Behavior.class, Behavior::new, behaviorRepository);
+    }
+
+    @Bean
+    public ReferenceIndex<Interest> interestIndex(InterestRepository interestRepository) {
+        return index(Interest.class, Interest::new, interestRepository);
+    }
+
+    @Bean
+    public ReferenceIndex<LeadershipSkill> leadershipSkillIndex(LeadershipSkillRepository leadershipSkillRepository) {
+        return index(LeadershipSkill.class, LeadershipSkill::new, leadershipSkillRepository);
+    }
+
+    @Bean
+    public ReferenceIndex<LeadershipTrait> leadershipTraitIndex(LeadershipTraitRepository leadershipTraitRepository) {
+        return index(LeadershipTrait.class, LeadershipTrait::new, leadershipTraitRepository);
+    }
+
+    @Bean
+    public ReferenceIndex<Phonogram> phonogramIndex(PhonogramRepository phonogramRepository) {
+        return index(Phonogram.class, Phonogram::new, phonogramRepository);
+    }
+
+    @Bean
+    public ReferenceIndex<Tag> tagIndex(TagRepository tagRepository) {
+        return index(Tag.class, Tag::new, tagRepository);
+    }
+
+    private <T extends AbstractReference> ReferenceIndex<T> index(Class<T> type, Supplier<T> factory,
+            ReferenceRepository<T> repository) {
+        return new ReferenceIndex<>(type, factory, repository, entityManagerFactory, entityManager);
+    }
+
+}
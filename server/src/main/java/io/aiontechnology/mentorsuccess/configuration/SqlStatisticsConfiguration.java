@@ -0,0 +1,50 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.configuration;
+
+import io.aiontechnology.mentorsuccess.feature.sql.SqlStatementInspector;
+import io.aiontechnology.mentorsuccess.feature.sql.SqlStatementSessionListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring configuration class that lets Hibernate report the statements it issues to the current
+ * {@link io.aiontechnology.mentorsuccess.feature.sql.SqlStatementScope SqlStatementScope}.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Configuration
+public class SqlStatisticsConfiguration {
+
+    /**
+     * Register the statement inspector that counts statements and the session listener that times them.
+     *
+     * @return The customizer that adds both to the Hibernate properties.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatisticsCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                    SqlStatementSessionListener.class.getName());
+        };
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.configuration;
+
+import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Properties;
+
+/**
+ * Spring configuration class to establish the Velocity engine used to render emails.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Configuration
+public class VelocityConfiguration {
+
+    /**
+     * Create the Velocity engine. Templates are loaded from the classpath and cached without modification checks
+     * because they can not change while the application is running.
+     *
+     * @return The Velocity engine.
+     */
+    @Bean
+    public VelocityEngine velocityEngine() {
+        Properties velocityProperties = new Properties();
+        velocityProperties.setProperty("resource.loaders", "class");
+        velocityProperties.setProperty("resource.loader.class.class", ClasspathResourceLoader.class.getName());
+        velocityProperties.setProperty("resource.loader.class.cache", "true");
+        velocityProperties.setProperty("resource.loader.class.modification_check_interval", "-1");
+        VelocityEngine velocityEngine = new VelocityEngine(velocityProperties);
+        velocityEngine.init();
+        return velocityEngine;
+    }
+
+}
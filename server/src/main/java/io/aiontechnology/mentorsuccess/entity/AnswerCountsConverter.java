@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.entity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Stores the answer counts of an {@link AssessmentSummary} as JSON.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Converter
+public class AnswerCountsConverter implements AttributeConverter<Map<Integer, Map<Integer, Integer>>, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final TypeReference<TreeMap<Integer, TreeMap<Integer, Integer>>> TYPE = new TypeReference<>() {
+    };
+
+    @Override
+    public String convertToDatabaseColumn(Map<Integer, Map<Integer, Integer>> answerCounts) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(answerCounts == null ? Map.of() : answerCounts);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to write answer counts", e);
+        }
+    }
+
+    @Override
+    public Map<Integer, Map<Integer, Integer>> convertToEntityAttribute(String json) {
+        if (json == null) {
+            return new TreeMap<>();
+        }
+        try {
+            return new TreeMap<>(OBJECT_MAPPER.readValue(json, TYPE));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to read answer counts", e);
+        }
+    }
+
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.entity;
+
+import io.aiontechnology.mentorsuccess.model.Identifiable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Entity that holds the assessment answers of one group of students in a school session. A group is either the whole
+ * session or the students of one grade, teacher or mentor. For every question the number of students that gave each
+ * answer is kept, which is enough to derive the means and distributions of the group without reading its students.
+ * The counts are updated as assessments are stored.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Entity
+@Table(name = "assessment_summary")
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString
+public class AssessmentSummary implements Identifiable<UUID> {
+
+    /** The key of the group of a whole session */
+    public static final String SESSION_KEY = "-";
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    private UUID id;
+
+    /** The ID of the school of the session */
+    @Column(nullable = false)
+    private UUID schoolId;
+
+    /** The ID of the school session */
+    @Column(nullable = false)
+    private UUID schoolSessionId;
+
+    /** Whether the answers are from pre or post-assessments */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 4)
+    private Phase phase;
+
+    /** How the students of the group were selected */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Dimension dimension;
+
+    /** The grade, teacher role ID or mentor role ID of the group or {@link #SESSION_KEY} */
+    @Column(nullable = false, length = 36)
+    private String dimensionKey;
+
+    /** The number of assessments counted */
+    @Column(nullable = false)
+    private int studentCount;
+
+    /** The number of times each answer was given keyed by question number and then by answer */
+    @Column(nullable = false, length = 8000)
+    @Convert(converter = AnswerCountsConverter.class)
+    private Map<Integer, Map<Integer, Integer>> answerCounts = new TreeMap<>();
+
+    public AssessmentSummary(UUID schoolId, UUID schoolSessionId, Phase phase, Dimension dimension,
+            String dimensionKey) {
+        this.schoolId = schoolId;
+        this.schoolSessionId = schoolSessionId;
+        this.phase = phase;
+        this.dimension = dimension;
+        this.dimensionKey = dimensionKey;
+    }
+
+    /**
+     * Count an assessment.
+     *
+     * @param answers The answers in question order.
+     */
+    public void add(List<Integer> answers) {
+        update(answers, 1);
+    }
+
+    /**
+     * Stop counting an assessment that was previously added.
+     *
+     * @param answers The answers in question order.
+     */
+    public void remove(List<Integer> answers) {
+        update(answers, -1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        AssessmentSummary that = (AssessmentSummary) o;
+        return id != null && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    private void update(List<Integer> answers, int delta) {
+        // Replace rather than modify the map so that the change is seen by dirty checking
+        Map<Integer, Map<Integer, Integer>> updated = new TreeMap<>();
+        answerCounts.forEach((question, counts) -> updated.put(question, new TreeMap<>(counts)));
+        for (int index = 0; index < answers.size(); index++) {
+            Integer answer = answers.get(index);
+            if (answer != null) {
+                Map<Integer, Integer> counts = updated.computeIfAbsent(index + 1, question -> new TreeMap<>());
+                counts.merge(answer, delta, Integer::sum);
+                counts.values().removeIf(count -> count <= 0);
+            }
+        }
+        updated.values().removeIf(Map::isEmpty);
+        answerCounts = updated;
+        studentCount = Math.max(0, studentCount + delta);
+    }
+
+    /**
+     * The assessments of a student school session.
+     */
+    public enum Phase {
+
+        PRE {
+            @Override
+            public List<Integer> answers(StudentSchoolSession studentSchoolSession) {
+                return studentSchoolSession.getPreAnswers();
+            }
+
+            @Override
+            public Map<Dimension, String> summaryGroups(StudentSchoolSession studentSchoolSession) {
+                return studentSchoolSession.getPreSummaryGroups();
+            }
+
+            @Override
+            public void setSummaryGroups(StudentSchoolSession studentSchoolSession, Map<Dimension, String> groups) {
+                studentSchoolSession.setPreSummaryGroups(groups);
+            }
+        },
+
+        POST {
+            @Override
+            public List<Integer> answers(StudentSchoolSession studentSchoolSession) {
+                return studentSchoolSession.getPostAnswers();
+            }
+
+            @Override
+            public Map<Dimension, String> summaryGroups(StudentSchoolSession studentSchoolSession) {
+                return studentSchoolSession.getPostSummaryGroups();
+            }
+
+            @Override
+            public void setSummaryGroups(StudentSchoolSession studentSchoolSession, Map<Dimension, String> groups) {
+                studentSchoolSession.setPostSummaryGroups(groups);
+            }
+        };
+
+        /**
+         * Get the answers of this phase.
+         *
+         * @param studentSchoolSession The student school session holding the answers.
+         * @return The answers in question order.
+         */
+        public abstract List<Integer> answers(StudentSchoolSession studentSchoolSession);
+
+        /**
+         * Get the groups that the assessment of this phase is counted in.
+         *
+         * @param studentSchoolSession The student school session holding the assessment.
+         * @return The group keys by dimension. Null if the assessment is not counted.
+         */
+        public abstract Map<Dimension, String> summaryGroups(StudentSchoolSession studentSchoolSession);
+
+        /**
+         * Record the groups that the assessment of this phase is counted in.
+         *
+         * @param studentSchoolSession The student school session holding the assessment.
+         * @param groups The group keys by dimension. Null if the assessment is not counted.
+         */
+        public abstract void setSummaryGroups(StudentSchoolSession studentSchoolSession,
+                Map<Dimension, String> groups);
+
+    }
+
+    /**
+     * The ways that students are grouped.
+     */
+    public enum Dimension {
+        SESSION,
+        GRADE,
+        TEACHER,
+        MENTOR
+    }
+
+}
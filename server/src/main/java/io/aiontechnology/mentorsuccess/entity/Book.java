@@ -34,6 +34,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -62,7 +63,7 @@ import java.util.UUID;
 @Setter
 @ToString
 @Where(clause = "is_active = true")
-public class Book implements Identifiable<UUID> {
+public class Book implements Identifiable<UUID>, Versioned {
 
     /** The author of the book. */
     @Column
@@ -89,6 +90,11 @@ public class Book implements Identifiable<UUID> {
     @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
     private UUID id;
 
+    /** The version of the book, which is incremented on every update. */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /** A collection of interests related to the book. */
     @ManyToMany
     @JoinTable(name = "book_interest",
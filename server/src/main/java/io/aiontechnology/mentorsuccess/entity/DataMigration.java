@@ -0,0 +1,52 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.Instant;
+
+/**
+ * Entity that records a one-time data migration that has completed.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Entity
+@Table(name = "data_migration")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@ToString
+public class DataMigration {
+
+    /** The name of the migration. */
+    @Id
+    private String name;
+
+    /** The time at which the migration completed. */
+    @Column
+    private Instant completedAt;
+
+}
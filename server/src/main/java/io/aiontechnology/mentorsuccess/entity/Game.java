@@ -31,6 +31,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -59,7 +60,7 @@ import java.util.UUID;
 @Setter
 @ToString
 @Where(clause = "is_active = true")
-public class Game implements Identifiable<UUID> {
+public class Game implements Identifiable<UUID>, Versioned {
 
     /** A collection activity focuses for the game. */
     @ManyToMany
@@ -86,6 +87,11 @@ public class Game implements Identifiable<UUID> {
     @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
     private UUID id;
 
+    /** The version of the game, which is incremented on every update. */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /** Is the game active? */
     @Column
     private Boolean isActive;
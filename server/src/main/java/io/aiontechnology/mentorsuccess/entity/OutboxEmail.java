@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.entity;
+
+import io.aiontechnology.mentorsuccess.model.Identifiable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Entity that represents an email waiting in the outbox to be sent.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Entity
+@Table(name = "email_outbox")
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString
+public class OutboxEmail implements Identifiable<UUID> {
+
+    /** The ID of the email. */
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    private UUID id;
+
+    /** The comma separated recipients. */
+    @Column(name = "to_address")
+    private String to;
+
+    /** The comma separated carbon copy recipients. */
+    @Column(name = "cc_address")
+    private String cc;
+
+    /** The sender. */
+    @Column(name = "from_address")
+    private String from;
+
+    @Column
+    private String subject;
+
+    /** The HTML body. */
+    @Column
+    @ToString.Exclude
+    private String body;
+
+    @Column
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    /** The number of failed attempts to send the email. */
+    @Column
+    private Integer attempts;
+
+    /** The earliest time at which the email should be sent. */
+    @Column
+    private Instant nextAttemptAt;
+
+    @Column
+    private Instant createdAt;
+
+    @Column
+    private Instant sentAt;
+
+    /** The error from the last failed attempt. */
+    @Column
+    private String lastError;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        OutboxEmail that = (OutboxEmail) o;
+        return id != null && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    /**
+     * The delivery status of an email.
+     */
+    public enum Status {
+
+        /** Waiting to be sent or retried */
+        PENDING,
+
+        /** Sent */
+        SENT,
+
+        /** Given up on after too many failed attempts */
+        DEAD
+
+    }
+
+}
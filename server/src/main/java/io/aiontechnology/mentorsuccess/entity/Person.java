@@ -22,6 +22,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -47,7 +48,7 @@ import java.util.UUID;
 @Getter
 @Setter
 @ToString
-public class Person implements Identifiable<UUID> {
+public class Person implements Identifiable<UUID>, Versioned {
 
     /** The ID of the person. */
     @Id
@@ -56,6 +57,12 @@ public class Person implements Identifiable<UUID> {
     @EqualsAndHashCode.Exclude
     private UUID id;
 
+    /** The version of the person, which is incremented on every update. */
+    @Version
+    @Column(name = "version", nullable = false)
+    @EqualsAndHashCode.Exclude
+    private Long version;
+
     /** The first name of the person. */
     @Column
     private String firstName;
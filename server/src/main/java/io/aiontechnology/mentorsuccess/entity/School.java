@@ -29,6 +29,7 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -60,7 +61,7 @@ import java.util.UUID;
 @ToString
 @Where(clause = "is_active = true")
 @FilterDef(name = "roleType", parameters = @ParamDef(name = "type", type = String.class))
-public class School implements Identifiable<UUID> {
+public class School implements Identifiable<UUID>, Versioned {
 
     /** The ID of the school. */
     @Id
@@ -68,6 +69,11 @@ public class School implements Identifiable<UUID> {
     @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
     private UUID id;
 
+    /** The version of the school, which is incremented on every update. */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /** The name of the school. */
     @Column
     private String name;
@@ -29,6 +29,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -54,7 +55,7 @@ import java.util.UUID;
 @Getter
 @Setter
 @ToString
-public class SchoolPersonRole implements Identifiable<UUID> {
+public class SchoolPersonRole implements Identifiable<UUID>, Versioned {
 
     /** The ID of the role. */
     @Id
@@ -62,6 +63,11 @@ public class SchoolPersonRole implements Identifiable<UUID> {
     @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
     private UUID id;
 
+    /** The version of the role, which is incremented on every update. */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /** The school of the role. */
     @ManyToOne(cascade = CascadeType.DETACH)
     @JoinColumn(name = "school_id", referencedColumnName = "id")
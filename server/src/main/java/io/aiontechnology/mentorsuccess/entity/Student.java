@@ -28,6 +28,9 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -39,6 +42,8 @@ import org.hibernate.annotations.GenericGenerator;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -59,7 +64,7 @@ import static java.util.Objects.requireNonNull;
 @Getter
 @Setter
 @ToString
-public class Student implements Identifiable<UUID> {
+public class Student implements Identifiable<UUID>, Versioned {
 
     private static final CollectionSynchronizer<StudentPersonRole> studentPersonRoleSyncHelper =
             new SimpleCollectionSynchronizer<>();
@@ -74,6 +79,11 @@ public class Student implements Identifiable<UUID> {
     @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
     private UUID id;
 
+    /** The version of the student, which is incremented on every update. */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /** The student's last name */
     @Column(nullable = false)
     private String lastName;
@@ -100,6 +110,14 @@ public class Student implements Identifiable<UUID> {
     @OneToMany(mappedBy = "student", cascade = CascadeType.ALL, orphanRemoval = true)
     private Collection<StudentSchoolSession> studentSchoolSessions = new ArrayList<>();
 
+    /** Index of the loaded {@link StudentSchoolSession StudentSchoolSessions} by school session id. */
+    @Transient
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Map<UUID, StudentSchoolSession> studentSchoolSessionIndex;
+
     /**
      * Add a new session to the student.
      *
@@ -109,6 +127,7 @@ public class Student implements Identifiable<UUID> {
     public Student addStudentSession(StudentSchoolSession studentSchoolSession) {
         studentSchoolSessions.add(studentSchoolSession);
         studentSchoolSession.setStudent(this);
+        studentSchoolSessionIndex = null;
         return this;
     }
 
@@ -120,11 +139,17 @@ public class Student implements Identifiable<UUID> {
         return id != null && Objects.equals(id, student.id);
     }
 
+    /**
+     * Find the student's {@link StudentSchoolSession} for the given session. This loads all the student's sessions,
+     * so it should only be used when they are already loaded. Use
+     * {@code StudentSchoolSessionService.findStudentSchoolSession} otherwise.
+     *
+     * @param currentSession The desired session.
+     * @return The {@link StudentSchoolSession} if the student attended the session.
+     */
     public Optional<StudentSchoolSession> findCurrentSessionForStudent(SchoolSession currentSession) {
         requireNonNull(currentSession);
-        return getStudentSchoolSessions().stream()
-                .filter(s -> s.getSchoolSession().getId().equals(currentSession.getId()))
-                .findFirst();
+        return Optional.ofNullable(getStudentSchoolSessionIndex().get(currentSession.getId()));
     }
 
     @Override
@@ -144,4 +169,19 @@ public class Student implements Identifiable<UUID> {
         return firstName + " " + lastName;
     }
 
+    public void setStudentSchoolSessions(Collection<StudentSchoolSession> studentSchoolSessions) {
+        this.studentSchoolSessions = studentSchoolSessions;
+        studentSchoolSessionIndex = null;
+    }
+
+    private Map<UUID, StudentSchoolSession> getStudentSchoolSessionIndex() {
+        Collection<StudentSchoolSession> sessions = getStudentSchoolSessions();
+        if (studentSchoolSessionIndex == null || studentSchoolSessionIndex.size() != sessions.size()) {
+            Map<UUID, StudentSchoolSession> index = new HashMap<>();
+            sessions.forEach(session -> index.putIfAbsent(session.getSchoolSession().getId(), session));
+            studentSchoolSessionIndex = index;
+        }
+        return studentSchoolSessionIndex;
+    }
+
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.entity;
+
+import io.aiontechnology.mentorsuccess.model.Identifiable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Entity that holds the fields of a running registration process that are shown on the public registration page. It
+ * is written when the invitation is sent so the page can be served without loading the process variables.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Entity
+@Table(name = "student_registration_summary")
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString
+public class StudentRegistrationSummary implements Identifiable<UUID> {
+
+    /** The ID of the registration process instance. */
+    @Id
+    @Column(name = "process_instance_id")
+    private UUID id;
+
+    /** The ID of the school that sent the invitation. */
+    @Column
+    private UUID schoolId;
+
+    @Column
+    private String studentFirstName;
+
+    @Column
+    private String studentLastName;
+
+    @Column(name = "parent1_first_name")
+    private String parent1FirstName;
+
+    @Column(name = "parent1_last_name")
+    private String parent1LastName;
+
+    @Column(name = "parent1_email_address")
+    private String parent1EmailAddress;
+
+    @Column
+    private Instant createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        StudentRegistrationSummary that = (StudentRegistrationSummary) o;
+        return id != null && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+}
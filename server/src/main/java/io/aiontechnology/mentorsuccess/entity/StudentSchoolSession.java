@@ -23,6 +23,7 @@ import io.aiontechnology.mentorsuccess.entity.reference.Interest;
 import io.aiontechnology.mentorsuccess.model.enumeration.ResourceLocation;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -32,8 +33,12 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -44,8 +49,11 @@ import org.hibernate.Hibernate;
 import org.hibernate.annotations.GenericGenerator;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -58,12 +66,23 @@ import java.util.stream.Collectors;
  */
 @Entity
 @Table(name = "student_schoolsession")
+@NamedEntityGraph(
+        name = StudentSchoolSession.ROSTER_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode(value = "teacher", subgraph = "role"),
+                @NamedAttributeNode(value = "mentor", subgraph = "role")
+        },
+        subgraphs = @NamedSubgraph(name = "role", attributeNodes = @NamedAttributeNode("person"))
+)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
 @ToString
-public class StudentSchoolSession {
+public class StudentSchoolSession implements Versioned {
+
+    /** Entity graph that fetches the teacher and mentor needed to show a session in a roster */
+    public static final String ROSTER_GRAPH = "StudentSchoolSession.roster";
 
     private static final CollectionSynchronizer<Interest> interestSyncHelper =
             new SimpleCollectionSynchronizer<>();
@@ -92,6 +111,11 @@ public class StudentSchoolSession {
     @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
     private UUID id;
 
+    /** The version of the student session, which is incremented on every update. */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @ToString.Exclude
     @ManyToMany(cascade = CascadeType.ALL)
     @JoinTable(
@@ -345,6 +369,16 @@ public class StudentSchoolSession {
     @Column(name = "post_question35")
     private Integer postQuestion35;
 
+    /** The groups that the pre-assessment is counted in. Null if it is not counted. */
+    @Column(name = "pre_summary_groups", length = 200)
+    @Convert(converter = SummaryGroupsConverter.class)
+    private Map<AssessmentSummary.Dimension, String> preSummaryGroups;
+
+    /** The groups that the post-assessment is counted in. Null if it is not counted. */
+    @Column(name = "post_summary_groups", length = 200)
+    @Convert(converter = SummaryGroupsConverter.class)
+    private Map<AssessmentSummary.Dimension, String> postSummaryGroups;
+
     @Column(name = "completed_info_flow_id")
     private String completedInfoFlowId;
 
@@ -407,6 +441,35 @@ public class StudentSchoolSession {
         return 0;
     }
 
+    /**
+     * Get the answers to the pre-assessment in question order.
+     *
+     * @return The answers. An answer is null if its question has not been answered.
+     */
+    public List<Integer> getPreAnswers() {
+        return Arrays.asList(
+                preQuestion1, preQuestion2, preQuestion3, preQuestion4, preQuestion5, preQuestion6, preQuestion7,
+                preQuestion8, preQuestion9, preQuestion10, preQuestion11, preQuestion12, preQuestion13, preQuestion14,
+                preQuestion15, preQuestion16, preQuestion17, preQuestion18, preQuestion19, preQuestion20, preQuestion21,
+                preQuestion22, preQuestion23, preQuestion24, preQuestion25, preQuestion26, preQuestion27, preQuestion28,
+                preQuestion29, preQuestion30, preQuestion31, preQuestion32, preQuestion33, preQuestion34, preQuestion35);
+    }
+
+    /**
+     * Get the answers to the post-assessment in question order.
+     *
+     * @return The answers. An answer is null if its question has not been answered.
+     */
+    public List<Integer> getPostAnswers() {
+        return Arrays.asList(
+                postQuestion1, postQuestion2, postQuestion3, postQuestion4, postQuestion5, postQuestion6, postQuestion7,
+                postQuestion8, postQuestion9, postQuestion10, postQuestion11, postQuestion12, postQuestion13,
+                postQuestion14, postQuestion15, postQuestion16, postQuestion17, postQuestion18, postQuestion19,
+                postQuestion20, postQuestion21, postQuestion22, postQuestion23, postQuestion24, postQuestion25,
+                postQuestion26, postQuestion27, postQuestion28, postQuestion29, postQuestion30, postQuestion31,
+                postQuestion32, postQuestion33, postQuestion34, postQuestion35);
+    }
+
     public StudentSchoolSession incrementGrade() {
         grade = grade + 1;
         return this;
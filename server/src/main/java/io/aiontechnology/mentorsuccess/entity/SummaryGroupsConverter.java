@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.entity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.aiontechnology.mentorsuccess.entity.AssessmentSummary.Dimension;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Stores the groups that an assessment is counted in, keyed by dimension, as JSON. A null value means that the
+ * assessment is not counted.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Converter
+public class SummaryGroupsConverter implements AttributeConverter<Map<Dimension, String>, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final TypeReference<Map<Dimension, String>> TYPE = new TypeReference<>() {
+    };
+
+    @Override
+    public String convertToDatabaseColumn(Map<Dimension, String> groups) {
+        if (groups == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(groups);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to write summary groups", e);
+        }
+    }
+
+    @Override
+    public Map<Dimension, String> convertToEntityAttribute(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            Map<Dimension, String> groups = new EnumMap<>(Dimension.class);
+            groups.putAll(OBJECT_MAPPER.readValue(json, TYPE));
+            return groups;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to read summary groups", e);
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.entity;
+
+/**
+ * An entity whose version is incremented by the persistence provider every time it is updated.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+public interface Versioned {
+
+    /**
+     * Get the version of the entity.
+     *
+     * @return The version or null if the entity has not been stored.
+     */
+    Long getVersion();
+
+}
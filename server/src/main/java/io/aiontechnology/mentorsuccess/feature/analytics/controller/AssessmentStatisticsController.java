@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.analytics.controller;
+
+import io.aiontechnology.mentorsuccess.api.error.NotFoundException;
+import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.SchoolSession;
+import io.aiontechnology.mentorsuccess.feature.analytics.service.AssessmentStatisticsService;
+import io.aiontechnology.mentorsuccess.resource.AssessmentStatisticsResource;
+import io.aiontechnology.mentorsuccess.service.SchoolService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Controller that vends a REST interface for the assessment statistics of a school. The statistics are read from the
+ * assessment summaries, so the cost of a request does not depend on the number of students.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@RestController
+@RequestMapping("/api/v1/schools/{schoolId}")
+@RequiredArgsConstructor
+@Slf4j
+public class AssessmentStatisticsController {
+
+    // Services
+    private final AssessmentStatisticsService assessmentStatisticsService;
+    private final SchoolService schoolService;
+
+    /**
+     * Get the assessment statistics of all the sessions of a school.
+     *
+     * @param schoolId The ID of the school.
+     * @return The assessment statistics.
+     */
+    @GetMapping("/assessment-statistics")
+    @PreAuthorize("hasAuthority('schoolsession:read')")
+    public AssessmentStatisticsResource getSchoolStatistics(@PathVariable("schoolId") UUID schoolId) {
+        log.debug("Getting assessment statistics for school {}", schoolId);
+        School school = getSchool(schoolId);
+        AssessmentStatisticsResource resource =
+                new AssessmentStatisticsResource(assessmentStatisticsService.getSchoolStatistics(school));
+        resource.add(linkTo(methodOn(AssessmentStatisticsController.class).getSchoolStatistics(schoolId))
+                .withSelfRel());
+        return resource;
+    }
+
+    /**
+     * Get the assessment statistics of a school session.
+     *
+     * @param schoolId The ID of the school that owns the school session.
+     * @param schoolSessionId The ID of the school session.
+     * @return The assessment statistics.
+     */
+    @GetMapping("/schoolsessions/{schoolSessionId}/assessment-statistics")
+    @PreAuthorize("hasAuthority('schoolsession:read')")
+    public AssessmentStatisticsResource getSessionStatistics(@PathVariable("schoolId") UUID schoolId,
+            @PathVariable("schoolSessionId") UUID schoolSessionId) {
+        log.debug("Getting assessment statistics for school session {}", schoolSessionId);
+        School school = getSchool(schoolId);
+        SchoolSession schoolSession = school.getSessions().stream()
+                .filter(session -> session.getId().equals(schoolSessionId))
+                .findFirst()
+                .orElseThrow(() -> new NotFoundException("School session was not found"));
+        AssessmentStatisticsResource resource =
+                new AssessmentStatisticsResource(assessmentStatisticsService.getSessionStatistics(schoolSession));
+        resource.add(linkTo(methodOn(AssessmentStatisticsController.class)
+                .getSessionStatistics(schoolId, schoolSessionId)).withSelfRel());
+        return resource;
+    }
+
+    private School getSchool(UUID schoolId) {
+        return schoolService.getSchoolById(schoolId)
+                .orElseThrow(() -> new NotFoundException("School was not found"));
+    }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.analytics.model;
+
+import io.aiontechnology.mentorsuccess.entity.AssessmentSummary;
+import io.aiontechnology.mentorsuccess.entity.AssessmentSummary.Dimension;
+import io.aiontechnology.mentorsuccess.entity.AssessmentSummary.Phase;
+import lombok.Value;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Assessment statistics of a school session or of all the sessions of a school. The statistics are derived from
+ * {@link AssessmentSummary AssessmentSummaries}, so their cost depends on the number of questions and groups and not
+ * on the number of students. Means of whole assessments are the sums of the question means, and deltas are post minus
+ * pre.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Value
+public class AssessmentStatistics {
+
+    /** The statistics of every question for all students */
+    List<QuestionStatistics> questions;
+
+    /** The statistics of whole assessments for all students */
+    GroupStatistics overall;
+
+    /** The statistics of whole assessments by grade */
+    List<GroupStatistics> grades;
+
+    /** The statistics of whole assessments by teacher role ID */
+    List<GroupStatistics> teachers;
+
+    /** The statistics of whole assessments by mentor role ID */
+    List<GroupStatistics> mentors;
+
+    /**
+     * Create the statistics of the given summaries. Summaries of the same group from different sessions are combined.
+     *
+     * @param summaries The summaries.
+     * @return The statistics.
+     */
+    public static AssessmentStatistics of(Collection<AssessmentSummary> summaries) {
+        Map<Dimension, Map<String, Map<Phase, Counts>>> groups = new EnumMap<>(Dimension.class);
+        for (AssessmentSummary summary : summaries) {
+            groups.computeIfAbsent(summary.getDimension(), dimension -> new TreeMap<>())
+                    .computeIfAbsent(summary.getDimensionKey(), key -> new EnumMap<>(Phase.class))
+                    .computeIfAbsent(summary.getPhase(), phase -> new Counts())
+                    .add(summary);
+        }
+
+        Map<Phase, Counts> session = groups.getOrDefault(Dimension.SESSION, Map.of())
+                .getOrDefault(AssessmentSummary.SESSION_KEY, Map.of());
+        return new AssessmentStatistics(
+                questionStatistics(session),
+                GroupStatistics.of(AssessmentSummary.SESSION_KEY, session),
+                groupStatistics(groups, Dimension.GRADE, Comparator.comparing(Integer::valueOf)),
+                groupStatistics(groups, Dimension.TEACHER, Comparator.naturalOrder()),
+                groupStatistics(groups, Dimension.MENTOR, Comparator.naturalOrder()));
+    }
+
+    private static List<GroupStatistics> groupStatistics(Map<Dimension, Map<String, Map<Phase, Counts>>> groups,
+            Dimension dimension, Comparator<String> order) {
+        return groups.getOrDefault(dimension, Map.of()).entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(order))
+                .map(group -> GroupStatistics.of(group.getKey(), group.getValue()))
+                .toList();
+    }
+
+    private static List<QuestionStatistics> questionStatistics(Map<Phase, Counts> session) {
+        Counts pre = session.getOrDefault(Phase.PRE, new Counts());
+        Counts post = session.getOrDefault(Phase.POST, new Counts());
+        TreeSet<Integer> questions = new TreeSet<>(pre.answerCounts.keySet());
+        questions.addAll(post.answerCounts.keySet());
+        return questions.stream()
+                .map(question -> {
+                    Double preMean = pre.mean(question);
+                    Double postMean = post.mean(question);
+                    return new QuestionStatistics(question, preMean, postMean, delta(preMean, postMean),
+                            pre.answerCounts.getOrDefault(question, Map.of()),
+                            post.answerCounts.getOrDefault(question, Map.of()));
+                })
+                .toList();
+    }
+
+    private static Double delta(Double pre, Double post) {
+        return pre == null || post == null ? null : post - pre;
+    }
+
+    /**
+     * The statistics of a single question.
+     */
+    @Value
+    public static class QuestionStatistics {
+
+        /** The number of the question */
+        int question;
+
+        /** The mean pre-assessment answer or null if there is none */
+        Double preMean;
+
+        /** The mean post-assessment answer or null if there is none */
+        Double postMean;
+
+        /** The change in the mean answer or null if either mean is missing */
+        Double delta;
+
+        /** The number of students that gave each pre-assessment answer */
+        Map<Integer, Integer> preDistribution;
+
+        /** The number of students that gave each post-assessment answer */
+        Map<Integer, Integer> postDistribution;
+
+    }
+
+    /**
+     * The statistics of the whole assessments of a group of students.
+     */
+    @Value
+    public static class GroupStatistics {
+
+        /** The grade, teacher role ID or mentor role ID of the group */
+        String key;
+
+        /** The number of pre-assessments */
+        int preStudents;
+
+        /** The number of post-assessments */
+        int postStudents;
+
+        /** The mean pre-assessment score or null if there is none */
+        Double preMean;
+
+        /** The mean post-assessment score or null if there is none */
+        Double postMean;
+
+        /** The change in the mean score or null if either mean is missing */
+        Double delta;
+
+        static GroupStatistics of(String key, Map<Phase, Counts> phases) {
+            Counts pre = phases.getOrDefault(Phase.PRE, new Counts());
+            Counts post = phases.getOrDefault(Phase.POST, new Counts());
+            Double preMean = pre.scoreMean();
+            Double postMean = post.scoreMean();
+            return new GroupStatistics(key, pre.studentCount, post.studentCount, preMean, postMean,
+                    delta(preMean, postMean));
+        }
+
+    }
+
+    /**
+     * The combined counts of one phase of a group.
+     */
+    private static class Counts {
+
+        private int studentCount;
+
+        private final Map<Integer, Map<Integer, Integer>> answerCounts = new TreeMap<>();
+
+        void add(AssessmentSummary summary) {
+            studentCount += summary.getStudentCount();
+            summary.getAnswerCounts().forEach((question, counts) -> counts.forEach((answer, count) ->
+                    answerCounts.computeIfAbsent(question, q -> new TreeMap<>()).merge(answer, count, Integer::sum)));
+        }
+
+        Double mean(int question) {
+            Map<Integer, Integer> counts = answerCounts.get(question);
+            if (counts == null) {
+                return null;
+            }
+            long total = 0;
+            long answers = 0;
+            for (Map.Entry<Integer, Integer> count : counts.entrySet()) {
+                total += (long) count.getKey() * count.getValue();
+                answers += count.getValue();
+            }
+            return answers == 0 ? null : (double) total / answers;
+        }
+
+        Double scoreMean() {
+            return answerCounts.isEmpty() ? null : answerCounts.keySet().stream()
+                    .map(this::mean)
+                    .collect(Collectors.summingDouble(Double::doubleValue));
+        }
+
+    }
+
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.analytics.service;
+
+import io.aiontechnology.mentorsuccess.entity.AssessmentSummary;
+import io.aiontechnology.mentorsuccess.entity.AssessmentSummary.Dimension;
+import io.aiontechnology.mentorsuccess.entity.AssessmentSummary.Phase;
+import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.SchoolSession;
+import io.aiontechnology.mentorsuccess.entity.StudentSchoolSession;
+import io.aiontechnology.mentorsuccess.feature.analytics.model.AssessmentStatistics;
+import io.aiontechnology.mentorsuccess.repository.AssessmentSummaryRepository;
+import io.aiontechnology.mentorsuccess.repository.SchoolSessionRepository;
+import io.aiontechnology.mentorsuccess.repository.StudentSchoolSessionRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Service that keeps the {@link AssessmentSummary AssessmentSummaries} of school sessions up to date and derives
+ * statistics from them. The assessments of active students are counted in the summary of their session and in those
+ * of the grade, teacher and mentor the student has. Every change to the answers, the active flag, the grade, the
+ * teacher or the mentor of a student is made through {@link #recordChange(StudentSchoolSession, Runnable)}, which
+ * moves the student's assessments between the groups. The groups an assessment is counted in are kept with it, so it
+ * is always removed from the groups that counted it.
+ * <p>
+ * Statistics are only read from the stored summaries. Sessions whose assessments were stored before the summaries
+ * existed are summarized from their students by {@link AssessmentSummaryMigration}, or by their first change. A
+ * session is summarized under a lock on its row so that concurrent first writers do not both summarize it.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AssessmentStatisticsService {
+
+    // Repositories
+    private final AssessmentSummaryRepository assessmentSummaryRepository;
+    private final SchoolSessionRepository schoolSessionRepository;
+    private final StudentSchoolSessionRepository studentSchoolSessionRepository;
+
+    /**
+     * Get the statistics of all the sessions of a school.
+     *
+     * @param school The school.
+     * @return The statistics.
+     */
+    public AssessmentStatistics getSchoolStatistics(School school) {
+        return AssessmentStatistics.of(assessmentSummaryRepository.findBySchoolId(school.getId()));
+    }
+
+    /**
+     * Get the statistics of a school session.
+     *
+     * @param schoolSession The school session.
+     * @return The statistics.
+     */
+    public AssessmentStatistics getSessionStatistics(SchoolSession schoolSession) {
+        return AssessmentStatistics.of(assessmentSummaryRepository.findBySchoolSessionId(schoolSession.getId()));
+    }
+
+    /**
+     * Apply a change to a student school session and update the summaries. For each phase, the assessment is removed
+     * from the groups it was counted in and counted again in the student's current groups if the student is still
+     * active.
+     *
+     * @param studentSchoolSession The student school session to change.
+     * @param update Changes the answers, the active flag, the grade, the teacher or the mentor.
+     */
+    @Transactional
+    public void recordChange(StudentSchoolSession studentSchoolSession, Runnable update) {
+        ensureSummarized(studentSchoolSession.getSchoolSession());
+        Map<Phase, List<Integer>> previousAnswers = new EnumMap<>(Phase.class);
+        Map<Phase, Map<Dimension, String>> previousGroups = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            previousAnswers.put(phase, phase.answers(studentSchoolSession));
+            previousGroups.put(phase, phase.summaryGroups(studentSchoolSession));
+        }
+        update.run();
+        for (Phase phase : Phase.values()) {
+            recount(studentSchoolSession, phase, previousAnswers.get(phase), previousGroups.get(phase));
+        }
+    }
+
+    /**
+     * Summarize a school session from its students if it has no summaries yet.
+     *
+     * @param schoolSession The school session.
+     */
+    @Transactional
+    public void summarizeIfMissing(SchoolSession schoolSession) {
+        ensureSummarized(schoolSession);
+    }
+
+    private void ensureSummarized(SchoolSession schoolSession) {
+        if (!assessmentSummaryRepository.existsBySchoolSessionId(schoolSession.getId())) {
+            lock(schoolSession);
+            if (!assessmentSummaryRepository.existsBySchoolSessionId(schoolSession.getId())) {
+                summarize(schoolSession);
+            }
+        }
+    }
+
+    private AssessmentSummary findOrCreate(SchoolSession schoolSession, Phase phase, Dimension dimension,
+            String key) {
+        return assessmentSummaryRepository.findForUpdate(schoolSession.getId(), phase, dimension, key)
+                .orElseGet(() -> {
+                    lock(schoolSession);
+                    return assessmentSummaryRepository.findForUpdate(schoolSession.getId(), phase, dimension, key)
+                            .orElseGet(() -> assessmentSummaryRepository.save(new AssessmentSummary(
+                                    schoolSession.getSchool().getId(), schoolSession.getId(), phase, dimension,
+                                    key)));
+                });
+    }
+
+    private static Map<Dimension, String> groupKeys(StudentSchoolSession studentSchoolSession) {
+        Map<Dimension, String> keys = new EnumMap<>(Dimension.class);
+        keys.put(Dimension.SESSION, AssessmentSummary.SESSION_KEY);
+        if (studentSchoolSession.getGrade() != null) {
+            keys.put(Dimension.GRADE, studentSchoolSession.getGrade().toString());
+        }
+        if (studentSchoolSession.getTeacher() != null) {
+            keys.put(Dimension.TEACHER, studentSchoolSession.getTeacher().getId().toString());
+        }
+        if (studentSchoolSession.getMentor() != null) {
+            keys.put(Dimension.MENTOR, studentSchoolSession.getMentor().getId().toString());
+        }
+        return keys;
+    }
+
+    private static String groupId(Phase phase, Dimension dimension, String key) {
+        return phase + ":" + dimension + ":" + key;
+    }
+
+    private static boolean isAnswered(List<Integer> answers) {
+        return answers.stream().anyMatch(Objects::nonNull);
+    }
+
+    /**
+     * Only the assessments of active students are counted, as when a session is first summarized.
+     */
+    private static boolean isCounted(StudentSchoolSession studentSchoolSession, List<Integer> answers) {
+        return Boolean.TRUE.equals(studentSchoolSession.getIsActive()) && isAnswered(answers);
+    }
+
+    /**
+     * Lock the school session until the end of the transaction. Once the lock is held, summaries created by another
+     * transaction that held it before are visible.
+     */
+    private void lock(SchoolSession schoolSession) {
+        schoolSessionRepository.findForUpdate(schoolSession.getId());
+    }
+
+    private void recount(StudentSchoolSession studentSchoolSession, Phase phase, List<Integer> previous,
+            Map<Dimension, String> previousGroups) {
+        SchoolSession schoolSession = studentSchoolSession.getSchoolSession();
+        List<Integer> current = phase.answers(studentSchoolSession);
+        Map<Dimension, String> currentGroups = isCounted(studentSchoolSession, current)
+                ? groupKeys(studentSchoolSession)
+                : null;
+        if (previous.equals(current) && Objects.equals(previousGroups, currentGroups)) {
+            return;
+        }
+        if (previousGroups != null) {
+            previousGroups.forEach((dimension, key) ->
+                    findOrCreate(schoolSession, phase, dimension, key).remove(previous));
+        }
+        if (currentGroups != null) {
+            currentGroups.forEach((dimension, key) ->
+                    findOrCreate(schoolSession, phase, dimension, key).add(current));
+        }
+        phase.setSummaryGroups(studentSchoolSession, currentGroups);
+    }
+
+    private void summarize(SchoolSession schoolSession) {
+        UUID schoolId = schoolSession.getSchool().getId();
+        Map<String, AssessmentSummary> summaries = new HashMap<>();
+        // The session summaries always exist so that an empty session is only summarized once
+        for (Phase phase : Phase.values()) {
+            summaries.put(groupId(phase, Dimension.SESSION, AssessmentSummary.SESSION_KEY), new AssessmentSummary(
+                    schoolId, schoolSession.getId(), phase, Dimension.SESSION, AssessmentSummary.SESSION_KEY));
+        }
+        List<StudentSchoolSession> studentSchoolSessions =
+                studentSchoolSessionRepository.findActiveWithTeacher(schoolSession);
+        for (StudentSchoolSession studentSchoolSession : studentSchoolSessions) {
+            Map<Dimension, String> keys = groupKeys(studentSchoolSession);
+            for (Phase phase : Phase.values()) {
+                List<Integer> answers = phase.answers(studentSchoolSession);
+                if (isCounted(studentSchoolSession, answers)) {
+                    keys.forEach((dimension, key) -> summaries
+                            .computeIfAbsent(groupId(phase, dimension, key), id -> new AssessmentSummary(
+                                    schoolId, schoolSession.getId(), phase, dimension, key))
+                            .add(answers));
+                    phase.setSummaryGroups(studentSchoolSession, new EnumMap<>(keys));
+                } else {
+                    phase.setSummaryGroups(studentSchoolSession, null);
+                }
+            }
+        }
+        assessmentSummaryRepository.saveAll(new ArrayList<>(summaries.values()));
+        log.info("Summarized the assessments of {} students in school session {}", studentSchoolSessions.size(),
+                schoolSession.getId());
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.analytics.service;
+
+import io.aiontechnology.mentorsuccess.entity.SchoolSession;
+import io.aiontechnology.mentorsuccess.feature.migration.DataMigrationSupport;
+import io.aiontechnology.mentorsuccess.repository.DataMigrationRepository;
+import io.aiontechnology.mentorsuccess.repository.SchoolSessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Summarizes the assessments of every school session that has no summaries yet. Each session is summarized in its own
+ * transaction, so a failure is logged and the remaining sessions are still summarized.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Component
+@ConditionalOnProperty(DataMigrationSupport.ENABLED_PROPERTY)
+@Slf4j
+public class AssessmentSummaryMigration extends DataMigrationSupport {
+
+    private final AssessmentStatisticsService assessmentStatisticsService;
+    private final SchoolSessionRepository schoolSessionRepository;
+
+    public AssessmentSummaryMigration(DataMigrationRepository dataMigrationRepository,
+            AssessmentStatisticsService assessmentStatisticsService, SchoolSessionRepository schoolSessionRepository) {
+        super(dataMigrationRepository, "assessment-summaries");
+        this.assessmentStatisticsService = assessmentStatisticsService;
+        this.schoolSessionRepository = schoolSessionRepository;
+    }
+
+    @Override
+    protected boolean migrate() {
+        int failed = 0;
+        for (SchoolSession schoolSession : schoolSessionRepository.findAll()) {
+            try {
+                assessmentStatisticsService.summarizeIfMissing(schoolSession);
+            } catch (RuntimeException e) {
+                log.warn("Unable to summarize the assessments of school session {}", schoolSession.getId(), e);
+                failed++;
+            }
+        }
+        return failed == 0;
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.migration;
+
+import io.aiontechnology.mentorsuccess.entity.DataMigration;
+import io.aiontechnology.mentorsuccess.repository.DataMigrationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.time.Instant;
+
+/**
+ * Base class for one-time data migrations that run at startup. A migration is recorded in the data_migration table
+ * when it completes without failures and is skipped from then on. A migration with failures is run again on the next
+ * start.
+ * <p>
+ * Migrations are only created when mentorsuccess.data-migration.enabled is set. It should be set on a single node so
+ * that two nodes never migrate the same rows at the same time.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Slf4j
+public abstract class DataMigrationSupport implements ApplicationRunner {
+
+    /** The property that enables the data migrations */
+    public static final String ENABLED_PROPERTY = "mentorsuccess.data-migration.enabled";
+
+    private final DataMigrationRepository dataMigrationRepository;
+    private final String name;
+
+    protected DataMigrationSupport(DataMigrationRepository dataMigrationRepository, String name) {
+        this.dataMigrationRepository = dataMigrationRepository;
+        this.name = name;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (dataMigrationRepository.existsById(name)) {
+            log.debug("Data migration {} has already completed", name);
+            return;
+        }
+        if (migrate()) {
+            dataMigrationRepository.save(new DataMigration(name, Instant.now()));
+            log.info("Completed data migration {}", name);
+        } else {
+            log.warn("Data migration {} had failures and will be run again on the next start", name);
+        }
+    }
+
+    /**
+     * Migrate the data. Failures of individual items should be logged rather than thrown so that the remaining items
+     * are still migrated.
+     *
+     * @return True if every item was migrated.
+     */
+    protected abstract boolean migrate();
+
+}
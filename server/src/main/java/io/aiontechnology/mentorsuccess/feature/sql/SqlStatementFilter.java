@@ -0,0 +1,112 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Opens a {@link SqlStatementScope} around each HTTP request and records its statements tagged by the handler method
+ * that served the request. When enabled, the number of statements issued before the response is committed is
+ * returned in the {@value #SQL_COUNT_HEADER} header.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Component
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    /** The response header that carries the number of statements */
+    public static final String SQL_COUNT_HEADER = "X-Sql-Count";
+
+    private final SqlStatementRecorder recorder;
+
+    /** True if the statement count should be returned to the client */
+    private final boolean responseHeader;
+
+    public SqlStatementFilter(SqlStatementRecorder recorder,
+            @Value("${mentorsuccess.sql-statistics.response-header:false}") boolean responseHeader) {
+        this.recorder = recorder;
+        this.responseHeader = responseHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementScope scope = SqlStatementScope.open(SqlStatementRecorder.UNKNOWN_HANDLER);
+        try {
+            if (responseHeader) {
+                SqlCountResponseWrapper wrapper = new SqlCountResponseWrapper(response, scope);
+                filterChain.doFilter(request, wrapper);
+                wrapper.addSqlCount();
+            } else {
+                filterChain.doFilter(request, response);
+            }
+        } finally {
+            scope.close();
+            scope.setLabel(getHandlerName(request));
+            recorder.record(SqlStatementRecorder.KIND_HTTP, scope);
+        }
+    }
+
+    private static String getHandlerName(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            return handler.getBeanType().getSimpleName() + "#" + handler.getMethod().getName();
+        }
+        return SqlStatementRecorder.UNKNOWN_HANDLER;
+    }
+
+    /**
+     * Adds the statement count header just before the response is committed, after which headers can no longer be
+     * set.
+     */
+    private static class SqlCountResponseWrapper extends OnCommittedResponseWrapper {
+
+        private final SqlStatementScope scope;
+
+        private boolean added;
+
+        SqlCountResponseWrapper(HttpServletResponse response, SqlStatementScope scope) {
+            super(response);
+            this.scope = scope;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            addSqlCount();
+        }
+
+        void addSqlCount() {
+            if (!added && !isCommitted()) {
+                added = true;
+                setHeader(SQL_COUNT_HEADER, String.valueOf(scope.getCount()));
+            }
+        }
+
+    }
+
+}
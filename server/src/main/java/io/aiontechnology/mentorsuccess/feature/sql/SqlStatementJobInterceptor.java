@@ -0,0 +1,53 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.flowable.common.engine.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.job.service.impl.cmd.ExecuteAsyncRunnableJobCmd;
+
+/**
+ * A Flowable command interceptor that opens a {@link SqlStatementScope} around the execution of each asynchronous
+ * job. The scope is labelled by {@link SqlStatementJobListener} once the job has run. Other commands pass straight
+ * through.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@RequiredArgsConstructor
+public class SqlStatementJobInterceptor extends AbstractCommandInterceptor {
+
+    private final SqlStatementRecorder recorder;
+
+    @Override
+    public <T> T execute(CommandConfig config, Command<T> command, CommandExecutor commandExecutor) {
+        if (!(command instanceof ExecuteAsyncRunnableJobCmd)) {
+            return next.execute(config, command, commandExecutor);
+        }
+        SqlStatementScope scope = SqlStatementScope.open(SqlStatementRecorder.UNKNOWN_HANDLER);
+        try {
+            return next.execute(config, command, commandExecutor);
+        } finally {
+            scope.close();
+            recorder.record(SqlStatementRecorder.KIND_JOB, scope);
+        }
+    }
+
+}
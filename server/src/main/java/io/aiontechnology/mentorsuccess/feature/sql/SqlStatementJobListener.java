@@ -0,0 +1,66 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.sql;
+
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEntityEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.delegate.event.AbstractFlowableEngineEventListener;
+import org.flowable.job.api.Job;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Labels the {@link SqlStatementScope} of a running Flowable job with the process definition key and the activity
+ * that the job belongs to, so that job metrics can be told apart.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Component
+public class SqlStatementJobListener extends AbstractFlowableEngineEventListener {
+
+    public SqlStatementJobListener() {
+        super(Set.of(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, FlowableEngineEventType.JOB_EXECUTION_FAILURE));
+    }
+
+    @Override
+    public boolean isFailOnException() {
+        return false;
+    }
+
+    @Override
+    protected void jobExecutionFailure(FlowableEngineEntityEvent event) {
+        label(event);
+    }
+
+    @Override
+    protected void jobExecutionSuccess(FlowableEngineEntityEvent event) {
+        label(event);
+    }
+
+    private static void label(FlowableEngineEntityEvent event) {
+        if (event.getEntity() instanceof Job job) {
+            String definition = event.getProcessDefinitionId() != null
+                    ? event.getProcessDefinitionId().split(":")[0]
+                    : job.getJobHandlerType();
+            String element = job.getElementId() != null ? job.getElementId() : job.getJobHandlerType();
+            SqlStatementScope.current().ifPresent(scope -> scope.setLabel(definition + "#" + element));
+        }
+    }
+
+}
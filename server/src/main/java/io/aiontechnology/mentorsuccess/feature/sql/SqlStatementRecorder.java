@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the statements collected by a closed {@link SqlStatementScope} as metrics and warns about statements that
+ * were repeated often enough to suggest an N+1 select.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Component
+@Slf4j
+public class SqlStatementRecorder {
+
+    /** The kind of scope that covers an HTTP request */
+    public static final String KIND_HTTP = "http";
+
+    /** The kind of scope that covers a Flowable job */
+    public static final String KIND_JOB = "job";
+
+    /** The label used when the handler of a scope is not known */
+    public static final String UNKNOWN_HANDLER = "unknown";
+
+    private final MeterRegistry meterRegistry;
+
+    /** The number of times a statement may be issued in one scope before it is reported */
+    private final int repeatThreshold;
+
+    public SqlStatementRecorder(MeterRegistry meterRegistry,
+            @Value("${mentorsuccess.sql-statistics.repeat-threshold:10}") int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    /**
+     * Record the statements of a scope.
+     *
+     * @param kind The kind of work the scope covered.
+     * @param scope The closed scope.
+     */
+    public void record(String kind, SqlStatementScope scope) {
+        String handler = scope.getLabel() != null ? scope.getLabel() : UNKNOWN_HANDLER;
+        Tags tags = Tags.of("kind", kind, "handler", handler);
+        DistributionSummary.builder("mentorsuccess.sql.statements")
+                .description("The number of SQL statements issued per request or job")
+                .baseUnit("statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(scope.getCount());
+        Timer.builder("mentorsuccess.sql.time")
+                .description("The time spent executing SQL statements per request or job")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(scope.getJdbcNanos(), TimeUnit.NANOSECONDS);
+        scope.getRepeatedStatements(repeatThreshold).forEach((sql, times) ->
+                log.warn("Possible N+1 select in {}: statement issued {} times: {}", handler, times, sql));
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.sql;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Collects the SQL statements Hibernate issues on the current thread while a unit of work such as an HTTP request or
+ * a Flowable job runs. Scopes nest: when an inner scope is closed its statements are added to the scope around it.
+ * Statements issued when no scope is open are not counted.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+public final class SqlStatementScope implements AutoCloseable {
+
+    private static final ThreadLocal<SqlStatementScope> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatementScope parent;
+
+    /** The number of times each distinct statement was issued */
+    private final Map<String, Integer> statements = new HashMap<>();
+
+    private String label;
+    private int count;
+    private long jdbcNanos;
+    private boolean closed;
+
+    private SqlStatementScope(SqlStatementScope parent, String label) {
+        this.parent = parent;
+        this.label = label;
+    }
+
+    /**
+     * Open a scope on the current thread. The scope must be closed on the same thread.
+     *
+     * @param label What the scope covers, used to tag its metrics. May be changed until the scope is closed.
+     * @return The new scope.
+     */
+    public static SqlStatementScope open(String label) {
+        SqlStatementScope scope = new SqlStatementScope(CURRENT.get(), label);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Get the innermost scope open on the current thread.
+     *
+     * @return The scope if one is open.
+     */
+    public static Optional<SqlStatementScope> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    static void recordStatement(String sql) {
+        SqlStatementScope scope = CURRENT.get();
+        if (scope != null) {
+            scope.count++;
+            scope.statements.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    static void recordJdbcTime(long nanos) {
+        SqlStatementScope scope = CURRENT.get();
+        if (scope != null) {
+            scope.jdbcNanos += nanos;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (parent != null) {
+            parent.count += count;
+            parent.jdbcNanos += jdbcNanos;
+            statements.forEach((sql, times) -> parent.statements.merge(sql, times, Integer::sum));
+            CURRENT.set(parent);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Get the statements that were issued at least the given number of times, which usually means a lazy association
+     * is being loaded once per element of a collection.
+     *
+     * @param threshold The minimum number of times a statement must have been issued.
+     * @return The repeated statements and the number of times each was issued.
+     */
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        if (count < threshold) {
+            return Collections.emptyMap();
+        }
+        Map<String, Integer> repeated = new HashMap<>();
+        statements.forEach((sql, times) -> {
+            if (times >= threshold) {
+                repeated.put(sql, times);
+            }
+        });
+        return repeated;
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.sql;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the time spent executing JDBC statements and batches to the {@link SqlStatementScope} open on the current
+ * thread. Hibernate creates one listener per session.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+public class SqlStatementSessionListener implements SessionEventListener {
+
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementScope.recordJdbcTime(System.nanoTime() - executionStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementScope.recordJdbcTime(System.nanoTime() - executionStart);
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.workflow.assembler;
+
+import io.aiontechnology.mentorsuccess.api.assembler.AssemblerSupport;
+import io.aiontechnology.mentorsuccess.feature.workflow.controller.PostAssessmentWorkflowInitiateController;
+import io.aiontechnology.mentorsuccess.feature.workflow.model.PostAssessmentJob;
+import io.aiontechnology.mentorsuccess.resource.PostAssessmentJobResource;
+import org.springframework.hateoas.Link;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static io.aiontechnology.mentorsuccess.api.assembler.LinkTemplates.linkTo;
+
+public class PostAssessmentJobAssembler extends AssemblerSupport<PostAssessmentJob, PostAssessmentJobResource> {
+
+    @Override
+    protected Optional<PostAssessmentJobResource> doMap(PostAssessmentJob job) {
+        return Optional.ofNullable(job).map(PostAssessmentJobResource::new);
+    }
+
+    @Override
+    protected Set<Link> getLinks(PostAssessmentJobResource model) {
+        PostAssessmentJob job = model.getContent();
+        return Set.of(
+                linkTo(PostAssessmentWorkflowInitiateController.class, job.getSchoolId())
+                        .slash("jobs")
+                        .slash(job.getId())
+                        .withSelfRel()
+        );
+    }
+
+}
@@ -29,10 +29,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
+import static io.aiontechnology.mentorsuccess.api.assembler.LinkTemplates.linkTo;
 import static io.aiontechnology.mentorsuccess.feature.workflow.WorkflowKeys.POST_ASSESSMENT;
 import static io.aiontechnology.mentorsuccess.feature.workflow.WorkflowKeys.SCHOOL;
 import static io.aiontechnology.mentorsuccess.feature.workflow.WorkflowKeys.STUDENT;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 
 public class PostAssessmentWorkflowAssembler extends AssemblerSupport<PostAssessmentWorkflow,
         PostAssessmentWorkflowResource> {
@@ -16,14 +16,19 @@
 
 package io.aiontechnology.mentorsuccess.feature.workflow.controller;
 
-import io.aiontechnology.mentorsuccess.feature.workflow.process.assessment.PostAssessmentInitiatingConsumer;
+import io.aiontechnology.mentorsuccess.api.assembler.Assembler;
+import io.aiontechnology.mentorsuccess.api.error.NotFoundException;
+import io.aiontechnology.mentorsuccess.feature.workflow.model.PostAssessmentJob;
+import io.aiontechnology.mentorsuccess.feature.workflow.service.PostAssessmentJobService;
 import io.aiontechnology.mentorsuccess.feature.workflow.translation.IdToSchoolFunction;
 import io.aiontechnology.mentorsuccess.feature.workflow.translation.SchoolToCurrentSessionFunction;
 import io.aiontechnology.mentorsuccess.model.inbound.InboundPostAssessment;
+import io.aiontechnology.mentorsuccess.resource.PostAssessmentJobResource;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -35,7 +40,7 @@ import java.net.URI;
 import java.util.Optional;
 import java.util.UUID;
 
-import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.ACCEPTED;
 
 /**
  * Controller for interacting with student assessments.
@@ -46,26 +51,52 @@ import static org.springframework.http.HttpStatus.CREATED;
 @Slf4j
 public class PostAssessmentWorkflowInitiateController {
 
+    // Assemblers
+    private final Assembler<PostAssessmentJob, PostAssessmentJobResource> postAssessmentJobAssembler;
+
     // Services
     private final IdToSchoolFunction getSchoolFromId;
-    private final PostAssessmentInitiatingConsumer initiatePostAssessments;
+    private final PostAssessmentJobService postAssessmentJobService;
     private final SchoolToCurrentSessionFunction getCurrentSessionFromSchool;
 
     /**
-     * Request post assessments for all students at the given school in the current session.
+     * Request post assessments for all students at the given school in the current session. The processes are started
+     * in the background and the returned job reports their progress.
      *
      * @param schoolId The ID of the desired school.
+     * @param inboundPostAssessment Information about the post assessment.
+     * @return The job that starts the post assessments.
      */
     @PostMapping
-    @ResponseStatus(CREATED)
+    @ResponseStatus(ACCEPTED)
     @PreAuthorize("hasAuthority('school:update')")
-    public void initiatePostAssessmentsForSchool(@PathVariable("schoolId") UUID schoolId,
+    public PostAssessmentJobResource initiatePostAssessmentsForSchool(@PathVariable("schoolId") UUID schoolId,
             @RequestBody @Valid InboundPostAssessment inboundPostAssessment) {
-        Optional.ofNullable(schoolId)
+        var currentSession = Optional.ofNullable(schoolId)
                 .map(getSchoolFromId)
-                .map(getCurrentSessionFromSchool)
-                .ifPresent(currentSession -> initiatePostAssessments.accept(currentSession,
-                        URI.create(inboundPostAssessment.getPostAssessmentUri())));
+                .flatMap(getCurrentSessionFromSchool)
+                .orElseThrow(() -> new NotFoundException("No current session found for school with ID: " + schoolId));
+        var job = postAssessmentJobService.launch(schoolId, currentSession.getId(),
+                URI.create(inboundPostAssessment.getPostAssessmentUri()));
+        return postAssessmentJobAssembler.map(job)
+                .orElseThrow(() -> new IllegalStateException("Unable to create post assessment job resource"));
+    }
+
+    /**
+     * Get the progress of a post assessment job.
+     *
+     * @param schoolId The ID of the desired school.
+     * @param jobId The ID of the job.
+     * @return The job.
+     */
+    @GetMapping("/jobs/{jobId}")
+    @PreAuthorize("hasAuthority('school:update')")
+    public PostAssessmentJobResource getPostAssessmentJob(@PathVariable("schoolId") UUID schoolId,
+            @PathVariable("jobId") UUID jobId) {
+        return postAssessmentJobService.findJob(jobId)
+                .filter(job -> job.getSchoolId().equals(schoolId))
+                .flatMap(postAssessmentJobAssembler::map)
+                .orElseThrow(() -> new NotFoundException("Post assessment job could not be found with ID: " + jobId));
     }
 
 }
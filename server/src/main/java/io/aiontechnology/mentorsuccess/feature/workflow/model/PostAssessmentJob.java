@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.workflow.model;
+
+import io.aiontechnology.mentorsuccess.model.Identifiable;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progress of a background job that starts post-assessment processes for every student in a school session. The
+ * counters are updated by the job thread and read by status requests, so they are kept in atomics.
+ */
+@Getter
+public class PostAssessmentJob implements Identifiable<UUID> {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    private final UUID id = UUID.randomUUID();
+
+    private final UUID schoolId;
+
+    private final UUID schoolSessionId;
+
+    private final Instant createdAt = Instant.now();
+
+    private volatile Status status = Status.RUNNING;
+
+    private volatile int total;
+
+    private volatile Instant completedAt;
+
+    private final AtomicInteger started = new AtomicInteger();
+
+    private final AtomicInteger skipped = new AtomicInteger();
+
+    private final AtomicInteger failed = new AtomicInteger();
+
+    public PostAssessmentJob(UUID schoolId, UUID schoolSessionId) {
+        this.schoolId = schoolId;
+        this.schoolSessionId = schoolSessionId;
+    }
+
+    public void complete() {
+        finish(Status.COMPLETED);
+    }
+
+    public void fail() {
+        finish(Status.FAILED);
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    public int getSkipped() {
+        return skipped.get();
+    }
+
+    public int getStarted() {
+        return started.get();
+    }
+
+    public void recordFailed() {
+        failed.incrementAndGet();
+    }
+
+    public void recordSkipped() {
+        skipped.incrementAndGet();
+    }
+
+    public void recordStarted() {
+        started.incrementAndGet();
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    private void finish(Status status) {
+        this.completedAt = Instant.now();
+        this.status = status;
+    }
+
+}
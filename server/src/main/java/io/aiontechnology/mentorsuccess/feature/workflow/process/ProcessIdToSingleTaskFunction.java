@@ -35,8 +35,7 @@ public class ProcessIdToSingleTaskFunction implements Function<UUID, Optional<Ta
 
     public Optional<Task> apply(UUID processId) {
         TaskQuery query = taskService.createTaskQuery()
-                .processInstanceId(processId.toString())
-                .includeProcessVariables();
+                .processInstanceId(processId.toString());
         var tasks = query.list();
         if (tasks.size() > 1) {
             throw new IllegalStateException("Found more than one task for process ID: " + processId);
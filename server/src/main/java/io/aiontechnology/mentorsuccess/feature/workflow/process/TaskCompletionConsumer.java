@@ -46,8 +46,7 @@ public class TaskCompletionConsumer implements BiConsumer<UUID, Map<String, Obje
 
     private TaskQuery createTaskQuery(UUID processId) {
         return taskService.createTaskQuery()
-                .processInstanceId(processId.toString())
-                .includeProcessVariables();
+                .processInstanceId(processId.toString());
     }
 
     private void processTaskCompletion(UUID processId, Map<String, Object> variables) {
@@ -18,6 +18,7 @@ package io.aiontechnology.mentorsuccess.feature.workflow.process.assessment;
 
 import io.aiontechnology.mentorsuccess.feature.workflow.velocity.PostAssessmentCompleteEmailGenerator;
 import io.aiontechnology.mentorsuccess.model.inbound.student.InboundStudentAssessment;
+import io.aiontechnology.mentorsuccess.velocity.VelocityGenerationStrategyRegistry;
 import io.aiontechnology.mentorsuccess.workflow.ProgramAdministratorEmailGeneratorSupport;
 import io.aiontechnology.mentorsuccess.workflow.TaskUtilities;
 import lombok.extern.slf4j.Slf4j;
@@ -28,8 +29,9 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class PostAssessmentCompleteEmailGenerationTask extends ProgramAdministratorEmailGeneratorSupport {
 
-    public PostAssessmentCompleteEmailGenerationTask(TaskUtilities taskUtilities) {
-        super(taskUtilities);
+    public PostAssessmentCompleteEmailGenerationTask(TaskUtilities taskUtilities,
+            VelocityGenerationStrategyRegistry strategyRegistry) {
+        super(taskUtilities, strategyRegistry);
     }
 
     @Override
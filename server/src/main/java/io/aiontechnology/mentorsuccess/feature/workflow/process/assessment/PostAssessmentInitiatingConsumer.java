@@ -17,77 +17,152 @@
 package io.aiontechnology.mentorsuccess.feature.workflow.process.assessment;
 
 import io.aiontechnology.mentorsuccess.entity.SchoolSession;
-import io.aiontechnology.mentorsuccess.entity.Student;
 import io.aiontechnology.mentorsuccess.entity.StudentSchoolSession;
-import io.aiontechnology.mentorsuccess.feature.workflow.translation.SessionToStudentsFunction;
-import io.aiontechnology.mentorsuccess.feature.workflow.translation.StudentToCurrentTeacherFunction;
-import lombok.RequiredArgsConstructor;
+import io.aiontechnology.mentorsuccess.feature.workflow.model.PostAssessmentJob;
+import io.aiontechnology.mentorsuccess.repository.SchoolSessionRepository;
+import io.aiontechnology.mentorsuccess.repository.StudentSchoolSessionRepository;
+import io.aiontechnology.mentorsuccess.workflow.ProcessBusinessKey;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import org.flowable.engine.RuntimeService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.net.URI;
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.function.BiConsumer;
-import java.util.function.Predicate;
 
 import static io.aiontechnology.mentorsuccess.feature.workflow.WorkflowKeys.PROCESS_TIMEOUT_VALUE;
 import static io.aiontechnology.mentorsuccess.feature.workflow.WorkflowKeys.REQUEST_POST_ASSESSMENT_PROCESS_KEY;
 
 /**
- * Executes the post-assessment initiation process for a school session and base URI.
+ * Executes the post-assessment initiation process for the school session of a job. Runs in the background and starts
+ * the processes in chunks, each chunk in its own transaction. If a chunk fails its processes are started one at a
+ * time so that a single bad student does not prevent the others from being started.
  */
 @Component
-@RequiredArgsConstructor
-public class PostAssessmentInitiatingConsumer implements BiConsumer<Optional<SchoolSession>, URI> {
+@Slf4j
+public class PostAssessmentInitiatingConsumer implements BiConsumer<PostAssessmentJob, URI> {
 
     // Services
-    private final PostAssessmentProcessFindingPredicate isProcessRunning;
+    private final PostAssessmentRunningStudentsFunction getStudentsWithRunningProcess;
     private final PostAssessmentVariableCreator createFlowableVariables;
     private final RuntimeService runtimeService;
-    private final SessionToStudentsFunction getStudentsForSession;
-    private final StudentToCurrentTeacherFunction getCurrentTeacherForStudentAndSession;
+    private final SchoolSessionRepository schoolSessionRepository;
+    private final StudentSchoolSessionRepository studentSchoolSessionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /** The number of processes started in a single transaction */
+    private final int chunkSize;
+
+    public PostAssessmentInitiatingConsumer(PostAssessmentRunningStudentsFunction getStudentsWithRunningProcess,
+            PostAssessmentVariableCreator createFlowableVariables, RuntimeService runtimeService,
+            SchoolSessionRepository schoolSessionRepository,
+            StudentSchoolSessionRepository studentSchoolSessionRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${mentorsuccess.post-assessment.chunk-size:50}") int chunkSize) {
+        this.getStudentsWithRunningProcess = getStudentsWithRunningProcess;
+        this.createFlowableVariables = createFlowableVariables;
+        this.runtimeService = runtimeService;
+        this.schoolSessionRepository = schoolSessionRepository;
+        this.studentSchoolSessionRepository = studentSchoolSessionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
 
     /**
-     * Executes the post-assessment  process for a school session and base URI if the process is not currently running.
+     * Executes the post-assessment process for every student in the job's school session that does not already have
+     * a post-assessment and for which the process is not currently running.
      *
-     * @param session The current school session.
+     * @param job The job that tracks the progress.
      * @param baseUri The base URI for links.
      */
+    @Async
     @Override
-    public void accept(Optional<SchoolSession> session, URI baseUri) {
-        Predicate<Optional<Student>> noProcessRunning = student -> !isProcessRunning.test(student, session);
-        Predicate<Optional<Student>> noPostAssessment = student -> !testPostAssessment(student, session);
-        getStudentsForSession(session).stream()
-                .map(Optional::of)
-                .filter(noProcessRunning)
-                .filter(noPostAssessment)
-                .forEach(student -> startProcess(student, session, baseUri));
+    public void accept(PostAssessmentJob job, URI baseUri) {
+        try {
+            var pending = transactionTemplate.execute(status -> findPending(job, baseUri));
+            for (int from = 0; from < pending.size(); from += chunkSize) {
+                startChunk(job, pending.subList(from, Math.min(from + chunkSize, pending.size())));
+            }
+            job.complete();
+            log.info("Post-assessment job {} complete: {} started, {} skipped, {} failed", job.getId(),
+                    job.getStarted(), job.getSkipped(), job.getFailed());
+        } catch (RuntimeException e) {
+            job.fail();
+            log.error("Post-assessment job {} failed", job.getId(), e);
+        }
     }
 
-    private Collection<Student> getStudentsForSession(Optional<SchoolSession> session) {
-        return session
-                .map(getStudentsForSession)
+    private List<Pair<String, Map<String, Object>>> findPending(PostAssessmentJob job, URI baseUri) {
+        var session = schoolSessionRepository.findById(job.getSchoolSessionId());
+        var studentSchoolSessions = session
+                .map(studentSchoolSessionRepository::findActiveWithTeacher)
                 .orElse(Collections.emptyList());
+        job.setTotal(studentSchoolSessions.size());
+        Set<UUID> running = session
+                .map(getStudentsWithRunningProcess)
+                .orElse(Collections.emptySet());
+
+        List<Pair<String, Map<String, Object>>> pending = new ArrayList<>();
+        for (StudentSchoolSession studentSchoolSession : studentSchoolSessions) {
+            var studentId = studentSchoolSession.getStudent().getId();
+            if (running.contains(studentId)
+                    || hasPostAssessment(studentSchoolSession)) {
+                job.recordSkipped();
+            } else {
+                var businessKey = new ProcessBusinessKey(job.getSchoolId(), job.getSchoolSessionId(), studentId,
+                        ProcessBusinessKey.Kind.POST_ASSESSMENT);
+                var variables = createVariables(studentSchoolSession, session, baseUri);
+                pending.add(Pair.of(businessKey.toString(), variables));
+            }
+        }
+        return pending;
     }
 
-    private void startProcess(Optional<Student> student, Optional<SchoolSession> session, URI baseUri) {
-        var teacher = getCurrentTeacherForStudentAndSession.apply(Pair.of(student, session));
-        var variables = createFlowableVariables.create(student, session, teacher, baseUri, PROCESS_TIMEOUT_VALUE);
-        runtimeService.startProcessInstanceByKey(REQUEST_POST_ASSESSMENT_PROCESS_KEY, variables);
+    private Map<String, Object> createVariables(StudentSchoolSession studentSchoolSession,
+            Optional<SchoolSession> session, URI baseUri) {
+        return createFlowableVariables.create(Optional.of(studentSchoolSession.getStudent()), session,
+                Optional.ofNullable(studentSchoolSession.getTeacher()), baseUri, PROCESS_TIMEOUT_VALUE);
     }
 
-    private boolean testPostAssessment(Optional<Student> student, Optional<SchoolSession> session) {
-        var currentSession = session.orElseThrow();
-        Integer postAssessment = student
-                .map(s ->
-                        s.findCurrentSessionForStudent(currentSession)
-                                .map(StudentSchoolSession::getPostBehavioralAssessment)
-                                .orElse(null))
-                .orElse(null);
+    private boolean hasPostAssessment(StudentSchoolSession studentSchoolSession) {
+        Integer postAssessment = studentSchoolSession.getPostBehavioralAssessment();
         return postAssessment != null && postAssessment > 0;
     }
 
+    private void startChunk(PostAssessmentJob job, List<Pair<String, Map<String, Object>>> chunk) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> chunk.forEach(this::startProcess));
+            chunk.forEach(process -> job.recordStarted());
+        } catch (RuntimeException e) {
+            log.warn("Unable to start post-assessment chunk for job {}, retrying one at a time", job.getId(), e);
+            chunk.forEach(process -> startSingle(job, process));
+        }
+    }
+
+    private void startProcess(Pair<String, Map<String, Object>> process) {
+        runtimeService.startProcessInstanceByKey(REQUEST_POST_ASSESSMENT_PROCESS_KEY, process.getLeft(),
+                process.getRight());
+    }
+
+    private void startSingle(PostAssessmentJob job, Pair<String, Map<String, Object>> process) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> startProcess(process));
+            job.recordStarted();
+        } catch (RuntimeException e) {
+            job.recordFailed();
+            log.error("Unable to start post-assessment process for job {}", job.getId(), e);
+        }
+    }
+
 }
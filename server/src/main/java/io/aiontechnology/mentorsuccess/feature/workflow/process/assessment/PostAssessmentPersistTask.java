@@ -16,9 +16,9 @@
 
 package io.aiontechnology.mentorsuccess.feature.workflow.process.assessment;
 
-import io.aiontechnology.mentorsuccess.feature.workflow.translation.IdAndSessionToStudent;
-import io.aiontechnology.mentorsuccess.feature.workflow.translation.IdToSchoolFunction;
+import io.aiontechnology.mentorsuccess.feature.analytics.service.AssessmentStatisticsService;
 import io.aiontechnology.mentorsuccess.feature.workflow.translation.SchoolToCurrentSessionFunction;
+import io.aiontechnology.mentorsuccess.service.StudentSchoolSessionService;
 import io.aiontechnology.mentorsuccess.service.StudentService;
 import io.aiontechnology.mentorsuccess.workflow.TaskUtilities;
 import lombok.RequiredArgsConstructor;
@@ -29,7 +29,6 @@ import org.springframework.stereotype.Service;
 
 import java.util.UUID;
 
-import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.SCHOOL_ID;
 import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.STUDENT_ID;
 
 @Service
@@ -37,25 +36,24 @@ import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConst
 @Slf4j
 public class PostAssessmentPersistTask implements JavaDelegate {
 
-    private final IdAndSessionToStudent getStudent;
-    private final IdToSchoolFunction getSchool;
+    private final AssessmentStatisticsService assessmentStatisticsService;
     private final SchoolToCurrentSessionFunction getCurrentSession;
+    private final StudentSchoolSessionService studentSchoolSessionService;
     private final StudentService studentService;
     private final TaskUtilities taskUtilities;
 
     @Override
     public void execute(DelegateExecution execution) {
-        var schoolId = UUID.fromString(taskUtilities.getRequiredVariable(execution, SCHOOL_ID, String.class));
         var studentId = UUID.fromString(taskUtilities.getRequiredVariable(execution, STUDENT_ID, String.class));
 
-        var school = getSchool.apply(schoolId);
-        var currentSession = getCurrentSession.apply(school);
-        var student = getStudent.apply(studentId, currentSession);
-        student.ifPresent(s -> {
-            s.findCurrentSessionForStudent(currentSession.orElseThrow())
-                    .ifPresent(session -> {
-                        taskUtilities.getInboundStudentAssessment(execution)
-                                .ifPresent(studentAssessment -> {
+        var currentSession = getCurrentSession.apply(taskUtilities.getSchool(execution));
+        currentSession
+                .flatMap(schoolSession -> studentSchoolSessionService.findActiveStudentSchoolSession(studentId,
+                        schoolSession))
+                .ifPresent(session -> {
+                    taskUtilities.getInboundStudentAssessment(execution)
+                            .ifPresent(studentAssessment -> {
+                                assessmentStatisticsService.recordChange(session, () -> {
                                     session.setPostQuestion1(studentAssessment.getQuestion1());
                                     session.setPostQuestion2(studentAssessment.getQuestion2());
                                     session.setPostQuestion3(studentAssessment.getQuestion3());
@@ -92,11 +90,10 @@ public class PostAssessmentPersistTask implements JavaDelegate {
                                     session.setPostQuestion34(studentAssessment.getQuestion34());
                                     session.setPostQuestion35(studentAssessment.getQuestion35());
                                     session.setPostBehavioralAssessment(studentAssessment.answerSum());
-                                    studentService.updateStudent(s);
                                 });
-                    });
-
-        });
+                                studentService.updateStudent(session.getStudent());
+                            });
+                });
     }
 
 }
\ No newline at end of file
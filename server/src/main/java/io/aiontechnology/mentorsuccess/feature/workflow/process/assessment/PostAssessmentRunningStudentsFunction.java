@@ -0,0 +1,66 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.workflow.process.assessment;
+
+import io.aiontechnology.mentorsuccess.entity.SchoolSession;
+import io.aiontechnology.mentorsuccess.workflow.ProcessBusinessKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static io.aiontechnology.mentorsuccess.feature.workflow.WorkflowKeys.REQUEST_POST_ASSESSMENT_PROCESS_KEY;
+import static io.aiontechnology.mentorsuccess.workflow.ProcessBusinessKey.Kind.POST_ASSESSMENT;
+
+/**
+ * Finds the ids of all students in a school session that have a running post-assessment process. A single query on
+ * the process business key is issued for the whole session regardless of the number of students.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostAssessmentRunningStudentsFunction implements Function<SchoolSession, Set<UUID>> {
+
+    // Services
+    private final RuntimeService runtimeService;
+
+    @Override
+    public Set<UUID> apply(SchoolSession session) {
+        var pattern = ProcessBusinessKey.sessionPattern(session.getSchool().getId(), session.getId(),
+                POST_ASSESSMENT);
+        var studentIds = runtimeService.createProcessInstanceQuery()
+                .processDefinitionKey(REQUEST_POST_ASSESSMENT_PROCESS_KEY)
+                .processInstanceBusinessKeyLike(pattern)
+                .active()
+                .list().stream()
+                .map(ProcessInstance::getBusinessKey)
+                .map(ProcessBusinessKey::parse)
+                .flatMap(Optional::stream)
+                .map(ProcessBusinessKey::getStudentId)
+                .collect(Collectors.toSet());
+        log.debug("Found {} running post-assessment processes for session {}", studentIds.size(), session.getLabel());
+        return studentIds;
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.workflow.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.aiontechnology.mentorsuccess.feature.workflow.model.PostAssessmentJob;
+import io.aiontechnology.mentorsuccess.feature.workflow.process.assessment.PostAssessmentInitiatingConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Launches post-assessment jobs and keeps track of them so that their progress can be queried. Jobs are kept in memory
+ * for a limited time after they are created.
+ */
+@Service
+@Slf4j
+public class PostAssessmentJobService {
+
+    private final PostAssessmentInitiatingConsumer initiatePostAssessments;
+
+    private final Cache<UUID, PostAssessmentJob> jobs;
+
+    public PostAssessmentJobService(PostAssessmentInitiatingConsumer initiatePostAssessments,
+            @Value("${mentorsuccess.post-assessment.job-retention:P1D}") Duration retention) {
+        this.initiatePostAssessments = initiatePostAssessments;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .build();
+    }
+
+    /**
+     * Find a job by its id.
+     *
+     * @param jobId The id of the job.
+     * @return The job if it is known.
+     */
+    public Optional<PostAssessmentJob> findJob(UUID jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId));
+    }
+
+    /**
+     * Start post-assessments for the given school session in the background.
+     *
+     * @param schoolId The id of the school.
+     * @param schoolSessionId The id of the school session.
+     * @param baseUri The base URI for links.
+     * @return The job which reports the progress.
+     */
+    public PostAssessmentJob launch(UUID schoolId, UUID schoolSessionId, URI baseUri) {
+        var job = new PostAssessmentJob(schoolId, schoolSessionId);
+        jobs.put(job.getId(), job);
+        log.debug("Launching post-assessment job {} for session {}", job.getId(), schoolSessionId);
+        initiatePostAssessments.accept(job, baseUri);
+        return job;
+    }
+
+}
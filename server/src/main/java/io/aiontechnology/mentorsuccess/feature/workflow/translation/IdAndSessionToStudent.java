@@ -19,7 +19,7 @@ package io.aiontechnology.mentorsuccess.feature.workflow.translation;
 import io.aiontechnology.mentorsuccess.entity.SchoolSession;
 import io.aiontechnology.mentorsuccess.entity.Student;
 import io.aiontechnology.mentorsuccess.entity.StudentSchoolSession;
-import io.aiontechnology.mentorsuccess.repository.StudentRepository;
+import io.aiontechnology.mentorsuccess.service.StudentSchoolSessionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -31,7 +31,7 @@ import java.util.function.BiFunction;
 @RequiredArgsConstructor
 public class IdAndSessionToStudent implements BiFunction<UUID, Optional<SchoolSession>, Optional<Student>> {
 
-    private final StudentRepository studentRepository;
+    private final StudentSchoolSessionService studentSchoolSessionService;
 
     @Override
     public Optional<Student> apply(UUID studentId, Optional<SchoolSession> currentSession) {
@@ -39,14 +39,8 @@ public class IdAndSessionToStudent implements BiFunction<UUID, Optional<SchoolSe
     }
 
     private Optional<Student> findActiveStudent(UUID studentId, SchoolSession currentSession) {
-        return studentRepository.findById(studentId)
-                .filter(student -> isActiveStudent(student, currentSession));
-    }
-
-    private boolean isActiveStudent(Student student, SchoolSession session) {
-        return student.findCurrentSessionForStudent(session)
-                .map(StudentSchoolSession::getIsActive)
-                .orElse(false);
+        return studentSchoolSessionService.findActiveStudentSchoolSession(studentId, currentSession)
+                .map(StudentSchoolSession::getStudent);
     }
 
 }
@@ -20,6 +20,8 @@ import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
 import io.aiontechnology.mentorsuccess.entity.SchoolSession;
 import io.aiontechnology.mentorsuccess.entity.Student;
 import io.aiontechnology.mentorsuccess.entity.StudentSchoolSession;
+import io.aiontechnology.mentorsuccess.service.StudentSchoolSessionService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.stereotype.Component;
@@ -28,15 +30,18 @@ import java.util.Optional;
 import java.util.function.Function;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class StudentToCurrentTeacherFunction implements
         Function<Pair<Optional<Student>, Optional<SchoolSession>>, Optional<SchoolPersonRole>> {
 
+    private final StudentSchoolSessionService studentSchoolSessionService;
+
     @Override
     public Optional<SchoolPersonRole> apply(Pair<Optional<Student>, Optional<SchoolSession>> input) {
         return input.getLeft().flatMap(s1 ->
                 input.getRight().flatMap(s2 ->
-                        s1.findCurrentSessionForStudent(s2)
+                        studentSchoolSessionService.findStudentSchoolSession(s1, s2)
                                 .map(StudentSchoolSession::getTeacher)
                 )
         );
@@ -18,21 +18,23 @@ package io.aiontechnology.mentorsuccess.feature.workflow.velocity;
 
 import io.aiontechnology.mentorsuccess.model.inbound.student.InboundStudentAssessment;
 import io.aiontechnology.mentorsuccess.velocity.VelocityGenerationStrategySupport;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.Velocity;
-
-import java.io.StringWriter;
+import org.apache.velocity.app.VelocityEngine;
+import org.springframework.stereotype.Component;
 
+@Component
 public class PostAssessmentCompleteEmailGenerator extends VelocityGenerationStrategySupport {
 
     private static final String TEMPLATE_NAME = "templates/teacher/post-assessment-complete-email.vm";
 
+    public PostAssessmentCompleteEmailGenerator(VelocityEngine velocityEngine, MeterRegistry meterRegistry) {
+        super(velocityEngine, meterRegistry, TEMPLATE_NAME);
+    }
+
     public String render(String programAdminName, String studentName, InboundStudentAssessment studentAssessment) {
         VelocityContext context = createContext(programAdminName, studentName, studentAssessment);
-        StringWriter writer = new StringWriter();
-
-        Velocity.getTemplate(TEMPLATE_NAME).merge(context, writer);
-        return writer.toString();
+        return merge(context);
     }
 
     private VelocityContext createContext(String programAdminName, String studentName,
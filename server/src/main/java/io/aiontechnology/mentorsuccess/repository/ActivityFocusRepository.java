@@ -17,11 +17,9 @@
 package io.aiontechnology.mentorsuccess.repository;
 
 import io.aiontechnology.mentorsuccess.entity.reference.ActivityFocus;
-import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * A Spring repository for interacting with {@link ActivityFocus} entities in the database.
@@ -30,7 +28,7 @@ import java.util.UUID;
  * @since 0.2.0
  */
 @Repository
-public interface ActivityFocusRepository extends CrudRepository<ActivityFocus, UUID> {
+public interface ActivityFocusRepository extends ReferenceRepository<ActivityFocus> {
 
     /**
      * Find an {@link ActivityFocus} by its name.
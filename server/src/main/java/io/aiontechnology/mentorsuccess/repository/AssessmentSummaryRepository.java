@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.repository;
+
+import io.aiontechnology.mentorsuccess.entity.AssessmentSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for {@link AssessmentSummary} entities.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Repository
+public interface AssessmentSummaryRepository extends CrudRepository<AssessmentSummary, UUID> {
+
+    /**
+     * Determine whether the summaries of a school session have been built.
+     *
+     * @param schoolSessionId The ID of the school session.
+     * @return True if the session has summaries.
+     */
+    boolean existsBySchoolSessionId(UUID schoolSessionId);
+
+    /**
+     * Find the summaries of every session of a school.
+     *
+     * @param schoolId The ID of the school.
+     * @return The summaries.
+     */
+    List<AssessmentSummary> findBySchoolId(UUID schoolId);
+
+    /**
+     * Find the summaries of a school session.
+     *
+     * @param schoolSessionId The ID of the school session.
+     * @return The summaries.
+     */
+    List<AssessmentSummary> findBySchoolSessionId(UUID schoolSessionId);
+
+    /**
+     * Lock the summary of a group so that it can be updated.
+     *
+     * @param schoolSessionId The ID of the school session.
+     * @param phase The assessment phase.
+     * @param dimension How the group is selected.
+     * @param dimensionKey The key of the group.
+     * @return The summary if the group has one.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AssessmentSummary s WHERE s.schoolSessionId = :schoolSessionId AND s.phase = :phase " +
+            "AND s.dimension = :dimension AND s.dimensionKey = :dimensionKey")
+    Optional<AssessmentSummary> findForUpdate(@Param("schoolSessionId") UUID schoolSessionId,
+            @Param("phase") AssessmentSummary.Phase phase, @Param("dimension") AssessmentSummary.Dimension dimension,
+            @Param("dimensionKey") String dimensionKey);
+
+}
@@ -17,11 +17,9 @@
 package io.aiontechnology.mentorsuccess.repository;
 
 import io.aiontechnology.mentorsuccess.entity.reference.Behavior;
-import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * A Spring repository for interacting with {@link Behavior} entities in the database.
@@ -30,7 +28,7 @@ import java.util.UUID;
  * @since 0.1.0
  */
 @Repository
-public interface BehaviorRepository extends CrudRepository<Behavior, UUID> {
+public interface BehaviorRepository extends ReferenceRepository<Behavior> {
 
     /**
      * Find all behaviors and sort them by name.
@@ -17,6 +17,8 @@
 package io.aiontechnology.mentorsuccess.repository;
 
 import io.aiontechnology.mentorsuccess.entity.Book;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
@@ -30,8 +32,16 @@ import java.util.UUID;
  * @since 0.1.0
  */
 @Repository
-public interface BookRepository extends CrudRepository<Book, UUID> {
+public interface BookRepository extends CrudRepository<Book, UUID>, JpaSpecificationExecutor<Book> {
 
     List<Book> findAllByOrderByTitleAsc();
 
+    /**
+     * Get the ID and version of every active book ordered by ID.
+     *
+     * @return The versions of the books.
+     */
+    @Query("SELECT b.id AS id, b.version AS version FROM Book b ORDER BY b.id")
+    List<EntityVersion> findVersions();
+
 }
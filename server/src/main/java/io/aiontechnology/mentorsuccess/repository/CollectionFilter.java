@@ -0,0 +1,53 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.repository;
+
+import io.aiontechnology.mentorsuccess.model.enumeration.ResourceLocation;
+import lombok.Value;
+
+/**
+ * Optional criteria used to narrow a paged collection request. Each criterion that is {@code null} is ignored.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Value
+public class CollectionFilter {
+
+    /** Case-insensitive prefix of the name (or title, or last name) of the entities */
+    String name;
+
+    /** The required value of the active flag */
+    Boolean active;
+
+    /** A grade that the entities must cover */
+    Integer grade;
+
+    /** A location at which the entities must be available */
+    ResourceLocation location;
+
+    /**
+     * Copy this filter, supplying a value for the active flag if none was requested.
+     *
+     * @param defaultActive The active flag to use when the request did not specify one.
+     * @return The resulting filter.
+     */
+    public CollectionFilter withDefaultActive(boolean defaultActive) {
+        return active != null ? this : new CollectionFilter(name, defaultActive, grade, location);
+    }
+
+}
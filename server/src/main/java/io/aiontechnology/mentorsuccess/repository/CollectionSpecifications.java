@@ -0,0 +1,167 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.repository;
+
+import io.aiontechnology.mentorsuccess.entity.Book;
+import io.aiontechnology.mentorsuccess.entity.Game;
+import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
+import io.aiontechnology.mentorsuccess.model.enumeration.ResourceLocation;
+import io.aiontechnology.mentorsuccess.model.enumeration.RoleType;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import static io.aiontechnology.mentorsuccess.model.enumeration.ResourceLocation.BOTH;
+
+/**
+ * Factory for the {@link Specification Specifications} that implement a {@link CollectionFilter} for each kind of
+ * entity that is served as a paged collection.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+public final class CollectionSpecifications {
+
+    private static final char ESCAPE = '\\';
+
+    private CollectionSpecifications() {
+    }
+
+    /**
+     * Build the specification for {@link Book Books}. The name criterion applies to the title and the grade criterion
+     * to the grade level. Inactive books are never loaded, so the active criterion does not apply.
+     *
+     * @param filter The requested filter.
+     * @return The specification.
+     */
+    public static Specification<Book> books(CollectionFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            addNamePrefix(predicates, cb, root.<String>get("title"), filter.getName());
+            addEqual(predicates, cb, root.get("gradeLevel"), filter.getGrade());
+            addLocation(predicates, cb, root.<ResourceLocation>get("location"), filter.getLocation());
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Build the specification for {@link Game Games}. The grade criterion matches games whose grade range includes it.
+     * Inactive games are never loaded, so the active criterion does not apply.
+     *
+     * @param filter The requested filter.
+     * @return The specification.
+     */
+    public static Specification<Game> games(CollectionFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            addNamePrefix(predicates, cb, root.<String>get("name"), filter.getName());
+            if (filter.getGrade() != null) {
+                predicates.add(cb.le(root.<Integer>get("grade1"), filter.getGrade()));
+                predicates.add(cb.ge(root.<Integer>get("grade2"), filter.getGrade()));
+            }
+            addLocation(predicates, cb, root.<ResourceLocation>get("location"), filter.getLocation());
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Build the specification for {@link SchoolPersonRole SchoolPersonRoles} of the given types within a school. The
+     * name criterion applies to the person's last name and the grade criterion matches either of the role's grades.
+     * The person is fetched with the role since every representation of a role includes it.
+     *
+     * @param school The school that owns the roles.
+     * @param types The role types to include.
+     * @param filter The requested filter.
+     * @return The specification.
+     */
+    public static Specification<SchoolPersonRole> roles(School school, Collection<RoleType> types,
+            CollectionFilter filter) {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class) {
+                root.fetch("person");
+            }
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("school"), school));
+            predicates.add(root.get("type").in(types));
+            addNamePrefix(predicates, cb, root.get("person").<String>get("lastName"), filter.getName());
+            addEqual(predicates, cb, root.get("isActive"), filter.getActive());
+            if (filter.getGrade() != null) {
+                predicates.add(cb.or(
+                        cb.equal(root.get("grade1"), filter.getGrade()),
+                        cb.equal(root.get("grade2"), filter.getGrade())));
+            }
+            addLocation(predicates, cb, root.<ResourceLocation>get("location"), filter.getLocation());
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Build the specification for {@link School Schools}. Only the name criterion applies to schools. Inactive schools
+     * are never loaded, so the active criterion does not apply.
+     *
+     * @param filter The requested filter.
+     * @return The specification.
+     */
+    public static Specification<School> schools(CollectionFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            addNamePrefix(predicates, cb, root.<String>get("name"), filter.getName());
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private static <T> void addEqual(List<Predicate> predicates, CriteriaBuilder cb, Expression<T> expression,
+            T value) {
+        if (value != null) {
+            predicates.add(cb.equal(expression, value));
+        }
+    }
+
+    /**
+     * A resource that is available in both locations matches either location.
+     */
+    private static void addLocation(List<Predicate> predicates, CriteriaBuilder cb, Path<ResourceLocation> path,
+            ResourceLocation location) {
+        if (location == BOTH) {
+            predicates.add(cb.equal(path, BOTH));
+        } else if (location != null) {
+            predicates.add(path.in(location, BOTH));
+        }
+    }
+
+    private static void addNamePrefix(List<Predicate> predicates, CriteriaBuilder cb, Expression<String> expression,
+            String prefix) {
+        if (prefix != null && !prefix.isBlank()) {
+            predicates.add(cb.like(cb.lower(expression), escapeLike(prefix.toLowerCase(Locale.ROOT)) + "%", ESCAPE));
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.repository;
+
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * The state of a table of versioned entities: the number of rows and a digest of the ID and version of every row. The
+ * digest changes whenever a row is added, updated or removed, even when the number of rows and the sum of their
+ * versions stay the same.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Value
+public class CollectionVersion {
+
+    /** The number of digest bytes kept, which is ample to tell successive states of a table apart */
+    private static final int DIGEST_LENGTH = 12;
+
+    /** The number of rows */
+    long count;
+
+    /** The hex encoded digest of the rows */
+    String digest;
+
+    /**
+     * Create the version of a collection from the versions of its rows.
+     *
+     * @param entityVersions The versions of the rows, in a stable order.
+     * @return The version of the collection.
+     */
+    public static CollectionVersion of(List<? extends EntityVersion> entityVersions) {
+        MessageDigest messageDigest = createMessageDigest();
+        for (EntityVersion entityVersion : entityVersions) {
+            messageDigest.update((entityVersion.getId() + ":" + entityVersion.getVersion() + ";")
+                    .getBytes(StandardCharsets.US_ASCII));
+        }
+        byte[] digest = messageDigest.digest();
+        return new CollectionVersion(entityVersions.size(),
+                HexFormat.of().formatHex(digest, 0, DIGEST_LENGTH));
+    }
+
+    private static MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.repository;
+
+import java.util.UUID;
+
+/**
+ * The identity and version of one row of a table of versioned entities.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+public interface EntityVersion {
+
+    /**
+     * Get the ID of the row.
+     *
+     * @return The ID.
+     */
+    UUID getId();
+
+    /**
+     * Get the version of the row.
+     *
+     * @return The version.
+     */
+    Long getVersion();
+
+}
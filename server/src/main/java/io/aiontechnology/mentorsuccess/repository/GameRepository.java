@@ -17,6 +17,8 @@
 package io.aiontechnology.mentorsuccess.repository;
 
 import io.aiontechnology.mentorsuccess.entity.Game;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
@@ -30,8 +32,16 @@ import java.util.UUID;
  * @since 0.1.0
  */
 @Repository
-public interface GameRepository extends CrudRepository<Game, UUID> {
+public interface GameRepository extends CrudRepository<Game, UUID>, JpaSpecificationExecutor<Game> {
 
     List<Game> findAllByOrderByNameAsc();
 
+    /**
+     * Get the ID and version of every active game ordered by ID.
+     *
+     * @return The versions of the games.
+     */
+    @Query("SELECT g.id AS id, g.version AS version FROM Game g ORDER BY g.id")
+    List<EntityVersion> findVersions();
+
 }
@@ -17,11 +17,9 @@
 package io.aiontechnology.mentorsuccess.repository;
 
 import io.aiontechnology.mentorsuccess.entity.reference.Interest;
-import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * A Spring repository for interacting with {@link Interest} entities in the database.
@@ -30,7 +28,7 @@ import java.util.UUID;
  * @since 0.1.0
  */
 @Repository
-public interface InterestRepository extends CrudRepository<Interest, UUID> {
+public interface InterestRepository extends ReferenceRepository<Interest> {
 
     /**
      * Find an {@link Interest} by its name.
@@ -38,7 +36,6 @@ public interface InterestRepository extends CrudRepository<Interest, UUID> {
      * @param name The name of the desired {@link Interest}.
      * @return The {@link Interest} if it could be found.
      */
-//    @Cacheable("interests")
     Optional<Interest> findByName(String name);
 
     Iterable<Interest> findAllByOrderByNameAsc();
@@ -17,11 +17,9 @@
 package io.aiontechnology.mentorsuccess.repository;
 
 import io.aiontechnology.mentorsuccess.entity.reference.LeadershipSkill;
-import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * A Spring repository for interacting with {@link LeadershipSkill} entities in the database.
@@ -30,7 +28,7 @@ import java.util.UUID;
  * @since 0.1.0
  */
 @Repository
-public interface LeadershipSkillRepository extends CrudRepository<LeadershipSkill, UUID> {
+public interface LeadershipSkillRepository extends ReferenceRepository<LeadershipSkill> {
 
     /**
      * Find all leadership skills and sort them by name.
@@ -17,11 +17,9 @@
 package io.aiontechnology.mentorsuccess.repository;
 
 import io.aiontechnology.mentorsuccess.entity.reference.LeadershipTrait;
-import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * A Spring repository for interacting with {@link LeadershipTrait} entities in the database.
@@ -30,7 +28,7 @@ import java.util.UUID;
  * @since 0.1.0
  */
 @Repository
-public interface LeadershipTraitRepository extends CrudRepository<LeadershipTrait, UUID> {
+public interface LeadershipTraitRepository extends ReferenceRepository<LeadershipTrait> {
 
     /**
      * Find all leadership traits and sort them by name.
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.repository;
+
+import io.aiontechnology.mentorsuccess.entity.OutboxEmail;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for {@link OutboxEmail} entities.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Repository
+public interface OutboxEmailRepository extends CrudRepository<OutboxEmail, UUID> {
+
+    /**
+     * Lock the next emails that are due to be sent. Rows already locked by another dispatcher are skipped where the
+     * database supports it.
+     *
+     * @param status The status of the emails.
+     * @param now The current time.
+     * @param pageable The maximum number of emails.
+     * @return The locked emails in the order they became due.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEmail e WHERE e.status = :status AND e.nextAttemptAt <= :now " +
+            "ORDER BY e.nextAttemptAt")
+    List<OutboxEmail> findDue(@Param("status") OutboxEmail.Status status, @Param("now") Instant now,
+            Pageable pageable);
+
+}
@@ -17,11 +17,9 @@
 package io.aiontechnology.mentorsuccess.repository;
 
 import io.aiontechnology.mentorsuccess.entity.reference.Phonogram;
-import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * A Spring repository for interacting with {@link Phonogram} entities in the database.
@@ -30,7 +28,7 @@ import java.util.UUID;
  * @since 0.1.0
  */
 @Repository
-public interface PhonogramRepository extends CrudRepository<Phonogram, UUID> {
+public interface PhonogramRepository extends ReferenceRepository<Phonogram> {
 
     /**
      * Find an {@link Phonogram} by its name.
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.repository;
+
+import io.aiontechnology.mentorsuccess.entity.reference.AbstractReference;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Base for the Spring repositories that interact with reference entities in the database.
+ *
+ * @param <T> The type of reference entity.
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@NoRepositoryBean
+public interface ReferenceRepository<T extends AbstractReference> extends CrudRepository<T, UUID> {
+
+    /**
+     * Find a reference entity by its name.
+     *
+     * @param name The name of the desired entity.
+     * @return The entity if it could be found.
+     */
+    Optional<T> findByName(String name);
+
+}
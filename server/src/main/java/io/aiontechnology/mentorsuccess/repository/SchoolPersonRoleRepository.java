@@ -17,6 +17,7 @@
 package io.aiontechnology.mentorsuccess.repository;
 
 import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
@@ -30,7 +31,8 @@ import java.util.UUID;
  * @since 0.1.0
  */
 @Repository
-public interface SchoolPersonRoleRepository extends CrudRepository<SchoolPersonRole, UUID> {
+public interface SchoolPersonRoleRepository extends CrudRepository<SchoolPersonRole, UUID>,
+        JpaSpecificationExecutor<SchoolPersonRole> {
 
     Optional<SchoolPersonRole> findByIdpUserId(UUID idpUserId);
 
@@ -17,6 +17,7 @@
 package io.aiontechnology.mentorsuccess.repository;
 
 import io.aiontechnology.mentorsuccess.entity.School;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
@@ -29,7 +30,7 @@ import java.util.UUID;
  * @since 0.1.0
  */
 @Repository
-public interface SchoolRepository extends CrudRepository<School, UUID> {
+public interface SchoolRepository extends CrudRepository<School, UUID>, JpaSpecificationExecutor<School> {
 
     /**
      * Find all {@link School Schools} in ascending order by name.
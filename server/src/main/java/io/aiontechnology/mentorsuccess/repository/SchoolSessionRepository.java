@@ -17,9 +17,14 @@
 package io.aiontechnology.mentorsuccess.repository;
 
 import io.aiontechnology.mentorsuccess.entity.SchoolSession;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -29,4 +34,14 @@ import java.util.UUID;
 @Repository
 public interface SchoolSessionRepository extends CrudRepository<SchoolSession, UUID> {
 
+    /**
+     * Lock a school session so that work on the rows that belong to it can be serialized.
+     *
+     * @param id The ID of the school session.
+     * @return The school session if it exists.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SchoolSession s WHERE s.id = :id")
+    Optional<SchoolSession> findForUpdate(@Param("id") UUID id);
+
 }
@@ -17,9 +17,12 @@
 package io.aiontechnology.mentorsuccess.repository;
 
 import io.aiontechnology.mentorsuccess.entity.Student;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -30,4 +33,14 @@ import java.util.UUID;
  */
 @Repository
 public interface StudentRepository extends CrudRepository<Student, UUID> {
+
+    /**
+     * Initialize the contacts of the given {@link Student Students}.
+     *
+     * @param ids The ids of the students.
+     * @return The students with their contacts loaded.
+     */
+    @EntityGraph(attributePaths = {"studentPersonRoles.person"})
+    List<Student> findWithContactsByIdIn(Collection<UUID> ids);
+
 }
@@ -16,14 +16,172 @@
 
 package io.aiontechnology.mentorsuccess.repository;
 
+import io.aiontechnology.mentorsuccess.entity.SchoolSession;
 import io.aiontechnology.mentorsuccess.entity.StudentSchoolSession;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * @author Whitney Hunter
  * @since 1.8.0
  */
 public interface StudentSchoolSessionRepository extends CrudRepository<StudentSchoolSession, UUID> {
+
+    /**
+     * Find the {@link StudentSchoolSession} that connects a student to a school session.
+     *
+     * @param studentId The id of the student.
+     * @param schoolSessionId The id of the school session.
+     * @return The {@link StudentSchoolSession} if the student attended the session.
+     */
+    @Query("SELECT ss FROM StudentSchoolSession ss " +
+            "WHERE ss.student.id = :studentId AND ss.schoolSession.id = :schoolSessionId")
+    Optional<StudentSchoolSession> findByStudentAndSchoolSession(@Param("studentId") UUID studentId,
+            @Param("schoolSessionId") UUID schoolSessionId);
+
+    /**
+     * Copy the students of one school session into another with a single statement. Each copy keeps the grade
+     * (incremented), location, media release and active flags of its original and is marked as registered. Teachers,
+     * mentors, assessments and the collections of the original are not copied.
+     *
+     * @param fromSessionId The id of the session to copy from.
+     * @param toSessionId The id of the session to copy into.
+     * @param includeInactive Whether inactive students should be copied.
+     * @return The number of students copied.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(nativeQuery = true, value = "INSERT INTO student_schoolsession " +
+            "(student_id, schoolsession_id, grade, location, is_media_release_signed, is_active, " +
+            "is_registration_signed) " +
+            "SELECT student_id, :toSessionId, grade + 1, location, is_media_release_signed, is_active, TRUE " +
+            "FROM student_schoolsession " +
+            "WHERE schoolsession_id = :fromSessionId AND (:includeInactive = TRUE OR is_active = TRUE)")
+    int copyToSession(@Param("fromSessionId") UUID fromSessionId, @Param("toSessionId") UUID toSessionId,
+            @Param("includeInactive") boolean includeInactive);
+
+    /**
+     * Find the active students of a school session together with their school and teacher.
+     *
+     * @param schoolSession The session whose students are desired.
+     * @return The active {@link StudentSchoolSession StudentSchoolSessions} of the session.
+     */
+    @Query("SELECT ss FROM StudentSchoolSession ss JOIN FETCH ss.student s JOIN FETCH s.school " +
+            "LEFT JOIN FETCH ss.teacher " +
+            "WHERE ss.schoolSession = :schoolSession AND ss.isActive = true")
+    List<StudentSchoolSession> findActiveWithTeacher(@Param("schoolSession") SchoolSession schoolSession);
+
+    /**
+     * Stream the active students of a school session together with their teacher and mentor, ordered by name. The
+     * rows are read forward only in small fetches, so the caller must consume the stream within a transaction and
+     * should clear the persistence context as it goes.
+     *
+     * @param schoolSession The session whose students are desired.
+     * @return The active {@link StudentSchoolSession StudentSchoolSessions} of the session.
+     */
+    @Query("SELECT ss FROM StudentSchoolSession ss JOIN FETCH ss.student s " +
+            "LEFT JOIN FETCH ss.teacher t LEFT JOIN FETCH t.person " +
+            "LEFT JOIN FETCH ss.mentor m LEFT JOIN FETCH m.person " +
+            "WHERE ss.schoolSession = :schoolSession AND ss.isActive = true " +
+            "ORDER BY s.lastName, s.firstName, s.id")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<StudentSchoolSession> streamActiveForExport(@Param("schoolSession") SchoolSession schoolSession);
+
+    /**
+     * Find the first page of a session roster ordered by student last name.
+     *
+     * @param schoolSession The session whose roster is desired.
+     * @param isActive Whether active or inactive students should be returned.
+     * @param pageable The page size. Only the size is used, the offset should always be zero.
+     * @return The first slice of the roster.
+     */
+    @Query("SELECT ss FROM StudentSchoolSession ss JOIN FETCH ss.student s " +
+            "WHERE ss.schoolSession = :schoolSession AND ss.isActive = :isActive " +
+            "ORDER BY s.lastName, s.id")
+    @EntityGraph(StudentSchoolSession.ROSTER_GRAPH)
+    Slice<StudentSchoolSession> findRoster(@Param("schoolSession") SchoolSession schoolSession,
+            @Param("isActive") Boolean isActive, Pageable pageable);
+
+    /**
+     * Find the page of a session roster that follows the given student in last name order.
+     *
+     * @param schoolSession The session whose roster is desired.
+     * @param isActive Whether active or inactive students should be returned.
+     * @param lastName The last name of the last student on the previous page.
+     * @param studentId The id of the last student on the previous page.
+     * @param pageable The page size. Only the size is used, the offset should always be zero.
+     * @return The next slice of the roster.
+     */
+    @Query("SELECT ss FROM StudentSchoolSession ss JOIN FETCH ss.student s " +
+            "WHERE ss.schoolSession = :schoolSession AND ss.isActive = :isActive " +
+            "AND (s.lastName > :lastName OR (s.lastName = :lastName AND s.id > :studentId)) " +
+            "ORDER BY s.lastName, s.id")
+    @EntityGraph(StudentSchoolSession.ROSTER_GRAPH)
+    Slice<StudentSchoolSession> findRosterAfter(@Param("schoolSession") SchoolSession schoolSession,
+            @Param("isActive") Boolean isActive, @Param("lastName") String lastName,
+            @Param("studentId") UUID studentId, Pageable pageable);
+
+    /**
+     * Initialize the interests of the given {@link StudentSchoolSession StudentSchoolSessions}.
+     *
+     * @param ids The ids of the sessions.
+     * @return The sessions with their interests loaded.
+     */
+    @EntityGraph(attributePaths = {"interests"})
+    List<StudentSchoolSession> findWithInterestsByIdIn(Collection<UUID> ids);
+
+    /**
+     * Initialize the activity focuses of the given {@link StudentSchoolSession StudentSchoolSessions}.
+     *
+     * @param ids The ids of the sessions.
+     * @return The sessions with their activity focuses loaded.
+     */
+    @EntityGraph(attributePaths = {"studentActivityFocuses.activityFocus", "studentActivityFocuses.role"})
+    List<StudentSchoolSession> findWithActivityFocusesByIdIn(Collection<UUID> ids);
+
+    /**
+     * Initialize the behaviors of the given {@link StudentSchoolSession StudentSchoolSessions}.
+     *
+     * @param ids The ids of the sessions.
+     * @return The sessions with their behaviors loaded.
+     */
+    @EntityGraph(attributePaths = {"studentBehaviors.behavior", "studentBehaviors.role"})
+    List<StudentSchoolSession> findWithBehaviorsByIdIn(Collection<UUID> ids);
+
+    /**
+     * Initialize the leadership skills of the given {@link StudentSchoolSession StudentSchoolSessions}.
+     *
+     * @param ids The ids of the sessions.
+     * @return The sessions with their leadership skills loaded.
+     */
+    @EntityGraph(attributePaths = {"studentLeadershipSkills.leadershipSkill", "studentLeadershipSkills.role"})
+    List<StudentSchoolSession> findWithLeadershipSkillsByIdIn(Collection<UUID> ids);
+
+    /**
+     * Initialize the leadership traits of the given {@link StudentSchoolSession StudentSchoolSessions}.
+     *
+     * @param ids The ids of the sessions.
+     * @return The sessions with their leadership traits loaded.
+     */
+    @EntityGraph(attributePaths = {"studentLeadershipTraits.leadershipTrait", "studentLeadershipTraits.role"})
+    List<StudentSchoolSession> findWithLeadershipTraitsByIdIn(Collection<UUID> ids);
+
 }
@@ -17,11 +17,9 @@
 package io.aiontechnology.mentorsuccess.repository;
 
 import io.aiontechnology.mentorsuccess.entity.reference.Tag;
-import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * A Spring repository for interacting with {@link Tag} entities in the database.
@@ -30,7 +28,7 @@ import java.util.UUID;
  * @since 1.13.0
  */
 @Repository
-public interface TagRepository extends CrudRepository<Tag, UUID> {
+public interface TagRepository extends ReferenceRepository<Tag> {
 
     /**
      * Find an {@link Tag} by its name.
@@ -38,6 +38,9 @@ import java.util.Optional;
 import java.util.function.BiFunction;
 
 /**
+ * Replaces the authorities of a JWT authenticated request with those granted by the authority setter carried in the
+ * token's group claim. The token itself has to be replaced because authentication tokens are immutable.
+ *
  * @author Whitney Hunter
  * @since 0.12.0
  */
@@ -47,35 +50,23 @@ public class AuthoritiesGrantingFilter extends GenericFilterBean {
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
             throws IOException, ServletException {
-        log.debug("==> Managing authorities");
-        HttpServletRequest httpServletRequest = (HttpServletRequest) request;
-        URI uri = URI.create(httpServletRequest.getRequestURI());
-
-        getJwtAuthenticationToken().ifPresent(auth -> {
-            Optional<SchoolPersonRole> roleSupplier = auth.getToken().getClaim("username");
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        Authentication authentication = securityContext.getAuthentication();
+        if (authentication instanceof JwtAuthenticationToken auth) {
+            log.debug("==> Managing authorities");
+            URI uri = URI.create(((HttpServletRequest) request).getRequestURI());
+            Optional<SchoolPersonRole> role = auth.getToken().getClaim("username");
             BiFunction<Optional<SchoolPersonRole>, URI, List<GrantedAuthority>> authSetter =
                     auth.getToken().getClaim("cognito:groups");
             List<GrantedAuthority> authorities = authSetter != null
-                    ? authSetter.apply(roleSupplier, uri)
+                    ? authSetter.apply(role, uri)
                     : Collections.emptyList();
             log.debug("==> Set authorities: {}", authorities);
 
-            JwtAuthenticationToken newAuth = new JwtAuthenticationToken(auth.getToken(), authorities, auth.getName());
-            SecurityContextHolder.getContext().setAuthentication(newAuth);
-        });
+            securityContext.setAuthentication(new JwtAuthenticationToken(auth.getToken(), authorities, auth.getName()));
+        }
 
         chain.doFilter(request, response);
     }
 
-    private Optional<JwtAuthenticationToken> getJwtAuthenticationToken() {
-        SecurityContext securityContext = SecurityContextHolder.getContext();
-        if (securityContext != null) {
-            Authentication authentication = securityContext.getAuthentication();
-            if (authentication != null && authentication.getClass().isAssignableFrom(JwtAuthenticationToken.class)) {
-                return Optional.of((JwtAuthenticationToken) authentication);
-            }
-        }
-        return Optional.empty();
-    }
-
 }
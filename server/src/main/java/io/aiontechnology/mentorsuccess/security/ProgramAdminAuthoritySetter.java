@@ -25,15 +25,16 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.net.URI;
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
-import java.util.regex.Pattern;
 
 /**
+ * Grants the authorities of a program admin. The authorities only depend on whether the request addresses the
+ * program admin's own school, so both possible lists are built once and shared by every request.
+ *
  * @author Whitney Hunter
  * @since 0.12.0
  */
@@ -43,54 +44,45 @@ import java.util.regex.Pattern;
 public class ProgramAdminAuthoritySetter implements BiFunction<Optional<SchoolPersonRole>, URI,
         List<GrantedAuthority>> {
 
-    private final Pattern SCHOOL_PATTERN1 =
-            Pattern.compile("/api/v1/schools/(.*)/");
-    private final Pattern SCHOOL_PATTERN2 =
-            Pattern.compile("/api/v1/schools/(.*)$");
+    /** The authorities granted for requests that do not address the program admin's school */
+    private static final List<GrantedAuthority> BASIC_AUTHORITIES = List.copyOf(basicAuthorities());
 
-    private final SchoolUUIDMatcher matcher;
+    /** The authorities granted for requests that address the program admin's school */
+    private static final List<GrantedAuthority> SCHOOL_AUTHORITIES = List.copyOf(schoolAuthorities());
 
-    private Set<GrantedAuthority> basicAuthorities;
+    private final SchoolUUIDMatcher matcher;
 
     @Override
     public List<GrantedAuthority> apply(Optional<SchoolPersonRole> role, URI requestUri) {
-        List<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.addAll(getBasicAuthorities());
-        authorities.addAll(schoolAuthorities(role, requestUri));
-        log.debug("==> Authorities: {}", authorities);
+        SchoolPersonRole r = role
+                .orElseThrow(() -> new DisabledException("User in token does not match user in database"));
+        List<GrantedAuthority> authorities = matcher.match(requestUri, r.getSchool().getId())
+                ? SCHOOL_AUTHORITIES
+                : BASIC_AUTHORITIES;
+        log.debug("==> Authorities for school {}: {}", r.getSchool().getId(), authorities);
         return authorities;
     }
 
-    private Set<GrantedAuthority> getBasicAuthorities() {
-        if (basicAuthorities == null) {
-            basicAuthorities = new HashSet<>();
-            basicAuthorities.addAll(AuthoritiesBuilder.instance("book").withRead().withReadAll().build());
-            basicAuthorities.addAll(AuthoritiesBuilder.instance("game").withRead().withReadAll().build());
-            basicAuthorities.addAll(AuthoritiesBuilder.instance("person").withRead().build());
-            basicAuthorities.addAll(AuthoritiesBuilder.instance("resource").withRead().build());
-        }
-        return basicAuthorities;
+    private static Set<GrantedAuthority> basicAuthorities() {
+        Set<GrantedAuthority> authorities = new LinkedHashSet<>();
+        authorities.addAll(AuthoritiesBuilder.instance("book").withRead().withReadAll().build());
+        authorities.addAll(AuthoritiesBuilder.instance("game").withRead().withReadAll().build());
+        authorities.addAll(AuthoritiesBuilder.instance("person").withRead().build());
+        authorities.addAll(AuthoritiesBuilder.instance("resource").withRead().build());
+        return authorities;
     }
 
-    private Set<GrantedAuthority> schoolAuthorities(Optional<SchoolPersonRole> role, URI requestUri) {
-        return role
-                .map(r -> {
-                    log.debug("==> User has authorities for school {}", r.getSchool().getId());
-                    Set<GrantedAuthority> authorities = new HashSet<>();
-                    if (matcher.match(requestUri, r.getSchool().getId())) {
-                        log.debug("==> Schools match");
-                        authorities.addAll(AuthoritiesBuilder.instance("mentor").withAll().build());
-                        authorities.addAll(AuthoritiesBuilder.instance("personnel").withAll().build());
-                        authorities.addAll(AuthoritiesBuilder.instance("school").withRead().withUpdate().build());
-                        authorities.addAll(AuthoritiesBuilder.instance("schoolresources").withAll().build());
-                        authorities.addAll(AuthoritiesBuilder.instance("schoolsession").withAll().build());
-                        authorities.addAll(AuthoritiesBuilder.instance("schoolsessionstudents").withAll().build());
-                        authorities.addAll(AuthoritiesBuilder.instance("student").withAll().build());
-                        authorities.addAll(AuthoritiesBuilder.instance("teacher").withAll().build());
-                    }
-                    return authorities;
-                })
-                .orElseThrow(() -> new DisabledException("User in token does not match user in database"));
+    private static Set<GrantedAuthority> schoolAuthorities() {
+        Set<GrantedAuthority> authorities = basicAuthorities();
+        authorities.addAll(AuthoritiesBuilder.instance("mentor").withAll().build());
+        authorities.addAll(AuthoritiesBuilder.instance("personnel").withAll().build());
+        authorities.addAll(AuthoritiesBuilder.instance("school").withRead().withUpdate().build());
+        authorities.addAll(AuthoritiesBuilder.instance("schoolresources").withAll().build());
+        authorities.addAll(AuthoritiesBuilder.instance("schoolsession").withAll().build());
+        authorities.addAll(AuthoritiesBuilder.instance("schoolsessionstudents").withAll().build());
+        authorities.addAll(AuthoritiesBuilder.instance("student").withAll().build());
+        authorities.addAll(AuthoritiesBuilder.instance("teacher").withAll().build());
+        return authorities;
     }
 
 }
@@ -28,6 +28,8 @@ import java.util.Optional;
 import java.util.function.BiFunction;
 
 /**
+ * Grants the authorities of a system admin. They do not depend on the request, so the list is built once and shared.
+ *
  * @author Whitney Hunter
  * @since 0.12.0
  */
@@ -35,28 +37,30 @@ import java.util.function.BiFunction;
 @Slf4j
 public class SystemAdminAuthoritySetter implements BiFunction<Optional<SchoolPersonRole>, URI, List<GrantedAuthority>> {
 
-    private List<GrantedAuthority> authorities;
+    private static final List<GrantedAuthority> AUTHORITIES = List.copyOf(authorities());
 
     @Override
     public List<GrantedAuthority> apply(Optional<SchoolPersonRole> role, URI requestUri) {
-        if (authorities == null) {
-            authorities = new ArrayList<>();
-            authorities.addAll(AuthoritiesBuilder.instance("book").withAll().build());
-            authorities.addAll(AuthoritiesBuilder.instance("game").withAll().build());
-            authorities.addAll(AuthoritiesBuilder.instance("mentor").withAll().build());
-            authorities.addAll(AuthoritiesBuilder.instance("person").withRead().withCreate().build());
-            authorities.addAll(AuthoritiesBuilder.instance("personnel").withAll().build());
-            authorities.addAll(AuthoritiesBuilder.instance("program-admin").withAll().build());
-            authorities.addAll(AuthoritiesBuilder.instance("resource").withRead().build());
-            authorities.addAll(AuthoritiesBuilder.instance("resources").withUpdate().build());
-            authorities.addAll(AuthoritiesBuilder.instance("school").withAll().build());
-            authorities.addAll(AuthoritiesBuilder.instance("schoolresources").withAll().build());
-            authorities.addAll(AuthoritiesBuilder.instance("schoolsession").withAll().build());
-            authorities.addAll(AuthoritiesBuilder.instance("schoolsessionstudents").withAll().build());
-            authorities.addAll(AuthoritiesBuilder.instance("student").withAll().build());
-            authorities.addAll(AuthoritiesBuilder.instance("teacher").withAll().build());
-        }
-        log.debug("==> Authorities: {}", authorities);
+        log.debug("==> Authorities: {}", AUTHORITIES);
+        return AUTHORITIES;
+    }
+
+    private static List<GrantedAuthority> authorities() {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        authorities.addAll(AuthoritiesBuilder.instance("book").withAll().build());
+        authorities.addAll(AuthoritiesBuilder.instance("game").withAll().build());
+        authorities.addAll(AuthoritiesBuilder.instance("mentor").withAll().build());
+        authorities.addAll(AuthoritiesBuilder.instance("person").withRead().withCreate().build());
+        authorities.addAll(AuthoritiesBuilder.instance("personnel").withAll().build());
+        authorities.addAll(AuthoritiesBuilder.instance("program-admin").withAll().build());
+        authorities.addAll(AuthoritiesBuilder.instance("resource").withRead().build());
+        authorities.addAll(AuthoritiesBuilder.instance("resources").withUpdate().build());
+        authorities.addAll(AuthoritiesBuilder.instance("school").withAll().build());
+        authorities.addAll(AuthoritiesBuilder.instance("schoolresources").withAll().build());
+        authorities.addAll(AuthoritiesBuilder.instance("schoolsession").withAll().build());
+        authorities.addAll(AuthoritiesBuilder.instance("schoolsessionstudents").withAll().build());
+        authorities.addAll(AuthoritiesBuilder.instance("student").withAll().build());
+        authorities.addAll(AuthoritiesBuilder.instance("teacher").withAll().build());
         return authorities;
     }
 
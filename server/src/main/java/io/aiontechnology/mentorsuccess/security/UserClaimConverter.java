@@ -38,7 +38,7 @@ public class UserClaimConverter implements Converter<Object, Optional<SchoolPers
     @Override
     public Optional<SchoolPersonRole> convert(Object username) {
         UUID idpUserId = UUID.fromString((String) username);
-        return roleService.findRoleByIdpUserId(idpUserId);
+        return roleService.findPrincipalByIdpUserId(idpUserId);
     }
 
 }
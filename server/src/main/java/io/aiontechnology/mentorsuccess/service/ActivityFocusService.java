@@ -17,7 +17,6 @@
 package io.aiontechnology.mentorsuccess.service;
 
 import io.aiontechnology.mentorsuccess.entity.reference.ActivityFocus;
-import io.aiontechnology.mentorsuccess.repository.ActivityFocusRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -34,8 +33,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ActivityFocusService {
 
-    /** The repository used to interact with the database */
-    private final ActivityFocusRepository activityFocusRepository;
+    /** The in-memory index of ActivityFocus entities */
+    private final ReferenceIndex<ActivityFocus> activityFocusIndex;
 
     /**
      * Find an {@link ActivityFocus} by its id.
@@ -44,7 +43,7 @@ public class ActivityFocusService {
      * @return The {@link ActivityFocus} if it could be found.
      */
     public Optional<ActivityFocus> findActivityFocusById(UUID id) {
-        return activityFocusRepository.findById(id);
+        return activityFocusIndex.findById(id);
     }
 
     /**
@@ -54,7 +53,7 @@ public class ActivityFocusService {
      * @return The {@link ActivityFocus} if it could be found.
      */
     public Optional<ActivityFocus> findActivityFocusByName(String name) {
-        return activityFocusRepository.findByName(name);
+        return activityFocusIndex.findByName(name);
     }
 
     /**
@@ -63,7 +62,7 @@ public class ActivityFocusService {
      * @return All {@link ActivityFocus ActivityFocuses}.
      */
     public Iterable<ActivityFocus> getAllActivityFocuses() {
-        return activityFocusRepository.findAll();
+        return activityFocusIndex.getAll();
     }
 
 }
@@ -28,6 +28,8 @@ import com.amazonaws.services.cognitoidp.model.AdminUpdateUserAttributesResult;
 import com.amazonaws.services.cognitoidp.model.AttributeType;
 import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
 import io.aiontechnology.mentorsuccess.model.inbound.InboundProgramAdmin;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
@@ -35,6 +37,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static com.amazonaws.services.cognitoidp.model.DeliveryMediumType.EMAIL;
 import static java.lang.Boolean.FALSE;
@@ -60,26 +63,33 @@ public class AwsService {
 
     private final AWSCognitoIdentityProvider awsCognitoIdentityProvider;
 
+    private final PrincipalCache principalCache;
+
+    private final MeterRegistry meterRegistry;
+
     public Pair<InboundProgramAdmin, UUID> createAwsUser(UUID schoolId, InboundProgramAdmin programAdmin) {
 
-        AdminCreateUserResult addUserResult = doCreateAwsUser(schoolId, programAdmin);
+        AdminCreateUserResult addUserResult = timed("create", () -> doCreateAwsUser(schoolId, programAdmin));
         log.debug("Sent add user request. Result: {}", addUserResult);
 
-        AdminAddUserToGroupResult addUserToGroupResult = doAddAwsUserToGroup(programAdmin);
+        AdminAddUserToGroupResult addUserToGroupResult = timed("add-to-group",
+                () -> doAddAwsUserToGroup(programAdmin));
         log.debug("Sent add user to group request. Result: {}", addUserToGroupResult);
 
         return Pair.of(programAdmin, UUID.fromString(addUserResult.getUser().getUsername()));
     }
 
     public InboundProgramAdmin updateAwsUser(InboundProgramAdmin programAdmin) {
-        AdminUpdateUserAttributesResult updateUserAttributesResult = doUpdateAwsUser(programAdmin);
+        AdminUpdateUserAttributesResult updateUserAttributesResult = timed("update",
+                () -> doUpdateAwsUser(programAdmin));
         log.debug("Sent update user attributes request. Result: {}", updateUserAttributesResult);
         return programAdmin;
     }
 
     public SchoolPersonRole removeAwsUser(SchoolPersonRole role) {
-        AdminDeleteUserResult deleteUserResult = deleteAwsUser(role);
+        AdminDeleteUserResult deleteUserResult = timed("delete", () -> deleteAwsUser(role));
         log.debug("Sent delete user request. Result: {}", deleteUserResult);
+        principalCache.invalidate(role.getIdpUserId());
         return role;
     }
 
@@ -140,4 +150,31 @@ public class AwsService {
         return awsCognitoIdentityProvider.adminDeleteUser(cognitoRequest);
     }
 
+    /**
+     * Time a call to Cognito. The timer is tagged with the outcome of the call and, when it failed, the type of the
+     * exception it threw.
+     *
+     * @param operation The name of the Cognito operation.
+     * @param call The call to make.
+     * @param <T> The type of the result.
+     * @return The result of the call.
+     */
+    private <T> T timed(String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("mentorsuccess.aws.cognito")
+                    .description("The time taken by calls to Cognito")
+                    .tag("operation", operation)
+                    .tag("outcome", "none".equals(exception) ? "success" : "error")
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
 }
@@ -17,7 +17,6 @@
 package io.aiontechnology.mentorsuccess.service;
 
 import io.aiontechnology.mentorsuccess.entity.reference.Behavior;
-import io.aiontechnology.mentorsuccess.repository.BehaviorRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -34,8 +33,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class BehaviorService {
 
-    /** The repository used to interact with the database */
-    private final BehaviorRepository behaviorRepository;
+    /** The in-memory index of Behavior entities */
+    private final ReferenceIndex<Behavior> behaviorIndex;
 
     /**
      * Find a {@link Behavior} by its id.
@@ -44,7 +43,7 @@ public class BehaviorService {
      * @return The {@link Behavior} if it could be found.
      */
     public Optional<Behavior> findBehaviorById(UUID id) {
-        return behaviorRepository.findById(id);
+        return behaviorIndex.findById(id);
     }
 
     /**
@@ -54,7 +53,7 @@ public class BehaviorService {
      * @return The {@link Behavior} if it could be found.
      */
     public Optional<Behavior> findBehaviorByName(String name) {
-        return behaviorRepository.findByName(name);
+        return behaviorIndex.findByName(name);
     }
 
     /**
@@ -63,7 +62,7 @@ public class BehaviorService {
      * @return All {@link Behavior Behaviors}.
      */
     public Iterable<Behavior> getAllBehaviors() {
-        return behaviorRepository.findAllByOrderByNameAsc();
+        return behaviorIndex.getAll();
     }
 
 }
@@ -18,14 +18,20 @@ package io.aiontechnology.mentorsuccess.service;
 
 import io.aiontechnology.mentorsuccess.entity.Book;
 import io.aiontechnology.mentorsuccess.repository.BookRepository;
+import io.aiontechnology.mentorsuccess.repository.CollectionFilter;
+import io.aiontechnology.mentorsuccess.repository.CollectionVersion;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
 import java.util.UUID;
 
+import static io.aiontechnology.mentorsuccess.repository.CollectionSpecifications.books;
+
 /**
  * Service that provides business logic for books.
  *
@@ -82,6 +88,27 @@ public class BookService {
         return bookRepository.findAllByOrderByTitleAsc();
     }
 
+    /**
+     * Get the version of the collection of active {@link Book Books}. It changes whenever a {@link Book} is added,
+     * updated or deactivated.
+     *
+     * @return The version of the collection.
+     */
+    public CollectionVersion getCollectionVersion() {
+        return CollectionVersion.of(bookRepository.findVersions());
+    }
+
+    /**
+     * Get a page of the {@link Book Books} that match the given filter.
+     *
+     * @param filter The criteria that the {@link Book Books} must match.
+     * @param pageable The requested page and sort order.
+     * @return The requested page of {@link Book Books}.
+     */
+    public Page<Book> getBooks(CollectionFilter filter, Pageable pageable) {
+        return bookRepository.findAll(books(filter), pageable);
+    }
+
     /**
      * Update the given {@link Book} in the database.
      *
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.service;
+
+import io.aiontechnology.mentorsuccess.entity.OutboxEmail;
+import io.aiontechnology.mentorsuccess.repository.OutboxEmailRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.aiontechnology.mentorsuccess.entity.OutboxEmail.Status.DEAD;
+import static io.aiontechnology.mentorsuccess.entity.OutboxEmail.Status.PENDING;
+import static io.aiontechnology.mentorsuccess.entity.OutboxEmail.Status.SENT;
+
+/**
+ * Service that queues emails in the outbox and delivers them. Queuing joins the caller's transaction, so an email is
+ * only sent if the work that produced it commits. Delivery happens later in batches over a single SMTP connection.
+ * Failed emails are retried with exponential backoff and are marked dead after too many attempts.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Service
+@Slf4j
+public class EmailOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    /** The repository used to interact with the database */
+    private final OutboxEmailRepository outboxEmailRepository;
+
+    /** Used to send the emails */
+    private final JavaMailSender mailSender;
+
+    /** The maximum number of emails sent over one connection */
+    private final int batchSize;
+
+    /** The number of attempts after which an email is marked dead */
+    private final int maxAttempts;
+
+    /** The delay before the first retry. Doubles with every further attempt. */
+    private final Duration initialBackoff;
+
+    /** The longest delay between attempts */
+    private final Duration maxBackoff;
+
+    public EmailOutboxService(OutboxEmailRepository outboxEmailRepository, JavaMailSender mailSender,
+            @Value("${mentorsuccess.email.batch-size:50}") int batchSize,
+            @Value("${mentorsuccess.email.max-attempts:8}") int maxAttempts,
+            @Value("${mentorsuccess.email.initial-backoff:PT30S}") Duration initialBackoff,
+            @Value("${mentorsuccess.email.max-backoff:PT1H}") Duration maxBackoff) {
+        this.outboxEmailRepository = outboxEmailRepository;
+        this.mailSender = mailSender;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Queue an email to be sent once the current transaction commits.
+     *
+     * @param to The comma separated recipients.
+     * @param cc The comma separated carbon copy recipients. May be empty.
+     * @param from The sender.
+     * @param subject The subject.
+     * @param body The HTML body.
+     * @return The queued email.
+     */
+    @Transactional
+    public OutboxEmail enqueue(String to, String cc, String from, String subject, String body) {
+        Instant now = Instant.now();
+        OutboxEmail email = new OutboxEmail();
+        email.setTo(to);
+        email.setCc(cc);
+        email.setFrom(from);
+        email.setSubject(subject);
+        email.setBody(body);
+        email.setStatus(PENDING);
+        email.setAttempts(0);
+        email.setCreatedAt(now);
+        email.setNextAttemptAt(now);
+        return outboxEmailRepository.save(email);
+    }
+
+    /**
+     * Send the next batch of due emails. The batch stays locked until the results are recorded.
+     *
+     * @return The number of emails that were attempted.
+     */
+    @Transactional
+    public int dispatch() {
+        Instant now = Instant.now();
+        List<OutboxEmail> due = outboxEmailRepository.findDue(PENDING, now, PageRequest.of(0, batchSize));
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        Map<MimeMessage, OutboxEmail> messages = new IdentityHashMap<>();
+        for (OutboxEmail email : due) {
+            try {
+                messages.put(toMimeMessage(email), email);
+            } catch (MessagingException | RuntimeException e) {
+                recordFailure(email, e, now);
+            }
+        }
+        if (messages.isEmpty()) {
+            return due.size();
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        try {
+            mailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages().isEmpty() ? allFailed(messages, e) : e.getFailedMessages();
+        } catch (MailException e) {
+            failures = allFailed(messages, e);
+        }
+
+        for (Map.Entry<MimeMessage, OutboxEmail> entry : messages.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                entry.getValue().setStatus(SENT);
+                entry.getValue().setSentAt(now);
+            } else {
+                recordFailure(entry.getValue(), failure, now);
+            }
+        }
+        log.debug("Dispatched {} emails with {} failures", due.size(), failures.size());
+        return due.size();
+    }
+
+    private Map<Object, Exception> allFailed(Map<MimeMessage, OutboxEmail> messages, Exception e) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        messages.keySet().forEach(message -> failures.put(message, e));
+        return failures;
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private void recordFailure(OutboxEmail email, Exception e, Instant now) {
+        int attempts = email.getAttempts() + 1;
+        email.setAttempts(attempts);
+        email.setLastError(StringUtils.abbreviate(e.getMessage(), MAX_ERROR_LENGTH));
+        if (attempts >= maxAttempts) {
+            email.setStatus(DEAD);
+            log.error("Giving up on email {} to {} after {} attempts", email.getId(), email.getTo(), attempts, e);
+        } else {
+            email.setNextAttemptAt(now.plus(backoff(attempts)));
+            log.warn("Failed to send email {} (attempt {}): {}", email.getId(), attempts, e.getMessage());
+        }
+    }
+
+    private MimeMessage toMimeMessage(OutboxEmail email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        helper.setTo(split(email.getTo()));
+        if (StringUtils.isNotBlank(email.getCc())) {
+            helper.setCc(split(email.getCc()));
+        }
+        helper.setFrom(email.getFrom());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getBody(), true);
+        return message;
+    }
+
+    private static String[] split(String addresses) {
+        return Arrays.stream(addresses.split(","))
+                .map(String::trim)
+                .filter(StringUtils::isNotEmpty)
+                .toArray(String[]::new);
+    }
+
+}
@@ -17,15 +17,21 @@
 package io.aiontechnology.mentorsuccess.service;
 
 import io.aiontechnology.mentorsuccess.entity.Game;
+import io.aiontechnology.mentorsuccess.repository.CollectionFilter;
+import io.aiontechnology.mentorsuccess.repository.CollectionVersion;
 import io.aiontechnology.mentorsuccess.repository.GameRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
 import java.util.UUID;
 
+import static io.aiontechnology.mentorsuccess.repository.CollectionSpecifications.games;
+
 /**
  * Service that provides business logic for games.
  *
@@ -82,6 +88,27 @@ public class GameService {
         return gameRepository.findAllByOrderByNameAsc();
     }
 
+    /**
+     * Get the version of the collection of active {@link Game Games}. It changes whenever a {@link Game} is added,
+     * updated or deactivated.
+     *
+     * @return The version of the collection.
+     */
+    public CollectionVersion getCollectionVersion() {
+        return CollectionVersion.of(gameRepository.findVersions());
+    }
+
+    /**
+     * Get a page of the {@link Game Games} that match the given filter.
+     *
+     * @param filter The criteria that the {@link Game Games} must match.
+     * @param pageable The requested page and sort order.
+     * @return The requested page of {@link Game Games}.
+     */
+    public Page<Game> getGames(CollectionFilter filter, Pageable pageable) {
+        return gameRepository.findAll(games(filter), pageable);
+    }
+
     /**
      * Update the given {@link Game} in the database.
      *
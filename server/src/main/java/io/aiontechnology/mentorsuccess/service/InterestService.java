@@ -42,9 +42,14 @@ public class InterestService {
     /** The repository used to interact with the database */
     private final InterestRepository interestRepository;
 
+    /** The in-memory index of Interest entities */
+    private final ReferenceIndex<Interest> interestIndex;
+
     @Transactional
     public Interest createInterest(Interest interest) {
-        return interestRepository.save(interest);
+        Interest saved = interestRepository.save(interest);
+        interestIndex.refreshAfterCommit();
+        return saved;
     }
 
     /**
@@ -54,7 +59,7 @@ public class InterestService {
      * @return The {@link Interest} if it could be found.
      */
     public Optional<Interest> findInterestById(UUID id) {
-        return interestRepository.findById(id);
+        return interestIndex.findById(id);
     }
 
     /**
@@ -64,7 +69,7 @@ public class InterestService {
      * @return The {@link Interest} if it could be found.
      */
     public Optional<Interest> findInterestByName(String name) {
-        return interestRepository.findByName(name);
+        return interestIndex.findByName(name);
     }
 
     /**
@@ -73,12 +78,14 @@ public class InterestService {
      * @return All {@link Interest Interests}.
      */
     public Iterable<Interest> getAllInterests() {
-        return interestRepository.findAllByOrderByNameAsc();
+        return interestIndex.getAll();
     }
 
     @Transactional
     public Interest updateInterest(Interest interest) {
-        return interestRepository.save(interest);
+        Interest saved = interestRepository.save(interest);
+        interestIndex.refreshAfterCommit();
+        return saved;
     }
 
 }
@@ -17,7 +17,6 @@
 package io.aiontechnology.mentorsuccess.service;
 
 import io.aiontechnology.mentorsuccess.entity.reference.LeadershipSkill;
-import io.aiontechnology.mentorsuccess.repository.LeadershipSkillRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -33,8 +32,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class LeadershipSkillService {
 
-    /** The repository used to interact with the database */
-    private final LeadershipSkillRepository leadershipSkillRepository;
+    /** The in-memory index of LeadershipSkill entities */
+    private final ReferenceIndex<LeadershipSkill> leadershipSkillIndex;
 
     /**
      * Find a {@link LeadershipSkill} by its name.
@@ -43,7 +42,7 @@ public class LeadershipSkillService {
      * @return The {@link LeadershipSkill} if it could be found.
      */
     public Optional<LeadershipSkill> findLeadershipSkillByName(String name) {
-        return leadershipSkillRepository.findByName(name);
+        return leadershipSkillIndex.findByName(name);
     }
 
     /**
@@ -52,7 +51,7 @@ public class LeadershipSkillService {
      * @return All {@link LeadershipSkill LeadershipSkills}.
      */
     public Iterable<LeadershipSkill> getAllLeadershipSkills() {
-        return leadershipSkillRepository.findAllByOrderByNameAsc();
+        return leadershipSkillIndex.getAll();
     }
 
 }
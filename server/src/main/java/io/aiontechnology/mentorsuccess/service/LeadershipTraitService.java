@@ -17,7 +17,6 @@
 package io.aiontechnology.mentorsuccess.service;
 
 import io.aiontechnology.mentorsuccess.entity.reference.LeadershipTrait;
-import io.aiontechnology.mentorsuccess.repository.LeadershipTraitRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -33,8 +32,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class LeadershipTraitService {
 
-    /** The repository used to interact with the database */
-    private final LeadershipTraitRepository leadershipTraitRepository;
+    /** The in-memory index of LeadershipTrait entities */
+    private final ReferenceIndex<LeadershipTrait> leadershipTraitIndex;
 
     /**
      * Find a {@link LeadershipTrait} by its name.
@@ -43,7 +42,7 @@ public class LeadershipTraitService {
      * @return The {@link LeadershipTrait} if it could be found.
      */
     public Optional<LeadershipTrait> findLeadershipTraitByName(String name) {
-        return leadershipTraitRepository.findByName(name);
+        return leadershipTraitIndex.findByName(name);
     }
 
     /**
@@ -52,7 +51,7 @@ public class LeadershipTraitService {
      * @return All {@link LeadershipTrait LeadershipTraits}.
      */
     public Iterable<LeadershipTrait> getAllLeadershipTraits() {
-        return leadershipTraitRepository.findAllByOrderByNameAsc();
+        return leadershipTraitIndex.getAll();
     }
 
 }
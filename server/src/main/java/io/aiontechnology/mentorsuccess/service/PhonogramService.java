@@ -17,7 +17,6 @@
 package io.aiontechnology.mentorsuccess.service;
 
 import io.aiontechnology.mentorsuccess.entity.reference.Phonogram;
-import io.aiontechnology.mentorsuccess.repository.PhonogramRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -34,8 +33,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class PhonogramService {
 
-    /** The repository used to interact with the database */
-    private final PhonogramRepository phonogramRepository;
+    /** The in-memory index of Phonogram entities */
+    private final ReferenceIndex<Phonogram> phonogramIndex;
 
     /**
      * Find a {@link Phonogram} by its id.
@@ -44,7 +43,7 @@ public class PhonogramService {
      * @return The {@link Phonogram} if it could be found.
      */
     public Optional<Phonogram> findPhonogramById(UUID id) {
-        return phonogramRepository.findById(id);
+        return phonogramIndex.findById(id);
     }
 
     /**
@@ -54,7 +53,7 @@ public class PhonogramService {
      * @return The {@link Phonogram} if it could be found.
      */
     public Optional<Phonogram> findPhonogramByName(String name) {
-        return phonogramRepository.findByName(name);
+        return phonogramIndex.findByName(name);
     }
 
     /**
@@ -63,7 +62,7 @@ public class PhonogramService {
      * @return All {@link Phonogram Phonograms}.
      */
     public Iterable<Phonogram> getAllPhonograms() {
-        return phonogramRepository.findAllByOrderByNameAsc();
+        return phonogramIndex.getAll();
     }
 
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of the {@link SchoolPersonRole} that each identity provider user acts as. Every authenticated
+ * request resolves its user through this cache, so entries expire after a short time and are invalidated whenever a
+ * role is changed or removed.
+ * <p>
+ * The cached values are detached snapshots that carry only the identity of the role and of its school. They must not
+ * be used to navigate to other entities.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    /** The name the cache statistics are published under */
+    private static final String CACHE_NAME = "principals";
+
+    /** The cached roles keyed by identity provider user id. Empty when the user has no role. */
+    private final Cache<UUID, Optional<SchoolPersonRole>> cache;
+
+    public PrincipalCache(MeterRegistry meterRegistry,
+            @Value("${mentorsuccess.principal-cache.maximum-size:10000}") long maximumSize,
+            @Value("${mentorsuccess.principal-cache.ttl:PT5M}") Duration ttl) {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Get the role of the given user, loading and caching it if necessary.
+     *
+     * @param idpUserId The identity provider user id.
+     * @param loader Loads the role when it is not cached.
+     * @return A snapshot of the role if the user has one.
+     */
+    public Optional<SchoolPersonRole> get(UUID idpUserId, Function<UUID, Optional<SchoolPersonRole>> loader) {
+        return cache.get(idpUserId, key -> loader.apply(key).map(PrincipalCache::snapshot));
+    }
+
+    /**
+     * Remove the given user from the cache. If a transaction is active the user is removed again once it completes so
+     * that a concurrent request cannot cache the state from before the change.
+     *
+     * @param idpUserId The identity provider user id. Ignored if null.
+     */
+    public void invalidate(UUID idpUserId) {
+        if (idpUserId == null) {
+            return;
+        }
+        log.debug("Invalidating cached principal {}", idpUserId);
+        cache.invalidate(idpUserId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(idpUserId);
+                }
+            });
+        }
+    }
+
+    private static SchoolPersonRole snapshot(SchoolPersonRole role) {
+        SchoolPersonRole snapshot = new SchoolPersonRole();
+        snapshot.setId(role.getId());
+        snapshot.setType(role.getType());
+        snapshot.setIsActive(role.getIsActive());
+        snapshot.setIdpUserId(role.getIdpUserId());
+        if (role.getSchool() != null) {
+            School school = new School();
+            school.setId(role.getSchool().getId());
+            snapshot.setSchool(school);
+        }
+        return snapshot;
+    }
+
+}
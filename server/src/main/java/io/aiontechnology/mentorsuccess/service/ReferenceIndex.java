@@ -0,0 +1,185 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.service;
+
+import io.aiontechnology.mentorsuccess.entity.reference.AbstractReference;
+import io.aiontechnology.mentorsuccess.repository.ReferenceRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * An in-memory index of a reference vocabulary (interests, behaviors, etc.) by name and by id. The index is an
+ * immutable snapshot that is loaded when the application starts and replaced as a whole when the vocabulary changes,
+ * so lookups never wait on the database or on each other.
+ * <p>
+ * The snapshot holds copies of the entities that are never attached to a persistence context. Lookups that may end up
+ * in an association return a reference from the current persistence context instead, which does not query the
+ * database. Names that are not in the snapshot fall back to the repository.
+ *
+ * @param <T> The type of reference entity.
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceIndex<T extends AbstractReference> {
+
+    /** The type of entity in the index */
+    private final Class<T> type;
+
+    /** Factory for the detached copies held by the index */
+    private final Supplier<T> factory;
+
+    /** The repository used to load the vocabulary and to resolve index misses */
+    private final ReferenceRepository<T> repository;
+
+    /** Used to tell whether a persistence context is bound to the current thread */
+    private final EntityManagerFactory entityManagerFactory;
+
+    /** The shared entity manager used to obtain references */
+    private final EntityManager entityManager;
+
+    /** The current snapshot. Null until first loaded. */
+    private volatile Snapshot<T> snapshot;
+
+    /**
+     * Find an entity by its name.
+     *
+     * @param name The name of the desired entity.
+     * @return The entity if it could be found.
+     */
+    public Optional<T> findByName(String name) {
+        return Optional.ofNullable(getSnapshot().getByName().get(name))
+                .flatMap(this::toReference)
+                .or(() -> repository.findByName(name));
+    }
+
+    /**
+     * Find an entity by its id.
+     *
+     * @param id The id of the desired entity.
+     * @return The entity if it could be found.
+     */
+    public Optional<T> findById(UUID id) {
+        return Optional.ofNullable(getSnapshot().getById().get(id))
+                .flatMap(this::toReference)
+                .or(() -> repository.findById(id));
+    }
+
+    /**
+     * Get every entity in the vocabulary, ordered by name. The returned entities are detached and must only be read.
+     *
+     * @return The entities.
+     */
+    public List<T> getAll() {
+        return getSnapshot().getAll();
+    }
+
+    /**
+     * Reload the vocabulary and replace the current snapshot.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        List<T> all = StreamSupport.stream(repository.findAll().spliterator(), false)
+                .map(this::copy)
+                .sorted(Comparator.comparing(AbstractReference::getName,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+        snapshot = new Snapshot<>(
+                all.stream()
+                        .filter(entity -> entity.getName() != null)
+                        .collect(Collectors.toUnmodifiableMap(AbstractReference::getName, Function.identity(),
+                                (first, second) -> first)),
+                all.stream()
+                        .collect(Collectors.toUnmodifiableMap(AbstractReference::getId, Function.identity())),
+                all);
+        log.debug("Loaded {} {} entries", all.size(), type.getSimpleName());
+    }
+
+    /**
+     * Reload the vocabulary once the current transaction commits, or immediately if there is no transaction.
+     */
+    public void refreshAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh();
+                }
+            });
+        } else {
+            refresh();
+        }
+    }
+
+    private T copy(T entity) {
+        T copy = factory.get();
+        copy.setId(entity.getId());
+        copy.setName(entity.getName());
+        return copy;
+    }
+
+    private Snapshot<T> getSnapshot() {
+        Snapshot<T> current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Without a persistence context bound to the thread a reference could not be initialized later, so the caller
+     * falls back to loading the entity.
+     */
+    private Optional<T> toReference(T entity) {
+        return TransactionSynchronizationManager.hasResource(entityManagerFactory)
+                ? Optional.of(entityManager.getReference(type, entity.getId()))
+                : Optional.empty();
+    }
+
+    @Value
+    private static class Snapshot<T> {
+
+        Map<String, T> byName;
+        Map<UUID, T> byId;
+        List<T> all;
+
+    }
+
+}
@@ -16,15 +16,23 @@
 
 package io.aiontechnology.mentorsuccess.service;
 
+import io.aiontechnology.mentorsuccess.entity.School;
 import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
+import io.aiontechnology.mentorsuccess.model.enumeration.RoleType;
+import io.aiontechnology.mentorsuccess.repository.CollectionFilter;
 import io.aiontechnology.mentorsuccess.repository.SchoolPersonRoleRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
+import static io.aiontechnology.mentorsuccess.repository.CollectionSpecifications.roles;
+
 /**
  * Service that provides business logic for roles.
  *
@@ -38,6 +46,9 @@ public class RoleService {
     /** The repository used to interact with the database */
     private final SchoolPersonRoleRepository schoolPersonRoleRepository;
 
+    /** The cache of the roles that identity provider users act as */
+    private final PrincipalCache principalCache;
+
     /**
      * Create a role in the database by saving the provided {@link SchoolPersonRole}.
      *
@@ -46,6 +57,7 @@ public class RoleService {
      */
     @Transactional
     public SchoolPersonRole createRole(SchoolPersonRole role) {
+        principalCache.invalidate(role.getIdpUserId());
         return schoolPersonRoleRepository.save(role);
     }
 
@@ -59,6 +71,7 @@ public class RoleService {
     public SchoolPersonRole deactivateRole(SchoolPersonRole role) {
         role.setIsActive(false);
         schoolPersonRoleRepository.save(role);
+        principalCache.invalidate(role.getIdpUserId());
         return role;
     }
 
@@ -72,10 +85,36 @@ public class RoleService {
         return schoolPersonRoleRepository.findById(id);
     }
 
+    /**
+     * Get a page of the {@link SchoolPersonRole SchoolPersonRoles} of the given types in a school that match the given
+     * filter.
+     *
+     * @param school The school that owns the roles.
+     * @param types The types of role to include.
+     * @param filter The criteria that the roles must match.
+     * @param pageable The requested page and sort order.
+     * @return The requested page of {@link SchoolPersonRole SchoolPersonRoles}.
+     */
+    public Page<SchoolPersonRole> getRoles(School school, Collection<RoleType> types, CollectionFilter filter,
+            Pageable pageable) {
+        return schoolPersonRoleRepository.findAll(roles(school, types, filter), pageable);
+    }
+
     public Optional<SchoolPersonRole> findRoleByIdpUserId(UUID idpUserId) {
         return schoolPersonRoleRepository.findByIdpUserId(idpUserId);
     }
 
+    /**
+     * Find the {@link SchoolPersonRole} that an identity provider user acts as. The result is cached and is only a
+     * snapshot of the identity of the role and its school.
+     *
+     * @param idpUserId The identity provider user id.
+     * @return A snapshot of the {@link SchoolPersonRole} if it could be found.
+     */
+    public Optional<SchoolPersonRole> findPrincipalByIdpUserId(UUID idpUserId) {
+        return principalCache.get(idpUserId, this::findRoleByIdpUserId);
+    }
+
     /**
      * Update the given {@link SchoolPersonRole} in the database.
      *
@@ -84,6 +123,7 @@ public class RoleService {
      */
     @Transactional
     public SchoolPersonRole updateRole(SchoolPersonRole role) {
+        principalCache.invalidate(role.getIdpUserId());
         return schoolPersonRoleRepository.save(role);
     }
 
@@ -19,14 +19,19 @@ package io.aiontechnology.mentorsuccess.service;
 import io.aiontechnology.mentorsuccess.entity.School;
 import io.aiontechnology.mentorsuccess.entity.SchoolSession;
 import io.aiontechnology.mentorsuccess.model.enumeration.RoleType;
+import io.aiontechnology.mentorsuccess.repository.CollectionFilter;
 import io.aiontechnology.mentorsuccess.repository.SchoolRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
 import java.util.UUID;
 
+import static io.aiontechnology.mentorsuccess.repository.CollectionSpecifications.schools;
+
 /**
  * Service that provides business logic for schools.
  *
@@ -77,6 +82,17 @@ public class SchoolService {
         return schoolRepository.findAllByOrderByNameAsc();
     }
 
+    /**
+     * Get a page of the {@link School Schools} that match the given filter.
+     *
+     * @param filter The criteria that the {@link School Schools} must match.
+     * @param pageable The requested page and sort order.
+     * @return The requested page of {@link School Schools}.
+     */
+    public Page<School> getSchools(CollectionFilter filter, Pageable pageable) {
+        return schoolRepository.findAll(schools(filter), pageable);
+    }
+
     /**
      * Find a {@link School} by its id.
      *
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import io.aiontechnology.mentorsuccess.entity.Person;
+import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
+import io.aiontechnology.mentorsuccess.entity.SchoolSession;
+import io.aiontechnology.mentorsuccess.entity.StudentSchoolSession;
+import io.aiontechnology.mentorsuccess.repository.StudentSchoolSessionRepository;
+import jakarta.persistence.EntityManager;
+import lombok.Getter;
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Service that exports the roster and assessments of a school session. Rows are written as they are read from a
+ * forward only cursor, and the output is flushed and the persistence context cleared at regular intervals, so memory
+ * use does not depend on the size of the roster and the first rows reach the client while the query is still being
+ * read.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Service
+public class SchoolSessionExportService {
+
+    /** The number of rows written between flushes */
+    private static final int FLUSH_INTERVAL = 100;
+
+    /** The number of questions in a behavioral assessment */
+    private static final int QUESTION_COUNT = 35;
+
+    private static final List<Column> COLUMNS = createColumns();
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final EntityManager entityManager;
+    private final StudentSchoolSessionRepository studentSchoolSessionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public SchoolSessionExportService(EntityManager entityManager,
+            StudentSchoolSessionRepository studentSchoolSessionRepository,
+            PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.studentSchoolSessionRepository = studentSchoolSessionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Write the active students of a school session to the given stream.
+     *
+     * @param schoolSession The session to export.
+     * @param format The format to write.
+     * @param outputStream The destination of the export. It is flushed but not closed.
+     */
+    public void export(SchoolSession schoolSession, Format format, OutputStream outputStream) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (SequenceWriter writer = createWriter(format, outputStream);
+                 Stream<StudentSchoolSession> rows = studentSchoolSessionRepository.streamActiveForExport(
+                         schoolSession)) {
+                int count = 0;
+                Iterator<StudentSchoolSession> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    writer.write(format.toRow(iterator.next()));
+                    if (++count % FLUSH_INTERVAL == 0) {
+                        writer.flush();
+                        entityManager.clear();
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static SequenceWriter createWriter(Format format, OutputStream outputStream) throws IOException {
+        return switch (format) {
+            case CSV -> {
+                CsvSchema.Builder schema = CsvSchema.builder().setUseHeader(true);
+                COLUMNS.forEach(column -> schema.addColumn(column.getName()));
+                yield CSV_MAPPER.writer(schema.build()).writeValues(outputStream);
+            }
+            case NDJSON -> JSON_MAPPER.writer().withRootValueSeparator("\n").writeValues(outputStream);
+        };
+    }
+
+    private static List<Column> createColumns() {
+        List<Column> columns = new ArrayList<>(List.of(
+                new Column("studentId", ss -> ss.getStudent().getStudentId()),
+                new Column("firstName", ss -> ss.getStudent().getFirstName()),
+                new Column("lastName", ss -> ss.getStudent().getLastName()),
+                new Column("grade", StudentSchoolSession::getGrade),
+                new Column("preferredTime", StudentSchoolSession::getPreferredTime),
+                new Column("actualTime", StudentSchoolSession::getActualTime),
+                new Column("startDate", StudentSchoolSession::getStartDate),
+                new Column("location", StudentSchoolSession::getLocation),
+                new Column("registrationSigned", StudentSchoolSession::getIsRegistrationSigned),
+                new Column("mediaReleaseSigned", StudentSchoolSession::getIsMediaReleaseSigned),
+                new Column("teacherFirstName", ss -> person(ss.getTeacher(), Person::getFirstName)),
+                new Column("teacherLastName", ss -> person(ss.getTeacher(), Person::getLastName)),
+                new Column("teacherEmail", ss -> person(ss.getTeacher(), Person::getEmail)),
+                new Column("teacherComment", StudentSchoolSession::getTeacherComment),
+                new Column("mentorFirstName", ss -> person(ss.getMentor(), Person::getFirstName)),
+                new Column("mentorLastName", ss -> person(ss.getMentor(), Person::getLastName)),
+                new Column("mentorEmail", ss -> person(ss.getMentor(), Person::getEmail)),
+                new Column("preBehavioralAssessment", StudentSchoolSession::getPreBehavioralAssessment),
+                new Column("postBehavioralAssessment", StudentSchoolSession::getPostBehavioralAssessment)));
+        for (String prefix : List.of("preQuestion", "postQuestion")) {
+            for (int question = 1; question <= QUESTION_COUNT; question++) {
+                columns.add(questionColumn(prefix + question));
+            }
+        }
+        return List.copyOf(columns);
+    }
+
+    private static Object person(SchoolPersonRole role, Function<Person, String> property) {
+        return Optional.ofNullable(role)
+                .map(SchoolPersonRole::getPerson)
+                .map(property)
+                .orElse(null);
+    }
+
+    private static Column questionColumn(String property) {
+        try {
+            MethodHandle getter = MethodHandles.publicLookup().findVirtual(StudentSchoolSession.class,
+                    "get" + StringUtils.capitalize(property), MethodType.methodType(Integer.class));
+            return new Column(property, studentSchoolSession -> {
+                try {
+                    return (Integer) getter.invokeExact(studentSchoolSession);
+                } catch (Throwable e) {
+                    throw new IllegalStateException("Unable to read " + property, e);
+                }
+            });
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Missing assessment question " + property, e);
+        }
+    }
+
+    /**
+     * The formats an export can be written in.
+     */
+    @Getter
+    public enum Format {
+
+        CSV(MediaType.parseMediaType("text/csv")) {
+            @Override
+            Object toRow(StudentSchoolSession studentSchoolSession) {
+                return COLUMNS.stream()
+                        .map(column -> column.getValue().apply(studentSchoolSession))
+                        .toList();
+            }
+        },
+
+        NDJSON(MediaType.APPLICATION_NDJSON) {
+            @Override
+            Object toRow(StudentSchoolSession studentSchoolSession) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                COLUMNS.forEach(column -> {
+                    Object value = column.getValue().apply(studentSchoolSession);
+                    if (value != null) {
+                        row.put(column.getName(), value);
+                    }
+                });
+                return row;
+            }
+        };
+
+        /** The media type of the format */
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        /**
+         * Find the format with the given name, ignoring case.
+         *
+         * @param name The name of the format.
+         * @return The format if there is one with the name.
+         */
+        public static Optional<Format> fromName(String name) {
+            return Arrays.stream(values())
+                    .filter(format -> format.name().equals(name.toUpperCase(Locale.ROOT)))
+                    .findFirst();
+        }
+
+        /**
+         * The file name extension of the format.
+         *
+         * @return The extension.
+         */
+        public String getExtension() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        abstract Object toRow(StudentSchoolSession studentSchoolSession);
+
+    }
+
+    @Value
+    private static class Column {
+        String name;
+        Function<StudentSchoolSession, Object> value;
+    }
+
+}
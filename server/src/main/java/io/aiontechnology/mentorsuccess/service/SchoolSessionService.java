@@ -18,17 +18,16 @@ package io.aiontechnology.mentorsuccess.service;
 
 import io.aiontechnology.mentorsuccess.entity.School;
 import io.aiontechnology.mentorsuccess.entity.SchoolSession;
-import io.aiontechnology.mentorsuccess.entity.StudentSchoolSession;
 import io.aiontechnology.mentorsuccess.repository.SchoolRepository;
 import io.aiontechnology.mentorsuccess.repository.SchoolSessionRepository;
+import io.aiontechnology.mentorsuccess.repository.StudentSchoolSessionRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * @author Whitney Hunter
@@ -36,10 +35,12 @@ import java.util.stream.Collectors;
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class SchoolSessionService {
 
     private final SchoolRepository schoolRepository;
     private final SchoolSessionRepository schoolSessionRepository;
+    private final StudentSchoolSessionRepository studentSchoolSessionRepository;
 
     public void deleteSchoolSession(SchoolSession schoolSession) {
         schoolSessionRepository.delete(schoolSession);
@@ -57,27 +58,37 @@ public class SchoolSessionService {
 
     @Transactional
     public SchoolSession updateSchoolSession(School school, SchoolSession newSchoolSession) {
-        Optional.ofNullable(school.getCurrentSession())
-                .ifPresent(currentSession -> {
-                    Collection<StudentSchoolSession> newStudentSchoolSessions =
-                            currentSession.getStudentSchoolSessions().stream()
-                                    .map(StudentSchoolSession::new)
-                                    .map(StudentSchoolSession::incrementGrade)
-                                    .map(studentSchoolSession -> studentSchoolSession.setSession(newSchoolSession))
-                                    .map(studentSchoolSession -> {
-                                        studentSchoolSession.setIsRegistrationSigned(Boolean.TRUE);
-                                        return studentSchoolSession;
-                                    })
-                                    .collect(Collectors.toList());
+        return updateSchoolSession(school, newSchoolSession, true);
+    }
 
-                    newSchoolSession.setStudentSchoolSessions(newStudentSchoolSessions);
-                });
+    /**
+     * Roll a school over into a new session. The students of the current session are copied into the new session
+     * with set-based statements, so the cost does not depend on the size of the roster. The copies are not loaded into
+     * the student school sessions of the returned session.
+     *
+     * @param school The school.
+     * @param newSchoolSession The new session, which becomes the current session of the school.
+     * @param includeInactiveStudents Whether inactive students should be copied into the new session.
+     * @return The new session.
+     */
+    @Transactional
+    public SchoolSession updateSchoolSession(School school, SchoolSession newSchoolSession,
+            boolean includeInactiveStudents) {
+        Optional<SchoolSession> previousSession = Optional.ofNullable(school.getCurrentSession());
 
-        school.setCurrentSession(newSchoolSession);
         newSchoolSession.setSchool(school);
+        SchoolSession savedSchoolSession = schoolSessionRepository.save(newSchoolSession);
+        school.setCurrentSession(savedSchoolSession);
         schoolRepository.save(school);
 
-        return school.getCurrentSession();
+        previousSession.ifPresent(currentSession -> {
+            int copied = studentSchoolSessionRepository.copyToSession(currentSession.getId(),
+                    savedSchoolSession.getId(), includeInactiveStudents);
+            log.info("Copied {} students from school session {} to {}", copied, currentSession.getId(),
+                    savedSchoolSession.getId());
+        });
+
+        return savedSchoolSession;
     }
 
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.service;
+
+import lombok.Getter;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The outcome of a bulk student import.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Getter
+public class StudentImportReport {
+
+    /** The number of students that were created */
+    private int imported;
+
+    /** The rows that were not imported and why */
+    private final List<RowError> errors = new ArrayList<>();
+
+    public int getFailed() {
+        return errors.size();
+    }
+
+    void recordImported(int count) {
+        imported += count;
+    }
+
+    void recordFailed(long row, List<String> messages) {
+        errors.add(new RowError(row, messages));
+    }
+
+    /**
+     * The reasons a single row was not imported.
+     */
+    @Value
+    public static class RowError {
+
+        /** The number of the row, counting from one and not counting a CSV header */
+        long row;
+
+        /** The reasons the row was rejected */
+        List<String> messages;
+
+    }
+
+}
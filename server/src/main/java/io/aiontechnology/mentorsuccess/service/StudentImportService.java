@@ -0,0 +1,189 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.service;
+
+import io.aiontechnology.atlas.mapping.OneWayMapper;
+import io.aiontechnology.mentorsuccess.api.error.NotFoundException;
+import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.SchoolSession;
+import io.aiontechnology.mentorsuccess.entity.Student;
+import io.aiontechnology.mentorsuccess.entity.StudentSchoolSession;
+import io.aiontechnology.mentorsuccess.model.inbound.student.InboundStudent;
+import io.aiontechnology.mentorsuccess.repository.StudentRepository;
+import io.aiontechnology.mentorsuccess.util.StudentImportReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Service that imports students into the current session of a school in bulk. Rows are validated as they are read and
+ * the valid ones are inserted in chunks, each chunk in its own transaction with its inserts sent to the database in
+ * JDBC batches. If a chunk fails its rows are retried one at a time so that a single bad row does not reject the
+ * others. The student information processes of the new students are started in the background once their chunk has
+ * committed.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Service
+@Slf4j
+public class StudentImportService {
+
+    // Mappers
+    private final OneWayMapper<InboundStudent, Student> studentModelToEntityMapper;
+    private final OneWayMapper<InboundStudent, StudentSchoolSession> studentSessionModelToEntityMapper;
+
+    // Repositories
+    private final StudentRepository studentRepository;
+
+    // Services
+    private final EntityManager entityManager;
+    private final SchoolService schoolService;
+    private final StudentImportWorkflowStarter workflowStarter;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+
+    /** The number of students inserted in a single transaction */
+    private final int chunkSize;
+
+    public StudentImportService(OneWayMapper<InboundStudent, Student> studentModelToEntityMapper,
+            OneWayMapper<InboundStudent, StudentSchoolSession> studentSessionModelToEntityMapper,
+            StudentRepository studentRepository, EntityManager entityManager, SchoolService schoolService,
+            StudentImportWorkflowStarter workflowStarter, PlatformTransactionManager transactionManager,
+            Validator validator, @Value("${mentorsuccess.student-import.chunk-size:100}") int chunkSize) {
+        this.studentModelToEntityMapper = studentModelToEntityMapper;
+        this.studentSessionModelToEntityMapper = studentSessionModelToEntityMapper;
+        this.studentRepository = studentRepository;
+        this.entityManager = entityManager;
+        this.schoolService = schoolService;
+        this.workflowStarter = workflowStarter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Import the given rows into the current session of a school.
+     *
+     * @param schoolId The id of the school.
+     * @param rows The rows to import.
+     * @return The number of students imported and the errors of the rows that were not.
+     */
+    public StudentImportReport importStudents(UUID schoolId, Iterator<StudentImportReader.Row> rows) {
+        transactionTemplate.executeWithoutResult(status -> getCurrentSession(getSchool(schoolId)));
+
+        StudentImportReport report = new StudentImportReport();
+        List<StudentImportReader.Row> chunk = new ArrayList<>(chunkSize);
+        while (rows.hasNext()) {
+            StudentImportReader.Row row = rows.next();
+            List<String> errors = row.getStudent()
+                    .map(this::validate)
+                    .orElse(row.getErrors());
+            if (errors.isEmpty()) {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    importChunk(schoolId, chunk, report);
+                    chunk.clear();
+                }
+            } else {
+                report.recordFailed(row.getNumber(), errors);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(schoolId, chunk, report);
+        }
+        log.info("Imported {} students into school {}, {} rows failed", report.getImported(), schoolId,
+                report.getFailed());
+        return report;
+    }
+
+    private School getSchool(UUID schoolId) {
+        return schoolService.getSchoolById(schoolId)
+                .orElseThrow(() -> new NotFoundException("School was not found"));
+    }
+
+    private SchoolSession getCurrentSession(School school) {
+        SchoolSession currentSession = school.getCurrentSession();
+        if (currentSession == null) {
+            throw new NotFoundException("Current session is not set");
+        }
+        return currentSession;
+    }
+
+    private void importChunk(UUID schoolId, List<StudentImportReader.Row> chunk, StudentImportReport report) {
+        try {
+            Map<UUID, String> created = transactionTemplate.execute(status -> insert(schoolId, chunk));
+            report.recordImported(created.size());
+            workflowStarter.start(schoolId, created);
+        } catch (RuntimeException e) {
+            log.warn("Import of a chunk of {} students failed, retrying them one at a time", chunk.size(), e);
+            for (StudentImportReader.Row row : chunk) {
+                try {
+                    Map<UUID, String> created = transactionTemplate.execute(status -> insert(schoolId, List.of(row)));
+                    report.recordImported(created.size());
+                    workflowStarter.start(schoolId, created);
+                } catch (RuntimeException rowException) {
+                    report.recordFailed(row.getNumber(),
+                            List.of(Objects.toString(rowException.getMessage(), "Unable to import the student")));
+                }
+            }
+        }
+    }
+
+    private Map<UUID, String> insert(UUID schoolId, List<StudentImportReader.Row> rows) {
+        School school = getSchool(schoolId);
+        SchoolSession currentSession = getCurrentSession(school);
+        Map<UUID, String> created = new HashMap<>();
+        for (StudentImportReader.Row row : rows) {
+            InboundStudent inboundStudent = row.getStudent().orElseThrow();
+            Student student = studentModelToEntityMapper.map(inboundStudent)
+                    .orElseThrow(() -> new IllegalStateException("Mapping of student failed"));
+            StudentSchoolSession studentSchoolSession = studentSessionModelToEntityMapper.map(inboundStudent)
+                    .map(ss -> ss.setSession(currentSession))
+                    .orElseThrow(() -> new IllegalStateException("Mapping of student session failed"));
+            student.addStudentSession(studentSchoolSession);
+            // Not school.addStudent: that would load every student of the school
+            student.setSchool(school);
+            studentRepository.save(student);
+            created.put(student.getId(), inboundStudent.getBaseUri());
+        }
+        // Flush the batched inserts and release the chunk from the request's persistence context
+        entityManager.flush();
+        entityManager.clear();
+        return created;
+    }
+
+    private List<String> validate(InboundStudent student) {
+        return validator.validate(student).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.service;
+
+import io.aiontechnology.mentorsuccess.api.error.NotFoundException;
+import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.Student;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.REGISTRATION_TIMEOUT_VALUE;
+
+/**
+ * Starts the student information processes of imported students in the background. Each process is started in its
+ * own transaction so that a student whose process cannot be started does not affect the others.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Component
+@Slf4j
+public class StudentImportWorkflowStarter {
+
+    private final SchoolService schoolService;
+    private final StudentRegistrationService studentRegistrationService;
+    private final StudentService studentService;
+    private final TransactionTemplate transactionTemplate;
+
+    public StudentImportWorkflowStarter(SchoolService schoolService,
+            StudentRegistrationService studentRegistrationService, StudentService studentService,
+            PlatformTransactionManager transactionManager) {
+        this.schoolService = schoolService;
+        this.studentRegistrationService = studentRegistrationService;
+        this.studentService = studentService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Start the student information process for each of the given students.
+     *
+     * @param schoolId The id of the school the students were imported into.
+     * @param baseUrisByStudentId The base URI of the registration links of each student keyed by student id.
+     */
+    @Async
+    public void start(UUID schoolId, Map<UUID, String> baseUrisByStudentId) {
+        baseUrisByStudentId.forEach((studentId, baseUri) -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    School school = schoolService.getSchoolById(schoolId)
+                            .orElseThrow(() -> new NotFoundException("School was not found"));
+                    Student student = studentService.getStudentById(studentId)
+                            .orElseThrow(() -> new NotFoundException("Student was not found"));
+                    studentRegistrationService.startStudentInformationProcess(school, student, baseUri,
+                            REGISTRATION_TIMEOUT_VALUE);
+                });
+            } catch (RuntimeException e) {
+                log.warn("Unable to start the student information process for imported student {}", studentId, e);
+            }
+        });
+    }
+
+}
@@ -17,26 +17,70 @@
 package io.aiontechnology.mentorsuccess.service;
 
 import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.StudentRegistrationSummary;
 import io.aiontechnology.mentorsuccess.model.inbound.InboundInvitation;
+import io.aiontechnology.mentorsuccess.repository.StudentRegistrationSummaryRepository;
+import io.aiontechnology.mentorsuccess.workflow.ProcessBusinessKey;
 import io.aiontechnology.mentorsuccess.workflow.student.StudentRegistrationProcessVariableHolder;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.flowable.engine.RuntimeService;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.UUID;
+
 import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.STUDENT_REGISTRATION_PROCESS;
 
 @Service
 @RequiredArgsConstructor()
 public class StudentInvitationService {
 
+    // Repositories
+    private final StudentRegistrationSummaryRepository studentRegistrationSummaryRepository;
+
     // Services
     private final RuntimeService runtimeService;
 
+    /**
+     * Start the registration process for the invited student. The fields shown on the registration page are stored in
+     * a {@link StudentRegistrationSummary} in the same transaction.
+     *
+     * @param invitation The invitation.
+     * @param school The school that is sending the invitation.
+     */
+    @Transactional
     public void invite(InboundInvitation invitation, School school) {
         var processVariables = StudentRegistrationProcessVariableHolder.builder(school, invitation)
                 .build()
                 .processVariables();
-        runtimeService.startProcessInstanceByKey(STUDENT_REGISTRATION_PROCESS, processVariables);
+        var businessKey = new ProcessBusinessKey(school.getId(), school.getCurrentSession().getId(), null,
+                ProcessBusinessKey.Kind.REGISTRATION);
+        var processInstance = runtimeService.startProcessInstanceByKey(STUDENT_REGISTRATION_PROCESS,
+                businessKey.toString(), processVariables);
+        studentRegistrationSummaryRepository.save(createSummary(UUID.fromString(processInstance.getId()),
+                school.getId(), invitation));
+    }
+
+    /**
+     * Create the summary of a registration process from its invitation.
+     *
+     * @param processId The id of the registration process.
+     * @param schoolId The id of the school that sent the invitation.
+     * @param invitation The invitation.
+     * @return The summary.
+     */
+    static StudentRegistrationSummary createSummary(UUID processId, UUID schoolId, InboundInvitation invitation) {
+        var summary = new StudentRegistrationSummary();
+        summary.setId(processId);
+        summary.setSchoolId(schoolId);
+        summary.setStudentFirstName(invitation.getStudentFirstName());
+        summary.setStudentLastName(invitation.getStudentLastName());
+        summary.setParent1FirstName(invitation.getParent1FirstName());
+        summary.setParent1LastName(invitation.getParent1LastName());
+        summary.setParent1EmailAddress(invitation.getParent1EmailAddress());
+        summary.setCreatedAt(Instant.now());
+        return summary;
     }
 
 }
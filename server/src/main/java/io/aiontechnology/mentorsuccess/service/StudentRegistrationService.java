@@ -22,6 +22,7 @@ import io.aiontechnology.mentorsuccess.api.error.WorkflowException;
 import io.aiontechnology.mentorsuccess.entity.School;
 import io.aiontechnology.mentorsuccess.entity.SchoolSession;
 import io.aiontechnology.mentorsuccess.entity.Student;
+import io.aiontechnology.mentorsuccess.entity.StudentRegistrationSummary;
 import io.aiontechnology.mentorsuccess.entity.StudentSchoolSession;
 import io.aiontechnology.mentorsuccess.entity.workflow.StudentRegistration;
 import io.aiontechnology.mentorsuccess.feature.workflow.process.ProcessIdToSingleTaskFunction;
@@ -29,7 +30,9 @@ import io.aiontechnology.mentorsuccess.model.inbound.InboundInvitation;
 import io.aiontechnology.mentorsuccess.model.inbound.student.InboundStudent;
 import io.aiontechnology.mentorsuccess.model.inbound.student.InboundStudentInformation;
 import io.aiontechnology.mentorsuccess.model.inbound.student.InboundStudentRegistration;
+import io.aiontechnology.mentorsuccess.repository.StudentRegistrationSummaryRepository;
 import io.aiontechnology.mentorsuccess.workflow.FlowableProcessUtilities;
+import io.aiontechnology.mentorsuccess.workflow.ProcessBusinessKey;
 import io.aiontechnology.mentorsuccess.workflow.student.StudentInformationProcessVariableHolder;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -48,6 +51,7 @@ import java.util.UUID;
 import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.INVITATION;
 import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.NEW_STUDENT;
 import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.REGISTRATION;
+import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.SCHOOL_ID;
 import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.SHOULD_CANCEL;
 import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.STUDENT_ID;
 import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.STUDENT_INFORMATION;
@@ -63,11 +67,15 @@ public class StudentRegistrationService {
     private final OneWayMapper<InboundStudent, StudentSchoolSession> studentSessionModelToEntityMapper;
     private final OneWayMapper<InboundStudentRegistration, InboundStudent> studentRegistrationToStudentMapper;
 
+    // Repositories
+    private final StudentRegistrationSummaryRepository studentRegistrationSummaryRepository;
+
     // Services
     private final FlowableProcessUtilities flowableProcessUtilities;
     private final ProcessIdToSingleTaskFunction flowableTaskUtilities;
     private final RuntimeService runtimeService;
     private final SchoolService schoolService;
+    private final StudentSchoolSessionService studentSchoolSessionService;
     private final StudentService studentService;
     private final TaskService taskService;
 
@@ -98,27 +106,18 @@ public class StudentRegistrationService {
                 });
     }
 
+    /**
+     * Find the summary of a running registration process. The summary is read from its projection row. Processes
+     * started before the projection existed are read from their variables once and then stored.
+     *
+     * @param processId The id of the registration process.
+     * @return The registration if the process is running.
+     */
+    @Transactional
     public Optional<StudentRegistration> findStudentRegistrationWorkflowById(UUID processId) {
-        StudentRegistration studentRegistration = new StudentRegistration();
-        TaskQuery query = taskService.createTaskQuery()
-                .processInstanceId(processId.toString())
-                .includeProcessVariables();
-        return query.list().stream()
-                .findFirst()
-                .map(task -> {
-                    studentRegistration.setId(UUID.fromString(task.getProcessInstanceId()));
-                    return task;
-                })
-                .map(TaskInfo::getProcessVariables)
-                .map(variables -> {
-                    InboundInvitation inboundInvitation = (InboundInvitation) variables.get(INVITATION);
-                    studentRegistration.setStudentFirstName(inboundInvitation.getStudentFirstName());
-                    studentRegistration.setStudentLastName(inboundInvitation.getStudentLastName());
-                    studentRegistration.setParent1FirstName(inboundInvitation.getParent1FirstName());
-                    studentRegistration.setParent1LastName(inboundInvitation.getParent1LastName());
-                    studentRegistration.setParent1EmailAddress(inboundInvitation.getParent1EmailAddress());
-                    return studentRegistration;
-                });
+        return studentRegistrationSummaryRepository.findById(processId)
+                .or(() -> loadSummaryFromProcess(processId))
+                .map(this::toStudentRegistration);
     }
 
     public void processRegistration(UUID schoolId, UUID processId, InboundStudentRegistration studentRegistration) {
@@ -146,16 +145,22 @@ public class StudentRegistrationService {
     public void startStudentInformationProcess(School school, Student student, String registrationBase,
             String registrationTimeout) {
         var currentSession = school.getCurrentSession();
-        student.findCurrentSessionForStudent(currentSession)
+        studentSchoolSessionService.findStudentSchoolSession(student, currentSession)
                 .filter(currentStudentSchoolSession -> currentStudentSchoolSession.getCompletedInfoFlowId() == null)
                 .ifPresentOrElse(currentStudentSchoolSession -> {
+                            var businessKey = new ProcessBusinessKey(school.getId(), currentSession.getId(),
+                                    student.getId(), ProcessBusinessKey.Kind.STUDENT_INFORMATION).toString();
+                            if (isProcessRunning(businessKey)) {
+                                throw new WorkflowException("Student info workflow is already running");
+                            }
                             var processVariables = StudentInformationProcessVariableHolder
                                     .builder(school, student, registrationBase)
                                     .withTeacher(currentStudentSchoolSession.getTeacher())
                                     .withRegistrationTimeout(registrationTimeout)
                                     .build()
                                     .processVariables();
-                            runtimeService.startProcessInstanceByKey(STUDENT_INFORMATION_PROCESS, processVariables);
+                            runtimeService.startProcessInstanceByKey(STUDENT_INFORMATION_PROCESS, businessKey,
+                                    processVariables);
                         },
                         () -> {
                             throw new WorkflowException("Student info workflow may not be run twice");
@@ -164,8 +169,7 @@ public class StudentRegistrationService {
 
     private void completeTask(UUID processId, Map<String, Object> variables) {
         TaskQuery query = taskService.createTaskQuery()
-                .processInstanceId(processId.toString())
-                .includeProcessVariables();
+                .processInstanceId(processId.toString());
         query.list().stream()
                 .findFirst()
                 .ifPresent(task -> {
@@ -174,4 +178,34 @@ public class StudentRegistrationService {
                 });
     }
 
+    private boolean isProcessRunning(String businessKey) {
+        return runtimeService.createProcessInstanceQuery()
+                .processInstanceBusinessKey(businessKey)
+                .count() > 0;
+    }
+
+    private Optional<StudentRegistrationSummary> loadSummaryFromProcess(UUID processId) {
+        TaskQuery query = taskService.createTaskQuery()
+                .processInstanceId(processId.toString())
+                .includeProcessVariables();
+        return query.list().stream()
+                .findFirst()
+                .map(TaskInfo::getProcessVariables)
+                .map(variables -> StudentInvitationService.createSummary(processId,
+                        UUID.fromString((String) variables.get(SCHOOL_ID)),
+                        (InboundInvitation) variables.get(INVITATION)))
+                .map(studentRegistrationSummaryRepository::save);
+    }
+
+    private StudentRegistration toStudentRegistration(StudentRegistrationSummary summary) {
+        StudentRegistration studentRegistration = new StudentRegistration();
+        studentRegistration.setId(summary.getId());
+        studentRegistration.setStudentFirstName(summary.getStudentFirstName());
+        studentRegistration.setStudentLastName(summary.getStudentLastName());
+        studentRegistration.setParent1FirstName(summary.getParent1FirstName());
+        studentRegistration.setParent1LastName(summary.getParent1LastName());
+        studentRegistration.setParent1EmailAddress(summary.getParent1EmailAddress());
+        return studentRegistration;
+    }
+
 }
@@ -16,12 +16,19 @@
 
 package io.aiontechnology.mentorsuccess.service;
 
+import io.aiontechnology.mentorsuccess.entity.SchoolSession;
+import io.aiontechnology.mentorsuccess.entity.Student;
 import io.aiontechnology.mentorsuccess.entity.StudentSchoolSession;
+import io.aiontechnology.mentorsuccess.feature.analytics.service.AssessmentStatisticsService;
 import io.aiontechnology.mentorsuccess.repository.StudentSchoolSessionRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+import java.util.UUID;
+
 /**
  * @author Whitney Hunter
  * @since 1.8.0
@@ -30,11 +37,45 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class StudentSchoolSessionService {
 
+    private final AssessmentStatisticsService assessmentStatisticsService;
     private final StudentSchoolSessionRepository studentSchoolSessionRepository;
 
+    /**
+     * Find the {@link StudentSchoolSession} that connects the given student to the given session. The student's
+     * in-memory index is used when its sessions are already loaded, otherwise only the single row is read.
+     *
+     * @param student The student.
+     * @param schoolSession The school session.
+     * @return The {@link StudentSchoolSession} if the student attended the session.
+     */
+    public Optional<StudentSchoolSession> findStudentSchoolSession(Student student, SchoolSession schoolSession) {
+        if (student.getId() == null || Hibernate.isInitialized(student.getStudentSchoolSessions())) {
+            return student.findCurrentSessionForStudent(schoolSession);
+        }
+        return studentSchoolSessionRepository.findByStudentAndSchoolSession(student.getId(), schoolSession.getId());
+    }
+
+    /**
+     * Find the {@link StudentSchoolSession} of a student that is active in the given session.
+     *
+     * @param studentId The id of the student.
+     * @param schoolSession The school session.
+     * @return The {@link StudentSchoolSession} if the student is active in the session.
+     */
+    public Optional<StudentSchoolSession> findActiveStudentSchoolSession(UUID studentId,
+            SchoolSession schoolSession) {
+        return studentSchoolSessionRepository.findByStudentAndSchoolSession(studentId, schoolSession.getId())
+                .filter(studentSchoolSession -> Boolean.TRUE.equals(studentSchoolSession.getIsActive()));
+    }
+
+    /**
+     * Deactivate a student in a session. The student's assessments are removed from the session's summaries.
+     *
+     * @param studentSchoolSession The student school session to deactivate.
+     */
     @Transactional
     public void deactivateStudent(StudentSchoolSession studentSchoolSession) {
-        studentSchoolSession.setIsActive(false);
+        assessmentStatisticsService.recordChange(studentSchoolSession, () -> studentSchoolSession.setIsActive(false));
         studentSchoolSessionRepository.save(studentSchoolSession);
     }
 
@@ -16,16 +16,22 @@
 
 package io.aiontechnology.mentorsuccess.service;
 
-import io.aiontechnology.mentorsuccess.entity.School;
 import io.aiontechnology.mentorsuccess.entity.SchoolSession;
 import io.aiontechnology.mentorsuccess.entity.Student;
 import io.aiontechnology.mentorsuccess.entity.StudentSchoolSession;
+import io.aiontechnology.mentorsuccess.feature.analytics.service.AssessmentStatisticsService;
 import io.aiontechnology.mentorsuccess.repository.StudentRepository;
+import io.aiontechnology.mentorsuccess.repository.StudentSchoolSessionRepository;
+import io.aiontechnology.mentorsuccess.util.StudentRosterCursor;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -43,27 +49,69 @@ public class StudentService {
     /** The repository used to interact with the database */
     private final StudentRepository studentRepository;
 
-    public Iterable<Student> getAllStudents(School school, SchoolSession session) {
-        Collection<StudentSchoolSession> studentSchoolSessions = school.getStudents().stream()
-                .map(student -> student.findCurrentSessionForStudent(session))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .filter(StudentSchoolSession::getIsActive)
-                .collect(Collectors.toList());
-        return studentSchoolSessions.stream()
-                .map(StudentSchoolSession::getStudent)
-                .collect(Collectors.toList());
-    }
+    /** The repository used to query student sessions */
+    private final StudentSchoolSessionRepository studentSchoolSessionRepository;
 
-    public Optional<Student> getStudentById(UUID id, SchoolSession session) {
-        Optional<Student> student = studentRepository.findById(id);
+    /** Service for finding the session of a student */
+    private final StudentSchoolSessionService studentSchoolSessionService;
+
+    /** Service that keeps the assessment summaries up to date */
+    private final AssessmentStatisticsService assessmentStatisticsService;
 
-        boolean isActive = student
-                .flatMap(s -> s.findCurrentSessionForStudent(session))
-                .map(ss -> ss.getIsActive())
-                .orElse(false);
+    /**
+     * Get a page of the active roster for a session. The roster is ordered by student last name and paged by keyset
+     * so that the cost of a page depends only on its size.
+     *
+     * @param session The session whose roster is desired.
+     * @param after The position of the last student on the previous page or empty for the first page.
+     * @param size The maximum number of students to return.
+     * @return The slice of {@link StudentSchoolSession StudentSchoolSessions} for the page.
+     */
+    public Slice<StudentSchoolSession> getStudentRoster(SchoolSession session, Optional<StudentRosterCursor> after,
+            int size) {
+        Pageable pageable = PageRequest.ofSize(size);
+        return after
+                .map(cursor -> studentSchoolSessionRepository.findRosterAfter(session, true, cursor.getLastName(),
+                        cursor.getStudentId(), pageable))
+                .orElseGet(() -> studentSchoolSessionRepository.findRoster(session, true, pageable));
+    }
+
+    /**
+     * Initialize everything the student assembler reads for the given sessions. Each association is loaded for all
+     * the sessions at once, so assembling a page of students costs the same number of statements no matter how large
+     * the page is.
+     *
+     * @param studentSchoolSessions The sessions that are about to be assembled.
+     * @return The given sessions.
+     */
+    public Collection<StudentSchoolSession> fetchForAssembly(Collection<StudentSchoolSession> studentSchoolSessions) {
+        if (!studentSchoolSessions.isEmpty()) {
+            List<UUID> sessionIds = studentSchoolSessions.stream()
+                    .map(StudentSchoolSession::getId)
+                    .collect(Collectors.toList());
+            List<UUID> studentIds = studentSchoolSessions.stream()
+                    .map(studentSchoolSession -> studentSchoolSession.getStudent().getId())
+                    .collect(Collectors.toList());
+            studentSchoolSessionRepository.findWithInterestsByIdIn(sessionIds);
+            studentSchoolSessionRepository.findWithActivityFocusesByIdIn(sessionIds);
+            studentSchoolSessionRepository.findWithBehaviorsByIdIn(sessionIds);
+            studentSchoolSessionRepository.findWithLeadershipSkillsByIdIn(sessionIds);
+            studentSchoolSessionRepository.findWithLeadershipTraitsByIdIn(sessionIds);
+            studentRepository.findWithContactsByIdIn(studentIds);
+        }
+        return studentSchoolSessions;
+    }
 
-        return isActive ? student : Optional.empty();
+    /**
+     * Find a {@link Student} that is active in the given session.
+     *
+     * @param id The id of the desired {@link Student}.
+     * @param session The session in which the student must be active.
+     * @return The student if it could be found and is active in the session or empty if not.
+     */
+    public Optional<Student> getStudentById(UUID id, SchoolSession session) {
+        return studentSchoolSessionService.findActiveStudentSchoolSession(id, session)
+                .map(StudentSchoolSession::getStudent);
     }
 
     /**
@@ -86,11 +134,11 @@ public class StudentService {
     @Transactional
     public Student removeTeacherFromCurrentSession(Student student, SchoolSession currentSession) {
         if (currentSession != null) {
-            student.findCurrentSessionForStudent(currentSession)
-                    .ifPresent(current -> {
+            studentSchoolSessionService.findStudentSchoolSession(student, currentSession)
+                    .ifPresent(current -> assessmentStatisticsService.recordChange(current, () -> {
                         current.setTeacher(null);
                         current.setTeacherComment(null);
-                    });
+                    }));
         }
         return student;
     }
@@ -17,7 +17,6 @@
 package io.aiontechnology.mentorsuccess.service;
 
 import io.aiontechnology.mentorsuccess.entity.reference.Tag;
-import io.aiontechnology.mentorsuccess.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -33,8 +32,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class TagService {
 
-    /** The repository used to interact with the database */
-    private final TagRepository tagRepository;
+    /** The in-memory index of Tag entities */
+    private final ReferenceIndex<Tag> tagIndex;
 
     /**
      * Find a {@link Tag} by its name.
@@ -43,7 +42,7 @@ public class TagService {
      * @return The {@link Tag} if it could be found.
      */
     public Optional<Tag> findTagByName(String name) {
-        return tagRepository.findByName(name);
+        return tagIndex.findByName(name);
     }
 
     /**
@@ -52,7 +51,7 @@ public class TagService {
      * @return All {@link Tag tags}.
      */
     public Iterable<Tag> getAllTags() {
-        return tagRepository.findAll();
+        return tagIndex.getAll();
     }
 
 }
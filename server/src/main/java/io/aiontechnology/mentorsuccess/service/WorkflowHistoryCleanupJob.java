@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically deletes expired workflow history.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Component
+@ConditionalOnProperty(name = "mentorsuccess.history.cleanup.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class WorkflowHistoryCleanupJob {
+
+    private final WorkflowHistoryCleanupService workflowHistoryCleanupService;
+
+    /**
+     * Run the cleanup.
+     */
+    @Scheduled(cron = "${mentorsuccess.history.cleanup.cron:0 0 3 * * *}")
+    public void cleanup() {
+        workflowHistoryCleanupService.cleanup();
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.engine.HistoryService;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.aiontechnology.mentorsuccess.feature.workflow.WorkflowKeys.REQUEST_POST_ASSESSMENT_PROCESS_KEY;
+import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.STUDENT_INFORMATION_PROCESS;
+import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.STUDENT_REGISTRATION_PROCESS;
+
+/**
+ * Service that deletes the history of finished processes once it is older than the retention configured for its
+ * process key. Instances are deleted in bounded batches, each in its own engine transaction, so a large backlog never
+ * holds locks on the history tables for long. The duration of each run, the number of instances deleted and the row
+ * counts of the history tables are published as metrics. The row counts are refreshed at the end of every run.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Service
+@Slf4j
+public class WorkflowHistoryCleanupService {
+
+    private static final String HISTORY_TABLE_PREFIX = "ACT_HI_";
+
+    /** Used to find and delete historic process instances */
+    private final HistoryService historyService;
+
+    /** Used to count the rows of the history tables */
+    private final ManagementService managementService;
+
+    /** The retention of finished processes by process definition key */
+    private final Map<String, Duration> retentions;
+
+    /** The maximum number of process instances deleted in one transaction */
+    private final int batchSize;
+
+    private final Clock clock;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Timer cleanupTimer;
+
+    private final Map<String, AtomicLong> tableRowCounts = new ConcurrentHashMap<>();
+
+    public WorkflowHistoryCleanupService(HistoryService historyService, ManagementService managementService,
+            MeterRegistry meterRegistry,
+            @Value("${mentorsuccess.history.retention.registration:P365D}") Duration registrationRetention,
+            @Value("${mentorsuccess.history.retention.student-information:P365D}") Duration informationRetention,
+            @Value("${mentorsuccess.history.retention.post-assessment:P365D}") Duration postAssessmentRetention,
+            @Value("${mentorsuccess.history.batch-size:100}") int batchSize) {
+        this(historyService, managementService, meterRegistry, Map.of(
+                STUDENT_REGISTRATION_PROCESS, registrationRetention,
+                STUDENT_INFORMATION_PROCESS, informationRetention,
+                REQUEST_POST_ASSESSMENT_PROCESS_KEY, postAssessmentRetention), batchSize, Clock.systemUTC());
+    }
+
+    WorkflowHistoryCleanupService(HistoryService historyService, ManagementService managementService,
+            MeterRegistry meterRegistry, Map<String, Duration> retentions, int batchSize, Clock clock) {
+        this.historyService = historyService;
+        this.managementService = managementService;
+        this.meterRegistry = meterRegistry;
+        this.retentions = retentions;
+        this.batchSize = batchSize;
+        this.clock = clock;
+        cleanupTimer = Timer.builder("mentorsuccess.workflow.history.cleanup")
+                .description("Duration of a workflow history cleanup run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Delete the history of every process whose retention has expired and refresh the table row counts.
+     *
+     * @return The number of process instances deleted.
+     */
+    public int cleanup() {
+        return cleanupTimer.record(() -> {
+            int deleted = 0;
+            for (Map.Entry<String, Duration> retention : retentions.entrySet()) {
+                deleted += cleanup(retention.getKey(), retention.getValue());
+            }
+            refreshTableRowCounts();
+            return deleted;
+        });
+    }
+
+    private int cleanup(String processDefinitionKey, Duration retention) {
+        Date finishedBefore = Date.from(Instant.now(clock).minus(retention));
+        Counter deletedCounter = Counter.builder("mentorsuccess.workflow.history.deleted")
+                .description("Historic process instances deleted by the cleanup")
+                .tag("process", processDefinitionKey)
+                .register(meterRegistry);
+        int deleted = 0;
+        List<String> batch;
+        do {
+            // Always read the first page: the previous page has been deleted
+            batch = historyService.createHistoricProcessInstanceQuery()
+                    .processDefinitionKey(processDefinitionKey)
+                    .finished()
+                    .finishedBefore(finishedBefore)
+                    .orderByProcessInstanceEndTime().asc()
+                    .listPage(0, batchSize).stream()
+                    .map(HistoricProcessInstance::getId)
+                    .toList();
+            if (!batch.isEmpty()) {
+                historyService.bulkDeleteHistoricProcessInstances(batch);
+                deletedCounter.increment(batch.size());
+                deleted += batch.size();
+            }
+        } while (batch.size() == batchSize);
+        if (deleted > 0) {
+            log.info("Deleted the history of {} {} processes finished before {}", deleted, processDefinitionKey,
+                    finishedBefore);
+        }
+        return deleted;
+    }
+
+    private void refreshTableRowCounts() {
+        managementService.getTableCount().forEach((table, count) -> {
+            if (table.toUpperCase(Locale.ROOT).contains(HISTORY_TABLE_PREFIX)) {
+                tableRowCounts.computeIfAbsent(table, this::registerTableRowCount).set(count);
+            }
+        });
+    }
+
+    private AtomicLong registerTableRowCount(String table) {
+        return meterRegistry.gauge("mentorsuccess.workflow.history.rows", Tags.of("table", table), new AtomicLong());
+    }
+
+}
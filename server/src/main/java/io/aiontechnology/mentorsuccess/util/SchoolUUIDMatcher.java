@@ -16,34 +16,83 @@
 
 package io.aiontechnology.mentorsuccess.util;
 
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.net.URI;
 import java.util.UUID;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
+ * Determines whether a request path addresses a given school. The school id is read directly from the characters of
+ * the path so that matching does not allocate on every request.
+ *
  * @author Whitney Hunter
  * @since 0.12.0
  */
 @Component
-@Slf4j
 public class SchoolUUIDMatcher {
 
-    private final Pattern SCHOOL_PATTERN =
-            Pattern.compile("/api/v1/schools/([0-9a-f]{8}-[0-9a-f]{4}-[0-5][0-9a-f]{3}-[089ab][0-9a-f]{3}-[0-9a-f]{12})");
+    private static final String SCHOOLS_PATH = "/api/v1/schools/";
+    private static final int UUID_LENGTH = 36;
 
     public boolean match(URI uri, UUID schoolId) {
-        boolean isMatching = false;
-        Matcher matcher = SCHOOL_PATTERN.matcher(uri.toString());
-        if (matcher.find()) {
-            UUID matched = UUID.fromString(matcher.group(1));
-            log.debug("==> School in URI: {}", matched);
-            isMatching = schoolId.equals(matched);
+        String path = uri.getRawPath();
+        if (path == null) {
+            return false;
+        }
+        int index = path.indexOf(SCHOOLS_PATH);
+        while (index >= 0) {
+            int start = index + SCHOOLS_PATH.length();
+            if (path.length() - start < UUID_LENGTH) {
+                return false;
+            }
+            if (isUUID(path, start)) {
+                return bitsAt(path, start, 0, 18) == schoolId.getMostSignificantBits()
+                        && bitsAt(path, start, 19, 36) == schoolId.getLeastSignificantBits();
+            }
+            index = path.indexOf(SCHOOLS_PATH, start);
+        }
+        return false;
+    }
+
+    /**
+     * Whether the characters at the given offset have the lower case, hyphenated form of a UUID.
+     */
+    private static boolean isUUID(String path, int start) {
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = path.charAt(start + i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (hexValue(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Accumulate the hex digits between the given offsets of a UUID into a long, skipping the hyphens.
+     */
+    private static long bitsAt(String path, int start, int from, int to) {
+        long bits = 0;
+        for (int i = from; i < to; i++) {
+            char c = path.charAt(start + i);
+            if (c != '-') {
+                bits = (bits << 4) | hexValue(c);
+            }
+        }
+        return bits;
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
         }
-        return isMatching;
+        return -1;
     }
 
 }
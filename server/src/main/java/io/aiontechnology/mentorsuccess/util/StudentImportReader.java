@@ -0,0 +1,217 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import io.aiontechnology.mentorsuccess.model.inbound.student.InboundStudent;
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * Reads the students of a bulk import one row at a time so that an import never holds the whole file in memory. Rows
+ * that cannot be read are returned with an error instead of ending the import.
+ * <p>
+ * NDJSON rows are {@link InboundStudent} documents. CSV files have a header row naming the columns. The scalar columns
+ * use the names of the {@link InboundStudent} properties, {@code teacher}, {@code teacherComment} and {@code mentor}
+ * hold the teacher and mentor, and the set valued columns such as {@code interests} are separated by semicolons.
+ * Contacts can only be imported from NDJSON.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+public abstract class StudentImportReader implements Iterator<StudentImportReader.Row> {
+
+    private static final List<String> SCALAR_COLUMNS = List.of("studentId", "firstName", "lastName", "grade",
+            "preferredTime", "actualTime", "startDate", "location", "registrationSigned", "mediaReleaseSigned",
+            "preBehavioralAssessment", "baseUri");
+
+    private static final List<String> SET_COLUMNS = List.of("activityFocuses", "behaviors", "interests",
+            "leadershipSkills", "leadershipTraits");
+
+    /** The number of the last row returned. Rows are numbered from one, not counting a CSV header. */
+    private long rowNumber;
+
+    /**
+     * Create a reader for a CSV file.
+     *
+     * @param reader The source of the file.
+     * @param objectMapper Used to convert the columns to an {@link InboundStudent}.
+     * @return The reader.
+     */
+    public static StudentImportReader csv(Reader reader, ObjectMapper objectMapper) {
+        try {
+            MappingIterator<Map<String, String>> rows = new CsvMapper()
+                    .readerForMapOf(String.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(reader);
+            return new CsvStudentImportReader(rows, objectMapper);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Create a reader for an NDJSON file. Blank lines are skipped.
+     *
+     * @param reader The source of the file.
+     * @param objectMapper Used to read each line as an {@link InboundStudent}.
+     * @return The reader.
+     */
+    public static StudentImportReader ndjson(Reader reader, ObjectMapper objectMapper) {
+        return new NdjsonStudentImportReader(new BufferedReader(reader), objectMapper.readerFor(InboundStudent.class));
+    }
+
+    @Override
+    public Row next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        rowNumber++;
+        try {
+            return new Row(rowNumber, readStudent(), List.of());
+        } catch (IllegalArgumentException | JsonProcessingException | RuntimeJsonMappingException e) {
+            return new Row(rowNumber, null, List.of("Malformed row: " + StringUtils.defaultString(e.getMessage())
+                    .lines()
+                    .findFirst()
+                    .orElse("")));
+        }
+    }
+
+    protected abstract InboundStudent readStudent() throws JsonProcessingException;
+
+    /**
+     * A row of an import.
+     */
+    @Value
+    public static class Row {
+
+        /** The number of the row */
+        long number;
+
+        /** The student read from the row. Null if the row could not be read. */
+        InboundStudent student;
+
+        /** The reasons the row could not be read */
+        List<String> errors;
+
+        public Optional<InboundStudent> getStudent() {
+            return Optional.ofNullable(student);
+        }
+
+    }
+
+    private static class CsvStudentImportReader extends StudentImportReader {
+
+        private final MappingIterator<Map<String, String>> rows;
+        private final ObjectMapper objectMapper;
+
+        CsvStudentImportReader(MappingIterator<Map<String, String>> rows, ObjectMapper objectMapper) {
+            this.rows = rows;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        @Override
+        protected InboundStudent readStudent() {
+            Map<String, String> columns = rows.next();
+            Map<String, Object> properties = new HashMap<>();
+            SCALAR_COLUMNS.forEach(column -> column(columns, column)
+                    .ifPresent(value -> properties.put(column, value)));
+            SET_COLUMNS.forEach(column -> column(columns, column)
+                    .ifPresent(value -> properties.put(column, Arrays.stream(value.split(";"))
+                            .map(String::trim)
+                            .filter(StringUtils::isNotEmpty)
+                            .toList())));
+            column(columns, "teacher").ifPresent(teacher -> {
+                Map<String, String> teacherProperties = new HashMap<>();
+                teacherProperties.put("uri", teacher);
+                column(columns, "teacherComment").ifPresent(comment -> teacherProperties.put("comment", comment));
+                properties.put("teacher", teacherProperties);
+            });
+            column(columns, "mentor").ifPresent(mentor -> properties.put("mentor", Map.of("uri", mentor)));
+            return objectMapper.convertValue(properties, InboundStudent.class);
+        }
+
+        private static Optional<String> column(Map<String, String> columns, String name) {
+            return Optional.ofNullable(columns.get(name))
+                    .map(String::trim)
+                    .filter(StringUtils::isNotEmpty);
+        }
+
+    }
+
+    private static class NdjsonStudentImportReader extends StudentImportReader {
+
+        private final BufferedReader reader;
+        private final ObjectReader objectReader;
+        private String line;
+
+        NdjsonStudentImportReader(BufferedReader reader, ObjectReader objectReader) {
+            this.reader = reader;
+            this.objectReader = objectReader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (line == null) {
+                    line = reader.readLine();
+                    if (line == null) {
+                        return false;
+                    }
+                    if (StringUtils.isBlank(line)) {
+                        line = null;
+                    }
+                }
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        protected InboundStudent readStudent() throws JsonProcessingException {
+            String current = line;
+            line = null;
+            return objectReader.readValue(current);
+        }
+
+    }
+
+}
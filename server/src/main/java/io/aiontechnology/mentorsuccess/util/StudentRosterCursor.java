@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.util;
+
+import io.aiontechnology.mentorsuccess.entity.StudentSchoolSession;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position within a session roster. Rosters are ordered by student last name with the student id as a tie
+ * breaker, so the last row of a page is enough to find the start of the next one.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Value
+public class StudentRosterCursor {
+
+    private static final String SEPARATOR = "\n";
+
+    /** The last name of the last student on the previous page */
+    @NonNull
+    String lastName;
+
+    /** The id of the last student on the previous page */
+    @NonNull
+    UUID studentId;
+
+    /**
+     * Create the cursor that follows the given roster row.
+     *
+     * @param studentSchoolSession The last row of a roster page.
+     * @return The cursor for the next page.
+     */
+    public static StudentRosterCursor after(StudentSchoolSession studentSchoolSession) {
+        return new StudentRosterCursor(studentSchoolSession.getStudent().getLastName(),
+                studentSchoolSession.getStudent().getId());
+    }
+
+    /**
+     * Decode a cursor previously produced by {@link #encode()}.
+     *
+     * @param encoded The encoded cursor.
+     * @return The decoded cursor.
+     * @throws IllegalArgumentException if the value is not a valid cursor.
+     */
+    public static StudentRosterCursor decode(String encoded) {
+        String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        int index = decoded.lastIndexOf(SEPARATOR);
+        if (index < 0) {
+            throw new IllegalArgumentException("Malformed roster cursor");
+        }
+        return new StudentRosterCursor(decoded.substring(0, index), UUID.fromString(decoded.substring(index + 1)));
+    }
+
+    /**
+     * Encode this cursor as an opaque, URL safe token.
+     *
+     * @return The encoded cursor.
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((lastName + SEPARATOR + studentId).getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -17,21 +17,23 @@
 package io.aiontechnology.mentorsuccess.velocity;
 
 import io.aiontechnology.mentorsuccess.model.inbound.InboundInvitation;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.Velocity;
-
-import java.io.StringWriter;
+import org.apache.velocity.app.VelocityEngine;
+import org.springframework.stereotype.Component;
 
+@Component
 public class RegistrationTimeoutEmailGenerator extends VelocityGenerationStrategySupport {
 
     private static final String TEMPLATE_NAME = "templates/student/invitation-timeout-email.vm";
 
+    public RegistrationTimeoutEmailGenerator(VelocityEngine velocityEngine, MeterRegistry meterRegistry) {
+        super(velocityEngine, meterRegistry, TEMPLATE_NAME);
+    }
+
     public String render(String programAdminName, InboundInvitation invitation) {
         VelocityContext context = createContext(programAdminName, invitation);
-        StringWriter writer = new StringWriter();
-
-        Velocity.getTemplate(TEMPLATE_NAME).merge(context, writer);
-        return writer.toString();
+        return merge(context);
     }
 
     private VelocityContext createContext(String programAdminName, InboundInvitation invitation) {
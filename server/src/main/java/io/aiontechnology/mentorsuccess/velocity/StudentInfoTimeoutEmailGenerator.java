@@ -16,21 +16,23 @@
 
 package io.aiontechnology.mentorsuccess.velocity;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.Velocity;
-
-import java.io.StringWriter;
+import org.apache.velocity.app.VelocityEngine;
+import org.springframework.stereotype.Component;
 
+@Component
 public class StudentInfoTimeoutEmailGenerator extends VelocityGenerationStrategySupport {
 
     private static final String TEMPLATE_NAME = "templates/teacher/student-info-timeout-email.vm";
 
+    public StudentInfoTimeoutEmailGenerator(VelocityEngine velocityEngine, MeterRegistry meterRegistry) {
+        super(velocityEngine, meterRegistry, TEMPLATE_NAME);
+    }
+
     public String render(String programAdminName, String teacherName, String studentName) {
         VelocityContext context = createContext(programAdminName, teacherName, studentName);
-        StringWriter writer = new StringWriter();
-
-        Velocity.getTemplate(TEMPLATE_NAME).merge(context, writer);
-        return writer.toString();
+        return merge(context);
     }
 
     private VelocityContext createContext(String programAdminName, String teacherName, String studentName) {
@@ -17,26 +17,31 @@
 package io.aiontechnology.mentorsuccess.velocity;
 
 import io.aiontechnology.mentorsuccess.util.PhoneService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.Velocity;
+import org.apache.velocity.app.VelocityEngine;
+import org.springframework.stereotype.Component;
 
-import java.io.StringWriter;
 import java.util.Optional;
 
+@Component
 public class StudentInvitationEmailGenerator extends VelocityGenerationStrategySupport {
 
     private static final String TEMPLATE_NAME = "templates/student/invitation-email.vm";
 
-    private final PhoneService phoneService = new PhoneService();
+    private final PhoneService phoneService;
+
+    public StudentInvitationEmailGenerator(VelocityEngine velocityEngine, MeterRegistry meterRegistry,
+            PhoneService phoneService) {
+        super(velocityEngine, meterRegistry, TEMPLATE_NAME);
+        this.phoneService = phoneService;
+    }
 
     public String render(String parentFirstName, String schoolName, String programAdminName, String programAdminEmail,
             Optional<String> programAdminPhone, String registrationUri) {
         VelocityContext context = createContext(parentFirstName, schoolName, programAdminName, programAdminEmail,
                 programAdminPhone, registrationUri);
-        StringWriter writer = new StringWriter();
-
-        Velocity.getTemplate(TEMPLATE_NAME).merge(context, writer);
-        return writer.toString();
+        return merge(context);
     }
 
     private VelocityContext createContext(String parentFirstName, String schoolName, String programAdminName,
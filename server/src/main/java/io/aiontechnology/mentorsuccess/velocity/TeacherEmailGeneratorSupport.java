@@ -1,24 +1,23 @@
 package io.aiontechnology.mentorsuccess.velocity;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.Velocity;
-
-import java.io.StringWriter;
+import org.apache.velocity.app.VelocityEngine;
 
 public abstract class TeacherEmailGeneratorSupport extends VelocityGenerationStrategySupport {
 
+    protected TeacherEmailGeneratorSupport(VelocityEngine velocityEngine, MeterRegistry meterRegistry,
+            String templateName) {
+        super(velocityEngine, meterRegistry, templateName);
+    }
+
     public String render(String teacherFirstName, String studentName, String programAdminName, String programAdminEmail,
             String studentInfoUri, String studentAssessmentUri) {
         VelocityContext context = createContext(teacherFirstName, studentName, programAdminName, programAdminEmail,
                 studentInfoUri, studentAssessmentUri);
-        StringWriter writer = new StringWriter();
-
-        Velocity.getTemplate(getTemplateName()).merge(context, writer);
-        return writer.toString();
+        return merge(context);
     }
 
-    protected abstract String getTemplateName();
-
     private VelocityContext createContext(String teacherFirstName, String studentName, String programAdminName,
             String programAdminEmail, String studentInfoUri, String studentAssessmentUri) {
         VelocityContext context = new VelocityContext();
@@ -16,13 +16,17 @@
 
 package io.aiontechnology.mentorsuccess.velocity;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.velocity.app.VelocityEngine;
+import org.springframework.stereotype.Component;
+
+@Component
 public class TeacherInvitationEmailGenerator extends TeacherEmailGeneratorSupport {
 
     private static final String TEMPLATE_NAME = "templates/teacher/information-request-email.vm";
 
-    @Override
-    protected String getTemplateName() {
-        return TEMPLATE_NAME;
+    public TeacherInvitationEmailGenerator(VelocityEngine velocityEngine, MeterRegistry meterRegistry) {
+        super(velocityEngine, meterRegistry, TEMPLATE_NAME);
     }
 
 }
@@ -1,12 +1,16 @@
 package io.aiontechnology.mentorsuccess.velocity;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.velocity.app.VelocityEngine;
+import org.springframework.stereotype.Component;
+
+@Component
 public class TeacherPostAssessmentEmailGenerator extends TeacherEmailGeneratorSupport {
 
     private static final String TEMPLATE_NAME = "templates/teacher/post-assessment-request-email.vm";
 
-    @Override
-    protected String getTemplateName() {
-        return TEMPLATE_NAME;
+    public TeacherPostAssessmentEmailGenerator(VelocityEngine velocityEngine, MeterRegistry meterRegistry) {
+        super(velocityEngine, meterRegistry, TEMPLATE_NAME);
     }
 
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.velocity;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The {@link VelocityGenerationStrategy} singletons keyed by class name. Workflows name the strategy to use for an
+ * email in a process variable, which is resolved here rather than by instantiating the class.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Component
+public class VelocityGenerationStrategyRegistry {
+
+    /** The strategies keyed by class name */
+    private final Map<String, VelocityGenerationStrategy> strategies;
+
+    public VelocityGenerationStrategyRegistry(List<VelocityGenerationStrategy> strategies) {
+        this.strategies = strategies.stream()
+                .collect(Collectors.toUnmodifiableMap(strategy -> ClassUtils.getUserClass(strategy).getName(),
+                        Function.identity()));
+    }
+
+    /**
+     * Get the strategy with the given class name.
+     *
+     * @param className The fully qualified class name of the strategy.
+     * @param type The type the strategy is expected to have.
+     * @param <T> The type the strategy is expected to have.
+     * @return The strategy.
+     * @throws IllegalArgumentException if there is no strategy with the given name.
+     */
+    public <T extends VelocityGenerationStrategy> T getStrategy(String className, Class<T> type) {
+        VelocityGenerationStrategy strategy = strategies.get(className);
+        if (strategy == null) {
+            throw new IllegalArgumentException("Unknown generation strategy: " + className);
+        }
+        return type.cast(strategy);
+    }
+
+}
@@ -16,22 +16,45 @@
 
 package io.aiontechnology.mentorsuccess.velocity;
 
-import org.apache.velocity.app.Velocity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.velocity.Template;
+import org.apache.velocity.VelocityContext;
+import org.apache.velocity.app.VelocityEngine;
 
-import java.util.Properties;
+import java.io.StringWriter;
 
+/**
+ * Base class for strategies that render from a single Velocity template. The template is parsed once, when the
+ * strategy is created, so rendering only has to merge the context.
+ * Render times are recorded per template.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
 public abstract class VelocityGenerationStrategySupport implements VelocityGenerationStrategy {
 
-    public VelocityGenerationStrategySupport() {
-        initializeVelocity();
+    /** The parsed template */
+    private final Template template;
+
+    /** Times the merges of the template */
+    private final Timer renderTimer;
+
+    protected VelocityGenerationStrategySupport(VelocityEngine velocityEngine, MeterRegistry meterRegistry,
+            String templateName) {
+        template = velocityEngine.getTemplate(templateName);
+        renderTimer = Timer.builder("mentorsuccess.velocity.render")
+                .description("The time taken to render a Velocity template")
+                .tag("template", templateName)
+                .register(meterRegistry);
     }
 
-    private void initializeVelocity() {
-        Properties velocityProperties = new Properties();
-        velocityProperties.setProperty("resource.loaders", "class");
-        velocityProperties.setProperty("resource.loader.class.class",
-                "org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader");
-        Velocity.init(velocityProperties);
+    protected String merge(VelocityContext context) {
+        return renderTimer.record(() -> {
+            StringWriter writer = new StringWriter();
+            template.merge(context, writer);
+            return writer.toString();
+        });
     }
 
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.workflow;
+
+import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.SchoolSession;
+import io.aiontechnology.mentorsuccess.feature.migration.DataMigrationSupport;
+import io.aiontechnology.mentorsuccess.repository.DataMigrationRepository;
+import io.aiontechnology.mentorsuccess.repository.SchoolRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static io.aiontechnology.mentorsuccess.feature.workflow.WorkflowKeys.REQUEST_POST_ASSESSMENT_PROCESS_KEY;
+import static io.aiontechnology.mentorsuccess.feature.workflow.WorkflowKeys.SCHOOL_ID;
+import static io.aiontechnology.mentorsuccess.feature.workflow.WorkflowKeys.SCHOOL_SESSION_ID;
+import static io.aiontechnology.mentorsuccess.feature.workflow.WorkflowKeys.STUDENT_ID;
+import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.STUDENT_INFORMATION_PROCESS;
+
+/**
+ * Assigns a {@link ProcessBusinessKey} to the running post-assessment and student information processes that were
+ * started before business keys were introduced, so that they are found by the business key lookups. The key is built
+ * from the process variables. Student information processes do not record their session, so the school's current
+ * session is used, as it is when such a process is started.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Component
+@ConditionalOnProperty(DataMigrationSupport.ENABLED_PROPERTY)
+@Slf4j
+public class BusinessKeyMigration extends DataMigrationSupport {
+
+    private final RuntimeService runtimeService;
+    private final SchoolRepository schoolRepository;
+    private final int pageSize;
+
+    public BusinessKeyMigration(DataMigrationRepository dataMigrationRepository, RuntimeService runtimeService,
+            SchoolRepository schoolRepository, @Value("${mentorsuccess.data-migration.page-size:100}") int pageSize) {
+        super(dataMigrationRepository, "process-business-keys");
+        this.runtimeService = runtimeService;
+        this.schoolRepository = schoolRepository;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    protected boolean migrate() {
+        boolean postAssessments = migrate(REQUEST_POST_ASSESSMENT_PROCESS_KEY, this::createPostAssessmentKey);
+        boolean studentInformation = migrate(STUDENT_INFORMATION_PROCESS, this::createStudentInformationKey);
+        return postAssessments && studentInformation;
+    }
+
+    private boolean migrate(String processDefinitionKey,
+            Function<Map<String, Object>, Optional<ProcessBusinessKey>> keyFunction) {
+        int migrated = 0;
+        int failed = 0;
+        int first = 0;
+        List<ProcessInstance> page;
+        do {
+            page = runtimeService.createProcessInstanceQuery()
+                    .processDefinitionKey(processDefinitionKey)
+                    .orderByProcessInstanceId().asc()
+                    .listPage(first, pageSize);
+            for (ProcessInstance processInstance : page) {
+                if (processInstance.getBusinessKey() != null) {
+                    continue;
+                }
+                try {
+                    var businessKey = keyFunction.apply(runtimeService.getVariables(processInstance.getId()));
+                    if (businessKey.isPresent()) {
+                        runtimeService.updateBusinessKey(processInstance.getId(), businessKey.get().toString());
+                        migrated++;
+                    } else {
+                        log.warn("Unable to build a business key for process {}", processInstance.getId());
+                    }
+                } catch (FlowableException e) {
+                    log.warn("Unable to assign a business key to process {}", processInstance.getId(), e);
+                    failed++;
+                }
+            }
+            first += pageSize;
+        } while (page.size() == pageSize);
+        log.info("Assigned business keys to {} {} processes, {} failed", migrated, processDefinitionKey, failed);
+        return failed == 0;
+    }
+
+    private Optional<ProcessBusinessKey> createPostAssessmentKey(Map<String, Object> variables) {
+        return getId(variables, SCHOOL_ID).flatMap(schoolId ->
+                getId(variables, SCHOOL_SESSION_ID).flatMap(schoolSessionId ->
+                        getId(variables, STUDENT_ID).map(studentId ->
+                                new ProcessBusinessKey(schoolId, schoolSessionId, studentId,
+                                        ProcessBusinessKey.Kind.POST_ASSESSMENT))));
+    }
+
+    private Optional<ProcessBusinessKey> createStudentInformationKey(Map<String, Object> variables) {
+        return getId(variables, SCHOOL_ID).flatMap(schoolId ->
+                schoolRepository.findById(schoolId)
+                        .map(School::getCurrentSession)
+                        .map(SchoolSession::getId)
+                        .flatMap(schoolSessionId -> getId(variables, STUDENT_ID).map(studentId ->
+                                new ProcessBusinessKey(schoolId, schoolSessionId, studentId,
+                                        ProcessBusinessKey.Kind.STUDENT_INFORMATION))));
+    }
+
+    private static Optional<UUID> getId(Map<String, Object> variables, String name) {
+        return Optional.ofNullable((String) variables.get(name))
+                .map(UUID::fromString);
+    }
+
+}
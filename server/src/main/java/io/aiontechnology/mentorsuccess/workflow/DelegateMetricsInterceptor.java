@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.workflow;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.flowable.engine.impl.delegate.invocation.DelegateInvocation;
+import org.flowable.engine.impl.delegate.invocation.JavaDelegateInvocation;
+import org.flowable.engine.impl.interceptor.DelegateInterceptor;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Engine interceptor that times every execution of a {@link org.flowable.engine.delegate.JavaDelegate}. The engine
+ * invokes the delegate bean itself, so field injection from the process definitions is unaffected. The timer is tagged
+ * with the class of the delegate and the outcome of the execution.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@RequiredArgsConstructor
+public class DelegateMetricsInterceptor implements DelegateInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void handleInvocation(DelegateInvocation invocation) {
+        if (!(invocation instanceof JavaDelegateInvocation)) {
+            invocation.proceed();
+            return;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            invocation.proceed();
+        } catch (RuntimeException e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("mentorsuccess.workflow.delegate")
+                    .description("The time taken to execute a workflow service task")
+                    .tag("delegate", ClassUtils.getUserClass(invocation.getTarget()).getSimpleName())
+                    .tag("outcome", "none".equals(exception) ? "success" : "error")
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+}
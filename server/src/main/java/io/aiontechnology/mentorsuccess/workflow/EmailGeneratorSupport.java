@@ -18,6 +18,7 @@ package io.aiontechnology.mentorsuccess.workflow;
 
 import io.aiontechnology.mentorsuccess.util.SAEmailAddress;
 import io.aiontechnology.mentorsuccess.velocity.VelocityGenerationStrategy;
+import io.aiontechnology.mentorsuccess.velocity.VelocityGenerationStrategyRegistry;
 import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.JavaDelegate;
@@ -34,8 +35,11 @@ public abstract class EmailGeneratorSupport implements JavaDelegate {
 
     private TaskUtilities taskUtilities;
 
-    protected EmailGeneratorSupport(TaskUtilities taskUtilities) {
+    private VelocityGenerationStrategyRegistry strategyRegistry;
+
+    protected EmailGeneratorSupport(TaskUtilities taskUtilities, VelocityGenerationStrategyRegistry strategyRegistry) {
         this.taskUtilities = taskUtilities;
+        this.strategyRegistry = strategyRegistry;
     }
 
     @Override
@@ -59,13 +63,7 @@ public abstract class EmailGeneratorSupport implements JavaDelegate {
     protected <T extends VelocityGenerationStrategy> T getGenerationStrategy(DelegateExecution execution,
             Class<T> clazz) {
         String name = (String) generationStrategyClassName.getValue(execution);
-        try {
-            Class generationClass = Class.forName(name);
-            return clazz.cast(generationClass.getDeclaredConstructor().newInstance());
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        return null;
+        return strategyRegistry.getStrategy(name, clazz);
     }
 
     protected abstract String getSubject(DelegateExecution execution);
@@ -5,6 +5,7 @@ import io.aiontechnology.mentorsuccess.entity.Student;
 import io.aiontechnology.mentorsuccess.service.SchoolService;
 import io.aiontechnology.mentorsuccess.service.StudentService;
 import lombok.RequiredArgsConstructor;
+import org.flowable.engine.RuntimeService;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
@@ -22,6 +23,7 @@ import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConst
 public class FlowableProcessUtilities {
 
     // Services
+    private final RuntimeService runtimeService;
     private final SchoolService schoolService;
     private final StudentService studentService;
 
@@ -34,6 +36,30 @@ public class FlowableProcessUtilities {
     public Optional<Student> findStudent(Map<String, Object> processVariables) {
         var schoolId = UUID.fromString((String) processVariables.get(SCHOOL_ID));
         var studentId = UUID.fromString((String) processVariables.get(STUDENT_ID));
+        return findStudent(schoolId, studentId);
+    }
+
+    /**
+     * Find the student of the given process. The student is taken from the business key of the process. Processes
+     * started without a business key fall back to the SCHOOL_ID and STUDENT_ID variables.
+     *
+     * @param processInstanceId The id of the process instance.
+     * @return The Student if it could be found.
+     */
+    public Optional<Student> findStudent(String processInstanceId) {
+        var processInstance = runtimeService.createProcessInstanceQuery()
+                .processInstanceId(processInstanceId)
+                .singleResult();
+        if (processInstance == null) {
+            return Optional.empty();
+        }
+        return ProcessBusinessKey.parse(processInstance.getBusinessKey())
+                .filter(businessKey -> businessKey.getStudentId() != null)
+                .map(businessKey -> findStudent(businessKey.getSchoolId(), businessKey.getStudentId()))
+                .orElseGet(() -> findStudent(runtimeService.getVariables(processInstanceId)));
+    }
+
+    private Optional<Student> findStudent(UUID schoolId, UUID studentId) {
         var school = schoolService.getSchoolById(schoolId)
                 .orElseThrow(() -> new NotFoundException("School was not found"));
         return studentService.getStudentById(studentId, school.getCurrentSession());
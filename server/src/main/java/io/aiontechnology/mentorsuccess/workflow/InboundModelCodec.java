@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.workflow;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.flowable.common.engine.api.FlowableException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encodes the inbound models that are carried by workflows as compact JSON. Only classes in the inbound model package
+ * can be decoded, so a stored class name can never be used to instantiate an arbitrary type. Unknown properties are
+ * ignored when decoding so that adding or removing a field in model-lib does not break running processes. Only fields
+ * are written; derived getters such as full names are not.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+public class InboundModelCodec {
+
+    /** The version of the JSON layout. Stored with every value so that later layouts can migrate older ones. */
+    public static final int SCHEMA_VERSION = 1;
+
+    private static final String INBOUND_PACKAGE = "io.aiontechnology.mentorsuccess.model.inbound";
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .visibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .visibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .visibility(PropertyAccessor.CREATOR, JsonAutoDetect.Visibility.ANY)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final Map<String, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    /**
+     * Determine whether the given value is an inbound model that can be encoded.
+     *
+     * @param value The value.
+     * @return True if the value can be encoded.
+     */
+    public boolean canEncode(Object value) {
+        return value != null && isInboundModel(value.getClass().getName());
+    }
+
+    /**
+     * Decode a value previously produced by {@link #encode(Object)}.
+     *
+     * @param json The JSON.
+     * @param className The name of the value's class.
+     * @param schemaVersion The version of the layout the value was written with.
+     * @return The decoded value.
+     */
+    public Object decode(String json, String className, int schemaVersion) {
+        if (schemaVersion > SCHEMA_VERSION) {
+            throw new FlowableException("Unsupported variable schema version " + schemaVersion + " for " + className);
+        }
+        try {
+            return readers.computeIfAbsent(className, this::createReader).readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("Unable to decode variable of type " + className, e);
+        }
+    }
+
+    /**
+     * Encode an inbound model as JSON.
+     *
+     * @param value The value.
+     * @return The JSON.
+     */
+    public String encode(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("Unable to encode variable of type " + value.getClass().getName(), e);
+        }
+    }
+
+    private ObjectReader createReader(String className) {
+        if (!isInboundModel(className)) {
+            throw new FlowableException("Refusing to decode variable of type " + className);
+        }
+        try {
+            return objectMapper.readerFor(Class.forName(className));
+        } catch (ClassNotFoundException e) {
+            throw new FlowableException("Unknown variable type " + className, e);
+        }
+    }
+
+    private static boolean isInboundModel(String className) {
+        return className.startsWith(INBOUND_PACKAGE + ".");
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.workflow;
+
+import lombok.RequiredArgsConstructor;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Flowable {@link VariableType} that stores inbound models as JSON instead of Java serialization. Values that fit in
+ * the text column are stored inline in ACT_RU_VARIABLE and only larger ones go to ACT_GE_BYTEARRAY. The class name is
+ * kept in the second text column and the schema version in the long column.
+ *
+ * <p>Decoding is lazy: Flowable only calls {@link #getValue(ValueFields)} when the variable is read, and because the
+ * type is cachable the decoded value is kept on the variable instance for the rest of the command.</p>
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@RequiredArgsConstructor
+public class InboundModelVariableType implements VariableType {
+
+    public static final String TYPE_NAME = "inboundJson";
+
+    /** The size of the ACT_RU_VARIABLE text column */
+    private static final int MAX_TEXT_LENGTH = 4000;
+
+    private final InboundModelCodec codec;
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    @Override
+    public boolean isAbleToStore(Object value) {
+        return codec.canEncode(value);
+    }
+
+    @Override
+    public void setValue(Object value, ValueFields valueFields) {
+        if (value == null) {
+            valueFields.setTextValue(null);
+            valueFields.setTextValue2(null);
+            valueFields.setLongValue(null);
+            valueFields.setBytes(null);
+            return;
+        }
+        String json = codec.encode(value);
+        valueFields.setTextValue2(value.getClass().getName());
+        valueFields.setLongValue((long) InboundModelCodec.SCHEMA_VERSION);
+        if (json.length() <= MAX_TEXT_LENGTH) {
+            valueFields.setTextValue(json);
+            valueFields.setBytes(null);
+        } else {
+            valueFields.setTextValue(null);
+            valueFields.setBytes(json.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Override
+    public Object getValue(ValueFields valueFields) {
+        String className = valueFields.getTextValue2();
+        if (className == null) {
+            return null;
+        }
+        String json = valueFields.getTextValue();
+        if (json == null) {
+            byte[] bytes = valueFields.getBytes();
+            if (bytes == null) {
+                return null;
+            }
+            json = new String(bytes, StandardCharsets.UTF_8);
+        }
+        Long schemaVersion = valueFields.getLongValue();
+        return codec.decode(json, className, schemaVersion == null ? 1 : schemaVersion.intValue());
+    }
+
+}
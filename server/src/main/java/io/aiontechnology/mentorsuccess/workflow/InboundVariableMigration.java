@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.workflow;
+
+import io.aiontechnology.mentorsuccess.feature.migration.DataMigrationSupport;
+import io.aiontechnology.mentorsuccess.repository.DataMigrationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Rewrites the inbound models of running processes that were stored by Java serialization so that they are stored by
+ * {@link InboundModelVariableType} instead. Setting a variable to a value of a different type makes Flowable switch
+ * the variable's type in place, so each variable is simply read and written back. The local variables of every
+ * execution of a process are migrated, not only those of the process instance.
+ * <p>
+ * Processes are visited a page at a time. A process that fails to migrate, for example because it was updated
+ * concurrently, is logged and skipped, and the migration is run again on the next start.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Component
+@ConditionalOnProperty(DataMigrationSupport.ENABLED_PROPERTY)
+@Slf4j
+public class InboundVariableMigration extends DataMigrationSupport {
+
+    private static final String SERIALIZABLE_TYPE = "serializable";
+
+    private final InboundModelCodec codec = new InboundModelCodec();
+    private final RuntimeService runtimeService;
+    private final int pageSize;
+
+    public InboundVariableMigration(DataMigrationRepository dataMigrationRepository, RuntimeService runtimeService,
+            @Value("${mentorsuccess.data-migration.page-size:100}") int pageSize) {
+        super(dataMigrationRepository, "inbound-variables-to-json");
+        this.runtimeService = runtimeService;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    protected boolean migrate() {
+        int migrated = 0;
+        int failed = 0;
+        int first = 0;
+        List<ProcessInstance> page;
+        do {
+            page = runtimeService.createProcessInstanceQuery()
+                    .orderByProcessInstanceId().asc()
+                    .listPage(first, pageSize);
+            for (ProcessInstance processInstance : page) {
+                try {
+                    migrated += migrate(processInstance.getId());
+                } catch (FlowableException e) {
+                    log.warn("Unable to migrate the variables of process {}", processInstance.getId(), e);
+                    failed++;
+                }
+            }
+            first += pageSize;
+        } while (page.size() == pageSize);
+        log.info("Migrated {} workflow variables to JSON, {} processes failed", migrated, failed);
+        return failed == 0;
+    }
+
+    private int migrate(String processInstanceId) {
+        int migrated = 0;
+        for (Execution execution : runtimeService.createExecutionQuery()
+                .processInstanceId(processInstanceId)
+                .list()) {
+            for (VariableInstance variable : runtimeService.getVariableInstancesLocal(execution.getId()).values()) {
+                if (SERIALIZABLE_TYPE.equals(variable.getTypeName()) && codec.canEncode(variable.getValue())) {
+                    runtimeService.setVariableLocal(execution.getId(), variable.getName(), variable.getValue());
+                    migrated++;
+                }
+            }
+        }
+        return migrated;
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.workflow;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Structured business key of the processes started for a student. The key has the form
+ * {@code school:session:student:kind} so that a running process can be found with a single equality query on the
+ * indexed business key column instead of by joining on process variables. A session wide lookup uses the
+ * {@code school:session:} prefix. Invitations are started before the student exists and use {@code -} in place of the
+ * student id.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Value
+public class ProcessBusinessKey {
+
+    public enum Kind {
+        POST_ASSESSMENT, REGISTRATION, STUDENT_INFORMATION
+    }
+
+    private static final String NO_STUDENT = "-";
+    private static final String SEPARATOR = ":";
+
+    /** The id of the school */
+    @NonNull
+    UUID schoolId;
+
+    /** The id of the school session */
+    @NonNull
+    UUID schoolSessionId;
+
+    /** The id of the student. Null if the student does not exist yet. */
+    UUID studentId;
+
+    /** What the process does */
+    @NonNull
+    Kind kind;
+
+    /**
+     * Create a LIKE pattern that matches every key of the given kind in a school session.
+     *
+     * @param schoolId The id of the school.
+     * @param schoolSessionId The id of the school session.
+     * @param kind The kind of process.
+     * @return The pattern.
+     */
+    public static String sessionPattern(UUID schoolId, UUID schoolSessionId, Kind kind) {
+        return schoolId + SEPARATOR + schoolSessionId + SEPARATOR + "%" + SEPARATOR + kind;
+    }
+
+    /**
+     * Parse a business key produced by {@link #toString()}.
+     *
+     * @param businessKey The business key. May be null for processes started without one.
+     * @return The parsed key if the value is a well-formed business key.
+     */
+    public static Optional<ProcessBusinessKey> parse(String businessKey) {
+        if (businessKey == null) {
+            return Optional.empty();
+        }
+        String[] parts = businessKey.split(SEPARATOR);
+        if (parts.length != 4) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new ProcessBusinessKey(
+                    UUID.fromString(parts[0]),
+                    UUID.fromString(parts[1]),
+                    NO_STUDENT.equals(parts[2]) ? null : UUID.fromString(parts[2]),
+                    Kind.valueOf(parts[3])));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return schoolId + SEPARATOR + schoolSessionId + SEPARATOR + (studentId == null ? NO_STUDENT : studentId)
+                + SEPARATOR + kind;
+    }
+
+}
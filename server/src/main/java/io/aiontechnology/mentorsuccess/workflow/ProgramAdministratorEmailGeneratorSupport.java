@@ -17,14 +17,16 @@
 package io.aiontechnology.mentorsuccess.workflow;
 
 import io.aiontechnology.mentorsuccess.util.EmailAddress;
+import io.aiontechnology.mentorsuccess.velocity.VelocityGenerationStrategyRegistry;
 import org.flowable.engine.delegate.DelegateExecution;
 
 import java.util.Optional;
 
 public abstract class ProgramAdministratorEmailGeneratorSupport extends EmailGeneratorSupport {
 
-    protected ProgramAdministratorEmailGeneratorSupport(TaskUtilities taskUtilities) {
-        super(taskUtilities);
+    protected ProgramAdministratorEmailGeneratorSupport(TaskUtilities taskUtilities,
+            VelocityGenerationStrategyRegistry strategyRegistry) {
+        super(taskUtilities, strategyRegistry);
     }
 
     @Override
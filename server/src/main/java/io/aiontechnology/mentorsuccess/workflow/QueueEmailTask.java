@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.workflow;
+
+import io.aiontechnology.mentorsuccess.service.EmailOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.delegate.JavaDelegate;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.EMAIL;
+
+/**
+ * Queues the email prepared by an {@link EmailGeneratorSupport} task in the outbox. The email is written in the
+ * process transaction and sent after it commits.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Service
+@RequiredArgsConstructor
+public class QueueEmailTask implements JavaDelegate {
+
+    private final EmailOutboxService emailOutboxService;
+
+    @Override
+    public void execute(DelegateExecution execution) {
+        Map<String, Object> email = (Map<String, Object>) execution.getTransientVariable(EMAIL);
+        if (email == null) {
+            throw new IllegalStateException("No email was generated for " + execution.getCurrentActivityId());
+        }
+        emailOutboxService.enqueue(
+                (String) email.get("to"),
+                (String) email.get("cc"),
+                (String) email.get("from"),
+                (String) email.get("subject"),
+                (String) email.get("body"));
+    }
+
+}
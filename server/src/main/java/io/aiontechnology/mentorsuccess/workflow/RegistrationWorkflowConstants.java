@@ -36,6 +36,7 @@ public class RegistrationWorkflowConstants {
     public static String STUDENT_INFORMATION = "studentInformation";
     public static String TEACHER_ID = "teacherId";
     public static String TEACHER_EMAIL_ADDRESS = "teacherEmailAddress";
+    public static String WORKFLOW_CONTEXT = "workflowContext";
 
     // Values
     public static String REGISTRATION_TIMEOUT_VALUE = "P7D";
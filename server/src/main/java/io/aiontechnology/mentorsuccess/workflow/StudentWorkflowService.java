@@ -43,7 +43,7 @@ public class StudentWorkflowService {
     public Optional<StudentInformation> findStudentInformationWorkflowById(UUID processId) {
         Optional<Task> task = flowableTaskUtilities.apply(processId);
         return task
-                .map(TaskInfo::getProcessVariables)
+                .map(TaskInfo::getProcessInstanceId)
                 .flatMap(flowableProcessUtilities::findStudent)
                 .map(student -> StudentInformation.builder()
                         .id(UUID.fromString(task.get().getProcessInstanceId()))
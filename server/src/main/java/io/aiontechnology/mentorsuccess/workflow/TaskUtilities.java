@@ -20,7 +20,6 @@ import io.aiontechnology.mentorsuccess.entity.Person;
 import io.aiontechnology.mentorsuccess.entity.School;
 import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
 import io.aiontechnology.mentorsuccess.entity.Student;
-import io.aiontechnology.mentorsuccess.model.enumeration.RoleType;
 import io.aiontechnology.mentorsuccess.model.inbound.student.InboundStudentAssessment;
 import io.aiontechnology.mentorsuccess.model.inbound.student.InboundStudentInformation;
 import io.aiontechnology.mentorsuccess.service.SchoolService;
@@ -29,21 +28,18 @@ import lombok.RequiredArgsConstructor;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.springframework.stereotype.Service;
 
-import java.util.Collection;
-import java.util.Collections;
 import java.util.Optional;
-import java.util.UUID;
-import java.util.stream.Collectors;
 
 import static io.aiontechnology.mentorsuccess.feature.workflow.WorkflowKeys.STUDENT_ASSESSMENT;
-import static io.aiontechnology.mentorsuccess.model.enumeration.RoleType.PROGRAM_ADMIN;
-import static io.aiontechnology.mentorsuccess.model.enumeration.RoleType.TEACHER;
 import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.SCHOOL_EMAIL_TAG;
-import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.SCHOOL_ID;
-import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.STUDENT_ID;
 import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.STUDENT_INFORMATION;
-import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.TEACHER_ID;
+import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.WORKFLOW_CONTEXT;
 
+/**
+ * Accessors for the process variables and entities used by workflow tasks. Entities are resolved through a
+ * {@link WorkflowContext} that is kept as a transient variable on the execution, so the school, student, teacher and
+ * program administrator are each looked up at most once per transaction no matter how many tasks or getters use them.
+ */
 @Service
 @RequiredArgsConstructor
 public class TaskUtilities {
@@ -52,6 +48,21 @@ public class TaskUtilities {
     private final SchoolService schoolService;
     private final StudentService studentService;
 
+    /**
+     * Get the {@link WorkflowContext} of the given execution, creating it on first use.
+     *
+     * @param execution The execution whose context is desired.
+     * @return The context.
+     */
+    public WorkflowContext getContext(DelegateExecution execution) {
+        var context = (WorkflowContext) execution.getTransientVariable(WORKFLOW_CONTEXT);
+        if (context == null) {
+            context = new WorkflowContext(execution, schoolService, studentService);
+            execution.setTransientVariable(WORKFLOW_CONTEXT, context);
+        }
+        return context;
+    }
+
     public Optional<InboundStudentAssessment> getInboundStudentAssessment(DelegateExecution execution) {
         return Optional.ofNullable(execution.getVariable(STUDENT_ASSESSMENT, InboundStudentAssessment.class));
     }
@@ -61,18 +72,18 @@ public class TaskUtilities {
     }
 
     public String getProgramAdminEmail(DelegateExecution execution) {
-        return getProgramAdmin(execution)
+        return getContext(execution).getProgramAdmin()
                 .map(Person::getEmail)
                 .orElseThrow(() -> new IllegalStateException("Unable to find program admin email address"));
     }
 
     public Optional<String> getProgramAdminPhoneNumber(DelegateExecution execution) {
-        return getProgramAdmin(execution)
+        return getContext(execution).getProgramAdmin()
                 .map(Person::getCellPhone);
     }
 
     public String getProgramAdminFullName(DelegateExecution execution) {
-        return getProgramAdmin(execution)
+        return getContext(execution).getProgramAdmin()
                 .map(Person::getFullName)
                 .orElseThrow(() -> new IllegalStateException("Unable to find program admin name"));
     }
@@ -92,8 +103,7 @@ public class TaskUtilities {
      * @return The {@link School} if it could be located.
      */
     public Optional<School> getSchool(DelegateExecution execution) {
-        UUID schoolId = UUID.fromString(getRequiredVariable(execution, SCHOOL_ID, String.class));
-        return schoolService.getSchoolById(schoolId);
+        return getContext(execution).getSchool();
     }
 
     public Optional<String> getSchoolEmailTag(DelegateExecution execution) {
@@ -101,9 +111,7 @@ public class TaskUtilities {
     }
 
     public Optional<Student> getStudent(DelegateExecution execution) {
-        return Optional.ofNullable(execution.getVariable(STUDENT_ID, String.class))
-                .map(UUID::fromString)
-                .flatMap(studentService::getStudentById);
+        return getContext(execution).getStudent();
     }
 
     public Optional<String> getStudentFullName(DelegateExecution execution) {
@@ -112,11 +120,7 @@ public class TaskUtilities {
     }
 
     public Optional<SchoolPersonRole> getTeacher(DelegateExecution execution) {
-        return Optional.ofNullable(execution.getVariable(TEACHER_ID, String.class))
-                .map(UUID::fromString)
-                .flatMap(teacherId -> getSchoolRolesInRole(execution, TEACHER).stream()
-                        .filter(person -> person.getId().equals(teacherId))
-                        .findFirst());
+        return getContext(execution).getTeacher();
     }
 
     public Optional<Person> getTeacherPerson(DelegateExecution execution) {
@@ -134,31 +138,4 @@ public class TaskUtilities {
                 .map(Person::getFullName);
     }
 
-    private Collection<Person> getPeopleInRole(DelegateExecution execution, RoleType type) {
-        return getSchoolRolesInRole(execution, type).stream()
-                .map(SchoolPersonRole::getPerson)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Get the program administrator for the school that is specified by the "schoolId" execution variable.
-     *
-     * @param execution The context from which the schoolId variable should be found.
-     * @return The school's program administrator.
-     */
-    private Optional<Person> getProgramAdmin(DelegateExecution execution) {
-        return getPeopleInRole(execution, PROGRAM_ADMIN)
-                .stream()
-                .findFirst();
-    }
-
-    private Collection<SchoolPersonRole> getSchoolRolesInRole(DelegateExecution execution, RoleType type) {
-        Collection<SchoolPersonRole> roles = getSchool(execution)
-                .map(School::getRoles)
-                .orElse(Collections.emptyList());
-        return roles.stream()
-                .filter(role -> role.getType().equals(type))
-                .collect(Collectors.toList());
-    }
-
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.workflow;
+
+import io.aiontechnology.mentorsuccess.entity.Person;
+import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
+import io.aiontechnology.mentorsuccess.entity.Student;
+import io.aiontechnology.mentorsuccess.service.SchoolService;
+import io.aiontechnology.mentorsuccess.service.StudentService;
+import org.flowable.engine.delegate.DelegateExecution;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static io.aiontechnology.mentorsuccess.model.enumeration.RoleType.PROGRAM_ADMIN;
+import static io.aiontechnology.mentorsuccess.model.enumeration.RoleType.TEACHER;
+import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.SCHOOL_ID;
+import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.STUDENT_ID;
+import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.TEACHER_ID;
+
+/**
+ * The entities a workflow task works with, resolved from the process variables of a single {@link DelegateExecution}.
+ * Each entity is looked up at most once. Lookups are keyed by the id variable they were resolved from, so a task that
+ * changes one of those variables causes the entity to be resolved again on next use.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+public class WorkflowContext {
+
+    private final DelegateExecution execution;
+    private final SchoolService schoolService;
+    private final StudentService studentService;
+
+    private final Lookup<School> school = new Lookup<>();
+    private final Lookup<Student> student = new Lookup<>();
+    private final Lookup<SchoolPersonRole> teacher = new Lookup<>();
+    private final Lookup<Person> programAdmin = new Lookup<>();
+
+    WorkflowContext(DelegateExecution execution, SchoolService schoolService, StudentService studentService) {
+        this.execution = execution;
+        this.schoolService = schoolService;
+        this.studentService = studentService;
+    }
+
+    /**
+     * Get the program administrator of the school.
+     *
+     * @return The program administrator if the school has one.
+     */
+    public Optional<Person> getProgramAdmin() {
+        return programAdmin.get(getVariable(SCHOOL_ID), id -> getSchoolRoles().stream()
+                .filter(role -> PROGRAM_ADMIN.equals(role.getType()))
+                .map(SchoolPersonRole::getPerson)
+                .findFirst());
+    }
+
+    /**
+     * Get the school identified by the schoolId variable.
+     *
+     * @return The school if it could be located.
+     * @throws IllegalStateException if the schoolId variable is not set.
+     */
+    public Optional<School> getSchool() {
+        String schoolId = getVariable(SCHOOL_ID);
+        if (schoolId == null) {
+            throw new IllegalStateException("Unable to find value for required variable: " + SCHOOL_ID);
+        }
+        return school.get(schoolId, id -> schoolService.getSchoolById(UUID.fromString(id)));
+    }
+
+    /**
+     * Get the student identified by the studentId variable.
+     *
+     * @return The student if the variable is set and the student could be located.
+     */
+    public Optional<Student> getStudent() {
+        return student.get(getVariable(STUDENT_ID), id -> studentService.getStudentById(UUID.fromString(id)));
+    }
+
+    /**
+     * Get the teacher identified by the teacherId variable.
+     *
+     * @return The teacher if the variable is set and the teacher belongs to the school.
+     */
+    public Optional<SchoolPersonRole> getTeacher() {
+        return teacher.get(getVariable(TEACHER_ID), id -> {
+            UUID teacherId = UUID.fromString(id);
+            return getSchoolRoles().stream()
+                    .filter(role -> TEACHER.equals(role.getType()))
+                    .filter(role -> role.getId().equals(teacherId))
+                    .findFirst();
+        });
+    }
+
+    private Collection<SchoolPersonRole> getSchoolRoles() {
+        return getSchool()
+                .map(School::getRoles)
+                .orElse(Collections.emptyList());
+    }
+
+    private String getVariable(String name) {
+        return execution.getVariable(name, String.class);
+    }
+
+    /**
+     * A memoized lookup of an entity by the value of an id variable.
+     *
+     * @param <T> The type of entity.
+     */
+    private static class Lookup<T> {
+
+        private String key;
+        private Optional<T> value;
+
+        Optional<T> get(String key, Function<String, Optional<T>> loader) {
+            if (key == null) {
+                return Optional.empty();
+            }
+            if (value == null || !Objects.equals(this.key, key)) {
+                this.value = loader.apply(key);
+                this.key = key;
+            }
+            return value;
+        }
+
+    }
+
+}
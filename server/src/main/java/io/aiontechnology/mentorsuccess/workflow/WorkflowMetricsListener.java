@@ -0,0 +1,110 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.workflow;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEntityEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.delegate.event.AbstractFlowableEngineEventListener;
+import org.flowable.engine.delegate.event.FlowableCancelledEvent;
+import org.flowable.engine.delegate.event.FlowableProcessStartedEvent;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Counts the processes that are started and ended for each process definition key, and times how long completed
+ * processes ran.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Component
+public class WorkflowMetricsListener extends AbstractFlowableEngineEventListener {
+
+    private final MeterRegistry meterRegistry;
+
+    public WorkflowMetricsListener(MeterRegistry meterRegistry) {
+        super(Set.of(FlowableEngineEventType.PROCESS_STARTED,
+                FlowableEngineEventType.PROCESS_COMPLETED,
+                FlowableEngineEventType.PROCESS_COMPLETED_WITH_TERMINATE_END_EVENT,
+                FlowableEngineEventType.PROCESS_CANCELLED));
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean isFailOnException() {
+        return false;
+    }
+
+    @Override
+    protected void processCancelled(FlowableCancelledEvent event) {
+        countEnded(event, "cancelled");
+    }
+
+    @Override
+    protected void processCompleted(FlowableEngineEntityEvent event) {
+        countEnded(event, "completed");
+        recordDuration(event, "completed");
+    }
+
+    @Override
+    protected void processCompletedWithTerminateEnd(FlowableEngineEntityEvent event) {
+        countEnded(event, "terminated");
+        recordDuration(event, "terminated");
+    }
+
+    @Override
+    protected void processStarted(FlowableProcessStartedEvent event) {
+        Counter.builder("mentorsuccess.workflow.process.started")
+                .description("The number of processes started")
+                .tag("process", getProcessKey(event))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void countEnded(FlowableEngineEvent event, String outcome) {
+        Counter.builder("mentorsuccess.workflow.process.ended")
+                .description("The number of processes ended")
+                .tag("process", getProcessKey(event))
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void recordDuration(FlowableEngineEntityEvent event, String outcome) {
+        if (event.getEntity() instanceof ProcessInstance processInstance && processInstance.getStartTime() != null) {
+            Timer.builder("mentorsuccess.workflow.process.duration")
+                    .description("The time from the start of a process to its end")
+                    .tag("process", getProcessKey(event))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(Duration.ofMillis(System.currentTimeMillis() - processInstance.getStartTime().getTime()));
+        }
+    }
+
+    private static String getProcessKey(FlowableEngineEvent event) {
+        String processDefinitionId = event.getProcessDefinitionId();
+        return processDefinitionId != null ? processDefinitionId.split(":")[0] : "unknown";
+    }
+
+}
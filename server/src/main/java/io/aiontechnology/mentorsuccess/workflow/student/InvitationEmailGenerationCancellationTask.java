@@ -18,6 +18,7 @@ package io.aiontechnology.mentorsuccess.workflow.student;
 
 import io.aiontechnology.mentorsuccess.model.inbound.InboundInvitation;
 import io.aiontechnology.mentorsuccess.velocity.RegistrationCancellationEmailGenerator;
+import io.aiontechnology.mentorsuccess.velocity.VelocityGenerationStrategyRegistry;
 import io.aiontechnology.mentorsuccess.workflow.ProgramAdministratorEmailGeneratorSupport;
 import io.aiontechnology.mentorsuccess.workflow.TaskUtilities;
 import lombok.extern.slf4j.Slf4j;
@@ -30,8 +31,9 @@ import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConst
 @Service
 public class InvitationEmailGenerationCancellationTask extends ProgramAdministratorEmailGeneratorSupport {
 
-    public InvitationEmailGenerationCancellationTask(TaskUtilities taskUtilities) {
-        super(taskUtilities);
+    public InvitationEmailGenerationCancellationTask(TaskUtilities taskUtilities,
+            VelocityGenerationStrategyRegistry strategyRegistry) {
+        super(taskUtilities, strategyRegistry);
     }
 
     @Override
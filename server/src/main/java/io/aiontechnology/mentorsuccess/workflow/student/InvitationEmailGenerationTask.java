@@ -21,6 +21,7 @@ import io.aiontechnology.mentorsuccess.model.inbound.InboundInvitation;
 import io.aiontechnology.mentorsuccess.util.EmailAddress;
 import io.aiontechnology.mentorsuccess.util.UriBuilder;
 import io.aiontechnology.mentorsuccess.velocity.StudentInvitationEmailGenerator;
+import io.aiontechnology.mentorsuccess.velocity.VelocityGenerationStrategyRegistry;
 import io.aiontechnology.mentorsuccess.workflow.EmailGeneratorSupport;
 import io.aiontechnology.mentorsuccess.workflow.TaskUtilities;
 import lombok.extern.slf4j.Slf4j;
@@ -33,8 +34,9 @@ import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConst
 @Service
 public class InvitationEmailGenerationTask extends EmailGeneratorSupport {
 
-    public InvitationEmailGenerationTask(TaskUtilities taskUtilities) {
-        super(taskUtilities);
+    public InvitationEmailGenerationTask(TaskUtilities taskUtilities,
+            VelocityGenerationStrategyRegistry strategyRegistry) {
+        super(taskUtilities, strategyRegistry);
     }
 
     @Override
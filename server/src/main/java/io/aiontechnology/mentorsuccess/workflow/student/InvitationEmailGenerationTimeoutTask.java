@@ -18,6 +18,7 @@ package io.aiontechnology.mentorsuccess.workflow.student;
 
 import io.aiontechnology.mentorsuccess.model.inbound.InboundInvitation;
 import io.aiontechnology.mentorsuccess.velocity.RegistrationTimeoutEmailGenerator;
+import io.aiontechnology.mentorsuccess.velocity.VelocityGenerationStrategyRegistry;
 import io.aiontechnology.mentorsuccess.workflow.ProgramAdministratorEmailGeneratorSupport;
 import io.aiontechnology.mentorsuccess.workflow.TaskUtilities;
 import org.flowable.engine.delegate.DelegateExecution;
@@ -28,8 +29,9 @@ import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConst
 @Service
 public class InvitationEmailGenerationTimeoutTask extends ProgramAdministratorEmailGeneratorSupport {
 
-    public InvitationEmailGenerationTimeoutTask(TaskUtilities taskUtilities) {
-        super(taskUtilities);
+    public InvitationEmailGenerationTimeoutTask(TaskUtilities taskUtilities,
+            VelocityGenerationStrategyRegistry strategyRegistry) {
+        super(taskUtilities, strategyRegistry);
     }
 
     @Override
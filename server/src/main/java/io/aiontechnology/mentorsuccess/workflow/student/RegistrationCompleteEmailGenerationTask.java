@@ -21,6 +21,7 @@ import io.aiontechnology.mentorsuccess.entity.Person;
 import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
 import io.aiontechnology.mentorsuccess.model.inbound.student.InboundStudentRegistration;
 import io.aiontechnology.mentorsuccess.velocity.RegistrationCompleteEmailGenerator;
+import io.aiontechnology.mentorsuccess.velocity.VelocityGenerationStrategyRegistry;
 import io.aiontechnology.mentorsuccess.workflow.ProgramAdministratorEmailGeneratorSupport;
 import io.aiontechnology.mentorsuccess.workflow.TaskUtilities;
 import lombok.extern.slf4j.Slf4j;
@@ -39,8 +40,9 @@ public class RegistrationCompleteEmailGenerationTask extends ProgramAdministrato
 
     private final UriModelToRoleMapper uriToRoleMapper;
 
-    public RegistrationCompleteEmailGenerationTask(TaskUtilities taskUtilities, UriModelToRoleMapper uriToRoleMapper) {
-        super(taskUtilities);
+    public RegistrationCompleteEmailGenerationTask(TaskUtilities taskUtilities,
+            VelocityGenerationStrategyRegistry strategyRegistry, UriModelToRoleMapper uriToRoleMapper) {
+        super(taskUtilities, strategyRegistry);
         this.uriToRoleMapper = uriToRoleMapper;
     }
 
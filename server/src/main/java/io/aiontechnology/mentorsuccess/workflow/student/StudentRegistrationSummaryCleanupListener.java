@@ -0,0 +1,89 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.workflow.student;
+
+import io.aiontechnology.mentorsuccess.repository.StudentRegistrationSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEntityEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.delegate.event.AbstractFlowableEngineEventListener;
+import org.flowable.engine.delegate.event.FlowableCancelledEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.STUDENT_REGISTRATION_PROCESS;
+
+/**
+ * Removes the {@link io.aiontechnology.mentorsuccess.entity.StudentRegistrationSummary StudentRegistrationSummary} of a
+ * registration process once the process has ended, so that the registration page is no longer served for it.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@Component
+@Slf4j
+public class StudentRegistrationSummaryCleanupListener extends AbstractFlowableEngineEventListener {
+
+    private static final String DEFINITION_PREFIX = STUDENT_REGISTRATION_PROCESS + ":";
+
+    private final StudentRegistrationSummaryRepository studentRegistrationSummaryRepository;
+
+    public StudentRegistrationSummaryCleanupListener(
+            StudentRegistrationSummaryRepository studentRegistrationSummaryRepository) {
+        super(Set.of(FlowableEngineEventType.PROCESS_COMPLETED,
+                FlowableEngineEventType.PROCESS_COMPLETED_WITH_TERMINATE_END_EVENT,
+                FlowableEngineEventType.PROCESS_CANCELLED));
+        this.studentRegistrationSummaryRepository = studentRegistrationSummaryRepository;
+    }
+
+    /**
+     * A summary that outlives its process would keep serving the registration page, so a failed delete rolls back
+     * the transaction that ends the process.
+     *
+     * @return Always {@code true}.
+     */
+    @Override
+    public boolean isFailOnException() {
+        return true;
+    }
+
+    @Override
+    protected void processCancelled(FlowableCancelledEvent event) {
+        removeSummary(event);
+    }
+
+    @Override
+    protected void processCompleted(FlowableEngineEntityEvent event) {
+        removeSummary(event);
+    }
+
+    @Override
+    protected void processCompletedWithTerminateEnd(FlowableEngineEntityEvent event) {
+        removeSummary(event);
+    }
+
+    private void removeSummary(FlowableEngineEvent event) {
+        if (event.getProcessDefinitionId() != null && event.getProcessDefinitionId().startsWith(DEFINITION_PREFIX)) {
+            log.debug("Removing registration summary for process {}", event.getProcessInstanceId());
+            studentRegistrationSummaryRepository.deleteById(UUID.fromString(event.getProcessInstanceId()));
+        }
+    }
+
+}
@@ -19,6 +19,7 @@ package io.aiontechnology.mentorsuccess.workflow.teacher;
 import io.aiontechnology.mentorsuccess.util.EmailAddress;
 import io.aiontechnology.mentorsuccess.util.UriBuilder;
 import io.aiontechnology.mentorsuccess.velocity.TeacherEmailGeneratorSupport;
+import io.aiontechnology.mentorsuccess.velocity.VelocityGenerationStrategyRegistry;
 import io.aiontechnology.mentorsuccess.workflow.EmailGeneratorSupport;
 import io.aiontechnology.mentorsuccess.workflow.TaskUtilities;
 import org.flowable.engine.delegate.DelegateExecution;
@@ -31,8 +32,9 @@ import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConst
 @Service
 public class InformationEmailGenerationTask extends EmailGeneratorSupport {
 
-    public InformationEmailGenerationTask(TaskUtilities taskUtilities) {
-        super(taskUtilities);
+    public InformationEmailGenerationTask(TaskUtilities taskUtilities,
+            VelocityGenerationStrategyRegistry strategyRegistry) {
+        super(taskUtilities, strategyRegistry);
     }
 
     @Override
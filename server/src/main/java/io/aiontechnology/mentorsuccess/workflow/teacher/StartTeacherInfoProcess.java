@@ -18,7 +18,6 @@ package io.aiontechnology.mentorsuccess.workflow.teacher;
 
 import io.aiontechnology.mentorsuccess.entity.School;
 import io.aiontechnology.mentorsuccess.model.inbound.InboundInvitation;
-import io.aiontechnology.mentorsuccess.service.SchoolService;
 import io.aiontechnology.mentorsuccess.service.StudentRegistrationService;
 import io.aiontechnology.mentorsuccess.service.StudentService;
 import io.aiontechnology.mentorsuccess.workflow.TaskUtilities;
@@ -32,7 +31,6 @@ import java.util.UUID;
 
 import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.INVITATION;
 import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.REGISTRATION_TIMEOUT;
-import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.SCHOOL_ID;
 import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.STUDENT_ID;
 import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.TEACHER_ID;
 
@@ -44,7 +42,6 @@ public class StartTeacherInfoProcess implements JavaDelegate {
     private final RuntimeService runtimeService;
 
     // Services
-    private final SchoolService schoolService;
     private final StudentRegistrationService studentRegistrationService;
     private final StudentService studentService;
 
@@ -53,7 +50,6 @@ public class StartTeacherInfoProcess implements JavaDelegate {
 
     @Override
     public void execute(DelegateExecution execution) {
-        String schoolId = taskUtilities.getRequiredVariable(execution, SCHOOL_ID, String.class);
         String studentId = taskUtilities.getRequiredVariable(execution, STUDENT_ID, String.class);
         String teacherId = execution.getVariable(TEACHER_ID, String.class);
         String registrationTimeout = taskUtilities.getRequiredVariable(execution, REGISTRATION_TIMEOUT, String.class);
@@ -61,7 +57,7 @@ public class StartTeacherInfoProcess implements JavaDelegate {
         InboundInvitation invitation = taskUtilities.getRequiredVariable(execution, INVITATION,
                 InboundInvitation.class);
 
-        var school = schoolService.getSchoolById(UUID.fromString(schoolId));
+        var school = taskUtilities.getSchool(execution);
         var currentSession = school
                 .map(School::getCurrentSession);
         var student = currentSession
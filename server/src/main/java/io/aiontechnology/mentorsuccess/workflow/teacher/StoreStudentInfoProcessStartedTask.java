@@ -20,6 +20,7 @@ import io.aiontechnology.mentorsuccess.entity.School;
 import io.aiontechnology.mentorsuccess.entity.SchoolSession;
 import io.aiontechnology.mentorsuccess.entity.Student;
 import io.aiontechnology.mentorsuccess.entity.StudentSchoolSession;
+import io.aiontechnology.mentorsuccess.service.StudentSchoolSessionService;
 import io.aiontechnology.mentorsuccess.workflow.TaskUtilities;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +33,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class StoreStudentInfoProcessStartedTask implements JavaDelegate {
 
+    private final StudentSchoolSessionService studentSchoolSessionService;
     private final TaskUtilities taskUtilities;
 
     @Override
@@ -40,7 +42,7 @@ public class StoreStudentInfoProcessStartedTask implements JavaDelegate {
         SchoolSession currentSchoolSession = school.getCurrentSession();
         Student student = taskUtilities.getStudent(execution).orElseThrow();
         StudentSchoolSession currentStudentSchoolSession =
-                student.findCurrentSessionForStudent(currentSchoolSession).orElseThrow();
+                studentSchoolSessionService.findStudentSchoolSession(student, currentSchoolSession).orElseThrow();
         currentStudentSchoolSession.setStartedInfoFlowId(execution.getProcessInstanceId());
     }
 
@@ -20,6 +20,7 @@ import io.aiontechnology.mentorsuccess.entity.School;
 import io.aiontechnology.mentorsuccess.entity.SchoolSession;
 import io.aiontechnology.mentorsuccess.entity.Student;
 import io.aiontechnology.mentorsuccess.entity.StudentSchoolSession;
+import io.aiontechnology.mentorsuccess.service.StudentSchoolSessionService;
 import io.aiontechnology.mentorsuccess.service.StudentService;
 import io.aiontechnology.mentorsuccess.workflow.TaskUtilities;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +35,7 @@ import org.springframework.stereotype.Service;
 public class StoreWorkflowIdTask implements JavaDelegate {
 
     // Services
+    private final StudentSchoolSessionService studentSchoolSessionService;
     private final StudentService studentService;
 
     // Other
@@ -45,7 +47,7 @@ public class StoreWorkflowIdTask implements JavaDelegate {
         SchoolSession currentSchoolSession = school.getCurrentSession();
         Student student = taskUtilities.getStudent(execution).orElseThrow();
         StudentSchoolSession currentStudentSchoolSession =
-                student.findCurrentSessionForStudent(currentSchoolSession).orElseThrow();
+                studentSchoolSessionService.findStudentSchoolSession(student, currentSchoolSession).orElseThrow();
         currentStudentSchoolSession.setCompletedInfoFlowId(execution.getProcessInstanceId());
         studentService.updateStudent(student);
     }
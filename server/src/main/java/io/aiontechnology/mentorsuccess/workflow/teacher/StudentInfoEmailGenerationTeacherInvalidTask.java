@@ -17,6 +17,7 @@
 package io.aiontechnology.mentorsuccess.workflow.teacher;
 
 import io.aiontechnology.mentorsuccess.velocity.TeacherInvalidEmailGenerator;
+import io.aiontechnology.mentorsuccess.velocity.VelocityGenerationStrategyRegistry;
 import io.aiontechnology.mentorsuccess.workflow.ProgramAdministratorEmailGeneratorSupport;
 import io.aiontechnology.mentorsuccess.workflow.TaskUtilities;
 import org.flowable.engine.delegate.DelegateExecution;
@@ -25,8 +26,9 @@ import org.springframework.stereotype.Service;
 @Service
 public class StudentInfoEmailGenerationTeacherInvalidTask extends ProgramAdministratorEmailGeneratorSupport {
 
-    public StudentInfoEmailGenerationTeacherInvalidTask(TaskUtilities taskUtilities) {
-        super(taskUtilities);
+    public StudentInfoEmailGenerationTeacherInvalidTask(TaskUtilities taskUtilities,
+            VelocityGenerationStrategyRegistry strategyRegistry) {
+        super(taskUtilities, strategyRegistry);
     }
 
     @Override
@@ -17,6 +17,7 @@
 package io.aiontechnology.mentorsuccess.workflow.teacher;
 
 import io.aiontechnology.mentorsuccess.velocity.StudentInfoTimeoutEmailGenerator;
+import io.aiontechnology.mentorsuccess.velocity.VelocityGenerationStrategyRegistry;
 import io.aiontechnology.mentorsuccess.workflow.ProgramAdministratorEmailGeneratorSupport;
 import io.aiontechnology.mentorsuccess.workflow.TaskUtilities;
 import org.flowable.engine.delegate.DelegateExecution;
@@ -25,8 +26,9 @@ import org.springframework.stereotype.Service;
 @Service
 public class StudentInfoEmailGenerationTimeoutTask extends ProgramAdministratorEmailGeneratorSupport {
 
-    public StudentInfoEmailGenerationTimeoutTask(TaskUtilities taskUtilities) {
-        super(taskUtilities);
+    public StudentInfoEmailGenerationTimeoutTask(TaskUtilities taskUtilities,
+            VelocityGenerationStrategyRegistry strategyRegistry) {
+        super(taskUtilities, strategyRegistry);
     }
 
     @Override
@@ -18,6 +18,7 @@ package io.aiontechnology.mentorsuccess.workflow.teacher;
 
 import io.aiontechnology.mentorsuccess.model.inbound.student.InboundStudentInformation;
 import io.aiontechnology.mentorsuccess.velocity.TeacherInvitationCompleteEmailGenerator;
+import io.aiontechnology.mentorsuccess.velocity.VelocityGenerationStrategyRegistry;
 import io.aiontechnology.mentorsuccess.workflow.ProgramAdministratorEmailGeneratorSupport;
 import io.aiontechnology.mentorsuccess.workflow.TaskUtilities;
 import org.flowable.engine.delegate.DelegateExecution;
@@ -26,8 +27,9 @@ import org.springframework.stereotype.Service;
 @Service
 public class StudentInformationCompleteEmailGenerationTask extends ProgramAdministratorEmailGeneratorSupport {
 
-    public StudentInformationCompleteEmailGenerationTask(TaskUtilities taskUtilities) {
-        super(taskUtilities);
+    public StudentInformationCompleteEmailGenerationTask(TaskUtilities taskUtilities,
+            VelocityGenerationStrategyRegistry strategyRegistry) {
+        super(taskUtilities, strategyRegistry);
     }
 
     @Override
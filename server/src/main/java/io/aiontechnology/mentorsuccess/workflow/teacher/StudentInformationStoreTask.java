@@ -28,7 +28,9 @@ import io.aiontechnology.mentorsuccess.entity.StudentSchoolSession;
 import io.aiontechnology.mentorsuccess.entity.reference.Behavior;
 import io.aiontechnology.mentorsuccess.entity.reference.LeadershipSkill;
 import io.aiontechnology.mentorsuccess.entity.reference.LeadershipTrait;
+import io.aiontechnology.mentorsuccess.feature.analytics.service.AssessmentStatisticsService;
 import io.aiontechnology.mentorsuccess.model.inbound.student.InboundStudentInformation;
+import io.aiontechnology.mentorsuccess.service.StudentSchoolSessionService;
 import io.aiontechnology.mentorsuccess.service.StudentService;
 import io.aiontechnology.mentorsuccess.workflow.TaskUtilities;
 import lombok.RequiredArgsConstructor;
@@ -47,6 +49,8 @@ import java.util.stream.Collectors;
 public class StudentInformationStoreTask implements JavaDelegate {
 
     // Services
+    private final AssessmentStatisticsService assessmentStatisticsService;
+    private final StudentSchoolSessionService studentSchoolSessionService;
     private final StudentService studentService;
 
     // Mappers
@@ -64,7 +68,7 @@ public class StudentInformationStoreTask implements JavaDelegate {
         Student student = taskUtilities.getStudent(execution).orElseThrow();
         SchoolPersonRole teacher = taskUtilities.getTeacher(execution).orElseThrow();
         StudentSchoolSession currentStudentSchoolSession =
-                student.findCurrentSessionForStudent(currentSchoolSession).orElseThrow();
+                studentSchoolSessionService.findStudentSchoolSession(student, currentSchoolSession).orElseThrow();
 
         taskUtilities.getInboundStudentInformation(execution)
                 .ifPresent(studentInformation -> {
@@ -74,42 +78,44 @@ public class StudentInformationStoreTask implements JavaDelegate {
                     currentStudentSchoolSession
                             .setStudentLeadershipTraits(mapLeadershipTraits(studentInformation, teacher));
                     currentStudentSchoolSession.setTeacherComment(studentInformation.getTeacherComment());
-                    currentStudentSchoolSession.setPreQuestion1(studentInformation.getStudentAssessment().getQuestion1());
-                    currentStudentSchoolSession.setPreQuestion2(studentInformation.getStudentAssessment().getQuestion2());
-                    currentStudentSchoolSession.setPreQuestion3(studentInformation.getStudentAssessment().getQuestion3());
-                    currentStudentSchoolSession.setPreQuestion4(studentInformation.getStudentAssessment().getQuestion4());
-                    currentStudentSchoolSession.setPreQuestion5(studentInformation.getStudentAssessment().getQuestion5());
-                    currentStudentSchoolSession.setPreQuestion6(studentInformation.getStudentAssessment().getQuestion6());
-                    currentStudentSchoolSession.setPreQuestion7(studentInformation.getStudentAssessment().getQuestion7());
-                    currentStudentSchoolSession.setPreQuestion8(studentInformation.getStudentAssessment().getQuestion8());
-                    currentStudentSchoolSession.setPreQuestion9(studentInformation.getStudentAssessment().getQuestion9());
-                    currentStudentSchoolSession.setPreQuestion10(studentInformation.getStudentAssessment().getQuestion10());
-                    currentStudentSchoolSession.setPreQuestion11(studentInformation.getStudentAssessment().getQuestion11());
-                    currentStudentSchoolSession.setPreQuestion12(studentInformation.getStudentAssessment().getQuestion12());
-                    currentStudentSchoolSession.setPreQuestion13(studentInformation.getStudentAssessment().getQuestion13());
-                    currentStudentSchoolSession.setPreQuestion14(studentInformation.getStudentAssessment().getQuestion14());
-                    currentStudentSchoolSession.setPreQuestion15(studentInformation.getStudentAssessment().getQuestion15());
-                    currentStudentSchoolSession.setPreQuestion16(studentInformation.getStudentAssessment().getQuestion16());
-                    currentStudentSchoolSession.setPreQuestion17(studentInformation.getStudentAssessment().getQuestion17());
-                    currentStudentSchoolSession.setPreQuestion18(studentInformation.getStudentAssessment().getQuestion18());
-                    currentStudentSchoolSession.setPreQuestion19(studentInformation.getStudentAssessment().getQuestion19());
-                    currentStudentSchoolSession.setPreQuestion20(studentInformation.getStudentAssessment().getQuestion20());
-                    currentStudentSchoolSession.setPreQuestion21(studentInformation.getStudentAssessment().getQuestion21());
-                    currentStudentSchoolSession.setPreQuestion22(studentInformation.getStudentAssessment().getQuestion22());
-                    currentStudentSchoolSession.setPreQuestion23(studentInformation.getStudentAssessment().getQuestion23());
-                    currentStudentSchoolSession.setPreQuestion24(studentInformation.getStudentAssessment().getQuestion24());
-                    currentStudentSchoolSession.setPreQuestion25(studentInformation.getStudentAssessment().getQuestion25());
-                    currentStudentSchoolSession.setPreQuestion26(studentInformation.getStudentAssessment().getQuestion26());
-                    currentStudentSchoolSession.setPreQuestion27(studentInformation.getStudentAssessment().getQuestion27());
-                    currentStudentSchoolSession.setPreQuestion28(studentInformation.getStudentAssessment().getQuestion28());
-                    currentStudentSchoolSession.setPreQuestion29(studentInformation.getStudentAssessment().getQuestion29());
-                    currentStudentSchoolSession.setPreQuestion30(studentInformation.getStudentAssessment().getQuestion30());
-                    currentStudentSchoolSession.setPreQuestion31(studentInformation.getStudentAssessment().getQuestion31());
-                    currentStudentSchoolSession.setPreQuestion32(studentInformation.getStudentAssessment().getQuestion32());
-                    currentStudentSchoolSession.setPreQuestion33(studentInformation.getStudentAssessment().getQuestion33());
-                    currentStudentSchoolSession.setPreQuestion34(studentInformation.getStudentAssessment().getQuestion34());
-                    currentStudentSchoolSession.setPreQuestion35(studentInformation.getStudentAssessment().getQuestion35());
-                    currentStudentSchoolSession.setPreBehavioralAssessment(studentInformation.getStudentAssessment().answerSum());
+                    assessmentStatisticsService.recordChange(currentStudentSchoolSession, () -> {
+                        currentStudentSchoolSession.setPreQuestion1(studentInformation.getStudentAssessment().getQuestion1());
+                        currentStudentSchoolSession.setPreQuestion2(studentInformation.getStudentAssessment().getQuestion2());
+                        currentStudentSchoolSession.setPreQuestion3(studentInformation.getStudentAssessment().getQuestion3());
+                        currentStudentSchoolSession.setPreQuestion4(studentInformation.getStudentAssessment().getQuestion4());
+                        currentStudentSchoolSession.setPreQuestion5(studentInformation.getStudentAssessment().getQuestion5());
+                        currentStudentSchoolSession.setPreQuestion6(studentInformation.getStudentAssessment().getQuestion6());
+                        currentStudentSchoolSession.setPreQuestion7(studentInformation.getStudentAssessment().getQuestion7());
+                        currentStudentSchoolSession.setPreQuestion8(studentInformation.getStudentAssessment().getQuestion8());
+                        currentStudentSchoolSession.setPreQuestion9(studentInformation.getStudentAssessment().getQuestion9());
+                        currentStudentSchoolSession.setPreQuestion10(studentInformation.getStudentAssessment().getQuestion10());
+                        currentStudentSchoolSession.setPreQuestion11(studentInformation.getStudentAssessment().getQuestion11());
+                        currentStudentSchoolSession.setPreQuestion12(studentInformation.getStudentAssessment().getQuestion12());
+                        currentStudentSchoolSession.setPreQuestion13(studentInformation.getStudentAssessment().getQuestion13());
+                        currentStudentSchoolSession.setPreQuestion14(studentInformation.getStudentAssessment().getQuestion14());
+                        currentStudentSchoolSession.setPreQuestion15(studentInformation.getStudentAssessment().getQuestion15());
+                        currentStudentSchoolSession.setPreQuestion16(studentInformation.getStudentAssessment().getQuestion16());
+                        currentStudentSchoolSession.setPreQuestion17(studentInformation.getStudentAssessment().getQuestion17());
+                        currentStudentSchoolSession.setPreQuestion18(studentInformation.getStudentAssessment().getQuestion18());
+                        currentStudentSchoolSession.setPreQuestion19(studentInformation.getStudentAssessment().getQuestion19());
+                        currentStudentSchoolSession.setPreQuestion20(studentInformation.getStudentAssessment().getQuestion20());
+                        currentStudentSchoolSession.setPreQuestion21(studentInformation.getStudentAssessment().getQuestion21());
+                        currentStudentSchoolSession.setPreQuestion22(studentInformation.getStudentAssessment().getQuestion22());
+                        currentStudentSchoolSession.setPreQuestion23(studentInformation.getStudentAssessment().getQuestion23());
+                        currentStudentSchoolSession.setPreQuestion24(studentInformation.getStudentAssessment().getQuestion24());
+                        currentStudentSchoolSession.setPreQuestion25(studentInformation.getStudentAssessment().getQuestion25());
+                        currentStudentSchoolSession.setPreQuestion26(studentInformation.getStudentAssessment().getQuestion26());
+                        currentStudentSchoolSession.setPreQuestion27(studentInformation.getStudentAssessment().getQuestion27());
+                        currentStudentSchoolSession.setPreQuestion28(studentInformation.getStudentAssessment().getQuestion28());
+                        currentStudentSchoolSession.setPreQuestion29(studentInformation.getStudentAssessment().getQuestion29());
+                        currentStudentSchoolSession.setPreQuestion30(studentInformation.getStudentAssessment().getQuestion30());
+                        currentStudentSchoolSession.setPreQuestion31(studentInformation.getStudentAssessment().getQuestion31());
+                        currentStudentSchoolSession.setPreQuestion32(studentInformation.getStudentAssessment().getQuestion32());
+                        currentStudentSchoolSession.setPreQuestion33(studentInformation.getStudentAssessment().getQuestion33());
+                        currentStudentSchoolSession.setPreQuestion34(studentInformation.getStudentAssessment().getQuestion34());
+                        currentStudentSchoolSession.setPreQuestion35(studentInformation.getStudentAssessment().getQuestion35());
+                        currentStudentSchoolSession.setPreBehavioralAssessment(studentInformation.getStudentAssessment().answerSum());
+                    });
                     studentService.updateStudent(student);
                 });
     }
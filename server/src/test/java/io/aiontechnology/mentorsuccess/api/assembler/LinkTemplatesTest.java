@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.api.assembler;
+
+import io.aiontechnology.mentorsuccess.api.controller.SchoolController;
+import io.aiontechnology.mentorsuccess.api.controller.StudentController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.hateoas.IanaLinkRelations.SELF;
+
+/**
+ * Tests for {@link LinkTemplates}.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+public class LinkTemplatesTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testLinkTo_noRequest() {
+        // setup the fixture
+        UUID schoolId = UUID.randomUUID();
+        UUID studentId = UUID.randomUUID();
+
+        // execute the SUT
+        Link result = LinkTemplates.linkTo(StudentController.class, schoolId).slash(studentId).withSelfRel();
+
+        // validation
+        assertThat(result).isEqualTo(Link.of("/api/v1/schools/" + schoolId + "/students/" + studentId, SELF));
+    }
+
+    @Test
+    void testLinkTo_perRequestBaseUri() {
+        // setup the fixture
+        UUID schoolId = UUID.randomUUID();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/schools");
+        request.setScheme("https");
+        request.setServerName("api.example.com");
+        request.setServerPort(443);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // execute the SUT
+        Link result = LinkTemplates.linkTo(SchoolController.class).slash(schoolId).slash("teachers")
+                .withRel("teachers");
+
+        // validation
+        assertThat(result).isEqualTo(Link.of("https://api.example.com/api/v1/schools/" + schoolId + "/teachers",
+                "teachers"));
+    }
+
+    @Test
+    void testLinkTo_encodesSegments() {
+        // setup the fixture
+        UUID schoolId = UUID.randomUUID();
+
+        // execute the SUT
+        Link result = LinkTemplates.linkTo(StudentController.class, schoolId).slash("a b").withSelfRel();
+
+        // validation
+        assertThat(result.getHref()).isEqualTo("/api/v1/schools/" + schoolId + "/students/a%20b");
+    }
+
+    @Test
+    void testLinkTo_missingParameter() {
+        // execute the SUT and validation
+        assertThatThrownBy(() -> LinkTemplates.linkTo(StudentController.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
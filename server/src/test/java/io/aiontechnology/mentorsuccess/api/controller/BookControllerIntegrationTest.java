@@ -271,6 +271,52 @@ public class BookControllerIntegrationTest {
                 .andExpect(jsonPath("$._embedded.bookList[0].id", is("f53af381-d524-40f7-8df9-3e808c9ad46b")));
     }
 
+    @Test
+    void testGetAllBooks_filtered() throws Exception {
+        // setup the fixture
+        // See SQL file
+
+        // execute the SUT
+        ResultActions result = mvc.perform(get("/api/v1/books")
+                .param("name", "tit")
+                .param("grade", "1")
+                .param("location", "OFFLINE")
+                .param("size", "10")
+                .with(jwt().jwt(Jwt.withTokenValue("1234")
+                        .claim("cognito:groups", new SystemAdminAuthoritySetter())
+                        .header("test", "value")
+                        .build()))
+                .contentType(APPLICATION_JSON));
+
+        // validation
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.bookList.length()", is(1)))
+                .andExpect(jsonPath("$._embedded.bookList[0].id", is("f53af381-d524-40f7-8df9-3e808c9ad46b")))
+                .andExpect(jsonPath("$.page.size", is(10)))
+                .andExpect(jsonPath("$.page.totalElements", is(1)))
+                .andExpect(jsonPath("$.page.number", is(0)));
+    }
+
+    @Test
+    void testGetAllBooks_filteredOut() throws Exception {
+        // setup the fixture
+        // See SQL file
+
+        // execute the SUT
+        ResultActions result = mvc.perform(get("/api/v1/books")
+                .param("location", "ONLINE")
+                .with(jwt().jwt(Jwt.withTokenValue("1234")
+                        .claim("cognito:groups", new SystemAdminAuthoritySetter())
+                        .header("test", "value")
+                        .build()))
+                .contentType(APPLICATION_JSON));
+
+        // validation
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded").doesNotExist())
+                .andExpect(jsonPath("$.page.totalElements", is(0)));
+    }
+
     @Test
     void testGetBookById_found() throws Exception {
         // setup the fixture
@@ -16,13 +16,16 @@
 
 package io.aiontechnology.mentorsuccess.api.controller;
 
+import io.aiontechnology.mentorsuccess.entity.reference.LeadershipSkill;
 import io.aiontechnology.mentorsuccess.security.SystemAdminAuthoritySetter;
+import io.aiontechnology.mentorsuccess.service.ReferenceIndex;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.transaction.AfterTransaction;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
@@ -51,11 +54,20 @@ public class LeadershipSkillControllerIntegrationTest {
     @Inject
     private MockMvc mvc;
 
+    @Inject
+    private ReferenceIndex<LeadershipSkill> leadershipSkillIndex;
+
+    @AfterTransaction
+    void restoreIndex() {
+        leadershipSkillIndex.refresh();
+    }
+
     @Test
     @Sql({"/io/aiontechnology/mentorsuccess/api/controller/leadershipskill-controller.sql"})
     void testGetAllLeadershipTraits() throws Exception {
         // setup the fixture
         // See SQL
+        leadershipSkillIndex.refresh();
 
         // execute the SUT
         ResultActions result = mvc.perform(get("/api/v1/leadership_skills")
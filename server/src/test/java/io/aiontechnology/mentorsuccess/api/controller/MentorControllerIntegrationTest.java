@@ -309,6 +309,45 @@ public class MentorControllerIntegrationTest {
         result.andExpect(status().isOk());
     }
 
+    @Test
+    void testGetAllMentors_namePrefix() throws Exception {
+        // setup the fixture
+        // See SQL file
+
+        // execute the SUT
+        ResultActions result = mvc.perform(get("/api/v1/schools/fd03c21f-cd39-4c05-b3f1-6d49618b6b10/mentors")
+                .param("name", "rog")
+                .with(jwt().jwt(Jwt.withTokenValue("1234")
+                        .claim("cognito:groups", new SystemAdminAuthoritySetter())
+                        .header("test", "value")
+                        .build()))
+                .contentType(APPLICATION_JSON));
+
+        // validation
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements", is(1)));
+    }
+
+    @Test
+    void testGetAllMentors_namePrefixNotFound() throws Exception {
+        // setup the fixture
+        // See SQL file
+
+        // execute the SUT
+        ResultActions result = mvc.perform(get("/api/v1/schools/fd03c21f-cd39-4c05-b3f1-6d49618b6b10/mentors")
+                .param("name", "fred")
+                .with(jwt().jwt(Jwt.withTokenValue("1234")
+                        .claim("cognito:groups", new SystemAdminAuthoritySetter())
+                        .header("test", "value")
+                        .build()))
+                .contentType(APPLICATION_JSON));
+
+        // validation
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded").doesNotExist())
+                .andExpect(jsonPath("$.page.totalElements", is(0)));
+    }
+
     @Test
     void testGetMentorById_found() throws Exception {
         // setup the fixture
@@ -16,13 +16,16 @@
 
 package io.aiontechnology.mentorsuccess.api.controller;
 
+import io.aiontechnology.mentorsuccess.entity.reference.Phonogram;
 import io.aiontechnology.mentorsuccess.security.SystemAdminAuthoritySetter;
+import io.aiontechnology.mentorsuccess.service.ReferenceIndex;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.transaction.AfterTransaction;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
@@ -50,11 +53,20 @@ public class PhonogramControllerIntegrationTest {
     @Inject
     private MockMvc mvc;
 
+    @Inject
+    private ReferenceIndex<Phonogram> phonogramIndex;
+
+    @AfterTransaction
+    void restoreIndex() {
+        phonogramIndex.refresh();
+    }
+
     @Test
     @Sql({"/io/aiontechnology/mentorsuccess/api/controller/phonogram-controller.sql"})
     void testGetAllPhonograms() throws Exception {
         // setup the fixture
         // See SQL
+        phonogramIndex.refresh();
 
         // execute the SUT
         ResultActions result = mvc.perform(get("/api/v1/phonograms")
@@ -280,6 +280,48 @@ public class ProgramAdminControllerIntegrationTest {
         result.andExpect(status().isOk());
     }
 
+    @Test
+    void testGetAllProgramAdmins_anonymous() throws Exception {
+        // setup the fixture
+
+        // execute the SUT
+        ResultActions result = mvc.perform(get("/api/v1/schools/fd03c21f-cd39-4c05-b3f1-6d49618b6b10/programAdmins")
+                .contentType(APPLICATION_JSON));
+
+        // validation
+        result.andExpect(status().isOk());
+    }
+
+    @Test
+    void testGetAllProgramAdmins_inactiveAnonymous() throws Exception {
+        // setup the fixture
+
+        // execute the SUT
+        ResultActions result = mvc.perform(get("/api/v1/schools/fd03c21f-cd39-4c05-b3f1-6d49618b6b10/programAdmins")
+                .param("active", "false")
+                .contentType(APPLICATION_JSON));
+
+        // validation
+        result.andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testGetAllProgramAdmins_inactive() throws Exception {
+        // setup the fixture
+
+        // execute the SUT
+        ResultActions result = mvc.perform(get("/api/v1/schools/fd03c21f-cd39-4c05-b3f1-6d49618b6b10/programAdmins")
+                .param("active", "false")
+                .with(jwt().jwt(Jwt.withTokenValue("1234")
+                        .claim("cognito:groups", new SystemAdminAuthoritySetter())
+                        .header("test", "value")
+                        .build()))
+                .contentType(APPLICATION_JSON));
+
+        // validation
+        result.andExpect(status().isOk());
+    }
+
     @Test
     void testGetProgramAdminById_found() throws Exception {
         // setup the fixture
@@ -24,6 +24,7 @@ import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
@@ -45,6 +46,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -367,6 +369,26 @@ public class SchoolControllerIntegrationTest {
                 .andExpect(jsonPath("$._links.programAdmins[0].href", endsWith("/programAdmins")));
     }
 
+    @Test
+    void testGetSchoolById_notModified() throws Exception {
+        // setup the fixture
+        // See SQL file
+
+        // execute the SUT
+        ResultActions result = mvc.perform(get("/api/v1/schools/fd03c21f-cd39-4c05-b3f1-6d49618b6b10")
+                .with(jwt().jwt(Jwt.withTokenValue("1234")
+                        .claim("cognito:groups", new SystemAdminAuthoritySetter())
+                        .header("test", "value")
+                        .build()))
+                .header(HttpHeaders.IF_NONE_MATCH, "\"0\"")
+                .contentType(APPLICATION_JSON));
+
+        // validation
+        result.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(content().string(""));
+    }
+
     @Test
     void testGetSchoolById_notFound() throws Exception {
         // setup the fixture
@@ -429,4 +451,33 @@ public class SchoolControllerIntegrationTest {
                 .andExpect(jsonPath("$._links.programAdmins[0].href", endsWith("/programAdmins")));
     }
 
+    @Test
+    void testUpdateSchool_staleTag() throws Exception {
+        // setup the fixture
+        Map<String, Object> addressModel = new HashMap<>();
+        addressModel.put("street1", "NEW STREET1");
+        addressModel.put("city", "NEW CITY");
+        addressModel.put("state", "NW");
+        addressModel.put("zip", "987654321");
+        Map<String, Object> schoolModel = new HashMap<>();
+        schoolModel.put("name", "NEW NAME");
+        schoolModel.put("address", addressModel);
+        schoolModel.put("phone", "(360) 765-4321");
+        schoolModel.put("district", "NEW DISTRICT");
+        schoolModel.put("isPrivate", false);
+
+        // execute the SUT
+        ResultActions result = mvc.perform(put("/api/v1/schools/fd03c21f-cd39-4c05-b3f1-6d49618b6b10")
+                .with(jwt().jwt(Jwt.withTokenValue("1234")
+                        .claim("cognito:groups", new SystemAdminAuthoritySetter())
+                        .header("test", "value")
+                        .build()))
+                .header(HttpHeaders.IF_MATCH, "\"41\"")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(schoolModel)));
+
+        // validation
+        result.andExpect(status().isPreconditionFailed());
+    }
+
 }
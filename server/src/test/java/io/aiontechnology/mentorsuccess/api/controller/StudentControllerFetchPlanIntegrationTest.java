@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.api.controller;
+
+import io.aiontechnology.mentorsuccess.security.SystemAdminAuthoritySetter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.inject.Inject;
+
+import static io.aiontechnology.mentorsuccess.feature.sql.SqlStatementMatchers.sqlStatementsAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests that the number of statements issued by {@link StudentController} does not depend on the size of a roster.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Sql({"/io/aiontechnology/mentorsuccess/api/controller/student-roster.sql"})
+@Transactional
+public class StudentControllerFetchPlanIntegrationTest {
+
+    private static final String SCHOOL_ID = "6d1bbd1c-5e0e-4a0b-9a43-5b0f0c7c3e01";
+    private static final String SMALL_SESSION_ID = "2b0a6d53-8a55-4d0f-a4ec-4f40c0f0a501";
+    private static final String LARGE_SESSION_ID = "2b0a6d53-8a55-4d0f-a4ec-4f40c0f0a502";
+    private static final int ROSTER_STATEMENT_LIMIT = 20;
+
+    @Inject
+    private MockMvc mvc;
+
+    @Inject
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void testGetAllStudentsForSchool_statementCountIndependentOfRosterSize() throws Exception {
+        // setup the fixture
+        // See SQL file
+
+        // execute the SUT
+        long smallRosterStatements = countRosterStatements(SMALL_SESSION_ID, 5);
+        long largeRosterStatements = countRosterStatements(LARGE_SESSION_ID, 500);
+
+        // validation
+        assertThat(largeRosterStatements).isEqualTo(smallRosterStatements);
+    }
+
+    private long countRosterStatements(String sessionId, int expectedSize) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mvc.perform(get("/api/v1/schools/" + SCHOOL_ID + "/students")
+                        .param("session", sessionId)
+                        .param("size", "500")
+                        .with(jwt().jwt(Jwt.withTokenValue("1234")
+                                .claim("cognito:groups", new SystemAdminAuthoritySetter())
+                                .header("test", "value")
+                                .build()))
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.studentResourceList.length()", is(expectedSize)))
+                .andExpect(jsonPath("$._embedded.studentResourceList[0].interests[0]", is("ROSTER_INTEREST")))
+                .andExpect(sqlStatementsAtMost(ROSTER_STATEMENT_LIMIT));
+
+        return statistics.getPrepareStatementCount();
+    }
+
+}
@@ -24,6 +24,7 @@ import io.aiontechnology.mentorsuccess.model.inbound.student.InboundStudent;
 import io.aiontechnology.mentorsuccess.model.inbound.student.InboundStudentMentor;
 import io.aiontechnology.mentorsuccess.model.inbound.student.InboundStudentTeacher;
 import io.aiontechnology.mentorsuccess.security.SystemAdminAuthoritySetter;
+import io.aiontechnology.mentorsuccess.util.StudentRosterCursor;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -43,7 +44,9 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.is;
@@ -1103,6 +1106,83 @@ public class StudentControllerIntegrationTest {
                 .andExpect(jsonPath("$.mediaReleaseSigned", is(true)));
     }
 
+    @Test
+    void testReadStudents() throws Exception {
+        // setup the fixture
+        // See SQL file
+
+        // execute the SUT
+        ResultActions result = mvc.perform(get("/api/v1/schools/fd03c21f-cd39-4c05-b3f1-6d49618b6b10/students")
+                .with(jwt().jwt(Jwt.withTokenValue("1234")
+                        .claim("cognito:groups", new SystemAdminAuthoritySetter())
+                        .header("test", "value")
+                        .build()))
+                .contentType(APPLICATION_JSON));
+
+        // validation
+        result.andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/hal+json"))
+                .andExpect(jsonPath("$._embedded.studentResourceList.length()", is(2)))
+                .andExpect(jsonPath("$._embedded.studentResourceList[0].id",
+                        is("2a8c5871-a21d-47a1-a516-a6376a6b8bf2")))
+                .andExpect(jsonPath("$._embedded.studentResourceList[1].id",
+                        is("f0c08c26-954b-4d05-8536-522403f9e54e")))
+                .andExpect(jsonPath("$._links.next").doesNotExist());
+    }
+
+    @Test
+    void testReadStudents_paged() throws Exception {
+        // setup the fixture
+        String cursor = new StudentRosterCursor("Student",
+                UUID.fromString("2a8c5871-a21d-47a1-a516-a6376a6b8bf2")).encode();
+
+        // execute the SUT
+        ResultActions firstPage = mvc.perform(get("/api/v1/schools/fd03c21f-cd39-4c05-b3f1-6d49618b6b10/students")
+                .param("size", "1")
+                .with(jwt().jwt(Jwt.withTokenValue("1234")
+                        .claim("cognito:groups", new SystemAdminAuthoritySetter())
+                        .header("test", "value")
+                        .build()))
+                .contentType(APPLICATION_JSON));
+        ResultActions secondPage = mvc.perform(get("/api/v1/schools/fd03c21f-cd39-4c05-b3f1-6d49618b6b10/students")
+                .param("size", "1")
+                .param("after", cursor)
+                .with(jwt().jwt(Jwt.withTokenValue("1234")
+                        .claim("cognito:groups", new SystemAdminAuthoritySetter())
+                        .header("test", "value")
+                        .build()))
+                .contentType(APPLICATION_JSON));
+
+        // validation
+        firstPage.andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.studentResourceList.length()", is(1)))
+                .andExpect(jsonPath("$._embedded.studentResourceList[0].id",
+                        is("2a8c5871-a21d-47a1-a516-a6376a6b8bf2")))
+                .andExpect(jsonPath("$._links.next.href", containsString("after=" + cursor)));
+        secondPage.andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.studentResourceList.length()", is(1)))
+                .andExpect(jsonPath("$._embedded.studentResourceList[0].id",
+                        is("f0c08c26-954b-4d05-8536-522403f9e54e")))
+                .andExpect(jsonPath("$._links.next").doesNotExist());
+    }
+
+    @Test
+    void testReadStudents_invalidCursor() throws Exception {
+        // setup the fixture
+
+        // execute the SUT
+        ResultActions result = mvc.perform(get("/api/v1/schools/fd03c21f-cd39-4c05-b3f1-6d49618b6b10/students")
+                .param("after", "not-a-cursor")
+                .with(jwt().jwt(Jwt.withTokenValue("1234")
+                        .claim("cognito:groups", new SystemAdminAuthoritySetter())
+                        .header("test", "value")
+                        .build()))
+                .contentType(APPLICATION_JSON));
+
+        // validation
+        result.andExpect(status().isBadRequest());
+    }
+
     @Test
     void testUpdateStudent() throws Exception {
         // setup the fixture
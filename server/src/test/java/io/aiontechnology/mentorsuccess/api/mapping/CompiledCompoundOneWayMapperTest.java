@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.api.mapping;
+
+import io.aiontechnology.mentorsuccess.api.mapping.tomodel.misc.PhoneEntityToModelMapper;
+import io.aiontechnology.mentorsuccess.entity.Person;
+import io.aiontechnology.mentorsuccess.resource.PersonResource;
+import io.aiontechnology.mentorsuccess.util.PhoneService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CompiledCompoundOneWayMapper}.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+public class CompiledCompoundOneWayMapperTest {
+
+    @Test
+    void testMap() {
+        // setup the fixture
+        PersonMapper mapper = new PersonMapper();
+        mapper.addSubMapper("workPhone", new PhoneEntityToModelMapper(new PhoneService()));
+        Person person = new Person();
+        person.setId(UUID.randomUUID());
+        person.setFirstName("FIRST");
+        person.setLastName("LAST");
+        person.setEmail("first.last@example.com");
+        person.setWorkPhone("5555555555");
+
+        // execute the SUT
+        Optional<PersonResource> result = mapper.map(person);
+
+        // validation
+        assertThat(result).isPresent();
+        assertThat(result.get().getContent()).isSameAs(person);
+        assertThat(result.get().getId()).isEqualTo(person.getId());
+        assertThat(result.get().getFirstName()).isEqualTo("FIRST");
+        assertThat(result.get().getLastName()).isEqualTo("LAST");
+        assertThat(result.get().getEmail()).isEqualTo("first.last@example.com");
+        assertThat(result.get().getWorkPhone()).isEqualTo("(555) 555-5555");
+        assertThat(result.get().getCellPhone()).isNull();
+    }
+
+    @Test
+    void testMap_null() {
+        // setup the fixture
+        PersonMapper mapper = new PersonMapper();
+
+        // execute the SUT
+        Optional<PersonResource> result = mapper.map(null);
+
+        // validation
+        assertThat(result).isEmpty();
+    }
+
+    private static class PersonMapper extends CompiledCompoundOneWayMapper<Person, PersonResource> {
+
+        PersonMapper() {
+            super(Person.class, PersonResource.class);
+        }
+
+    }
+
+}
@@ -44,8 +44,8 @@ public class SchoolTest {
         Boolean isPrivate = Boolean.TRUE;
         Boolean isActive = Boolean.TRUE;
         String emailTag = "TAG";
-        School school = new School(null, name, street1, street2, city, state, zip, phone, district, isPrivate, isActive,
-                emailTag, Collections.EMPTY_LIST, Collections.EMPTY_LIST, null, Collections.EMPTY_LIST,
+        School school = new School(null, null, name, street1, street2, city, state, zip, phone, district, isPrivate,
+                isActive, emailTag, Collections.EMPTY_LIST, Collections.EMPTY_LIST, null, Collections.EMPTY_LIST,
                 Collections.EMPTY_LIST, Collections.EMPTY_LIST);
 
         // execute the SUT
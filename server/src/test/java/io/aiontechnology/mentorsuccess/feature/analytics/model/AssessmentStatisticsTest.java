@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.analytics.model;
+
+import io.aiontechnology.mentorsuccess.entity.AssessmentSummary;
+import io.aiontechnology.mentorsuccess.entity.AssessmentSummary.Dimension;
+import io.aiontechnology.mentorsuccess.entity.AssessmentSummary.Phase;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AssessmentStatistics}.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+public class AssessmentStatisticsTest {
+
+    private static final UUID SCHOOL_ID = UUID.randomUUID();
+
+    @Test
+    void testOf_meansAndDeltas() {
+        // setup the fixture
+        UUID session1 = UUID.randomUUID();
+        UUID session2 = UUID.randomUUID();
+        AssessmentSummary pre1 = summary(session1, Phase.PRE, Dimension.SESSION, AssessmentSummary.SESSION_KEY);
+        pre1.add(Arrays.asList(1, 2));
+        AssessmentSummary pre2 = summary(session2, Phase.PRE, Dimension.SESSION, AssessmentSummary.SESSION_KEY);
+        pre2.add(Arrays.asList(3, 4));
+        AssessmentSummary post = summary(session1, Phase.POST, Dimension.SESSION, AssessmentSummary.SESSION_KEY);
+        post.add(Arrays.asList(4, null));
+        AssessmentSummary grade = summary(session1, Phase.PRE, Dimension.GRADE, "3");
+        grade.add(Arrays.asList(1, 2));
+
+        // execute the SUT
+        AssessmentStatistics result = AssessmentStatistics.of(List.of(pre1, pre2, post, grade));
+
+        // validation
+        assertThat(result.getQuestions()).hasSize(2);
+        AssessmentStatistics.QuestionStatistics question1 = result.getQuestions().get(0);
+        assertThat(question1.getPreMean()).isEqualTo(2.0);
+        assertThat(question1.getPostMean()).isEqualTo(4.0);
+        assertThat(question1.getDelta()).isEqualTo(2.0);
+        assertThat(question1.getPreDistribution()).isEqualTo(Map.of(1, 1, 3, 1));
+        AssessmentStatistics.QuestionStatistics question2 = result.getQuestions().get(1);
+        assertThat(question2.getPostMean()).isNull();
+        assertThat(question2.getDelta()).isNull();
+        assertThat(result.getOverall().getPreStudents()).isEqualTo(2);
+        assertThat(result.getOverall().getPostStudents()).isEqualTo(1);
+        assertThat(result.getOverall().getPreMean()).isEqualTo(5.0);
+        assertThat(result.getGrades()).hasSize(1);
+        assertThat(result.getGrades().get(0).getKey()).isEqualTo("3");
+        assertThat(result.getGrades().get(0).getPreMean()).isEqualTo(3.0);
+        assertThat(result.getTeachers()).isEmpty();
+    }
+
+    @Test
+    void testOf_replacedAssessmentCountedOnce() {
+        // setup the fixture
+        AssessmentSummary summary = summary(UUID.randomUUID(), Phase.PRE, Dimension.SESSION,
+                AssessmentSummary.SESSION_KEY);
+        summary.add(Arrays.asList(1, 1));
+        summary.remove(Arrays.asList(1, 1));
+        summary.add(Arrays.asList(2, 3));
+
+        // execute the SUT
+        AssessmentStatistics result = AssessmentStatistics.of(List.of(summary));
+
+        // validation
+        assertThat(summary.getStudentCount()).isEqualTo(1);
+        assertThat(summary.getAnswerCounts()).isEqualTo(Map.of(1, Map.of(2, 1), 2, Map.of(3, 1)));
+        assertThat(result.getOverall().getPreMean()).isEqualTo(5.0);
+        assertThat(result.getOverall().getPostMean()).isNull();
+    }
+
+    private static AssessmentSummary summary(UUID schoolSessionId, Phase phase, Dimension dimension, String key) {
+        return new AssessmentSummary(SCHOOL_ID, schoolSessionId, phase, dimension, key);
+    }
+
+}
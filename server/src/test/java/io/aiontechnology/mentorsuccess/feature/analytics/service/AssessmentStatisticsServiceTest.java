@@ -0,0 +1,197 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.analytics.service;
+
+import io.aiontechnology.mentorsuccess.entity.AssessmentSummary;
+import io.aiontechnology.mentorsuccess.entity.AssessmentSummary.Dimension;
+import io.aiontechnology.mentorsuccess.entity.AssessmentSummary.Phase;
+import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
+import io.aiontechnology.mentorsuccess.entity.SchoolSession;
+import io.aiontechnology.mentorsuccess.entity.StudentSchoolSession;
+import io.aiontechnology.mentorsuccess.repository.AssessmentSummaryRepository;
+import io.aiontechnology.mentorsuccess.repository.SchoolSessionRepository;
+import io.aiontechnology.mentorsuccess.repository.StudentSchoolSessionRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+public class AssessmentStatisticsServiceTest {
+
+    @Test
+    void testRecordChange_removesReplacedAssessmentFromGroupsThatCountedIt() {
+        // setup the fixture
+        var schoolSession = generateSchoolSession();
+        var previousTeacher = generateRole();
+        var currentTeacher = generateRole();
+        var studentSchoolSession = generateStudentSchoolSession(schoolSession, true);
+        studentSchoolSession.setPostQuestion1(3);
+        studentSchoolSession.setTeacher(currentTeacher);
+        studentSchoolSession.setPostSummaryGroups(Map.of(
+                Dimension.SESSION, AssessmentSummary.SESSION_KEY,
+                Dimension.TEACHER, previousTeacher.getId().toString()));
+
+        Map<String, AssessmentSummary> summaries = new HashMap<>();
+        summary(summaries, schoolSession, Dimension.SESSION, AssessmentSummary.SESSION_KEY)
+                .add(studentSchoolSession.getPostAnswers());
+        summary(summaries, schoolSession, Dimension.TEACHER, previousTeacher.getId().toString())
+                .add(studentSchoolSession.getPostAnswers());
+        var service = createService(summaries);
+
+        // execute the SUT
+        service.recordChange(studentSchoolSession, () -> studentSchoolSession.setPostQuestion1(4));
+
+        // validation
+        var previousGroup = summaries.get(Dimension.TEACHER + ":" + previousTeacher.getId());
+        assertThat(previousGroup.getStudentCount()).isZero();
+        assertThat(previousGroup.getAnswerCounts()).isEmpty();
+        var currentGroup = summaries.get(Dimension.TEACHER + ":" + currentTeacher.getId());
+        assertThat(currentGroup.getStudentCount()).isEqualTo(1);
+        assertThat(currentGroup.getAnswerCounts()).isEqualTo(Map.of(1, Map.of(4, 1)));
+        var sessionGroup = summaries.get(Dimension.SESSION + ":" + AssessmentSummary.SESSION_KEY);
+        assertThat(sessionGroup.getStudentCount()).isEqualTo(1);
+        assertThat(sessionGroup.getAnswerCounts()).isEqualTo(Map.of(1, Map.of(4, 1)));
+        assertThat(studentSchoolSession.getPostSummaryGroups()).isEqualTo(Map.of(
+                Dimension.SESSION, AssessmentSummary.SESSION_KEY,
+                Dimension.TEACHER, currentTeacher.getId().toString()));
+    }
+
+    @Test
+    void testRecordChange_doesNotCountInactiveStudent() {
+        // setup the fixture
+        var schoolSession = generateSchoolSession();
+        var studentSchoolSession = generateStudentSchoolSession(schoolSession, false);
+        var assessmentSummaryRepository = mock(AssessmentSummaryRepository.class);
+        when(assessmentSummaryRepository.existsBySchoolSessionId(schoolSession.getId())).thenReturn(true);
+        var service = new AssessmentStatisticsService(assessmentSummaryRepository,
+                mock(SchoolSessionRepository.class), mock(StudentSchoolSessionRepository.class));
+
+        // execute the SUT
+        service.recordChange(studentSchoolSession, () -> studentSchoolSession.setPostQuestion1(4));
+
+        // validation
+        verify(assessmentSummaryRepository, never()).findForUpdate(any(), any(), any(), anyString());
+        assertThat(studentSchoolSession.getPostSummaryGroups()).isNull();
+    }
+
+    @Test
+    void testRecordChange_removesDeactivatedStudentFromGroups() {
+        // setup the fixture
+        var schoolSession = generateSchoolSession();
+        var teacher = generateRole();
+        var studentSchoolSession = generateStudentSchoolSession(schoolSession, true);
+        studentSchoolSession.setPostQuestion1(3);
+        studentSchoolSession.setTeacher(teacher);
+        studentSchoolSession.setPostSummaryGroups(Map.of(
+                Dimension.SESSION, AssessmentSummary.SESSION_KEY,
+                Dimension.TEACHER, teacher.getId().toString()));
+
+        Map<String, AssessmentSummary> summaries = new HashMap<>();
+        summary(summaries, schoolSession, Dimension.SESSION, AssessmentSummary.SESSION_KEY)
+                .add(studentSchoolSession.getPostAnswers());
+        summary(summaries, schoolSession, Dimension.TEACHER, teacher.getId().toString())
+                .add(studentSchoolSession.getPostAnswers());
+        var service = createService(summaries);
+
+        // execute the SUT
+        service.recordChange(studentSchoolSession, () -> studentSchoolSession.setIsActive(false));
+
+        // validation
+        assertThat(summaries.values()).allSatisfy(summary -> {
+            assertThat(summary.getStudentCount()).isZero();
+            assertThat(summary.getAnswerCounts()).isEmpty();
+        });
+        assertThat(studentSchoolSession.getPostSummaryGroups()).isNull();
+    }
+
+    @Test
+    void testGetSessionStatistics_onlyReadsSummaries() {
+        // setup the fixture
+        var schoolSession = generateSchoolSession();
+        var assessmentSummaryRepository = mock(AssessmentSummaryRepository.class);
+        when(assessmentSummaryRepository.findBySchoolSessionId(schoolSession.getId())).thenReturn(List.of());
+        var service = new AssessmentStatisticsService(assessmentSummaryRepository,
+                mock(SchoolSessionRepository.class), mock(StudentSchoolSessionRepository.class));
+
+        // execute the SUT
+        service.getSessionStatistics(schoolSession);
+
+        // validation
+        verify(assessmentSummaryRepository).findBySchoolSessionId(schoolSession.getId());
+        verifyNoMoreInteractions(assessmentSummaryRepository);
+    }
+
+    private static AssessmentStatisticsService createService(Map<String, AssessmentSummary> summaries) {
+        var assessmentSummaryRepository = mock(AssessmentSummaryRepository.class);
+        when(assessmentSummaryRepository.existsBySchoolSessionId(any())).thenReturn(true);
+        when(assessmentSummaryRepository.findForUpdate(any(), eq(Phase.POST), any(), anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(
+                        summaries.get(invocation.getArgument(2) + ":" + invocation.getArgument(3))));
+        when(assessmentSummaryRepository.save(any(AssessmentSummary.class))).thenAnswer(invocation -> {
+            AssessmentSummary summary = invocation.getArgument(0);
+            summaries.put(summary.getDimension() + ":" + summary.getDimensionKey(), summary);
+            return summary;
+        });
+        return new AssessmentStatisticsService(assessmentSummaryRepository, mock(SchoolSessionRepository.class),
+                mock(StudentSchoolSessionRepository.class));
+    }
+
+    private static SchoolPersonRole generateRole() {
+        var role = new SchoolPersonRole();
+        role.setId(UUID.randomUUID());
+        return role;
+    }
+
+    private static SchoolSession generateSchoolSession() {
+        var school = new School();
+        school.setId(UUID.randomUUID());
+        var schoolSession = new SchoolSession();
+        schoolSession.setId(UUID.randomUUID());
+        schoolSession.setSchool(school);
+        return schoolSession;
+    }
+
+    private static StudentSchoolSession generateStudentSchoolSession(SchoolSession schoolSession, boolean active) {
+        var studentSchoolSession = new StudentSchoolSession();
+        studentSchoolSession.setSchoolSession(schoolSession);
+        studentSchoolSession.setIsActive(active);
+        return studentSchoolSession;
+    }
+
+    private static AssessmentSummary summary(Map<String, AssessmentSummary> summaries, SchoolSession schoolSession,
+            Dimension dimension, String key) {
+        var summary = new AssessmentSummary(schoolSession.getSchool().getId(), schoolSession.getId(), Phase.POST,
+                dimension, key);
+        summaries.put(dimension + ":" + key, summary);
+        return summary;
+    }
+
+}
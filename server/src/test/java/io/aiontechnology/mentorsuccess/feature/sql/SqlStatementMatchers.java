@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.sql;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MockMvc result matchers for the number of SQL statements an endpoint issues, as reported in the
+ * {@value SqlStatementFilter#SQL_COUNT_HEADER} header. Use them in controller integration tests to keep the statement
+ * count of an endpoint from growing unnoticed.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+public final class SqlStatementMatchers {
+
+    private SqlStatementMatchers() {
+    }
+
+    /**
+     * Assert that the request issued no more than the given number of statements.
+     *
+     * @param maximum The maximum number of statements.
+     * @return The matcher.
+     */
+    public static ResultMatcher sqlStatementsAtMost(int maximum) {
+        return result -> assertThat(getSqlCount(result.getResponse().getHeader(SqlStatementFilter.SQL_COUNT_HEADER)))
+                .as("SQL statements issued by %s", result.getRequest().getRequestURI())
+                .isLessThanOrEqualTo(maximum);
+    }
+
+    private static int getSqlCount(String header) {
+        assertThat(header)
+                .as("The %s header is missing; is mentorsuccess.sql-statistics.response-header enabled?",
+                        SqlStatementFilter.SQL_COUNT_HEADER)
+                .isNotNull();
+        return Integer.parseInt(header);
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.sql;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlStatementScopeTest {
+
+    private final SqlStatementInspector inspector = new SqlStatementInspector();
+
+    @Test
+    void shouldCountStatements() {
+        // setup the fixture
+        SqlStatementScope scope = SqlStatementScope.open("test");
+
+        // execute the SUT
+        inspector.inspect("select 1");
+        inspector.inspect("select 2");
+        scope.close();
+
+        // validation
+        assertThat(scope.getCount()).isEqualTo(2);
+        assertThat(SqlStatementScope.current()).isEmpty();
+    }
+
+    @Test
+    void shouldAddNestedScopeToParent() {
+        // setup the fixture
+        SqlStatementScope outer = SqlStatementScope.open("outer");
+        inspector.inspect("select 1");
+
+        // execute the SUT
+        try (SqlStatementScope inner = SqlStatementScope.open("inner")) {
+            inspector.inspect("select 2");
+            assertThat(SqlStatementScope.current()).containsSame(inner);
+        }
+        outer.close();
+
+        // validation
+        assertThat(outer.getCount()).isEqualTo(2);
+        assertThat(SqlStatementScope.current()).isEmpty();
+    }
+
+    @Test
+    void shouldReportRepeatedStatements() {
+        // setup the fixture
+        SqlStatementScope scope = SqlStatementScope.open("test");
+
+        // execute the SUT
+        inspector.inspect("select * from school where id=?");
+        for (int i = 0; i < 3; i++) {
+            inspector.inspect("select * from person where id=?");
+        }
+        scope.close();
+
+        // validation
+        assertThat(scope.getRepeatedStatements(3)).isEqualTo(Map.of("select * from person where id=?", 3));
+        assertThat(scope.getRepeatedStatements(4)).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreStatementsOutsideScope() {
+        // setup the fixture
+        SqlStatementScope scope = SqlStatementScope.open("test");
+        scope.close();
+
+        // execute the SUT
+        String result = inspector.inspect("select 1");
+
+        // validation
+        assertThat(result).isEqualTo("select 1");
+        assertThat(scope.getCount()).isZero();
+    }
+
+}
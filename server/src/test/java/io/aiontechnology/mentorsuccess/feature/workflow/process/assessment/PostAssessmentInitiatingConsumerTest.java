@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.workflow.process.assessment;
+
+import io.aiontechnology.mentorsuccess.entity.SchoolSession;
+import io.aiontechnology.mentorsuccess.entity.Student;
+import io.aiontechnology.mentorsuccess.entity.StudentSchoolSession;
+import io.aiontechnology.mentorsuccess.feature.workflow.model.PostAssessmentJob;
+import io.aiontechnology.mentorsuccess.repository.SchoolSessionRepository;
+import io.aiontechnology.mentorsuccess.repository.StudentSchoolSessionRepository;
+import io.aiontechnology.mentorsuccess.workflow.ProcessBusinessKey;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.RuntimeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static io.aiontechnology.mentorsuccess.feature.workflow.WorkflowKeys.REQUEST_POST_ASSESSMENT_PROCESS_KEY;
+import static io.aiontechnology.mentorsuccess.feature.workflow.WorkflowKeys.STUDENT_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PostAssessmentInitiatingConsumerTest {
+
+    private static final URI BASE_URI = URI.create("http://localhost/assessment");
+
+    @Test
+    void testAccept_skipsRunningAndAssessed() {
+        // setup the fixture
+        var session = generateSession();
+        var running = generateStudentSchoolSession(null);
+        var assessed = generateStudentSchoolSession(3);
+        var pending = generateStudentSchoolSession(null);
+        var fixture = new Fixture(session, List.of(running, assessed, pending),
+                Set.of(running.getStudent().getId()), 50);
+        var job = new PostAssessmentJob(UUID.randomUUID(), session.getId());
+
+        // execute the SUT
+        fixture.consumer.accept(job, BASE_URI);
+
+        // validation
+        assertThat(job.getStatus()).isEqualTo(PostAssessmentJob.Status.COMPLETED);
+        assertThat(job.getTotal()).isEqualTo(3);
+        assertThat(job.getStarted()).isEqualTo(1);
+        assertThat(job.getSkipped()).isEqualTo(2);
+        assertThat(job.getFailed()).isZero();
+        var businessKey = new ProcessBusinessKey(job.getSchoolId(), session.getId(), pending.getStudent().getId(),
+                ProcessBusinessKey.Kind.POST_ASSESSMENT);
+        verify(fixture.runtimeService).startProcessInstanceByKey(REQUEST_POST_ASSESSMENT_PROCESS_KEY,
+                businessKey.toString(), Map.of(STUDENT_ID, pending.getStudent().getId().toString()));
+        verify(fixture.getStudentsWithRunningProcess, times(1)).apply(session);
+    }
+
+    @Test
+    void testAccept_failedChunkRetriedIndividually() {
+        // setup the fixture
+        var session = generateSession();
+        var good = generateStudentSchoolSession(null);
+        var bad = generateStudentSchoolSession(null);
+        var fixture = new Fixture(session, List.of(good, bad), Set.of(), 10);
+        when(fixture.runtimeService.startProcessInstanceByKey(eq(REQUEST_POST_ASSESSMENT_PROCESS_KEY), anyString(),
+                eq(Map.of(STUDENT_ID, bad.getStudent().getId().toString()))))
+                .thenThrow(new FlowableException("boom"));
+        var job = new PostAssessmentJob(UUID.randomUUID(), session.getId());
+
+        // execute the SUT
+        fixture.consumer.accept(job, BASE_URI);
+
+        // validation
+        assertThat(job.getStatus()).isEqualTo(PostAssessmentJob.Status.COMPLETED);
+        assertThat(job.getStarted()).isEqualTo(1);
+        assertThat(job.getFailed()).isEqualTo(1);
+        assertThat(job.getSkipped()).isZero();
+    }
+
+    private SchoolSession generateSession() {
+        var session = new SchoolSession();
+        session.setId(UUID.randomUUID());
+        return session;
+    }
+
+    private StudentSchoolSession generateStudentSchoolSession(Integer postAssessment) {
+        var student = new Student();
+        student.setId(UUID.randomUUID());
+        var studentSchoolSession = new StudentSchoolSession();
+        studentSchoolSession.setIsActive(true);
+        studentSchoolSession.setStudent(student);
+        studentSchoolSession.setPostBehavioralAssessment(postAssessment);
+        return studentSchoolSession;
+    }
+
+    private static class Fixture {
+
+        final PostAssessmentRunningStudentsFunction getStudentsWithRunningProcess =
+                mock(PostAssessmentRunningStudentsFunction.class);
+        final PostAssessmentVariableCreator createFlowableVariables = mock(PostAssessmentVariableCreator.class);
+        final RuntimeService runtimeService = mock(RuntimeService.class);
+        final SchoolSessionRepository schoolSessionRepository = mock(SchoolSessionRepository.class);
+        final StudentSchoolSessionRepository studentSchoolSessionRepository =
+                mock(StudentSchoolSessionRepository.class);
+        final PostAssessmentInitiatingConsumer consumer;
+
+        Fixture(SchoolSession session, List<StudentSchoolSession> roster, Set<UUID> running, int chunkSize) {
+            when(schoolSessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
+            when(studentSchoolSessionRepository.findActiveWithTeacher(session)).thenReturn(roster);
+            when(getStudentsWithRunningProcess.apply(session)).thenReturn(running);
+            when(createFlowableVariables.create(any(), eq(Optional.of(session)), any(), eq(BASE_URI), any()))
+                    .thenAnswer(invocation -> Map.of(STUDENT_ID,
+                            invocation.<Optional<Student>>getArgument(0).orElseThrow().getId().toString()));
+            consumer = new PostAssessmentInitiatingConsumer(getStudentsWithRunningProcess, createFlowableVariables,
+                    runtimeService, schoolSessionRepository, studentSchoolSessionRepository,
+                    mock(PlatformTransactionManager.class), chunkSize);
+        }
+
+    }
+
+}
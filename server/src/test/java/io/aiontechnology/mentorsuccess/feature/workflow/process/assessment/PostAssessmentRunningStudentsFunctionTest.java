@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.feature.workflow.process.assessment;
+
+import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.SchoolSession;
+import io.aiontechnology.mentorsuccess.workflow.ProcessBusinessKey;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.runtime.ProcessInstanceQuery;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PostAssessmentRunningStudentsFunctionTest {
+
+    @Test
+    void testApply_findsStudentsByBusinessKey() {
+        // setup the fixture
+        var school = new School();
+        school.setId(UUID.randomUUID());
+        var session = new SchoolSession();
+        session.setId(UUID.randomUUID());
+        session.setSchool(school);
+        var studentId = UUID.randomUUID();
+
+        var keyed = mock(ProcessInstance.class);
+        when(keyed.getBusinessKey()).thenReturn(new ProcessBusinessKey(school.getId(), session.getId(),
+                studentId, ProcessBusinessKey.Kind.POST_ASSESSMENT).toString());
+        var malformed = mock(ProcessInstance.class);
+        when(malformed.getBusinessKey()).thenReturn("MALFORMED");
+
+        var query = mock(ProcessInstanceQuery.class, RETURNS_SELF);
+        when(query.list()).thenReturn(List.of(keyed, malformed));
+        var runtimeService = mock(RuntimeService.class);
+        when(runtimeService.createProcessInstanceQuery()).thenReturn(query);
+
+        var function = new PostAssessmentRunningStudentsFunction(runtimeService);
+
+        // execute the SUT
+        Set<UUID> result = function.apply(session);
+
+        // validation
+        assertThat(result).containsExactly(studentId);
+        verify(query).processInstanceBusinessKeyLike(ProcessBusinessKey.sessionPattern(school.getId(),
+                session.getId(), ProcessBusinessKey.Kind.POST_ASSESSMENT));
+        verify(runtimeService, times(1)).createProcessInstanceQuery();
+    }
+
+}
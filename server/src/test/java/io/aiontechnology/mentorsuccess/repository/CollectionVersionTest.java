@@ -0,0 +1,72 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CollectionVersionTest {
+
+    @Test
+    void shouldChangeWhenRowIsReplacedWithoutChangingCountOrVersionSum() {
+        // setup the fixture
+        var kept = entityVersion(UUID.randomUUID(), 0L);
+        var removed = entityVersion(UUID.randomUUID(), 0L);
+        var added = entityVersion(UUID.randomUUID(), 0L);
+
+        // execute the SUT
+        var before = CollectionVersion.of(List.of(kept, removed));
+        var after = CollectionVersion.of(List.of(kept, added));
+
+        // validation
+        assertThat(after.getCount()).isEqualTo(before.getCount());
+        assertThat(after).isNotEqualTo(before);
+    }
+
+    @Test
+    void shouldBeStableForSameRows() {
+        // setup the fixture
+        var rows = List.of(entityVersion(UUID.randomUUID(), 3L), entityVersion(UUID.randomUUID(), 1L));
+
+        // execute the SUT
+        var first = CollectionVersion.of(rows);
+        var second = CollectionVersion.of(rows);
+
+        // validation
+        assertThat(second).isEqualTo(first);
+        assertThat(first.getDigest()).hasSize(24);
+    }
+
+    private static EntityVersion entityVersion(UUID id, Long version) {
+        return new EntityVersion() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+        };
+    }
+
+}
@@ -49,8 +49,8 @@ public class SchoolRepositoryTest {
         Boolean isPrivate = Boolean.TRUE;
         Boolean isActive = Boolean.TRUE;
         String emailTag = "TAG";
-        School school = new School(null, name, street1, street2, city, state, zip, phone, district, isPrivate, isActive,
-                emailTag, Collections.EMPTY_LIST, Collections.EMPTY_LIST, null, Collections.EMPTY_LIST,
+        School school = new School(null, null, name, street1, street2, city, state, zip, phone, district, isPrivate,
+                isActive, emailTag, Collections.EMPTY_LIST, Collections.EMPTY_LIST, null, Collections.EMPTY_LIST,
                 Collections.EMPTY_LIST, Collections.EMPTY_LIST);
         entityManager.persist(school);
 
@@ -76,8 +76,8 @@ public class SchoolRepositoryTest {
         Boolean isPrivate = Boolean.TRUE;
         Boolean isActive = Boolean.TRUE;
         String emailTag = "TAG";
-        School school = new School(null, name, street1, street2, city, state, zip, phone, district, isPrivate, isActive,
-                emailTag, Collections.EMPTY_LIST, Collections.EMPTY_LIST, null, Collections.EMPTY_LIST,
+        School school = new School(null, null, name, street1, street2, city, state, zip, phone, district, isPrivate,
+                isActive, emailTag, Collections.EMPTY_LIST, Collections.EMPTY_LIST, null, Collections.EMPTY_LIST,
                 Collections.EMPTY_LIST, Collections.EMPTY_LIST);
         entityManager.persist(school);
 
@@ -102,8 +102,8 @@ public class SchoolRepositoryTest {
         Boolean isPrivate = Boolean.TRUE;
         Boolean isActive = Boolean.TRUE;
         String emailTag = "TAG";
-        School school = new School(null, name, street1, street2, city, state, zip, phone, district, isPrivate, isActive,
-                emailTag, Collections.EMPTY_LIST, Collections.EMPTY_LIST, null, Collections.EMPTY_LIST,
+        School school = new School(null, null, name, street1, street2, city, state, zip, phone, district, isPrivate,
+                isActive, emailTag, Collections.EMPTY_LIST, Collections.EMPTY_LIST, null, Collections.EMPTY_LIST,
                 Collections.EMPTY_LIST, Collections.EMPTY_LIST);
 
         // execute the SUT
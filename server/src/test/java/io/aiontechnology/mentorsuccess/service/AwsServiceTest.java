@@ -22,9 +22,11 @@ import com.amazonaws.services.cognitoidp.model.AdminCreateUserRequest;
 import com.amazonaws.services.cognitoidp.model.AdminDeleteUserRequest;
 import com.amazonaws.services.cognitoidp.model.AdminUpdateUserAttributesRequest;
 import com.amazonaws.services.cognitoidp.model.AttributeType;
+import com.amazonaws.services.cognitoidp.model.UserNotFoundException;
 import io.aiontechnology.mentorsuccess.entity.Person;
 import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
 import io.aiontechnology.mentorsuccess.model.inbound.InboundProgramAdmin;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -37,8 +39,11 @@ import java.util.UUID;
 
 import static java.lang.Boolean.FALSE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * @author Whitney Hunter
@@ -51,7 +56,9 @@ public class AwsServiceTest {
     void testCreateAwsUser() throws Exception {
         // set up the fixture
         AWSCognitoIdentityProvider awsCognitoIdentityProvider = mock(AWSCognitoIdentityProvider.class);
-        AwsService awsService = new AwsService(awsCognitoIdentityProvider);
+        PrincipalCache principalCache = mock(PrincipalCache.class);
+        AwsService awsService = new AwsService(awsCognitoIdentityProvider, principalCache,
+                new SimpleMeterRegistry());
 
         String userPoolId = "USER_POOL";
         Field userPoolIdField = AwsService.class.getDeclaredField("userPoolId");
@@ -101,7 +108,9 @@ public class AwsServiceTest {
     void testUpdateAwsUser() throws Exception {
         // set up the fixture
         AWSCognitoIdentityProvider awsCognitoIdentityProvider = mock(AWSCognitoIdentityProvider.class);
-        AwsService awsService = new AwsService(awsCognitoIdentityProvider);
+        PrincipalCache principalCache = mock(PrincipalCache.class);
+        AwsService awsService = new AwsService(awsCognitoIdentityProvider, principalCache,
+                new SimpleMeterRegistry());
 
         String userPoolId = "USER_POOL";
         Field userPoolIdField = AwsService.class.getDeclaredField("userPoolId");
@@ -138,7 +147,9 @@ public class AwsServiceTest {
     void testRemoveAwsUser() throws Exception {
         // set up the fixture
         AWSCognitoIdentityProvider awsCognitoIdentityProvider = mock(AWSCognitoIdentityProvider.class);
-        AwsService awsService = new AwsService(awsCognitoIdentityProvider);
+        PrincipalCache principalCache = mock(PrincipalCache.class);
+        AwsService awsService = new AwsService(awsCognitoIdentityProvider, principalCache,
+                new SimpleMeterRegistry());
 
         String userPoolId = "USER_POOL";
         Field userPoolIdField = AwsService.class.getDeclaredField("userPoolId");
@@ -146,10 +157,12 @@ public class AwsServiceTest {
         ReflectionUtils.setField(userPoolIdField, awsService, userPoolId);
 
         String email = "test@example.com";
+        UUID idpUserId = UUID.randomUUID();
         Person person = new Person();
         person.setEmail(email);
         SchoolPersonRole role = new SchoolPersonRole();
         role.setPerson(person);
+        role.setIdpUserId(idpUserId);
 
         // execute the SUT
         awsService.removeAwsUser(role);
@@ -161,6 +174,31 @@ public class AwsServiceTest {
         AdminDeleteUserRequest adminDeleteUserRequest = deleteUserRequestCaptor.getValue();
         assertThat(adminDeleteUserRequest.getUserPoolId()).isEqualTo(userPoolId);
         assertThat(adminDeleteUserRequest.getUsername()).isEqualTo(email);
+        verify(principalCache).invalidate(idpUserId);
+    }
+
+    @Test
+    void testRemoveAwsUser_recordsError() throws Exception {
+        // set up the fixture
+        AWSCognitoIdentityProvider awsCognitoIdentityProvider = mock(AWSCognitoIdentityProvider.class);
+        when(awsCognitoIdentityProvider.adminDeleteUser(any())).thenThrow(new UserNotFoundException("Not found"));
+        PrincipalCache principalCache = mock(PrincipalCache.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AwsService awsService = new AwsService(awsCognitoIdentityProvider, principalCache, meterRegistry);
+
+        Person person = new Person();
+        person.setEmail("test@example.com");
+        SchoolPersonRole role = new SchoolPersonRole();
+        role.setPerson(person);
+        role.setIdpUserId(UUID.randomUUID());
+
+        // execute the SUT and validation
+        assertThatThrownBy(() -> awsService.removeAwsUser(role)).isInstanceOf(UserNotFoundException.class);
+        assertThat(meterRegistry.get("mentorsuccess.aws.cognito")
+                .tag("operation", "delete")
+                .tag("outcome", "error")
+                .tag("exception", "UserNotFoundException")
+                .timer().count()).isEqualTo(1);
     }
 
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.aiontechnology.mentorsuccess.entity.OutboxEmail;
+import io.aiontechnology.mentorsuccess.repository.OutboxEmailRepository;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EmailOutboxServiceTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Test
+    void shouldSendDueEmails() throws Exception {
+        // setup the fixture
+        OutboxEmail first = generateEmail("first@example.com");
+        OutboxEmail second = generateEmail("second@example.com");
+        OutboxEmailRepository repository = mock(OutboxEmailRepository.class);
+        when(repository.findDue(eq(OutboxEmail.Status.PENDING), any(Instant.class), any()))
+                .thenReturn(List.of(first, second));
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        EmailOutboxService emailOutboxService = createService(repository, mailSender, 8);
+
+        // execute the SUT
+        int result = emailOutboxService.dispatch();
+
+        // validation
+        assertThat(result).isEqualTo(2);
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(2);
+        assertThat(received[0].getSubject()).isEqualTo("SUBJECT");
+        assertThat(GreenMailUtil.getBody(received[0])).contains("BODY");
+        assertThat(first.getStatus()).isEqualTo(OutboxEmail.Status.SENT);
+        assertThat(first.getSentAt()).isNotNull();
+        assertThat(second.getStatus()).isEqualTo(OutboxEmail.Status.SENT);
+    }
+
+    @Test
+    void shouldBackOffAfterFailure() {
+        // setup the fixture
+        OutboxEmail email = generateEmail("to@example.com");
+        OutboxEmailRepository repository = mock(OutboxEmailRepository.class);
+        when(repository.findDue(eq(OutboxEmail.Status.PENDING), any(Instant.class), any()))
+                .thenReturn(List.of(email));
+        JavaMailSender mailSender = failingMailSender();
+        EmailOutboxService emailOutboxService = createService(repository, mailSender, 8);
+        Instant before = Instant.now();
+
+        // execute the SUT
+        emailOutboxService.dispatch();
+        emailOutboxService.dispatch();
+
+        // validation
+        assertThat(email.getStatus()).isEqualTo(OutboxEmail.Status.PENDING);
+        assertThat(email.getAttempts()).isEqualTo(2);
+        assertThat(email.getLastError()).isEqualTo("Connection refused");
+        assertThat(email.getNextAttemptAt()).isAfterOrEqualTo(before.plus(Duration.ofSeconds(60)));
+        assertThat(email.getSentAt()).isNull();
+    }
+
+    @Test
+    void shouldMarkDeadAfterMaxAttempts() {
+        // setup the fixture
+        OutboxEmail email = generateEmail("to@example.com");
+        OutboxEmailRepository repository = mock(OutboxEmailRepository.class);
+        when(repository.findDue(eq(OutboxEmail.Status.PENDING), any(Instant.class), any()))
+                .thenReturn(List.of(email));
+        EmailOutboxService emailOutboxService = createService(repository, failingMailSender(), 1);
+
+        // execute the SUT
+        emailOutboxService.dispatch();
+
+        // validation
+        assertThat(email.getStatus()).isEqualTo(OutboxEmail.Status.DEAD);
+        assertThat(email.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDoNothingWhenNothingIsDue() {
+        // setup the fixture
+        OutboxEmailRepository repository = mock(OutboxEmailRepository.class);
+        when(repository.findDue(eq(OutboxEmail.Status.PENDING), any(Instant.class), any())).thenReturn(List.of());
+        EmailOutboxService emailOutboxService = createService(repository, mock(JavaMailSender.class), 8);
+
+        // execute the SUT
+        int result = emailOutboxService.dispatch();
+
+        // validation
+        assertThat(result).isZero();
+    }
+
+    private EmailOutboxService createService(OutboxEmailRepository repository, JavaMailSender mailSender,
+            int maxAttempts) {
+        return new EmailOutboxService(repository, mailSender, 50, maxAttempts, Duration.ofSeconds(30),
+                Duration.ofHours(1));
+    }
+
+    private JavaMailSender failingMailSender() {
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        doThrow(new MailSendException("Connection refused")).when(mailSender).send(any(MimeMessage[].class));
+        return mailSender;
+    }
+
+    private OutboxEmail generateEmail(String to) {
+        OutboxEmail email = new OutboxEmail();
+        email.setId(UUID.randomUUID());
+        email.setTo(to);
+        email.setFrom("from@example.com");
+        email.setSubject("SUBJECT");
+        email.setBody("<p>BODY</p>");
+        email.setStatus(OutboxEmail.Status.PENDING);
+        email.setAttempts(0);
+        email.setCreatedAt(Instant.now());
+        email.setNextAttemptAt(Instant.now());
+        return email;
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.service;
+
+import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrincipalCacheTest {
+
+    @Test
+    void shouldLoadOnlyOnce() {
+        // setup the fixture
+        UUID idpUserId = UUID.randomUUID();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PrincipalCache principalCache = new PrincipalCache(meterRegistry, 10, Duration.ofMinutes(5));
+        AtomicInteger loads = new AtomicInteger();
+
+        // execute the SUT
+        principalCache.get(idpUserId, id -> {
+            loads.incrementAndGet();
+            return Optional.of(generateRole(id));
+        });
+        Optional<SchoolPersonRole> result = principalCache.get(idpUserId, id -> {
+            loads.incrementAndGet();
+            return Optional.of(generateRole(id));
+        });
+
+        // validation
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(result).isPresent();
+        assertThat(result.get().getIdpUserId()).isEqualTo(idpUserId);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSnapshotSchoolId() {
+        // setup the fixture
+        UUID idpUserId = UUID.randomUUID();
+        SchoolPersonRole role = generateRole(idpUserId);
+        PrincipalCache principalCache = new PrincipalCache(new SimpleMeterRegistry(), 10, Duration.ofMinutes(5));
+
+        // execute the SUT
+        Optional<SchoolPersonRole> result = principalCache.get(idpUserId, id -> Optional.of(role));
+
+        // validation
+        assertThat(result).isPresent();
+        assertThat(result.get()).isNotSameAs(role);
+        assertThat(result.get().getSchool()).isNotSameAs(role.getSchool());
+        assertThat(result.get().getSchool().getId()).isEqualTo(role.getSchool().getId());
+    }
+
+    @Test
+    void shouldReloadAfterInvalidate() {
+        // setup the fixture
+        UUID idpUserId = UUID.randomUUID();
+        PrincipalCache principalCache = new PrincipalCache(new SimpleMeterRegistry(), 10, Duration.ofMinutes(5));
+        principalCache.get(idpUserId, id -> Optional.of(generateRole(id)));
+
+        // execute the SUT
+        principalCache.invalidate(idpUserId);
+        Optional<SchoolPersonRole> result = principalCache.get(idpUserId, id -> Optional.empty());
+
+        // validation
+        assertThat(result).isEmpty();
+    }
+
+    private static SchoolPersonRole generateRole(UUID idpUserId) {
+        School school = new School();
+        school.setId(UUID.randomUUID());
+        SchoolPersonRole role = new SchoolPersonRole();
+        role.setId(UUID.randomUUID());
+        role.setSchool(school);
+        role.setIdpUserId(idpUserId);
+        role.setIsActive(true);
+        return role;
+    }
+
+}
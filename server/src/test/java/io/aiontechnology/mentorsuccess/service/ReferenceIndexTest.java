@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.service;
+
+import io.aiontechnology.mentorsuccess.entity.reference.Interest;
+import io.aiontechnology.mentorsuccess.repository.InterestRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class ReferenceIndexTest {
+
+    @Test
+    void shouldOrderByName() {
+        // setup the fixture
+        InterestRepository interestRepository = mock(InterestRepository.class);
+        when(interestRepository.findAll()).thenReturn(Arrays.asList(interest("B"), interest("A")));
+
+        ReferenceIndex<Interest> index = new ReferenceIndex<>(Interest.class, Interest::new, interestRepository,
+                mock(EntityManagerFactory.class), mock(EntityManager.class));
+
+        // execute the SUT
+        var result = index.getAll();
+
+        // validation
+        assertThat(result).extracting(Interest::getName).containsExactly("A", "B");
+        verify(interestRepository, times(1)).findAll();
+    }
+
+    @Test
+    void shouldLoadOnlyOnce() {
+        // setup the fixture
+        InterestRepository interestRepository = mock(InterestRepository.class);
+        when(interestRepository.findAll()).thenReturn(Arrays.asList(interest("A")));
+
+        ReferenceIndex<Interest> index = new ReferenceIndex<>(Interest.class, Interest::new, interestRepository,
+                mock(EntityManagerFactory.class), mock(EntityManager.class));
+
+        // execute the SUT
+        index.getAll();
+        index.getAll();
+
+        // validation
+        verify(interestRepository, times(1)).findAll();
+    }
+
+    @Test
+    void shouldFallBackToRepositoryWithoutPersistenceContext() {
+        // setup the fixture
+        Interest interest = interest("A");
+        InterestRepository interestRepository = mock(InterestRepository.class);
+        when(interestRepository.findAll()).thenReturn(Arrays.asList(interest));
+        when(interestRepository.findByName("A")).thenReturn(Optional.of(interest));
+        EntityManager entityManager = mock(EntityManager.class);
+
+        ReferenceIndex<Interest> index = new ReferenceIndex<>(Interest.class, Interest::new, interestRepository,
+                mock(EntityManagerFactory.class), entityManager);
+
+        // execute the SUT
+        Optional<Interest> result = index.findByName("A");
+
+        // validation
+        assertThat(result).containsSame(interest);
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void shouldNotFindUnknownName() {
+        // setup the fixture
+        InterestRepository interestRepository = mock(InterestRepository.class);
+        when(interestRepository.findAll()).thenReturn(Arrays.asList(interest("A")));
+        when(interestRepository.findByName("B")).thenReturn(Optional.empty());
+
+        ReferenceIndex<Interest> index = new ReferenceIndex<>(Interest.class, Interest::new, interestRepository,
+                mock(EntityManagerFactory.class), mock(EntityManager.class));
+
+        // execute the SUT
+        Optional<Interest> result = index.findByName("B");
+
+        // validation
+        assertThat(result).isEmpty();
+    }
+
+    private static Interest interest(String name) {
+        Interest interest = new Interest();
+        interest.setId(UUID.randomUUID());
+        interest.setName(name);
+        return interest;
+    }
+
+}
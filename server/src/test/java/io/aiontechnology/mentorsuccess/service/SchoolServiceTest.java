@@ -190,8 +190,8 @@ public class SchoolServiceTest {
     }
 
     private School generateSchool(UUID id) {
-        return new School(id, NAME, STREET1, STREET2, CITY, STATE, ZIP, PHONE, DISTRICT, IS_PRIVATE, IS_ACTIVE,
-                EMAIL_TAG, ROLES, SESSIONS, null, STUDENTS, BOOKS, GAMES);
+        return new School(id, null, NAME, STREET1, STREET2, CITY, STATE, ZIP, PHONE, DISTRICT, IS_PRIVATE,
+                IS_ACTIVE, EMAIL_TAG, ROLES, SESSIONS, null, STUDENTS, BOOKS, GAMES);
     }
 
 }
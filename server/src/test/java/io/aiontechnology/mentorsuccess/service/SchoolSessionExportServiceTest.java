@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.service;
+
+import io.aiontechnology.mentorsuccess.entity.Person;
+import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
+import io.aiontechnology.mentorsuccess.entity.Student;
+import io.aiontechnology.mentorsuccess.entity.StudentSchoolSession;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SchoolSessionExportServiceTest {
+
+    @Test
+    void testCsvRow() {
+        // setup the fixture
+        StudentSchoolSession studentSchoolSession = generateStudentSchoolSession();
+
+        // execute the SUT
+        List<?> row = (List<?>) SchoolSessionExportService.Format.CSV.toRow(studentSchoolSession);
+
+        // validation
+        assertThat(row).hasSize(19 + 70);
+        assertThat(row.subList(0, 4)).containsExactly("S1", "Jane", "Doe", 2);
+        assertThat(row.get(10)).isEqualTo("Tom");
+        assertThat(row.get(14)).isNull();
+        assertThat(row.get(19)).isEqualTo(4);
+        assertThat(row.get(19 + 35 + 34)).isEqualTo(5);
+    }
+
+    @Test
+    void testNdjsonRow() {
+        // setup the fixture
+        StudentSchoolSession studentSchoolSession = generateStudentSchoolSession();
+
+        // execute the SUT
+        Map<?, ?> row = (Map<?, ?>) SchoolSessionExportService.Format.NDJSON.toRow(studentSchoolSession);
+
+        // validation
+        assertThat(row).containsEntry("firstName", "Jane")
+                .containsEntry("teacherLastName", "Teacher")
+                .containsEntry("preQuestion1", 4)
+                .containsEntry("postQuestion35", 5)
+                .doesNotContainKey("mentorFirstName");
+    }
+
+    @Test
+    void testFromName() {
+        // execute the SUT
+        // validation
+        assertThat(SchoolSessionExportService.Format.fromName("ndjson"))
+                .contains(SchoolSessionExportService.Format.NDJSON);
+        assertThat(SchoolSessionExportService.Format.fromName("xml")).isEmpty();
+    }
+
+    private static StudentSchoolSession generateStudentSchoolSession() {
+        Student student = new Student();
+        student.setStudentId("S1");
+        student.setFirstName("Jane");
+        student.setLastName("Doe");
+        Person person = new Person();
+        person.setFirstName("Tom");
+        person.setLastName("Teacher");
+        SchoolPersonRole teacher = new SchoolPersonRole();
+        teacher.setPerson(person);
+        StudentSchoolSession studentSchoolSession = new StudentSchoolSession();
+        studentSchoolSession.setStudent(student);
+        studentSchoolSession.setGrade(2);
+        studentSchoolSession.setTeacher(teacher);
+        studentSchoolSession.setPreQuestion1(4);
+        studentSchoolSession.setPostQuestion35(5);
+        return studentSchoolSession;
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.service;
+
+import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.SchoolSession;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+import javax.inject.Inject;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the set-based session rollover of {@link SchoolSessionService}.
+ *
+ * @author Whitney Hunter
+ * @since 2.11.0
+ */
+@SpringBootTest
+@Sql({"/io/aiontechnology/mentorsuccess/api/controller/student-roster.sql"})
+@Transactional
+public class SchoolSessionServiceIntegrationTest {
+
+    private static final UUID SCHOOL_ID = UUID.fromString("6d1bbd1c-5e0e-4a0b-9a43-5b0f0c7c3e01");
+
+    @Inject
+    private SchoolSessionService schoolSessionService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void testUpdateSchoolSession_copiesRoster() {
+        // setup the fixture
+        School school = entityManager.find(School.class, SCHOOL_ID);
+        UUID previousSessionId = school.getCurrentSession().getId();
+        SchoolSession newSchoolSession = new SchoolSession();
+        newSchoolSession.setLabel("next");
+
+        // execute the SUT
+        SchoolSession result = schoolSessionService.updateSchoolSession(school, newSchoolSession);
+
+        // validation
+        assertThat(school.getCurrentSession().getId()).isEqualTo(result.getId());
+        assertThat(countStudents(result.getId())).isEqualTo(500);
+        assertThat(countStudents(previousSessionId)).isEqualTo(500);
+        List<?> grades = entityManager.createNativeQuery("SELECT DISTINCT grade FROM student_schoolsession " +
+                "WHERE schoolsession_id = :id AND is_registration_signed = TRUE")
+                .setParameter("id", result.getId())
+                .getResultList();
+        assertThat(grades).containsExactly(3);
+    }
+
+    @Test
+    void testUpdateSchoolSession_skipsInactiveStudents() {
+        // setup the fixture
+        School school = entityManager.find(School.class, SCHOOL_ID);
+        entityManager.createNativeQuery("UPDATE student_schoolsession SET is_active = FALSE " +
+                        "WHERE schoolsession_id = :id AND student_id IN (SELECT id FROM student " +
+                        "WHERE last_name LIKE 'Large1%')")
+                .setParameter("id", school.getCurrentSession().getId())
+                .executeUpdate();
+        SchoolSession newSchoolSession = new SchoolSession();
+        newSchoolSession.setLabel("next");
+
+        // execute the SUT
+        SchoolSession result = schoolSessionService.updateSchoolSession(school, newSchoolSession, false);
+
+        // validation
+        assertThat(countStudents(result.getId())).isEqualTo(500 - 111);
+    }
+
+    private long countStudents(UUID schoolSessionId) {
+        return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM student_schoolsession " +
+                        "WHERE schoolsession_id = :id")
+                .setParameter("id", schoolSessionId)
+                .getSingleResult()).longValue();
+    }
+
+}
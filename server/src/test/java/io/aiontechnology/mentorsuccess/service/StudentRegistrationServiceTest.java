@@ -1,4 +1,107 @@
 package io.aiontechnology.mentorsuccess.service;
 
+import io.aiontechnology.mentorsuccess.entity.StudentRegistrationSummary;
+import io.aiontechnology.mentorsuccess.feature.workflow.process.ProcessIdToSingleTaskFunction;
+import io.aiontechnology.mentorsuccess.model.inbound.InboundInvitation;
+import io.aiontechnology.mentorsuccess.repository.StudentRegistrationSummaryRepository;
+import io.aiontechnology.mentorsuccess.workflow.FlowableProcessUtilities;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.TaskService;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.TaskQuery;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.INVITATION;
+import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.SCHOOL_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
 public class StudentRegistrationServiceTest {
+
+    @Test
+    void testFindStudentRegistrationWorkflowById_fromSummary() {
+        // setup the fixture
+        UUID processId = UUID.randomUUID();
+        StudentRegistrationSummary summary = new StudentRegistrationSummary();
+        summary.setId(processId);
+        summary.setStudentFirstName("STUDENT_FIRST");
+        summary.setStudentLastName("STUDENT_LAST");
+        summary.setParent1FirstName("PARENT_FIRST");
+        summary.setParent1LastName("PARENT_LAST");
+        summary.setParent1EmailAddress("parent@example.com");
+        StudentRegistrationSummaryRepository repository = mock(StudentRegistrationSummaryRepository.class);
+        when(repository.findById(processId)).thenReturn(Optional.of(summary));
+        TaskService taskService = mock(TaskService.class);
+
+        StudentRegistrationService service = createService(repository, taskService);
+
+        // execute the SUT
+        var result = service.findStudentRegistrationWorkflowById(processId);
+
+        // validation
+        assertThat(result).isPresent();
+        assertThat(result.get().getId()).isEqualTo(processId);
+        assertThat(result.get().getStudentFirstName()).isEqualTo("STUDENT_FIRST");
+        assertThat(result.get().getStudentLastName()).isEqualTo("STUDENT_LAST");
+        assertThat(result.get().getParent1FirstName()).isEqualTo("PARENT_FIRST");
+        assertThat(result.get().getParent1LastName()).isEqualTo("PARENT_LAST");
+        assertThat(result.get().getParent1EmailAddress()).isEqualTo("parent@example.com");
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void testFindStudentRegistrationWorkflowById_fallbackToProcessVariables() {
+        // setup the fixture
+        UUID processId = UUID.randomUUID();
+        InboundInvitation invitation = InboundInvitation.builder()
+                .withStudentFirstName("STUDENT_FIRST")
+                .withParent1EmailAddress("parent@example.com")
+                .build();
+
+        Task task = mock(Task.class);
+        when(task.getProcessVariables()).thenReturn(Map.of(
+                SCHOOL_ID, UUID.randomUUID().toString(),
+                INVITATION, invitation));
+        TaskQuery taskQuery = mock(TaskQuery.class);
+        when(taskQuery.processInstanceId(anyString())).thenReturn(taskQuery);
+        when(taskQuery.includeProcessVariables()).thenReturn(taskQuery);
+        when(taskQuery.list()).thenReturn(List.of(task));
+        TaskService taskService = mock(TaskService.class);
+        when(taskService.createTaskQuery()).thenReturn(taskQuery);
+
+        StudentRegistrationSummaryRepository repository = mock(StudentRegistrationSummaryRepository.class);
+        when(repository.findById(processId)).thenReturn(Optional.empty());
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        StudentRegistrationService service = createService(repository, taskService);
+
+        // execute the SUT
+        var result = service.findStudentRegistrationWorkflowById(processId);
+
+        // validation
+        assertThat(result).isPresent();
+        assertThat(result.get().getId()).isEqualTo(processId);
+        assertThat(result.get().getStudentFirstName()).isEqualTo("STUDENT_FIRST");
+        assertThat(result.get().getParent1EmailAddress()).isEqualTo("parent@example.com");
+        verify(repository).save(any(StudentRegistrationSummary.class));
+    }
+
+    private StudentRegistrationService createService(StudentRegistrationSummaryRepository repository,
+            TaskService taskService) {
+        return new StudentRegistrationService(null, null, null, repository,
+                mock(FlowableProcessUtilities.class), mock(ProcessIdToSingleTaskFunction.class),
+                mock(RuntimeService.class), mock(SchoolService.class), mock(StudentSchoolSessionService.class),
+                mock(StudentService.class), taskService);
+    }
+
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flowable.engine.HistoryService;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.history.HistoricProcessInstanceQuery;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WorkflowHistoryCleanupServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T00:00:00Z");
+
+    @Test
+    void testCleanup_deletesInBatches() {
+        // setup the fixture
+        HistoryService historyService = mock(HistoryService.class);
+        ManagementService managementService = mock(ManagementService.class);
+        HistoricProcessInstanceQuery query = mock(HistoricProcessInstanceQuery.class, RETURNS_SELF);
+        when(historyService.createHistoricProcessInstanceQuery()).thenReturn(query);
+        List<HistoricProcessInstance> firstBatch = List.of(generateInstance("1"), generateInstance("2"));
+        List<HistoricProcessInstance> secondBatch = List.of(generateInstance("3"));
+        when(query.listPage(0, 2)).thenReturn(firstBatch, secondBatch);
+        when(managementService.getTableCount()).thenReturn(Map.of(
+                "ACT_HI_PROCINST", 7L,
+                "ACT_RU_EXECUTION", 3L));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        WorkflowHistoryCleanupService service = new WorkflowHistoryCleanupService(historyService, managementService,
+                meterRegistry, Map.of("register-student", Duration.ofDays(30)), 2,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // execute the SUT
+        int result = service.cleanup();
+
+        // validation
+        assertThat(result).isEqualTo(3);
+        verify(query, times(2)).processDefinitionKey("register-student");
+        verify(query, times(2)).finishedBefore(Date.from(NOW.minus(Duration.ofDays(30))));
+        verify(historyService).bulkDeleteHistoricProcessInstances(List.of("1", "2"));
+        verify(historyService).bulkDeleteHistoricProcessInstances(List.of("3"));
+        assertThat(meterRegistry.get("mentorsuccess.workflow.history.deleted").tag("process", "register-student")
+                .counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("mentorsuccess.workflow.history.rows").tag("table", "ACT_HI_PROCINST")
+                .gauge().value()).isEqualTo(7);
+        assertThat(meterRegistry.find("mentorsuccess.workflow.history.rows").tag("table", "ACT_RU_EXECUTION")
+                .gauge()).isNull();
+        assertThat(meterRegistry.get("mentorsuccess.workflow.history.cleanup").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testCleanup_nothingExpired() {
+        // setup the fixture
+        HistoryService historyService = mock(HistoryService.class);
+        HistoricProcessInstanceQuery query = mock(HistoricProcessInstanceQuery.class, RETURNS_SELF);
+        when(historyService.createHistoricProcessInstanceQuery()).thenReturn(query);
+        when(query.listPage(0, 2)).thenReturn(List.of());
+        WorkflowHistoryCleanupService service = new WorkflowHistoryCleanupService(historyService,
+                mock(ManagementService.class), new SimpleMeterRegistry(),
+                Map.of("register-student", Duration.ofDays(30)), 2, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // execute the SUT
+        int result = service.cleanup();
+
+        // validation
+        assertThat(result).isZero();
+        verify(historyService, times(0)).bulkDeleteHistoricProcessInstances(List.of());
+    }
+
+    private static HistoricProcessInstance generateInstance(String id) {
+        HistoricProcessInstance instance = mock(HistoricProcessInstance.class);
+        when(instance.getId()).thenReturn(id);
+        return instance;
+    }
+
+}
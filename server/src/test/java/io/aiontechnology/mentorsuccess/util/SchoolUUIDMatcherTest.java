@@ -104,4 +104,34 @@ public class SchoolUUIDMatcherTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    void testDoesNotMatchTruncated() throws Exception {
+        // setup the fixture
+        UUID uuid = UUID.randomUUID();
+        URI uri = URI.create("/api/v1/schools/" + uuid.toString().substring(0, 35));
+
+        SchoolUUIDMatcher schoolUUIDMatcher = new SchoolUUIDMatcher();
+
+        // execute the SUT
+        boolean result = schoolUUIDMatcher.match(uri, uuid);
+
+        // validation
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void testMatchesWithQuery() throws Exception {
+        // setup the fixture
+        UUID uuid = UUID.randomUUID();
+        URI uri = URI.create("http://localhost/api/v1/schools/" + uuid + "/students?session=current");
+
+        SchoolUUIDMatcher schoolUUIDMatcher = new SchoolUUIDMatcher();
+
+        // execute the SUT
+        boolean result = schoolUUIDMatcher.match(uri, uuid);
+
+        // validation
+        assertThat(result).isTrue();
+    }
+
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.aiontechnology.mentorsuccess.model.enumeration.ResourceLocation;
+import io.aiontechnology.mentorsuccess.model.inbound.student.InboundStudent;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StudentImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testCsv() {
+        // setup the fixture
+        String csv = """
+                firstName,lastName,grade,location,registrationSigned,mediaReleaseSigned,teacher,interests,baseUri
+                Jane,Doe,2,ONLINE,true,false,https://example.com/teachers/1,Reading; Art,https://example.com
+                John,Doe,not-a-grade,ONLINE,true,false,,,https://example.com
+                """;
+
+        // execute the SUT
+        List<StudentImportReader.Row> rows = readAll(StudentImportReader.csv(new StringReader(csv), objectMapper));
+
+        // validation
+        assertThat(rows).hasSize(2);
+        InboundStudent student = rows.get(0).getStudent().orElseThrow();
+        assertThat(rows.get(0).getNumber()).isEqualTo(1);
+        assertThat(student.getFirstName()).isEqualTo("Jane");
+        assertThat(student.getGrade()).isEqualTo(2);
+        assertThat(student.getLocation()).isEqualTo(ResourceLocation.ONLINE);
+        assertThat(student.getRegistrationSigned()).isTrue();
+        assertThat(student.getTeacher().getUri()).isEqualTo(URI.create("https://example.com/teachers/1"));
+        assertThat(student.getInterests()).containsExactlyInAnyOrder("Reading", "Art");
+        assertThat(student.getMentor()).isNull();
+        assertThat(rows.get(1).getNumber()).isEqualTo(2);
+        assertThat(rows.get(1).getStudent()).isEmpty();
+        assertThat(rows.get(1).getErrors()).hasSize(1);
+    }
+
+    @Test
+    void testNdjson() {
+        // setup the fixture
+        String ndjson = """
+                {"firstName":"Jane","lastName":"Doe","grade":2}
+
+                {"firstName":
+                {"firstName":"John","lastName":"Doe","grade":3}
+                """;
+
+        // execute the SUT
+        List<StudentImportReader.Row> rows =
+                readAll(StudentImportReader.ndjson(new StringReader(ndjson), objectMapper));
+
+        // validation
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).getStudent().map(InboundStudent::getFirstName)).contains("Jane");
+        assertThat(rows.get(1).getStudent()).isEmpty();
+        assertThat(rows.get(1).getErrors()).hasSize(1);
+        assertThat(rows.get(2).getNumber()).isEqualTo(3);
+        assertThat(rows.get(2).getStudent().map(InboundStudent::getFirstName)).contains("John");
+    }
+
+    private static List<StudentImportReader.Row> readAll(StudentImportReader reader) {
+        List<StudentImportReader.Row> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+
+}
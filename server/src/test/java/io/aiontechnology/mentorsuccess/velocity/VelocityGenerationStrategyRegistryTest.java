@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.velocity;
+
+import io.aiontechnology.mentorsuccess.configuration.VelocityConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.velocity.app.VelocityEngine;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class VelocityGenerationStrategyRegistryTest {
+
+    private final VelocityEngine velocityEngine = new VelocityConfiguration().velocityEngine();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldFindStrategyByClassName() {
+        // setup the fixture
+        TeacherInvalidEmailGenerator generator = new TeacherInvalidEmailGenerator(velocityEngine, meterRegistry);
+        VelocityGenerationStrategyRegistry registry = new VelocityGenerationStrategyRegistry(List.of(generator));
+
+        // execute the SUT
+        TeacherInvalidEmailGenerator result =
+                registry.getStrategy(TeacherInvalidEmailGenerator.class.getName(), TeacherInvalidEmailGenerator.class);
+
+        // validation
+        assertThat(result).isSameAs(generator);
+        assertThat(result.render("PROGRAM ADMIN", "STUDENT")).contains("STUDENT");
+        assertThat(meterRegistry.get("mentorsuccess.velocity.render")
+                .tag("template", "templates/teacher/invalid-teacher-email.vm").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectUnknownStrategy() {
+        // setup the fixture
+        VelocityGenerationStrategyRegistry registry = new VelocityGenerationStrategyRegistry(List.of());
+
+        // execute the SUT and validation
+        assertThatThrownBy(() -> registry.getStrategy("UNKNOWN", VelocityGenerationStrategy.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.workflow;
+
+import io.aiontechnology.mentorsuccess.entity.DataMigration;
+import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.SchoolSession;
+import io.aiontechnology.mentorsuccess.repository.DataMigrationRepository;
+import io.aiontechnology.mentorsuccess.repository.SchoolRepository;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.runtime.ProcessInstanceQuery;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static io.aiontechnology.mentorsuccess.feature.workflow.WorkflowKeys.REQUEST_POST_ASSESSMENT_PROCESS_KEY;
+import static io.aiontechnology.mentorsuccess.feature.workflow.WorkflowKeys.SCHOOL_ID;
+import static io.aiontechnology.mentorsuccess.feature.workflow.WorkflowKeys.SCHOOL_SESSION_ID;
+import static io.aiontechnology.mentorsuccess.feature.workflow.WorkflowKeys.STUDENT_ID;
+import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.STUDENT_INFORMATION_PROCESS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BusinessKeyMigrationTest {
+
+    @Test
+    void shouldAssignBusinessKeysToUnkeyedProcesses() {
+        // setup the fixture
+        var schoolId = UUID.randomUUID();
+        var sessionId = UUID.randomUUID();
+        var studentId = UUID.randomUUID();
+        var session = new SchoolSession();
+        session.setId(sessionId);
+        var school = new School();
+        school.setId(schoolId);
+        school.setCurrentSession(session);
+
+        var keyed = mock(ProcessInstance.class);
+        when(keyed.getId()).thenReturn("KEYED");
+        when(keyed.getBusinessKey()).thenReturn("KEY");
+        var postAssessment = mock(ProcessInstance.class);
+        when(postAssessment.getId()).thenReturn("POST_ASSESSMENT");
+        var studentInformation = mock(ProcessInstance.class);
+        when(studentInformation.getId()).thenReturn("STUDENT_INFORMATION");
+
+        var postAssessmentQuery = mock(ProcessInstanceQuery.class, RETURNS_SELF);
+        when(postAssessmentQuery.listPage(anyInt(), anyInt())).thenReturn(List.of(keyed, postAssessment));
+        var studentInformationQuery = mock(ProcessInstanceQuery.class, RETURNS_SELF);
+        when(studentInformationQuery.listPage(anyInt(), anyInt())).thenReturn(List.of(studentInformation));
+        var query = mock(ProcessInstanceQuery.class, RETURNS_SELF);
+        when(query.processDefinitionKey(REQUEST_POST_ASSESSMENT_PROCESS_KEY)).thenReturn(postAssessmentQuery);
+        when(query.processDefinitionKey(STUDENT_INFORMATION_PROCESS)).thenReturn(studentInformationQuery);
+
+        var runtimeService = mock(RuntimeService.class);
+        when(runtimeService.createProcessInstanceQuery()).thenReturn(query);
+        when(runtimeService.getVariables("POST_ASSESSMENT")).thenReturn(Map.of(
+                SCHOOL_ID, schoolId.toString(),
+                SCHOOL_SESSION_ID, sessionId.toString(),
+                STUDENT_ID, studentId.toString()));
+        when(runtimeService.getVariables("STUDENT_INFORMATION")).thenReturn(Map.of(
+                SCHOOL_ID, schoolId.toString(),
+                STUDENT_ID, studentId.toString()));
+
+        var schoolRepository = mock(SchoolRepository.class);
+        when(schoolRepository.findById(schoolId)).thenReturn(Optional.of(school));
+        var dataMigrationRepository = mock(DataMigrationRepository.class);
+
+        var migration = new BusinessKeyMigration(dataMigrationRepository, runtimeService, schoolRepository, 100);
+
+        // execute the SUT
+        migration.run(null);
+
+        // validation
+        verify(runtimeService).updateBusinessKey("POST_ASSESSMENT",
+                new ProcessBusinessKey(schoolId, sessionId, studentId, ProcessBusinessKey.Kind.POST_ASSESSMENT)
+                        .toString());
+        verify(runtimeService).updateBusinessKey("STUDENT_INFORMATION",
+                new ProcessBusinessKey(schoolId, sessionId, studentId, ProcessBusinessKey.Kind.STUDENT_INFORMATION)
+                        .toString());
+        verify(runtimeService, never()).updateBusinessKey(eq("KEYED"), anyString());
+        verify(dataMigrationRepository).save(any(DataMigration.class));
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.workflow;
+
+import io.aiontechnology.mentorsuccess.configuration.VelocityConfiguration;
+import io.aiontechnology.mentorsuccess.velocity.TeacherInvalidEmailGenerator;
+import io.aiontechnology.mentorsuccess.velocity.VelocityGenerationStrategyRegistry;
+import io.aiontechnology.mentorsuccess.workflow.teacher.StudentInfoEmailGenerationTeacherInvalidTask;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.delegate.JavaDelegate;
+import org.flowable.engine.impl.bpmn.parser.FieldDeclaration;
+import org.flowable.engine.impl.delegate.invocation.JavaDelegateInvocation;
+import org.flowable.engine.impl.util.ClassDelegateUtil;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.EMAIL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DelegateMetricsInterceptorTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldTimeEmailGenerationWithInjectedField() {
+        // setup the fixture
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DelegateExecution execution = mock(DelegateExecution.class);
+
+        TaskUtilities taskUtilities = mock(TaskUtilities.class);
+        when(taskUtilities.getProgramAdminEmail(execution)).thenReturn("admin@example.com");
+        when(taskUtilities.getProgramAdminFullName(execution)).thenReturn("PROGRAM ADMIN");
+        when(taskUtilities.getStudentFullName(execution)).thenReturn(Optional.of("STUDENT"));
+
+        TeacherInvalidEmailGenerator generator =
+                new TeacherInvalidEmailGenerator(new VelocityConfiguration().velocityEngine(), meterRegistry);
+        StudentInfoEmailGenerationTeacherInvalidTask task = new StudentInfoEmailGenerationTeacherInvalidTask(
+                taskUtilities, new VelocityGenerationStrategyRegistry(List.of(generator)));
+
+        Expression generationStrategyClassName = mock(Expression.class);
+        when(generationStrategyClassName.getValue(execution)).thenReturn(TeacherInvalidEmailGenerator.class.getName());
+        ClassDelegateUtil.applyFieldDeclaration(List.of(new FieldDeclaration("generationStrategyClassName",
+                Expression.class.getName(), generationStrategyClassName)), task);
+
+        DelegateMetricsInterceptor interceptor = new DelegateMetricsInterceptor(meterRegistry);
+
+        // execute the SUT
+        interceptor.handleInvocation(new JavaDelegateInvocation(task, execution));
+
+        // validation
+        ArgumentCaptor<Map<String, Object>> email = ArgumentCaptor.forClass(Map.class);
+        verify(execution).setTransientVariable(eq(EMAIL), email.capture());
+        assertThat((String) email.getValue().get("body")).contains("STUDENT");
+        assertThat(meterRegistry.get("mentorsuccess.workflow.delegate")
+                .tag("delegate", "StudentInfoEmailGenerationTeacherInvalidTask")
+                .tag("outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTimeFailedExecution() {
+        // setup the fixture
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JavaDelegate delegate = new FailingTask();
+        DelegateMetricsInterceptor interceptor = new DelegateMetricsInterceptor(meterRegistry);
+
+        // execute the SUT and validation
+        assertThatThrownBy(() -> interceptor.handleInvocation(
+                new JavaDelegateInvocation(delegate, mock(DelegateExecution.class))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("mentorsuccess.workflow.delegate")
+                .tag("delegate", "FailingTask")
+                .tag("outcome", "error")
+                .tag("exception", "IllegalStateException")
+                .timer().count()).isEqualTo(1);
+    }
+
+    private static class FailingTask implements JavaDelegate {
+
+        @Override
+        public void execute(DelegateExecution execution) {
+            throw new IllegalStateException("Failed");
+        }
+
+    }
+
+}
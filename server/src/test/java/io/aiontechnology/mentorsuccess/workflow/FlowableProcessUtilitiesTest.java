@@ -6,6 +6,7 @@ import io.aiontechnology.mentorsuccess.entity.SchoolSession;
 import io.aiontechnology.mentorsuccess.entity.Student;
 import io.aiontechnology.mentorsuccess.service.SchoolService;
 import io.aiontechnology.mentorsuccess.service.StudentService;
+import org.flowable.engine.RuntimeService;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
@@ -40,7 +41,8 @@ public class FlowableProcessUtilitiesTest {
         StudentService studentService = mock(StudentService.class);
         when(studentService.getStudentById(studentId, schoolSession)).thenReturn(Optional.of(student));
 
-        FlowableProcessUtilities flowableProcessUtilities = new FlowableProcessUtilities(schoolService, studentService);
+        FlowableProcessUtilities flowableProcessUtilities = new FlowableProcessUtilities(mock(RuntimeService.class),
+                schoolService, studentService);
 
         Map<String, Object> processVariables = Map.of(SCHOOL_ID, schoolId.toString(), STUDENT_ID, studentId.toString());
 
@@ -68,7 +70,8 @@ public class FlowableProcessUtilitiesTest {
 
         StudentService studentService = mock(StudentService.class);
 
-        FlowableProcessUtilities flowableProcessUtilities = new FlowableProcessUtilities(schoolService, studentService);
+        FlowableProcessUtilities flowableProcessUtilities = new FlowableProcessUtilities(mock(RuntimeService.class),
+                schoolService, studentService);
 
         Map<String, Object> processVariables = Map.of(SCHOOL_ID, schoolId.toString(), STUDENT_ID, studentId.toString());
 
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.workflow;
+
+import io.aiontechnology.mentorsuccess.model.inbound.InboundInvitation;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.variable.api.types.ValueFields;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class InboundModelVariableTypeTest {
+
+    @Test
+    void testRoundTrip_inline() {
+        // setup the fixture
+        var variableType = new InboundModelVariableType(new InboundModelCodec());
+        var invitation = generateInvitation("John");
+        var valueFields = mock(ValueFields.class);
+
+        // execute the SUT
+        variableType.setValue(invitation, valueFields);
+
+        // validation
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(valueFields).setTextValue(json.capture());
+        verify(valueFields).setTextValue2(InboundInvitation.class.getName());
+        verify(valueFields).setLongValue((long) InboundModelCodec.SCHEMA_VERSION);
+        verify(valueFields).setBytes(null);
+        assertThat(json.getValue()).doesNotContain("studentFullName");
+
+        var storedFields = mock(ValueFields.class);
+        when(storedFields.getTextValue()).thenReturn(json.getValue());
+        when(storedFields.getTextValue2()).thenReturn(InboundInvitation.class.getName());
+        when(storedFields.getLongValue()).thenReturn((long) InboundModelCodec.SCHEMA_VERSION);
+        assertThat(variableType.getValue(storedFields)).isEqualTo(invitation);
+    }
+
+    @Test
+    void testRoundTrip_bytes() {
+        // setup the fixture
+        var variableType = new InboundModelVariableType(new InboundModelCodec());
+        var invitation = generateInvitation("J".repeat(5000));
+        var valueFields = mock(ValueFields.class);
+
+        // execute the SUT
+        variableType.setValue(invitation, valueFields);
+
+        // validation
+        ArgumentCaptor<byte[]> bytes = ArgumentCaptor.forClass(byte[].class);
+        verify(valueFields).setTextValue(null);
+        verify(valueFields).setBytes(bytes.capture());
+
+        var storedFields = mock(ValueFields.class);
+        when(storedFields.getBytes()).thenReturn(bytes.getValue());
+        when(storedFields.getTextValue2()).thenReturn(InboundInvitation.class.getName());
+        when(storedFields.getLongValue()).thenReturn((long) InboundModelCodec.SCHEMA_VERSION);
+        assertThat(variableType.getValue(storedFields)).isEqualTo(invitation);
+    }
+
+    @Test
+    void testIsAbleToStore() {
+        // setup the fixture
+        var variableType = new InboundModelVariableType(new InboundModelCodec());
+
+        // execute the SUT
+        // validation
+        assertThat(variableType.isAbleToStore(generateInvitation("John"))).isTrue();
+        assertThat(variableType.isAbleToStore(List.of("value"))).isFalse();
+        assertThat(variableType.isAbleToStore(null)).isFalse();
+    }
+
+    @Test
+    void testGetValue_refusesOtherClasses() {
+        // setup the fixture
+        var variableType = new InboundModelVariableType(new InboundModelCodec());
+        var storedFields = mock(ValueFields.class);
+        when(storedFields.getTextValue()).thenReturn("[]");
+        when(storedFields.getTextValue2()).thenReturn("java.util.ArrayList");
+        when(storedFields.getLongValue()).thenReturn((long) InboundModelCodec.SCHEMA_VERSION);
+
+        // execute the SUT
+        // validation
+        assertThatThrownBy(() -> variableType.getValue(storedFields))
+                .isInstanceOf(FlowableException.class);
+    }
+
+    private static InboundInvitation generateInvitation(String studentFirstName) {
+        return InboundInvitation.builder()
+                .withStudentRegistrationUri("https://example.com/registration")
+                .withParent1FirstName("Jane")
+                .withParent1LastName("Doe")
+                .withParent1EmailAddress("jane@example.com")
+                .withStudentFirstName(studentFirstName)
+                .withStudentLastName("Doe")
+                .build();
+    }
+
+}
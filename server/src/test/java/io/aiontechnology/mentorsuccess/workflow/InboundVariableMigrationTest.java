@@ -0,0 +1,140 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.workflow;
+
+import io.aiontechnology.mentorsuccess.entity.DataMigration;
+import io.aiontechnology.mentorsuccess.model.inbound.InboundInvitation;
+import io.aiontechnology.mentorsuccess.repository.DataMigrationRepository;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.ExecutionQuery;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.runtime.ProcessInstanceQuery;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class InboundVariableMigrationTest {
+
+    private final DataMigrationRepository dataMigrationRepository = mock(DataMigrationRepository.class);
+    private final RuntimeService runtimeService = mock(RuntimeService.class);
+    private final ExecutionQuery executionQuery = mock(ExecutionQuery.class, RETURNS_SELF);
+    private final InboundInvitation invitation = InboundInvitation.builder()
+            .withStudentRegistrationUri("https://example.com/registration")
+            .withParent1FirstName("Jane")
+            .withParent1LastName("Doe")
+            .withParent1EmailAddress("jane@example.com")
+            .withStudentFirstName("John")
+            .withStudentLastName("Doe")
+            .build();
+
+    @Test
+    void shouldMigrateEveryExecutionAndRecordCompletion() {
+        // setup the fixture
+        givenProcesses("PROCESS");
+        givenExecutions("PROCESS", "PROCESS", "CHILD");
+        givenSerializedVariable("PROCESS");
+        givenSerializedVariable("CHILD");
+
+        // execute the SUT
+        new InboundVariableMigration(dataMigrationRepository, runtimeService, 100).run(null);
+
+        // validation
+        verify(runtimeService).setVariableLocal("PROCESS", "invitation", invitation);
+        verify(runtimeService).setVariableLocal("CHILD", "invitation", invitation);
+        verify(dataMigrationRepository).save(any(DataMigration.class));
+    }
+
+    @Test
+    void shouldContinueAfterFailedProcess() {
+        // setup the fixture
+        givenProcesses("FAILED", "PROCESS");
+        givenExecutions("FAILED", "FAILED");
+        givenExecutions("PROCESS", "PROCESS");
+        givenSerializedVariable("FAILED");
+        givenSerializedVariable("PROCESS");
+        doThrow(new FlowableOptimisticLockingException("Conflict"))
+                .when(runtimeService).setVariableLocal("FAILED", "invitation", invitation);
+
+        // execute the SUT
+        new InboundVariableMigration(dataMigrationRepository, runtimeService, 100).run(null);
+
+        // validation
+        verify(runtimeService).setVariableLocal("PROCESS", "invitation", invitation);
+        verify(dataMigrationRepository, never()).save(any(DataMigration.class));
+    }
+
+    @Test
+    void shouldSkipCompletedMigration() {
+        // setup the fixture
+        when(dataMigrationRepository.existsById("inbound-variables-to-json")).thenReturn(true);
+
+        // execute the SUT
+        new InboundVariableMigration(dataMigrationRepository, runtimeService, 100).run(null);
+
+        // validation
+        verify(runtimeService, never()).createProcessInstanceQuery();
+    }
+
+    private void givenProcesses(String... processInstanceIds) {
+        var processInstances = Arrays.stream(processInstanceIds)
+                .map(id -> {
+                    ProcessInstance processInstance = mock(ProcessInstance.class);
+                    when(processInstance.getId()).thenReturn(id);
+                    return processInstance;
+                })
+                .toList();
+        ProcessInstanceQuery query = mock(ProcessInstanceQuery.class, RETURNS_SELF);
+        when(query.listPage(anyInt(), anyInt())).thenReturn(processInstances);
+        when(runtimeService.createProcessInstanceQuery()).thenReturn(query);
+    }
+
+    private void givenExecutions(String processInstanceId, String... executionIds) {
+        var executions = Arrays.stream(executionIds)
+                .map(id -> {
+                    Execution execution = mock(Execution.class);
+                    when(execution.getId()).thenReturn(id);
+                    return execution;
+                })
+                .toList();
+        ExecutionQuery processQuery = mock(ExecutionQuery.class, RETURNS_SELF);
+        when(processQuery.list()).thenReturn(executions);
+        when(executionQuery.processInstanceId(processInstanceId)).thenReturn(processQuery);
+        when(runtimeService.createExecutionQuery()).thenReturn(executionQuery);
+    }
+
+    private void givenSerializedVariable(String executionId) {
+        VariableInstance variable = mock(VariableInstance.class);
+        when(variable.getName()).thenReturn("invitation");
+        when(variable.getTypeName()).thenReturn("serializable");
+        when(variable.getValue()).thenReturn(invitation);
+        when(runtimeService.getVariableInstancesLocal(executionId)).thenReturn(Map.of("invitation", variable));
+    }
+
+}
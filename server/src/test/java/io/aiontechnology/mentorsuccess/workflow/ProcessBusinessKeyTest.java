@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.workflow;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static io.aiontechnology.mentorsuccess.workflow.ProcessBusinessKey.Kind.POST_ASSESSMENT;
+import static io.aiontechnology.mentorsuccess.workflow.ProcessBusinessKey.Kind.REGISTRATION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProcessBusinessKeyTest {
+
+    @Test
+    void testRoundTrip() {
+        // setup the fixture
+        var businessKey = new ProcessBusinessKey(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                POST_ASSESSMENT);
+
+        // execute the SUT
+        var result = ProcessBusinessKey.parse(businessKey.toString());
+
+        // validation
+        assertThat(result).contains(businessKey);
+    }
+
+    @Test
+    void testRoundTrip_noStudent() {
+        // setup the fixture
+        var businessKey = new ProcessBusinessKey(UUID.randomUUID(), UUID.randomUUID(), null, REGISTRATION);
+
+        // execute the SUT
+        var result = ProcessBusinessKey.parse(businessKey.toString());
+
+        // validation
+        assertThat(businessKey.toString()).contains(":-:");
+        assertThat(result).contains(businessKey);
+    }
+
+    @Test
+    void testParse_invalid() {
+        // execute the SUT and validation
+        assertThat(ProcessBusinessKey.parse(null)).isEmpty();
+        assertThat(ProcessBusinessKey.parse("legacy-key")).isEmpty();
+        assertThat(ProcessBusinessKey.parse("a:b:c:d")).isEmpty();
+    }
+
+    @Test
+    void testSessionPattern() {
+        // setup the fixture
+        var schoolId = UUID.randomUUID();
+        var sessionId = UUID.randomUUID();
+
+        // execute the SUT
+        var pattern = ProcessBusinessKey.sessionPattern(schoolId, sessionId, POST_ASSESSMENT);
+
+        // validation
+        assertThat(pattern).isEqualTo(schoolId + ":" + sessionId + ":%:POST_ASSESSMENT");
+    }
+
+}
@@ -44,7 +44,6 @@ public class ProcessIdToSingleTaskFunctionTest {
 
         TaskQuery taskQuery = mock(TaskQuery.class);
         when(taskQuery.processInstanceId(anyString())).thenReturn(taskQuery);
-        when(taskQuery.includeProcessVariables()).thenReturn(taskQuery);
         when(taskQuery.list()).thenReturn(tasks);
 
         TaskService taskService = mock(TaskService.class);
@@ -71,7 +70,6 @@ public class ProcessIdToSingleTaskFunctionTest {
 
         TaskQuery taskQuery = mock(TaskQuery.class);
         when(taskQuery.processInstanceId(anyString())).thenReturn(taskQuery);
-        when(taskQuery.includeProcessVariables()).thenReturn(taskQuery);
         when(taskQuery.list()).thenReturn(tasks);
 
         TaskService taskService = mock(TaskService.class);
@@ -95,7 +93,6 @@ public class ProcessIdToSingleTaskFunctionTest {
 
         TaskQuery taskQuery = mock(TaskQuery.class);
         when(taskQuery.processInstanceId(anyString())).thenReturn(taskQuery);
-        when(taskQuery.includeProcessVariables()).thenReturn(taskQuery);
         when(taskQuery.list()).thenReturn(tasks);
 
         TaskService taskService = mock(TaskService.class);
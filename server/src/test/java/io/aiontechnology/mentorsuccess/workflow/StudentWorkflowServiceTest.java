@@ -21,8 +21,6 @@ import io.aiontechnology.mentorsuccess.feature.workflow.process.ProcessIdToSingl
 import org.flowable.task.api.Task;
 import org.junit.jupiter.api.Test;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -42,14 +40,12 @@ public class StudentWorkflowServiceTest {
         Task task = mock(Task.class);
         when(task.getProcessInstanceId()).thenReturn(processInstanceId.toString());
 
-        Map<String, Object> processVariables = new HashMap<>();
-
         String studentName = "STUDENT_NAME";
         Student student = mock(Student.class);
         when(student.getFullName()).thenReturn(studentName);
 
         FlowableProcessUtilities flowableProcessUtilities = mock(FlowableProcessUtilities.class);
-        when(flowableProcessUtilities.findStudent(processVariables)).thenReturn(Optional.of(student));
+        when(flowableProcessUtilities.findStudent(processInstanceId.toString())).thenReturn(Optional.of(student));
 
         ProcessIdToSingleTaskFunction flowableTaskUtilities = mock(ProcessIdToSingleTaskFunction.class);
         when(flowableTaskUtilities.apply(any())).thenReturn(Optional.of(task));
@@ -94,10 +90,8 @@ public class StudentWorkflowServiceTest {
         Task task = mock(Task.class);
         when(task.getProcessInstanceId()).thenReturn(processInstanceId.toString());
 
-        Map<String, Object> processVariables = new HashMap<>();
-
         FlowableProcessUtilities flowableProcessUtilities = mock(FlowableProcessUtilities.class);
-        when(flowableProcessUtilities.findStudent(processVariables)).thenReturn(Optional.empty());
+        when(flowableProcessUtilities.findStudent(processInstanceId.toString())).thenReturn(Optional.empty());
 
         ProcessIdToSingleTaskFunction flowableTaskUtilities = mock(ProcessIdToSingleTaskFunction.class);
         when(flowableTaskUtilities.apply(any())).thenReturn(Optional.of(task));
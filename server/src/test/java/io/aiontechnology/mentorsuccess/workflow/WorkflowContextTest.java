@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024 Aion Technology LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiontechnology.mentorsuccess.workflow;
+
+import io.aiontechnology.mentorsuccess.entity.Person;
+import io.aiontechnology.mentorsuccess.entity.School;
+import io.aiontechnology.mentorsuccess.entity.SchoolPersonRole;
+import io.aiontechnology.mentorsuccess.entity.Student;
+import io.aiontechnology.mentorsuccess.model.enumeration.RoleType;
+import io.aiontechnology.mentorsuccess.service.SchoolService;
+import io.aiontechnology.mentorsuccess.service.StudentService;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.SCHOOL_ID;
+import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.STUDENT_ID;
+import static io.aiontechnology.mentorsuccess.workflow.RegistrationWorkflowConstants.TEACHER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WorkflowContextTest {
+
+    @Test
+    void testLookupsAreMemoized() {
+        // setup the fixture
+        UUID schoolId = UUID.randomUUID();
+        UUID studentId = UUID.randomUUID();
+        SchoolPersonRole teacher = generateRole(RoleType.TEACHER);
+        SchoolPersonRole programAdmin = generateRole(RoleType.PROGRAM_ADMIN);
+        School school = new School();
+        school.setId(schoolId);
+        school.setRoles(List.of(programAdmin, teacher));
+        Student student = new Student();
+        student.setId(studentId);
+
+        Map<String, String> variables = new HashMap<>();
+        variables.put(SCHOOL_ID, schoolId.toString());
+        variables.put(STUDENT_ID, studentId.toString());
+        variables.put(TEACHER_ID, teacher.getId().toString());
+        DelegateExecution execution = generateExecution(variables);
+
+        SchoolService schoolService = mock(SchoolService.class);
+        when(schoolService.getSchoolById(schoolId)).thenReturn(Optional.of(school));
+        StudentService studentService = mock(StudentService.class);
+        when(studentService.getStudentById(studentId)).thenReturn(Optional.of(student));
+
+        WorkflowContext context = new WorkflowContext(execution, schoolService, studentService);
+
+        // execute the SUT
+        for (int i = 0; i < 3; i++) {
+            context.getSchool();
+            context.getStudent();
+            context.getTeacher();
+            context.getProgramAdmin();
+        }
+
+        // validation
+        assertThat(context.getSchool()).contains(school);
+        assertThat(context.getStudent()).contains(student);
+        assertThat(context.getTeacher()).contains(teacher);
+        assertThat(context.getProgramAdmin()).contains(programAdmin.getPerson());
+        verify(schoolService, times(1)).getSchoolById(schoolId);
+        verify(studentService, times(1)).getStudentById(studentId);
+    }
+
+    @Test
+    void testLookupRepeatedWhenVariableChanges() {
+        // setup the fixture
+        UUID schoolId = UUID.randomUUID();
+        UUID studentId = UUID.randomUUID();
+        Student student = new Student();
+        student.setId(studentId);
+
+        Map<String, String> variables = new HashMap<>();
+        variables.put(SCHOOL_ID, schoolId.toString());
+        DelegateExecution execution = generateExecution(variables);
+
+        StudentService studentService = mock(StudentService.class);
+        when(studentService.getStudentById(studentId)).thenReturn(Optional.of(student));
+
+        WorkflowContext context = new WorkflowContext(execution, mock(SchoolService.class), studentService);
+
+        // execute the SUT
+        Optional<Student> before = context.getStudent();
+        variables.put(STUDENT_ID, studentId.toString());
+        Optional<Student> after = context.getStudent();
+
+        // validation
+        assertThat(before).isEmpty();
+        assertThat(after).contains(student);
+    }
+
+    private DelegateExecution generateExecution(Map<String, String> variables) {
+        DelegateExecution execution = mock(DelegateExecution.class);
+        when(execution.getVariable(anyString(), eq(String.class)))
+                .thenAnswer(invocation -> variables.get(invocation.<String>getArgument(0)));
+        return execution;
+    }
+
+    private SchoolPersonRole generateRole(RoleType type) {
+        Person person = new Person();
+        person.setId(UUID.randomUUID());
+        SchoolPersonRole role = new SchoolPersonRole();
+        role.setId(UUID.randomUUID());
+        role.setType(type);
+        role.setPerson(person);
+        return role;
+    }
+
+}
@@ -17,6 +17,7 @@
 package io.aiontechnology.mentorsuccess.workflow.student;
 
 import io.aiontechnology.mentorsuccess.model.inbound.InboundInvitation;
+import io.aiontechnology.mentorsuccess.velocity.VelocityGenerationStrategyRegistry;
 import io.aiontechnology.mentorsuccess.workflow.TaskUtilities;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.junit.jupiter.api.Test;
@@ -84,7 +85,7 @@ public class InvitationEmailGenerationTaskTest {
                 .thenReturn(invitation);
         when(taskUtilities.getSchoolEmailTag(any())).thenReturn(Optional.of("TAG"));
 
-        return new InvitationEmailGenerationTask(taskUtilities);
+        return new InvitationEmailGenerationTask(taskUtilities, mock(VelocityGenerationStrategyRegistry.class));
     }
 
 }
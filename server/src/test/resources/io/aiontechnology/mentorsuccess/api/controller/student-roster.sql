@@ -0,0 +1,41 @@
+-- Copyright 2024 Aion Technology LLC
+--
+-- Licensed under the Apache License, Version 2.0 (the "License");
+-- you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+--   http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+
+INSERT INTO school (id, name, is_active) VALUES ('6d1bbd1c-5e0e-4a0b-9a43-5b0f0c7c3e01', 'roster', true);
+
+INSERT INTO school_session(id, label, school_id) VALUES ('2b0a6d53-8a55-4d0f-a4ec-4f40c0f0a501', 'small', '6d1bbd1c-5e0e-4a0b-9a43-5b0f0c7c3e01');
+INSERT INTO school_session(id, label, school_id) VALUES ('2b0a6d53-8a55-4d0f-a4ec-4f40c0f0a502', 'large', '6d1bbd1c-5e0e-4a0b-9a43-5b0f0c7c3e01');
+
+UPDATE school set current_session_id='2b0a6d53-8a55-4d0f-a4ec-4f40c0f0a502' WHERE id='6d1bbd1c-5e0e-4a0b-9a43-5b0f0c7c3e01';
+
+INSERT INTO person (id, last_name, first_name, work_phone, cell_phone, email) VALUES ('b7d0b9f4-1f0e-4a53-9b8b-0e3b5f0c1a01', 'Rogers', 'Fred', '3601112222', '3603334444', 'fred@rogers.com');
+INSERT INTO person (id, last_name, first_name, work_phone, cell_phone, email) VALUES ('b7d0b9f4-1f0e-4a53-9b8b-0e3b5f0c1a02', 'Mentor', 'Mark', '3602223333', '3604445555', 'mark@mentor.com');
+
+INSERT INTO school_person_role (id, school_id, person_id, type, grade1, grade2, is_active, location, is_media_release_signed) VALUES ('c1e5a0de-3d7b-4b8e-8f8a-7b3f2d1e0a01', '6d1bbd1c-5e0e-4a0b-9a43-5b0f0c7c3e01', 'b7d0b9f4-1f0e-4a53-9b8b-0e3b5f0c1a01', 'TEACHER', 1, 2, true, 'OFFLINE', true);
+INSERT INTO school_person_role (id, school_id, person_id, type, is_active, location, is_media_release_signed) VALUES ('c1e5a0de-3d7b-4b8e-8f8a-7b3f2d1e0a02', '6d1bbd1c-5e0e-4a0b-9a43-5b0f0c7c3e01', 'b7d0b9f4-1f0e-4a53-9b8b-0e3b5f0c1a02', 'MENTOR', true, 'OFFLINE', true);
+
+INSERT INTO interest (id, name) VALUES ('e3f1c2b4-7a6d-4c1e-9b0a-2d4f6a8c0e01', 'ROSTER_INTEREST');
+
+INSERT INTO student (id, student_id, first_name, last_name, school_id)
+    SELECT RANDOM_UUID(), CAST(X AS VARCHAR), 'Small', CONCAT('Small', X), '6d1bbd1c-5e0e-4a0b-9a43-5b0f0c7c3e01' FROM SYSTEM_RANGE(1, 5);
+INSERT INTO student (id, student_id, first_name, last_name, school_id)
+    SELECT RANDOM_UUID(), CAST(X AS VARCHAR), 'Large', CONCAT('Large', X), '6d1bbd1c-5e0e-4a0b-9a43-5b0f0c7c3e01' FROM SYSTEM_RANGE(1, 500);
+
+INSERT INTO student_schoolsession(id, student_id, schoolsession_id, grade, teacher_role_id, mentor_role_id, is_active)
+    SELECT RANDOM_UUID(), id, '2b0a6d53-8a55-4d0f-a4ec-4f40c0f0a501', 2, 'c1e5a0de-3d7b-4b8e-8f8a-7b3f2d1e0a01', 'c1e5a0de-3d7b-4b8e-8f8a-7b3f2d1e0a02', true FROM student WHERE first_name = 'Small';
+INSERT INTO student_schoolsession(id, student_id, schoolsession_id, grade, teacher_role_id, mentor_role_id, is_active)
+    SELECT RANDOM_UUID(), id, '2b0a6d53-8a55-4d0f-a4ec-4f40c0f0a502', 2, 'c1e5a0de-3d7b-4b8e-8f8a-7b3f2d1e0a01', 'c1e5a0de-3d7b-4b8e-8f8a-7b3f2d1e0a02', true FROM student WHERE first_name = 'Large';
+
+INSERT INTO student_interest (studentsession_id, interest_id)
+    SELECT id, 'e3f1c2b4-7a6d-4c1e-9b0a-2d4f6a8c0e01' FROM student_schoolsession WHERE schoolsession_id IN ('2b0a6d53-8a55-4d0f-a4ec-4f40c0f0a501', '2b0a6d53-8a55-4d0f-a4ec-4f40c0f0a502');